@@ -0,0 +1,75 @@
+package io.mosip.registration.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.kernel.core.templatemanager.spi.TemplateManagerBuilder;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.dto.RegistrationDTO;
+import io.mosip.registration.dto.ResponseDTO;
+import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.service.template.TemplateService;
+import io.mosip.registration.util.acktemplate.TemplateGenerator;
+
+/**
+ * Rendering of the acknowledgement of a new registration by
+ * {@link TemplateGenerator#generateTemplate(String, RegistrationDTO, TemplateManagerBuilder, String)},
+ * with the synced acknowledgement template, as the client does before the
+ * packet is saved.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class AcknowledgementTemplateBenchmark {
+
+	private TemplateGenerator templateGenerator;
+
+	private TemplateManagerBuilder templateManagerBuilder;
+
+	private String templateText;
+
+	private RegistrationDTO registrationDTO;
+
+	@Setup(Level.Trial)
+	public void setup() throws RegBaseCheckedException {
+		BenchmarkContext.ensureClientSettings();
+		BenchmarkContext.openSession();
+		double idSchemaVersion = BenchmarkContext.ensureIdentitySchema();
+
+		templateText = BenchmarkContext.getBean(TemplateService.class)
+				.getHtmlTemplate(RegistrationConstants.ACKNOWLEDGEMENT_TEMPLATE_CODE, ApplicationContext.applicationLanguage());
+		templateGenerator = BenchmarkContext.getBean(TemplateGenerator.class);
+		templateGenerator.setGuidelines((String) ApplicationContext.map()
+				.get("mosip.registration.important_guidelines_" + ApplicationContext.applicationLanguage()));
+		templateManagerBuilder = BenchmarkContext.getBean(TemplateManagerBuilder.class);
+		registrationDTO = SyntheticRegistration.create("10003100241000120201019120000", idSchemaVersion);
+
+		/* Fail the run rather than measure the error path */
+		ResponseDTO responseDTO = generateTemplate();
+		if (responseDTO.getSuccessResponseDTO() == null) {
+			throw new IllegalStateException("Acknowledgement generation failed : "
+					+ responseDTO.getErrorResponseDTOs().get(0).getMessage());
+		}
+	}
+
+	@Benchmark
+	public ResponseDTO generateTemplate() throws RegBaseCheckedException {
+		return templateGenerator.generateTemplate(templateText, registrationDTO, templateManagerBuilder,
+				RegistrationConstants.ACKNOWLEDGEMENT_TEMPLATE);
+	}
+}
@@ -0,0 +1,68 @@
+package io.mosip.registration.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.registration.dao.AuditDAO;
+
+/**
+ * Purge of the audits past their retention by
+ * {@link AuditDAO#deleteAudits(LocalDateTime, int)}, a chunk at a time as the
+ * audit log deletion job does. Each iteration purges the given number of
+ * audits, seeded before it along with as many recent audits which are kept.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class AuditPurgeBenchmark {
+
+	@Param({ "50000" })
+	private int audits;
+
+	@Param({ "1000", "4000" })
+	private int chunkSize;
+
+	private AuditDAO auditDAO;
+
+	private LocalDateTime retentionTime;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		auditDAO = BenchmarkContext.getBean(AuditDAO.class);
+		retentionTime = LocalDateTime.now(ZoneOffset.UTC).minusDays(10);
+		BenchmarkContext.seedAudits(audits, retentionTime);
+	}
+
+	@Setup(Level.Iteration)
+	public void seedExpiredAudits() {
+		BenchmarkContext.seedAudits(audits, retentionTime.minusDays(30));
+	}
+
+	@Benchmark
+	public int purgeAudits() {
+		int purgedAudits = 0;
+		int deletedAudits;
+		do {
+			deletedAudits = auditDAO.deleteAudits(retentionTime, chunkSize);
+			purgedAudits += deletedAudits;
+		} while (deletedAudits == chunkSize);
+		return purgedAudits;
+	}
+}
@@ -0,0 +1,65 @@
+package io.mosip.registration.benchmark;
+
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.auditmanager.config.AuditConfig;
+import io.mosip.kernel.dataaccess.hibernate.repository.impl.HibernateRepositoryImpl;
+import io.mosip.kernel.templatemanager.velocity.builder.TemplateManagerBuilderImpl;
+import io.mosip.registration.config.AppConfig;
+
+/**
+ * Spring configuration of the benchmarks. It is the one of {@link AppConfig}
+ * with the embedded database of {@link BenchmarkDaoConfig} and without the
+ * JavaFX controllers, so the services run exactly as in the client.
+ */
+@Configuration
+@EnableAspectJAutoProxy
+@Import({ BenchmarkDaoConfig.class, AuditConfig.class, TemplateManagerBuilderImpl.class })
+@EnableJpaRepositories(basePackages = "io.mosip.registration", repositoryBaseClass = HibernateRepositoryImpl.class)
+@ComponentScan(excludeFilters = @ComponentScan.Filter(type = FilterType.REGEX, pattern = {
+		"io.mosip.kernel.idobjectvalidator.impl.IdObjectCompositeValidator",
+		"io.mosip.kernel.idobjectvalidator.impl.IdObjectMasterDataValidator",
+		"io.mosip.kernel.packetmanager.impl.PacketDecryptorImpl", "io.mosip.kernel.packetmanager.util.IdSchemaUtils",
+		"io.mosip.commons.packet.impl.OnlinePacketCryptoServiceImpl", "io.mosip.registration.config.AppConfig",
+		"io.mosip.registration.controller..*", "io.mosip.registration.benchmark..*" }), basePackages = {
+				"io.mosip.registration", "io.mosip.kernel.idvalidator", "io.mosip.kernel.ridgenerator",
+				"io.mosip.kernel.qrcode", "io.mosip.kernel.crypto", "io.mosip.kernel.jsonvalidator",
+				"io.mosip.kernel.idgenerator", "io.mosip.kernel.virusscanner", "io.mosip.kernel.transliteration",
+				"io.mosip.kernel.applicanttype", "io.mosip.kernel.core.pdfgenerator.spi",
+				"io.mosip.kernel.pdfgenerator.itext.impl", "io.mosip.kernel.idobjectvalidator.impl",
+				"io.mosip.commons.packet" })
+@PropertySource(value = { "classpath:spring.properties", "classpath:benchmark.properties" })
+@ImportAutoConfiguration(RefreshAutoConfiguration.class)
+@EnableConfigurationProperties
+public class BenchmarkConfig {
+
+	@Bean
+	public RestTemplate getRestTemplate() {
+		return new RestTemplate();
+	}
+
+	@Bean
+	public ObjectMapper getObjectMapper() {
+		return new ObjectMapper();
+	}
+
+	@Bean
+	public CacheManager cacheManager() {
+		return new ConcurrentMapCacheManager("entities");
+	}
+}
@@ -0,0 +1,207 @@
+package io.mosip.registration.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.context.SessionContext;
+import io.mosip.registration.context.SessionContext.UserContext;
+import io.mosip.registration.dao.IdentitySchemaDao;
+import io.mosip.registration.dto.RegistrationCenterDetailDTO;
+import io.mosip.registration.dto.UiSchemaDTO;
+import io.mosip.registration.dto.response.SchemaDto;
+import io.mosip.registration.dto.response.SyncDataResponseDto;
+import io.mosip.registration.service.config.GlobalParamService;
+import io.mosip.registration.util.mastersync.ClientSettingSyncHelper;
+
+/**
+ * Spring context shared by the benchmarks of a forked JVM, along with the
+ * synthetic state the client would have after its initial sync and an
+ * operator login: the center, machine and operator of the canned client
+ * settings payload.
+ */
+public final class BenchmarkContext {
+
+	public static final String CENTER_ID = "10003";
+	public static final String MACHINE_ID = "10024";
+	public static final String USER_ID = "110024";
+
+	private static final String CLIENT_SETTINGS = "benchmark/client-settings-sync.json";
+	private static final String IDENTITY_SCHEMA = "benchmark/identity-schema.json";
+	private static final String INSERT_AUDIT = "INSERT INTO AUDIT.APP_AUDIT_LOG (LOG_ID, LOG_DTIMES, LOG_DESC, EVENT_ID, EVENT_TYPE, EVENT_NAME, ACTION_DTIMES, HOST_NAME, HOST_IP, SESSION_USER_ID, SESSION_USER_NAME, APP_ID, APP_NAME, MODULE_ID, MODULE_NAME, REF_ID, REF_ID_TYPE, CR_BY) VALUES (?, ?, 'Benchmark audit', 'REG-EVT-001', 'USER', 'Benchmark', ?, 'localhost', '127.0.0.1', ?, ?, 'REG', 'REGISTRATION', 'REG-MOD-100', 'Benchmark', ?, 'USER', ?)";
+	private static final int AUDIT_BATCH_SIZE = 1000;
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule())
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private static AnnotationConfigApplicationContext applicationContext;
+
+	private static boolean clientSettingsSaved;
+
+	private static Double idSchemaVersion;
+
+	private BenchmarkContext() {
+	}
+
+	/**
+	 * Creates the Spring context on the embedded database on the first call and
+	 * loads the global params into the application map, as the client does at
+	 * startup
+	 *
+	 * @return the Spring context
+	 */
+	public static synchronized AnnotationConfigApplicationContext getApplicationContext() {
+		if (applicationContext == null) {
+			ApplicationContext.setTPMUsageFlag(RegistrationConstants.DISABLE);
+			applicationContext = new AnnotationConfigApplicationContext(BenchmarkConfig.class);
+			applicationContext.registerShutdownHook();
+
+			ApplicationContext.setApplicationMap(applicationContext.getBean(GlobalParamService.class).getGlobalParams());
+			ApplicationContext.map().put(RegistrationConstants.USER_CENTER_ID, CENTER_ID);
+			ApplicationContext.map().put(RegistrationConstants.USER_STATION_ID, MACHINE_ID);
+			ApplicationContext.getInstance().loadResourceBundle();
+		}
+		return applicationContext;
+	}
+
+	public static <T> T getBean(Class<T> beanType) {
+		return getApplicationContext().getBean(beanType);
+	}
+
+	/**
+	 * Saves the canned client settings once, so the benchmarks which read master
+	 * data, such as the templates, find it
+	 */
+	public static synchronized void ensureClientSettings() {
+		if (!clientSettingsSaved) {
+			getBean(ClientSettingSyncHelper.class).saveClientSettings(readClientSettings(), false, null);
+			clientSettingsSaved = true;
+		}
+	}
+
+	/**
+	 * Saves the identity schema once, with the sub types of its biometric
+	 * fields, which the screens and the acknowledgement are built from
+	 *
+	 * @return the identity schema version
+	 */
+	public static synchronized double ensureIdentitySchema() {
+		if (idSchemaVersion == null) {
+			SchemaDto schemaDto = readIdentitySchema();
+			for (UiSchemaDTO field : schemaDto.getSchema()) {
+				if (field.getBioAttributes() != null && field.getSubType() == null) {
+					field.setSubType("individualBiometrics".equals(field.getId()) ? SyntheticRegistration.SUBTYPE
+							: "introducer");
+				}
+			}
+			try {
+				getBean(IdentitySchemaDao.class).createIdentitySchema(schemaDto);
+			} catch (IOException exception) {
+				throw new IllegalStateException("Failed to save the identity schema", exception);
+			}
+			idSchemaVersion = schemaDto.getIdVersion();
+		}
+		return idSchemaVersion;
+	}
+
+	/**
+	 * Logs synthetic audits of the operator, a second apart, as the client does
+	 * while idle or offline
+	 *
+	 * @param rows
+	 *            the number of audits
+	 * @param createdFrom
+	 *            the time of the first audit
+	 */
+	public static void seedAudits(int rows, LocalDateTime createdFrom) {
+		JdbcTemplate jdbcTemplate = getBean(JdbcTemplate.class);
+		List<Object[]> audits = new ArrayList<>();
+		for (int row = 0; row < rows; row++) {
+			Timestamp createdAt = Timestamp.valueOf(createdFrom.plusSeconds(row));
+			audits.add(new Object[] { UUID.randomUUID().toString(), createdAt, createdAt, USER_ID, USER_ID, USER_ID,
+					USER_ID });
+			if (audits.size() == AUDIT_BATCH_SIZE || row == rows - 1) {
+				jdbcTemplate.batchUpdate(INSERT_AUDIT, audits);
+				audits.clear();
+			}
+		}
+	}
+
+	/**
+	 * @return a new copy of the canned client settings payload
+	 */
+	public static SyncDataResponseDto readClientSettings() {
+		return read(CLIENT_SETTINGS, SyncDataResponseDto.class);
+	}
+
+	/**
+	 * @return a new copy of the identity schema
+	 */
+	public static SchemaDto readIdentitySchema() {
+		return read(IDENTITY_SCHEMA, SchemaDto.class);
+	}
+
+	/**
+	 * Opens the session of the operator without going through the login
+	 * screen, which needs the server for a first login on the machine
+	 */
+	public static synchronized void openSession() {
+		if (SessionContext.map() != null) {
+			return;
+		}
+		try {
+			Method createSessionContext = SessionContext.class.getDeclaredMethod("createSessionContext");
+			createSessionContext.setAccessible(true);
+			createSessionContext.invoke(null);
+
+			Field sessionContextField = SessionContext.class.getDeclaredField("sessionContext");
+			sessionContextField.setAccessible(true);
+			Constructor<UserContext> userContextConstructor = UserContext.class
+					.getDeclaredConstructor(SessionContext.class);
+			userContextConstructor.setAccessible(true);
+			UserContext userContext = userContextConstructor.newInstance(sessionContextField.get(null));
+
+			RegistrationCenterDetailDTO centerDetailDTO = new RegistrationCenterDetailDTO();
+			centerDetailDTO.setRegistrationCenterId(CENTER_ID);
+			centerDetailDTO.setRegistrationCenterName("Benchmark Center");
+			userContext.setUserId(USER_ID);
+			userContext.setName(USER_ID);
+			userContext.setRoles(Arrays.asList(RegistrationConstants.OFFICER));
+			userContext.setRegistrationCenterDetailDTO(centerDetailDTO);
+			userContext.setUserMap(new HashMap<>());
+
+			Field userContextField = SessionContext.class.getDeclaredField("userContext");
+			userContextField.setAccessible(true);
+			userContextField.set(null, userContext);
+		} catch (ReflectiveOperationException exception) {
+			throw new IllegalStateException("Failed to open the benchmark session", exception);
+		}
+		SessionContext.map().put(RegistrationConstants.IS_Child, false);
+	}
+
+	private static <T> T read(String resource, Class<T> type) {
+		try (InputStream inputStream = BenchmarkContext.class.getClassLoader().getResourceAsStream(resource)) {
+			return OBJECT_MAPPER.readValue(inputStream, type);
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to read " + resource, exception);
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package io.mosip.registration.benchmark;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.config.DaoConfig;
+
+/**
+ * Data source of the benchmarks, an in-memory embedded Derby database created
+ * from the same initial script as the client database and seeded with the
+ * synthetic global params of {@code benchmark/global-params.properties}.
+ * Everything else, the JPA setup and the loading of the global params into the
+ * environment, is the one of {@link DaoConfig}.
+ */
+public class BenchmarkDaoConfig extends DaoConfig {
+
+	private static final Logger LOGGER = AppConfig.getLogger(BenchmarkDaoConfig.class);
+
+	private static final String LOGGER_TITLE = "REGISTRATION - BENCHMARK - DAO CONFIG";
+	private static final String DRIVER_CLASS_NAME = "org.apache.derby.jdbc.EmbeddedDriver";
+	private static final String URL = "jdbc:derby:memory:registration-benchmark;create=true";
+	private static final String SCHEMA_NAME = "REG";
+	private static final String GLOBAL_PARAMS = "benchmark/global-params.properties";
+	private static final String DELETE_GLOBAL_PARAM = "DELETE FROM REG.GLOBAL_PARAM WHERE CODE = ?";
+	private static final String INSERT_GLOBAL_PARAM = "INSERT INTO REG.GLOBAL_PARAM (CODE, NAME, VAL, TYP, LANG_CODE, IS_ACTIVE, CR_BY, CR_DTIMES) VALUES (?, ?, ?, 'CONFIGURATION', 'eng', true, 'BENCHMARK', ?)";
+
+	private DriverManagerDataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@Override
+	@Bean(name = "dataSource")
+	public synchronized DataSource dataSource() {
+		if (dataSource == null) {
+			DriverManagerDataSource embeddedDataSource = new DriverManagerDataSource();
+			embeddedDataSource.setDriverClassName(DRIVER_CLASS_NAME);
+			embeddedDataSource.setSchema(SCHEMA_NAME);
+			embeddedDataSource.setUrl(URL);
+			createDatabase(embeddedDataSource);
+			dataSource = embeddedDataSource;
+		}
+		return dataSource;
+	}
+
+	@Override
+	@Bean
+	@DependsOn("dataSource")
+	public synchronized JdbcTemplate jdbcTemplate() {
+		if (jdbcTemplate == null) {
+			jdbcTemplate = new JdbcTemplate(dataSource());
+			seedGlobalParams(jdbcTemplate);
+		}
+		updateGlobalParamsInProperties(jdbcTemplate);
+		return jdbcTemplate;
+	}
+
+	private void createDatabase(DataSource embeddedDataSource) {
+		try (Connection connection = embeddedDataSource.getConnection();
+				InputStream script = BenchmarkDaoConfig.class.getClassLoader().getResourceAsStream("initial.sql")) {
+			int errors = org.apache.derby.tools.ij.runScript(connection, script, "UTF-8", System.out, "UTF-8");
+			LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+					"Embedded database created with " + errors + " script errors");
+		} catch (SQLException | IOException exception) {
+			throw new IllegalStateException("Failed to create the embedded benchmark database", exception);
+		}
+	}
+
+	private void seedGlobalParams(JdbcTemplate template) {
+		Properties globalParams = new Properties();
+		try (InputStream inputStream = BenchmarkDaoConfig.class.getClassLoader().getResourceAsStream(GLOBAL_PARAMS)) {
+			globalParams.load(inputStream);
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to read " + GLOBAL_PARAMS, exception);
+		}
+
+		List<Object[]> codes = new ArrayList<>();
+		List<Object[]> rows = new ArrayList<>();
+		Timestamp now = new Timestamp(System.currentTimeMillis());
+		for (String code : globalParams.stringPropertyNames()) {
+			codes.add(new Object[] { code });
+			rows.add(new Object[] { code, code, globalParams.getProperty(code), now });
+		}
+		template.batchUpdate(DELETE_GLOBAL_PARAM, codes);
+		template.batchUpdate(INSERT_GLOBAL_PARAM, rows);
+	}
+}
@@ -0,0 +1,60 @@
+package io.mosip.registration.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.registration.dto.response.SyncDataResponseDto;
+import io.mosip.registration.repositories.SyncCheckpointRepository;
+import io.mosip.registration.util.mastersync.ClientSettingSyncHelper;
+
+/**
+ * Parsing and saving of the canned client settings payload, about fifty
+ * entities and two thousand records, by
+ * {@link ClientSettingSyncHelper#saveClientSettings(SyncDataResponseDto, boolean, java.sql.Timestamp)}
+ * as a delta sync. Every invocation after the first updates the records
+ * already synced, as a periodic master sync does. The sync checkpoints are
+ * cleared before each invocation, otherwise the unchanged payload would be
+ * skipped.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class ClientSettingSyncBenchmark {
+
+	private ClientSettingSyncHelper clientSettingSyncHelper;
+
+	private SyncCheckpointRepository syncCheckpointRepository;
+
+	private SyncDataResponseDto syncDataResponseDto;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		clientSettingSyncHelper = BenchmarkContext.getBean(ClientSettingSyncHelper.class);
+		syncCheckpointRepository = BenchmarkContext.getBean(SyncCheckpointRepository.class);
+	}
+
+	@Setup(Level.Invocation)
+	public void readPayload() {
+		syncCheckpointRepository.deleteAll();
+		syncDataResponseDto = BenchmarkContext.readClientSettings();
+	}
+
+	@Benchmark
+	public String saveClientSettings() {
+		return clientSettingSyncHelper.saveClientSettings(syncDataResponseDto, true, null);
+	}
+}
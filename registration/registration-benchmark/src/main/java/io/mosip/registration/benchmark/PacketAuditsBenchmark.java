@@ -0,0 +1,72 @@
+package io.mosip.registration.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.mosip.registration.dao.AuditDAO;
+import io.mosip.registration.entity.RegistrationAuditDates;
+
+/**
+ * Reading of the audits logged since the last registration packet by
+ * {@link AuditDAO#readAudits(RegistrationAuditDates, String, java.util.function.Consumer)},
+ * as the packet creation does, after an idle or offline period in which the
+ * given number of audits were logged.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class PacketAuditsBenchmark {
+
+	@Param({ "1000", "50000" })
+	private int audits;
+
+	private AuditDAO auditDAO;
+
+	private RegistrationAuditDates lastPacketAuditDates;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		auditDAO = BenchmarkContext.getBean(AuditDAO.class);
+
+		LocalDateTime createdFrom = LocalDateTime.now(ZoneOffset.UTC).minusSeconds(audits);
+		BenchmarkContext.seedAudits(audits, createdFrom);
+
+		Timestamp lastPacketTime = Timestamp.valueOf(createdFrom.minusSeconds(1));
+		lastPacketAuditDates = new RegistrationAuditDates() {
+
+			@Override
+			public Timestamp getAuditLogFromDateTime() {
+				return lastPacketTime;
+			}
+
+			@Override
+			public Timestamp getAuditLogToDateTime() {
+				return lastPacketTime;
+			}
+		};
+	}
+
+	@Benchmark
+	public void readAudits(Blackhole blackhole) {
+		auditDAO.readAudits(lastPacketAuditDates, null, blackhole::consume);
+	}
+}
@@ -0,0 +1,122 @@
+package io.mosip.registration.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.Environment;
+
+import io.mosip.kernel.core.idgenerator.spi.RidGenerator;
+import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateRequestDto;
+import io.mosip.kernel.keymanagerservice.dto.KeyPairGenerateResponseDto;
+import io.mosip.kernel.keymanagerservice.dto.UploadCertificateRequestDto;
+import io.mosip.kernel.keymanagerservice.service.KeymanagerService;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.dto.RegistrationDTO;
+import io.mosip.registration.dto.ResponseDTO;
+import io.mosip.registration.service.packet.PacketHandlerService;
+
+/**
+ * Creation of a new registration packet by
+ * {@link PacketHandlerService#handle(RegistrationDTO)}: the demographics,
+ * document, biometrics, audits and meta info are written, the packet is
+ * encrypted and the registration is saved in the embedded database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+public class PacketHandlerBenchmark {
+
+	private PacketHandlerService packetHandlerService;
+
+	private RidGenerator<String> ridGenerator;
+
+	private double idSchemaVersion;
+
+	private File packetStore;
+
+	private RegistrationDTO registrationDTO;
+
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkContext.ensureClientSettings();
+		BenchmarkContext.openSession();
+
+		idSchemaVersion = BenchmarkContext.ensureIdentitySchema();
+
+		installPolicyKey(BenchmarkContext.CENTER_ID + RegistrationConstants.UNDER_SCORE + BenchmarkContext.MACHINE_ID);
+
+		Environment environment = BenchmarkContext.getBean(Environment.class);
+		packetStore = new File(environment.getProperty("object.store.base.location"));
+		packetHandlerService = BenchmarkContext.getBean(PacketHandlerService.class);
+		ridGenerator = BenchmarkContext.getBean(RidGenerator.class);
+
+		/* Fail the run rather than measure the error path */
+		ResponseDTO responseDTO = packetHandlerService.handle(newRegistration());
+		if (responseDTO.getSuccessResponseDTO() == null) {
+			throw new IllegalStateException("Packet creation failed : "
+					+ responseDTO.getErrorResponseDTOs().get(0).getMessage());
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void prepareRegistration() {
+		registrationDTO = newRegistration();
+	}
+
+	@Benchmark
+	public ResponseDTO handle() {
+		return packetHandlerService.handle(registrationDTO);
+	}
+
+	@TearDown(Level.Trial)
+	public void deletePackets() throws IOException {
+		FileUtils.deleteDirectory(packetStore);
+	}
+
+	private RegistrationDTO newRegistration() {
+		return SyntheticRegistration.create(
+				ridGenerator.generateId(BenchmarkContext.CENTER_ID, BenchmarkContext.MACHINE_ID), idSchemaVersion);
+	}
+
+	/**
+	 * Stores a certificate of a generated key pair as the policy key of the
+	 * center and machine, which the packets are encrypted with, as the policy
+	 * sync does with the key it downloads
+	 */
+	private void installPolicyKey(String centerMachineId) {
+		KeymanagerService keymanagerService = BenchmarkContext.getBean(KeymanagerService.class);
+		KeyPairGenerateRequestDto keyPairGenerateRequestDto = new KeyPairGenerateRequestDto();
+		keyPairGenerateRequestDto.setApplicationId(RegistrationConstants.REG_APP_ID);
+		keyPairGenerateRequestDto.setReferenceId("");
+		keyPairGenerateRequestDto.setForce(false);
+		keyPairGenerateRequestDto.setCommonName("Registration Benchmark");
+		keymanagerService.generateMasterKey("CERTIFICATE", keyPairGenerateRequestDto);
+
+		KeyPairGenerateResponseDto certificateDto = keymanagerService
+				.getCertificate(RegistrationConstants.REG_APP_ID, Optional.empty());
+		UploadCertificateRequestDto uploadCertificateRequestDto = new UploadCertificateRequestDto();
+		uploadCertificateRequestDto.setApplicationId(RegistrationConstants.REG_APP_ID);
+		uploadCertificateRequestDto.setCertificateData(certificateDto.getCertificate());
+		uploadCertificateRequestDto.setReferenceId(centerMachineId);
+		keymanagerService.uploadOtherDomainCertificate(uploadCertificateRequestDto);
+	}
+}
@@ -0,0 +1,118 @@
+package io.mosip.registration.benchmark;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.dto.OSIDataDTO;
+import io.mosip.registration.dto.RegistrationDTO;
+import io.mosip.registration.dto.RegistrationMetaDataDTO;
+import io.mosip.registration.dto.packetmanager.BiometricsDto;
+import io.mosip.registration.dto.packetmanager.DocumentDto;
+
+/**
+ * Builds the new registration of an adult applicant, as the registration screens
+ * leave it before the packet is created: the demographics of the identity
+ * schema in the two languages, a scanned proof of address and the applicant
+ * face and iris. The document and biometric bytes are random, from a fixed seed,
+ * with the sizes of real captures.
+ */
+public final class SyntheticRegistration {
+
+	public static final String SUBTYPE = "applicant";
+
+	private static final int DOCUMENT_SIZE = 256 * 1024;
+	private static final int FACE_SIZE = 40 * 1024;
+	private static final int IRIS_SIZE = 16 * 1024;
+
+	private static final String PRIMARY_LANGUAGE = "eng";
+	private static final String SECONDARY_LANGUAGE = "ara";
+
+	private SyntheticRegistration() {
+	}
+
+	/**
+	 * @param registrationId
+	 *            the RID of the registration
+	 * @param idSchemaVersion
+	 *            the identity schema version
+	 * @return the registration
+	 */
+	public static RegistrationDTO create(String registrationId, double idSchemaVersion) {
+		Random random = new Random(registrationId.hashCode());
+		RegistrationDTO registrationDTO = new RegistrationDTO();
+		registrationDTO.setRegistrationId(registrationId);
+		registrationDTO.setIdSchemaVersion(idSchemaVersion);
+		registrationDTO.setRegistrationCategory(RegistrationConstants.PACKET_TYPE_NEW);
+		registrationDTO.setAuditDTOs(new ArrayList<>());
+
+		OSIDataDTO osiDataDTO = new OSIDataDTO();
+		osiDataDTO.setOperatorID(BenchmarkContext.USER_ID);
+		osiDataDTO.setOperatorAuthenticatedByPassword(true);
+		registrationDTO.setOsiDataDTO(osiDataDTO);
+
+		RegistrationMetaDataDTO registrationMetaDataDTO = new RegistrationMetaDataDTO();
+		registrationMetaDataDTO.setRegistrationCategory(RegistrationConstants.PACKET_TYPE_NEW);
+		registrationMetaDataDTO.setCenterId(BenchmarkContext.CENTER_ID);
+		registrationMetaDataDTO.setMachineId(BenchmarkContext.MACHINE_ID);
+		registrationMetaDataDTO.setConsentOfApplicant("Yes");
+		registrationDTO.setRegistrationMetaDataDTO(registrationMetaDataDTO);
+
+		addDemographics(registrationDTO);
+
+		DocumentDto proofOfAddress = new DocumentDto();
+		proofOfAddress.setDocument(randomBytes(random, DOCUMENT_SIZE));
+		proofOfAddress.setValue("POA_Passport");
+		proofOfAddress.setType("Passport");
+		proofOfAddress.setCategory("POA");
+		proofOfAddress.setOwner("Applicant");
+		proofOfAddress.setFormat("pdf");
+		proofOfAddress.setRefNumber("P1234567");
+		registrationDTO.addDocument("POA", proofOfAddress);
+
+		addBiometric(registrationDTO, "face", randomBytes(random, FACE_SIZE), 89);
+		addBiometric(registrationDTO, "leftIris", randomBytes(random, IRIS_SIZE), 82);
+		return registrationDTO;
+	}
+
+	/**
+	 * Adds the demographics of the applicant, as the client keeps them
+	 */
+	private static void addDemographics(RegistrationDTO registrationDTO) {
+		registrationDTO.addDemographicField("fullName", PRIMARY_LANGUAGE, "Amina Benali El Idrissi",
+				SECONDARY_LANGUAGE, "أمينة بنعلي الإدريسي");
+		registrationDTO.addDemographicField("dateOfBirth", "1988/04/17");
+		registrationDTO.addDemographicField("gender", PRIMARY_LANGUAGE, "Female", SECONDARY_LANGUAGE, "أنثى");
+		registrationDTO.addDemographicField("residenceStatus", PRIMARY_LANGUAGE, "Non-Foreigner", SECONDARY_LANGUAGE,
+				"غير أجنبي");
+		registrationDTO.addDemographicField("addressLine1", PRIMARY_LANGUAGE, "14 Rue Al Mansour",
+				SECONDARY_LANGUAGE, "14 شارع المنصور");
+		registrationDTO.addDemographicField("addressLine2", PRIMARY_LANGUAGE, "Hay Riad", SECONDARY_LANGUAGE,
+				"حي الرياض");
+		registrationDTO.addDemographicField("addressLine3", PRIMARY_LANGUAGE, "Morocco", SECONDARY_LANGUAGE,
+				"المغرب");
+		registrationDTO.addDemographicField("region", PRIMARY_LANGUAGE, "Rabat Sale Kenitra", SECONDARY_LANGUAGE,
+				"جهة الرباط سلا القنيطرة");
+		registrationDTO.addDemographicField("province", PRIMARY_LANGUAGE, "Kenitra", SECONDARY_LANGUAGE,
+				"القنيطرة");
+		registrationDTO.addDemographicField("city", PRIMARY_LANGUAGE, "Kenitra", SECONDARY_LANGUAGE, "القنيطرة");
+		registrationDTO.addDemographicField("zone", PRIMARY_LANGUAGE, "Mograne", SECONDARY_LANGUAGE, "مكرن");
+		registrationDTO.addDemographicField("postalCode", "14023");
+		registrationDTO.addDemographicField("phone", "9876543210");
+		registrationDTO.addDemographicField("email", "amina.benali@example.org");
+	}
+
+	private static void addBiometric(RegistrationDTO registrationDTO, String bioAttribute, byte[] attributeISO,
+			double qualityScore) {
+		BiometricsDto biometricsDto = new BiometricsDto(bioAttribute, attributeISO, qualityScore);
+		biometricsDto.setSubType(SUBTYPE);
+		biometricsDto.setCaptured(true);
+		registrationDTO.getBiometrics().put(String.format("%s_%s", SUBTYPE, bioAttribute), biometricsDto);
+	}
+
+	private static byte[] randomBytes(Random random, int size) {
+		byte[] bytes = new byte[size];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+}
@@ -0,0 +1,105 @@
+package io.mosip.registration.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.mosip.registration.controller.reg.Validations;
+import io.mosip.registration.dto.UiSchemaDTO;
+
+/**
+ * Regex validation of the demographic fields by
+ * {@link Validations#validateSingleString(String, String)}, with the validators
+ * of the identity schema, for values from a typed length up to a pasted or
+ * scanned megabyte. No Spring context is needed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ValidationsBenchmark {
+
+	@Param({ "32", "10000", "1000000" })
+	private int length;
+
+	private Validations validations;
+
+	private String fullName;
+
+	private String addressLine;
+
+	private String email;
+
+	private String phone;
+
+	private String postalCode;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Map<String, UiSchemaDTO> validationMap = new LinkedHashMap<>();
+		for (UiSchemaDTO field : BenchmarkContext.readIdentitySchema().getSchema()) {
+			validationMap.put(field.getId(), field);
+		}
+		validations = new Validations();
+		validations.setValidations(validationMap);
+
+		fullName = repeat("Amina Benali ", length);
+		addressLine = repeat("14 Rue Al Mansour, ", length);
+		/* Many dotted labels, the worst case of the email validator */
+		email = repeat("amina.", length - ".org".length()) + "@example.org";
+		phone = repeat("9876543210", length);
+		postalCode = repeat("14023", length);
+	}
+
+	@Benchmark
+	public boolean fullName() {
+		return validations.validateSingleString(fullName, "fullName");
+	}
+
+	@Benchmark
+	public boolean addressLine() {
+		return validations.validateSingleString(addressLine, "addressLine1");
+	}
+
+	@Benchmark
+	public boolean email() {
+		return validations.validateSingleString(email, "email");
+	}
+
+	@Benchmark
+	public boolean phone() {
+		return validations.validateSingleString(phone, "phone");
+	}
+
+	@Benchmark
+	public boolean postalCode() {
+		return validations.validateSingleString(postalCode, "postalCode");
+	}
+
+	/**
+	 * @return the text repeated up to the length
+	 */
+	private static String repeat(String text, int length) {
+		StringBuilder builder = new StringBuilder(length);
+		while (builder.length() < length) {
+			builder.append(text);
+		}
+		builder.setLength(length);
+		return builder.toString();
+	}
+}
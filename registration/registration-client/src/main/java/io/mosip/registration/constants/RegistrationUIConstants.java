@@ -226,6 +226,7 @@ public class RegistrationUIConstants {
 	public static final String PACKET_EXPORT_SUCCESS_MESSAGE = bundle.getString("PACKET_EXPORT_SUCCESS_MESSAGE");
 	public static final String PACKET_EXPORT_MESSAGE = bundle.getString("PACKET_EXPORT_MESSAGE");
 	public static final String PACKET_EXPORT_FAILURE = bundle.getString("PACKET_EXPORT_FAILURE");
+	public static final String PACKET_EXPORT_IN_PROGRESS = bundle.getString("PACKET_EXPORT_IN_PROGRESS");
 
 	// JOBS
 	public static final String EXECUTE_JOB_ERROR_MESSAGE = bundle.getString("EXECUTE_JOB_ERROR_MESSAGE");
@@ -365,9 +365,7 @@ public class BaseController {
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
 	public static <T> T load(URL url) throws IOException {
-		FXMLLoader loader = new FXMLLoader(url, ApplicationContext.applicationLanguageBundle());
-		loader.setControllerFactory(Initialization.getApplicationContext()::getBean);
-		return loader.load();
+		return ScreenRegistry.load(url, ApplicationContext.applicationLanguageBundle());
 	}
 
 	/**
@@ -380,9 +378,7 @@ public class BaseController {
 	 * @throws IOException Signals that an I/O exception has occurred.
 	 */
 	public static <T> T load(URL url, ResourceBundle resource) throws IOException {
-		FXMLLoader loader = new FXMLLoader(url, resource);
-		loader.setControllerFactory(Initialization.getApplicationContext()::getBean);
-		return loader.load();
+		return ScreenRegistry.load(url, resource);
 	}
 
 	/**
@@ -0,0 +1,111 @@
+package io.mosip.registration.controller;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.LoggerConstants;
+import javafx.scene.image.Image;
+
+/**
+ * Loads the images packaged with the application, such as the placeholder,
+ * exception and status icons.
+ * <p>
+ * Each image is decoded once for a resource path and size, and then shared by
+ * the screens, so switching between the modalities of a capture screen does
+ * not decode the same icons again. A size of 0 keeps the size of the resource;
+ * the images shown in a fixed size image view can be requested in that size,
+ * so they are scaled once when decoded. The images can be preloaded on a
+ * background thread.
+ * </p>
+ */
+public final class ImageRegistry {
+
+	private static final Logger LOGGER = AppConfig.getLogger(ImageRegistry.class);
+
+	/** Decoded images, by resource path and size */
+	private static final Map<String, Image> images = new ConcurrentHashMap<>();
+
+	private ImageRegistry() {
+	}
+
+	/**
+	 * @param path
+	 *            the resource path of the image
+	 * @return the image in the size of the resource, or null if there is no such
+	 *         resource
+	 */
+	public static Image getImage(String path) {
+		return getImage(path, 0, 0);
+	}
+
+	/**
+	 * @param path
+	 *            the resource path of the image
+	 * @param width
+	 *            the width the image is scaled to, 0 for the width of the
+	 *            resource
+	 * @param height
+	 *            the height the image is scaled to, 0 for the height of the
+	 *            resource
+	 * @return the image, or null if there is no such resource
+	 */
+	public static Image getImage(String path, double width, double height) {
+		String key = path + "@" + width + "x" + height;
+		Image image = images.get(key);
+		if (image == null) {
+			image = decode(path, width, height);
+			if (image != null) {
+				Image existing = images.putIfAbsent(key, image);
+				image = existing != null ? existing : image;
+			}
+		}
+		return image;
+	}
+
+	/**
+	 * Decodes the images in the given size on a background thread
+	 *
+	 * @param width
+	 *            the width the images are scaled to, 0 for their own width
+	 * @param height
+	 *            the height the images are scaled to, 0 for their own height
+	 * @param paths
+	 *            the resource paths of the images
+	 */
+	public static void preload(double width, double height, String... paths) {
+		Thread preloadThread = new Thread(() -> {
+			long start = System.currentTimeMillis();
+			for (String path : paths) {
+				getImage(path, width, height);
+			}
+			LOGGER.info(LoggerConstants.LOG_REG_BASE, APPLICATION_NAME, APPLICATION_ID,
+					"Preloaded " + paths.length + " images in (ms) : " + (System.currentTimeMillis() - start));
+		}, "image-preloader");
+		preloadThread.setDaemon(true);
+		preloadThread.start();
+	}
+
+	private static Image decode(String path, double width, double height) {
+		try (InputStream inputStream = ImageRegistry.class.getResourceAsStream(path)) {
+			if (inputStream == null) {
+				LOGGER.error(LoggerConstants.LOG_REG_BASE, APPLICATION_NAME, APPLICATION_ID,
+						"Image not found : " + path);
+				return null;
+			}
+			return new Image(inputStream, width, height, false, true);
+		} catch (IOException | RuntimeException exception) {
+			LOGGER.error(LoggerConstants.LOG_REG_BASE, APPLICATION_NAME, APPLICATION_ID,
+					"Failed to load the image " + path + " : " + exception.getMessage()
+							+ ExceptionUtils.getStackTrace(exception));
+			return null;
+		}
+	}
+}
@@ -15,10 +15,13 @@ import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.config.StagedStartup;
+import io.mosip.registration.config.StartupTimeline;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.controller.auth.LoginController;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
@@ -57,6 +60,10 @@ public class Initialization extends Application {
 			loginController.loadInitialScreen(primaryStage);
 			loginController.loadUIElementsFromSchema();
 			SessionContext.setApplicationContext(applicationContext);
+			StartupTimeline.mark("login-screen-shown");
+
+			/* Beans not needed by the login screen are created once it is shown */
+			applicationContext.getBean(StagedStartup.class).initializeDeferredBeans(Platform::runLater);
 
 			LOGGER.info("REGISTRATION - LOGIN SCREEN INITILIZATION - REGISTRATIONAPPINITILIZATION", APPLICATION_NAME,
 					APPLICATION_ID, "Login screen loaded"
@@ -110,7 +117,11 @@ public class Initialization extends Application {
 			System.setProperty(RegistrationConstants.MOSIP_HOSTNAME, System.getenv(RegistrationConstants.MOSIP_HOSTNAME));
 		}
 		
-		return new AnnotationConfigApplicationContext(AppConfig.class);
+		StartupTimeline.mark("context-refresh-started");
+		AnnotationConfigApplicationContext annotationConfigApplicationContext = new AnnotationConfigApplicationContext(
+				AppConfig.class);
+		StartupTimeline.mark("context-refreshed");
+		return annotationConfigApplicationContext;
 	}
 
 	@Override
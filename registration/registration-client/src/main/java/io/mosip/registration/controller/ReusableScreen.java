@@ -0,0 +1,15 @@
+package io.mosip.registration.controller;
+
+/**
+ * Implemented by the controllers whose screen can be shown again without
+ * loading its FXML once more. {@link ScreenRegistry} keeps the root of such a
+ * screen and, on the next navigation to it, calls {@link #resetScreen()}
+ * instead of building a new root.
+ */
+public interface ReusableScreen {
+
+	/**
+	 * Brings the reused screen to the state of a freshly loaded one
+	 */
+	void resetScreen();
+}
@@ -0,0 +1,295 @@
+package io.mosip.registration.controller;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.LoggerConstants;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.util.Callback;
+
+/**
+ * Loads the FXML screens of the application.
+ * <p>
+ * The FXML sources are kept in memory and can be preloaded on a background
+ * thread, which also loads the classes the screens refer to, so a
+ * navigation only pays for building the nodes. The roots of the screens whose
+ * controller implements {@link ReusableScreen} are kept and reused while none
+ * of the controllers of the screen were bound to another root since. The load
+ * time of every screen is recorded and logged.
+ * </p>
+ * <p>
+ * Screens are loaded and the reusable roots are dropped on the FX application
+ * thread only.
+ * </p>
+ */
+public final class ScreenRegistry {
+
+	private static final Logger LOGGER = AppConfig.getLogger(ScreenRegistry.class);
+
+	private static final Pattern CLASS_IMPORT = Pattern.compile("<\\?import\\s+([\\w.$]+[A-Z][\\w$]*)\\s*\\?>");
+	private static final Pattern CONTROLLER = Pattern.compile("fx:controller\\s*=\\s*\"([^\"]+)\"");
+	private static final Pattern INCLUDE = Pattern.compile("<fx:include[^>]*\\ssource\\s*=\\s*\"([^\"]+)\"");
+
+	/** FXML source of each screen */
+	private static final Map<String, byte[]> fxmlSources = new ConcurrentHashMap<>();
+
+	/** Load time statistics of each screen */
+	private static final Map<String, ScreenStatistics> statistics = new ConcurrentHashMap<>();
+
+	/** Roots of the reusable screens */
+	private static final Map<String, CachedScreen> cachedScreens = new ConcurrentHashMap<>();
+
+	/** Load after which each controller was last bound to its nodes */
+	private static final Map<Object, Long> controllerBindings = new IdentityHashMap<>();
+
+	private static long loadCount;
+
+	/** Whether the current thread may load screens, replaced by the tests */
+	private static BooleanSupplier screenThread = Platform::isFxApplicationThread;
+
+	/** Creates the controllers of the screens, replaced by the tests */
+	private static Callback<Class<?>, Object> controllerFactory = type -> Initialization.getApplicationContext()
+			.getBean(type);
+
+	private ScreenRegistry() {
+	}
+
+	/**
+	 * Loads the screen, reusing its root if the screen can be reused
+	 *
+	 * @param <T>
+	 *            the type of the root
+	 * @param url
+	 *            the FXML of the screen
+	 * @param resource
+	 *            the resource bundle of the screen
+	 * @return the root of the screen
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T load(URL url, ResourceBundle resource) throws IOException {
+		checkFxThread();
+		long start = System.nanoTime();
+		String screen = url.toExternalForm();
+
+		CachedScreen cachedScreen = cachedScreens.get(screen);
+		if (cachedScreen != null && cachedScreen.isReusable(resource)) {
+			((ReusableScreen) cachedScreen.controller).resetScreen();
+			record(screen, start, true);
+			return (T) cachedScreen.root;
+		}
+
+		FXMLLoader loader = new FXMLLoader(url, resource);
+		loader.setControllerFactory(controllerFactory);
+		T root;
+		try (InputStream inputStream = new ByteArrayInputStream(getSource(url))) {
+			root = loader.load(inputStream);
+		}
+
+		long loadId = ++loadCount;
+		List<Object> controllers = getControllers(loader);
+		controllers.forEach(controller -> controllerBindings.put(controller, loadId));
+
+		if (loader.getController() instanceof ReusableScreen && root instanceof Parent) {
+			cachedScreens.put(screen, new CachedScreen((Parent) root, loader.getController(), controllers, resource, loadId));
+		} else {
+			cachedScreens.remove(screen);
+		}
+
+		record(screen, start, false);
+		return root;
+	}
+
+	/**
+	 * Reads the FXML sources of the screens and of the screens they include, and
+	 * loads the classes they refer to, on a background thread
+	 *
+	 * @param screens
+	 *            the FXML paths of the screens
+	 */
+	public static void preload(String... screens) {
+		Thread preloadThread = new Thread(() -> {
+			long start = System.currentTimeMillis();
+			for (String screen : screens) {
+				URL url = ScreenRegistry.class.getResource(screen);
+				if (url != null) {
+					preload(url, Collections.newSetFromMap(new ConcurrentHashMap<>()));
+				}
+			}
+			LOGGER.info(LoggerConstants.LOG_REG_BASE, APPLICATION_NAME, APPLICATION_ID,
+					"Preloaded screens in (ms) : " + (System.currentTimeMillis() - start));
+		}, "screen-preloader");
+		preloadThread.setDaemon(true);
+		preloadThread.start();
+	}
+
+	/**
+	 * Drops the reusable roots, to be called when the language or the session
+	 * changes
+	 */
+	public static void clear() {
+		checkFxThread();
+		cachedScreens.clear();
+		controllerBindings.clear();
+	}
+
+	/**
+	 * @return the load time statistics of each screen
+	 */
+	public static Map<String, String> getStatistics() {
+		Map<String, String> screenStatistics = new ConcurrentHashMap<>();
+		statistics.forEach((screen, stats) -> screenStatistics.put(screen, stats.toString()));
+		return screenStatistics;
+	}
+
+	private static void checkFxThread() {
+		if (!screenThread.getAsBoolean()) {
+			throw new IllegalStateException(
+					"Screens are to be loaded on the FX application thread, not on " + Thread.currentThread().getName());
+		}
+	}
+
+	private static void preload(URL url, Set<String> visited) {
+		if (!visited.add(url.toExternalForm())) {
+			return;
+		}
+		try {
+			String source = new String(getSource(url), StandardCharsets.UTF_8);
+			loadClasses(CLASS_IMPORT.matcher(source));
+			loadClasses(CONTROLLER.matcher(source));
+
+			Matcher includes = INCLUDE.matcher(source);
+			while (includes.find()) {
+				preload(new URL(url, includes.group(1)), visited);
+			}
+		} catch (IOException | RuntimeException exception) {
+			LOGGER.error(LoggerConstants.LOG_REG_BASE, APPLICATION_NAME, APPLICATION_ID,
+					"Failed to preload " + url + " : " + exception.getMessage() + ExceptionUtils.getStackTrace(exception));
+		}
+	}
+
+	private static void loadClasses(Matcher classNames) {
+		while (classNames.find()) {
+			try {
+				Class.forName(classNames.group(1), false, ScreenRegistry.class.getClassLoader());
+			} catch (ClassNotFoundException | LinkageError exception) {
+				LOGGER.debug(LoggerConstants.LOG_REG_BASE, APPLICATION_NAME, APPLICATION_ID,
+						"Class not preloaded : " + classNames.group(1));
+			}
+		}
+	}
+
+	private static byte[] getSource(URL url) throws IOException {
+		byte[] source = fxmlSources.get(url.toExternalForm());
+		if (source == null) {
+			try (InputStream inputStream = url.openStream()) {
+				source = inputStream.readAllBytes();
+			}
+			fxmlSources.put(url.toExternalForm(), source);
+		}
+		return source;
+	}
+
+	private static List<Object> getControllers(FXMLLoader loader) {
+		List<Object> controllers = new ArrayList<>();
+		if (loader.getController() != null) {
+			controllers.add(loader.getController());
+		}
+		/* Controllers of the included screens are in the namespace as <fx:id>Controller */
+		loader.getNamespace().forEach((key, value) -> {
+			if (key.endsWith("Controller") && value != null && !controllers.contains(value)) {
+				controllers.add(value);
+			}
+		});
+		return controllers;
+	}
+
+	private static void record(String screen, long start, boolean reused) {
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+		ScreenStatistics screenStatistics = statistics.computeIfAbsent(screen, key -> new ScreenStatistics());
+		screenStatistics.add(elapsedMillis, reused);
+		LOGGER.info(LoggerConstants.LOG_REG_BASE, APPLICATION_NAME, APPLICATION_ID,
+				(reused ? "Reused " : "Loaded ") + screen.substring(screen.lastIndexOf('/') + 1) + " in (ms) : "
+						+ elapsedMillis + " [" + screenStatistics + "]");
+	}
+
+	private static final class CachedScreen {
+
+		private final Parent root;
+		private final Object controller;
+		private final List<Object> controllers;
+		private final ResourceBundle resource;
+		private final long loadId;
+
+		private CachedScreen(Parent root, Object controller, List<Object> controllers, ResourceBundle resource,
+				long loadId) {
+			this.root = root;
+			this.controller = controller;
+			this.controllers = controllers;
+			this.resource = resource;
+			this.loadId = loadId;
+		}
+
+		/**
+		 * The root can be reused when it is not shown, was loaded with the same
+		 * resources and every controller of the screen is still bound to its nodes
+		 */
+		private boolean isReusable(ResourceBundle currentResource) {
+			if (root.getScene() != null || root.getParent() != null || resource != currentResource) {
+				return false;
+			}
+			for (Object screenController : controllers) {
+				Long boundLoadId = controllerBindings.get(screenController);
+				if (boundLoadId == null || boundLoadId != loadId) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	private static final class ScreenStatistics {
+
+		private long loads;
+		private long reuses;
+		private long totalMillis;
+		private long maxMillis;
+
+		private synchronized void add(long elapsedMillis, boolean reused) {
+			loads++;
+			if (reused) {
+				reuses++;
+			}
+			totalMillis += elapsedMillis;
+			maxMillis = Math.max(maxMillis, elapsedMillis);
+		}
+
+		@Override
+		public synchronized String toString() {
+			return "count=" + loads + ", reused=" + reuses + ", avg=" + (loads == 0 ? 0 : totalMillis / loads)
+					+ ", max=" + maxMillis;
+		}
+	}
+}
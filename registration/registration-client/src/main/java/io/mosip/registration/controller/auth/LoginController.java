@@ -43,7 +43,9 @@ import io.mosip.registration.constants.RegistrationUIConstants;
 import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.controller.BaseController;
+import io.mosip.registration.controller.ImageRegistry;
 import io.mosip.registration.controller.Initialization;
+import io.mosip.registration.controller.ScreenRegistry;
 import io.mosip.registration.controller.device.Streamer;
 import io.mosip.registration.controller.reg.HeaderController;
 import io.mosip.registration.controller.reg.Validations;
@@ -1008,6 +1010,16 @@ public class LoginController extends BaseController implements Initializable {
 					// to add events to the stage
 					getStage();
 
+					/* Warm up the screens used most during a shift */
+					ScreenRegistry.preload(RegistrationConstants.CREATE_PACKET_PAGE, RegistrationConstants.ACK_RECEIPT_PATH,
+							RegistrationConstants.DASHBOARD_PAGE, RegistrationConstants.HOME_PAGE);
+					/* and the icons of the biometric capture screens */
+					ImageRegistry.preload(85, 80, RegistrationConstants.FACE_IMG_PATH,
+							RegistrationConstants.DOUBLE_IRIS_IMG_PATH, RegistrationConstants.LEFTPALM_IMG_PATH,
+							RegistrationConstants.RIGHTPALM_IMG_PATH, RegistrationConstants.THUMB_IMG_PATH);
+					ImageRegistry.preload(40, 40, RegistrationConstants.TICK_CIRICLE_IMG_PATH,
+							RegistrationConstants.EXCLAMATION_IMG_PATH);
+
 					userDTO.setLastLoginMethod(loginMode);
 					userDTO.setLastLoginDtimes(Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()));
 					userDTO.setUnsuccessfulLoginCount(RegistrationConstants.PARAM_ZERO);
@@ -51,6 +51,7 @@ import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.controller.BaseController;
 import io.mosip.registration.controller.FXUtils;
+import io.mosip.registration.controller.ImageRegistry;
 import io.mosip.registration.controller.reg.DocumentScanController;
 import io.mosip.registration.controller.reg.RegistrationController;
 import io.mosip.registration.controller.reg.UserOnboardParentController;
@@ -334,8 +335,8 @@ public class BiometricsController extends BaseController /* implements Initializ
 		leftHandImageBoxMap = new HashMap<>();
 		exceptionMap = new HashMap<>();
 
-		Image backInWhite = new Image(getClass().getResourceAsStream(RegistrationConstants.BACK_FOCUSED));
-		Image backImage = new Image(getClass().getResourceAsStream(RegistrationConstants.BACK));
+		Image backInWhite = ImageRegistry.getImage(RegistrationConstants.BACK_FOCUSED);
+		Image backImage = ImageRegistry.getImage(RegistrationConstants.BACK);
 		backButton.hoverProperty().addListener((ov, oldValue, newValue) -> {
 			if (newValue) {
 				backImageView.setImage(backInWhite);
@@ -505,7 +506,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 		}
 
 		ImageView imageView = new ImageView(
-				image != null ? image : new Image(this.getClass().getResourceAsStream(getImageIconPath(modality))));
+				image != null ? image : ImageRegistry.getImage(getImageIconPath(modality), 85, 80));
 		imageView.setFitHeight(80);
 		imageView.setFitWidth(85);
 
@@ -519,7 +520,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 		if (image != null) {
 			if (hBox.getChildren().size() == 1) {
 				ImageView tickImageView = new ImageView(
-						new Image(this.getClass().getResourceAsStream(RegistrationConstants.TICK_CIRICLE_IMG_PATH)));
+						ImageRegistry.getImage(RegistrationConstants.TICK_CIRICLE_IMG_PATH, 40, 40));
 
 				tickImageView.setFitWidth(40);
 				tickImageView.setFitHeight(40);
@@ -584,7 +585,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 			addImageInUIPane(currentSubType, currentModality, convertBytesToImage(documentDto.getDocument()), true);
 
 		} else {
-			biometricImage.setImage(new Image(this.getClass().getResourceAsStream(getImageIconPath(modality))));
+			biometricImage.setImage(ImageRegistry.getImage(getImageIconPath(modality)));
 
 			addImageInUIPane(currentModality, currentModality, null, false);
 		}
@@ -1401,8 +1402,8 @@ public class BiometricsController extends BaseController /* implements Initializ
 					image= streamer.getStreamImageBytes();
 					addRegistrationStreamImage(currentSubType, biometricsDtos.get(0).getModalityName(), biometricsDtos.get(0).getNumOfRetries(), image);
 					STREAM_IMAGES.put(String.format("%s_%s_%s", currentSubType, currentModality, biometricsDtos.get(0).getNumOfRetries()),
-							new Image(image == null ? this.getClass().getResourceAsStream(getStubStreamImagePath(currentModality)):
-									new ByteArrayInputStream(image)));
+							image == null ? ImageRegistry.getImage(getStubStreamImagePath(currentModality)) :
+									new Image(new ByteArrayInputStream(image)));
 					break;
 				case "IRIS_DOUBLE":
 					byte[] rightImage = new byte[0], leftImage =  new byte[0];
@@ -1422,7 +1423,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 					}
 					STREAM_IMAGES.put(String.format("%s_%s_%s", currentSubType, currentModality, biometricsDtos.get(0).getNumOfRetries()),
 							(rightImage == null || rightImage.length == 0) && (leftImage == null || leftImage.length == 0) ?
-									new Image(this.getClass().getResourceAsStream(getStubStreamImagePath(currentModality))) :
+									ImageRegistry.getImage(getStubStreamImagePath(currentModality)) :
 									concatImages(leftImage, rightImage));
 					break;
 
@@ -1435,7 +1436,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 					addRegistrationStreamImage(currentSubType, biometricsDtos.get(0).getBioAttribute(), biometricsDtos.get(0).getNumOfRetries(),
 							image);
 					STREAM_IMAGES.put(String.format("%s_%s_%s", currentSubType, currentModality, biometricsDtos.get(0).getNumOfRetries()),
-							image == null ? new Image(this.getClass().getResourceAsStream(getStubStreamImagePath(currentModality))):
+							image == null ? ImageRegistry.getImage(getStubStreamImagePath(currentModality)):
 									getImage(ImageIO.read(new ByteArrayInputStream(image))));
 					break;
 			}
@@ -1608,7 +1609,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 
 		// Get the stream image from Bio ServiceImpl and load it in the image pane
 		Image image = getBioStreamImage(subType, modality, retry);
-		biometricImage.setImage(image == null ? new Image(this.getClass().getResourceAsStream(getImageIconPath(modality))) :
+		biometricImage.setImage(image == null ? ImageRegistry.getImage(getImageIconPath(modality)) :
 				image);
 
 		List<BiometricsDto> savedBiometrics = getBiometrics(subType, getAllBioAttributes(modality));
@@ -1738,7 +1739,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 		this.bioType = constructBioType(bioType);
 
 		bioValue = bioType;
-		biometricImage.setImage(new Image(this.getClass().getResourceAsStream(bioImage)));
+		biometricImage.setImage(ImageRegistry.getImage(bioImage));
 
 		String threshold = null;
 		if (biometricThreshold != null) {
@@ -2396,7 +2397,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 		}
 
 		ImageView imageView = new ImageView(
-				image != null ? image : new Image(this.getClass().getResourceAsStream(getImageIconPath(modality))));
+				image != null ? image : ImageRegistry.getImage(getImageIconPath(modality), 85, 80));
 		imageView.setFitHeight(80);
 		imageView.setFitWidth(85);
 
@@ -2421,11 +2422,11 @@ public class BiometricsController extends BaseController /* implements Initializ
 			if (hBox.getChildren().size() == 1) {
 				ImageView tickImageView;
 				if (isAllExceptions) {
-					tickImageView = new ImageView(new Image(this.getClass()
-							.getResourceAsStream(RegistrationConstants.EXCLAMATION_IMG_PATH)));
+					tickImageView = new ImageView(
+							ImageRegistry.getImage(RegistrationConstants.EXCLAMATION_IMG_PATH, 40, 40));
 				} else {
-					tickImageView = new ImageView(new Image(this.getClass()
-							.getResourceAsStream(RegistrationConstants.TICK_CIRICLE_IMG_PATH)));
+					tickImageView = new ImageView(
+							ImageRegistry.getImage(RegistrationConstants.TICK_CIRICLE_IMG_PATH, 40, 40));
 				}
 				tickImageView.setFitWidth(40);
 				tickImageView.setFitHeight(40);
@@ -2464,7 +2465,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 						HBox hBox = (HBox) vBox.getChildren().get(0);
 						// hBox.getChildren().clear();
 						((ImageView) (hBox.getChildren().get(0))).setImage(uiImage != null ? uiImage
-								: new Image(this.getClass().getResourceAsStream(getImageIconPath(modality))));
+								: ImageRegistry.getImage(getImageIconPath(modality), 85, 80));
 
 						if (hBox.getChildren().size() > 1) {
 							hBox.getChildren().remove(1);
@@ -2474,11 +2475,11 @@ public class BiometricsController extends BaseController /* implements Initializ
 							if (hBox.getChildren().size() == 1) {
 								ImageView imageView;
 								if (uiImage == null) {
-									imageView = new ImageView(new Image(this.getClass()
-											.getResourceAsStream(RegistrationConstants.EXCLAMATION_IMG_PATH)));
+									imageView = new ImageView(
+											ImageRegistry.getImage(RegistrationConstants.EXCLAMATION_IMG_PATH, 40, 40));
 								} else {
-									imageView = new ImageView(new Image(this.getClass()
-											.getResourceAsStream(RegistrationConstants.TICK_CIRICLE_IMG_PATH)));
+									imageView = new ImageView(
+											ImageRegistry.getImage(RegistrationConstants.TICK_CIRICLE_IMG_PATH, 40, 40));
 								}
 
 								imageView.setFitWidth(40);
@@ -3010,7 +3011,7 @@ public class BiometricsController extends BaseController /* implements Initializ
 		LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 				"Started Preparing exception image view for : " + id);
 
-		ImageView imageView = new ImageView(new Image(this.getClass().getResourceAsStream(url)));
+		ImageView imageView = new ImageView(ImageRegistry.getImage(url));
 
 		if (id != null) {
 			imageView.setId(id);
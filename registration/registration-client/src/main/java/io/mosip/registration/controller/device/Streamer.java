@@ -119,7 +119,7 @@ public class Streamer {
 						LOGGER.error(STREAMER, RegistrationConstants.APPLICATION_NAME,
 								RegistrationConstants.APPLICATION_ID,
 								exception.getMessage() + ExceptionUtils.getStackTrace(exception));
-						urlStream = null;
+						closeUrlStream();
 
 					}
 				}
@@ -201,13 +201,24 @@ public class Streamer {
 		SessionContext.setAutoLogout(true);
 
 		if (streamer_thread != null) {
+			isRunning = false;
+			closeUrlStream();
+			streamer_thread = null;
+		}
+	}
+
+	/**
+	 * Closes the stream, which releases the connection to the device
+	 */
+	private void closeUrlStream() {
+		InputStream stream = urlStream;
+		urlStream = null;
+		if (stream != null) {
 			try {
-				isRunning = false;
-				if (urlStream != null)
-					urlStream.close();
-				streamer_thread = null;
-			} catch (IOException e) {
-				e.printStackTrace();
+				stream.close();
+			} catch (IOException exception) {
+				LOGGER.error(STREAMER, RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+						exception.getMessage() + ExceptionUtils.getStackTrace(exception));
 			}
 		}
 	}
@@ -12,15 +12,18 @@ import org.springframework.stereotype.Component;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.controller.BaseController;
+import io.mosip.registration.controller.ReusableScreen;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.web.WebEngine;
 import javafx.scene.web.WebView;
 
 @Component
-public class DashBoardController extends BaseController implements Initializable {
+public class DashBoardController extends BaseController implements Initializable, ReusableScreen {
 	
 	private static final Logger LOGGER = AppConfig.getLogger(DashBoardController.class);
+
+	private static final String LOG_DASHBOARD = "REGISTRATION - UI - DASHBOARD_CONTROLLER";
 	
 	@FXML
 	private WebView dashboardWebView;
@@ -36,8 +39,16 @@ public class DashBoardController extends BaseController implements Initializable
 		WebEngine webEngine = dashboardWebView.getEngine();
 		webEngine.loadContent(stringWriter.toString());
 		
-		LOGGER.info("REGISTRATION - UI - ACK-RECEIPT_CONTROLLER", APPLICATION_NAME, APPLICATION_ID,
+		LOGGER.info(LOG_DASHBOARD, APPLICATION_NAME, APPLICATION_ID,
 				"Dashboard template has been loaded to webview");
 	}
 
+	@Override
+	public void resetScreen() {
+		dashboardWebView.getEngine().loadContent(stringWriter.toString());
+
+		LOGGER.info(LOG_DASHBOARD, APPLICATION_NAME, APPLICATION_ID,
+				"Dashboard template has been reloaded to webview");
+	}
+
 }
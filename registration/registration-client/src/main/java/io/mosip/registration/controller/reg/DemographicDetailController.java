@@ -45,7 +45,6 @@ import io.mosip.registration.controller.BaseController;
 import io.mosip.registration.controller.FXUtils;
 import io.mosip.registration.controller.VirtualKeyboard;
 import io.mosip.registration.controller.device.BiometricsController;
-import io.mosip.registration.dao.MasterSyncDao;
 import io.mosip.registration.dto.ErrorResponseDTO;
 import io.mosip.registration.dto.RegistrationDTO;
 import io.mosip.registration.dto.RequiredOnExpr;
@@ -54,7 +53,6 @@ import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.dto.UiSchemaDTO;
 import io.mosip.registration.dto.mastersync.GenericDto;
 import io.mosip.registration.dto.mastersync.LocationDto;
-import io.mosip.registration.entity.Location;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.service.IdentitySchemaService;
 import io.mosip.registration.service.sync.MasterSyncService;
@@ -108,8 +106,6 @@ public class DemographicDetailController extends BaseController {
 	@Autowired
 	private IdentitySchemaService identitySchemaService;
 	@Autowired
-	private MasterSyncDao masterSyncDao;
-	@Autowired
 	private BiometricsController guardianBiometricsController;
 	@Autowired
 	private ResourceLoader resourceLoader;
@@ -293,40 +289,24 @@ public class DemographicDetailController extends BaseController {
 	}
 
 	private void fillOrderOfLocation() {
-		List<Location> locations = masterSyncDao.getLocationDetails(applicationContext.getApplicationLanguage());
-		Map<Integer, String> treeMap = new TreeMap<Integer, String>();
-
-		Collection<UiSchemaDTO> fields = validation.getValidationMap().values();
-		for (Location location : locations) {
-			List<UiSchemaDTO> matchedfield = fields.stream()
-					.filter(field -> isDemographicField(field) && field.getSubType() != null
-							&& RegistrationConstants.DROPDOWN.equals(field.getControlType())
-							&& field.getSubType().equalsIgnoreCase(location.getHierarchyName()))
-					.collect(Collectors.toList());
-
-			if (matchedfield != null && !matchedfield.isEmpty()) {
-				for (UiSchemaDTO uiSchemaDTO : matchedfield) {
-
-					if (orderOfAddressMapByGroup.containsKey(uiSchemaDTO.getGroup())) {
-
-						if (!orderOfAddressMapByGroup.get(uiSchemaDTO.getGroup())
-								.containsKey(location.getHierarchyLevel())) {
-							TreeMap<Integer, String> hirearchyMap = orderOfAddressMapByGroup
-									.get(uiSchemaDTO.getGroup());
-							hirearchyMap.put(location.getHierarchyLevel(), uiSchemaDTO.getId());
-
-							orderOfAddressMapByGroup.put(uiSchemaDTO.getGroup(), hirearchyMap);
-						}
-					} else {
+		Map<String, Integer> hierarchyLevels = masterSync
+				.getLocationHierarchyLevels(applicationContext.getApplicationLanguage());
 
-						TreeMap<Integer, String> hirearchyMap = new TreeMap<>();
-						hirearchyMap.put(location.getHierarchyLevel(), uiSchemaDTO.getId());
+		List<UiSchemaDTO> locationFields = validation.getValidationMap().values().stream()
+				.filter(field -> isDemographicField(field) && field.getSubType() != null
+						&& RegistrationConstants.DROPDOWN.equals(field.getControlType()))
+				.collect(Collectors.toList());
 
-						orderOfAddressMapByGroup.put(uiSchemaDTO.getGroup(), hirearchyMap);
-					}
+		for (Entry<String, Integer> hierarchyLevel : hierarchyLevels.entrySet()) {
+			for (UiSchemaDTO uiSchemaDTO : locationFields) {
+				if (!uiSchemaDTO.getSubType().equalsIgnoreCase(hierarchyLevel.getKey())) {
+					continue;
 				}
-			}
 
+				TreeMap<Integer, String> hirearchyMap = orderOfAddressMapByGroup
+						.computeIfAbsent(uiSchemaDTO.getGroup(), group -> new TreeMap<>());
+				hirearchyMap.putIfAbsent(hierarchyLevel.getValue(), uiSchemaDTO.getId());
+			}
 		}
 
 		for (Entry<String, TreeMap<Integer, String>> entry : orderOfAddressMapByGroup.entrySet()) {
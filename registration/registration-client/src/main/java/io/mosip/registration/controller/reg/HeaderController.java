@@ -29,6 +29,7 @@ import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.controller.BaseController;
 import io.mosip.registration.controller.RestartController;
+import io.mosip.registration.controller.ScreenRegistry;
 import io.mosip.registration.controller.auth.LoginController;
 import io.mosip.registration.controller.device.Streamer;
 import io.mosip.registration.dto.ErrorResponseDTO;
@@ -229,6 +230,7 @@ public class HeaderController extends BaseController {
 			ApplicationContext.map().remove(RegistrationConstants.USER_DTO);
 
 			SessionContext.destroySession();
+			ScreenRegistry.clear();
 			SchedulerUtil.stopScheduler();
 			stopTimer();
 			BorderPane loginpage = BaseController.load(getClass().getResource(RegistrationConstants.INITIAL_PAGE));
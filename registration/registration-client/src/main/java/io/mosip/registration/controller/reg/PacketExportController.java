@@ -4,13 +4,11 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
-import org.apache.commons.io.FileUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Controller;
 
@@ -24,7 +22,12 @@ import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.constants.RegistrationUIConstants;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.controller.BaseController;
+import io.mosip.registration.dto.PacketExportResultDTO;
 import io.mosip.registration.dto.PacketStatusDTO;
+import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.service.packet.PacketExportService;
+import javafx.concurrent.Task;
+import javafx.scene.control.ProgressIndicator;
 import javafx.stage.DirectoryChooser;
 import javafx.stage.Stage;
 
@@ -36,20 +39,30 @@ public class PacketExportController extends BaseController {
 	@Autowired
 	private PacketUploadController packetUploadController;
 
+	@Autowired
+	private PacketExportService packetExportService;
+
 	/**
-	 * To Get the Synced Packets and export the external device
+	 * To Get the Synced Packets and export the external device. The packets are
+	 * copied on a background thread, showing the progress in the given
+	 * indicator.
 	 * 
 	 * @param packetsToBeExported
+	 *            the packets to be exported
+	 * @param progressIndicator
+	 *            the indicator of the export progress
+	 * @param onExported
+	 *            called on the FX thread with the packets which are on the device
+	 *            once the export is over
 	 */
-	public List<PacketStatusDTO> packetExport(List<PacketStatusDTO> packetsToBeExported) {
+	public void packetExport(List<PacketStatusDTO> packetsToBeExported, ProgressIndicator progressIndicator,
+			Consumer<List<PacketStatusDTO>> onExported) {
 		auditFactory.audit(AuditEvent.EXPORT_REG_PACKETS, Components.EXPORT_REG_PACKETS,
 				SessionContext.userContext().getUserId(), AuditReferenceIdTypes.USER_ID.getReferenceTypeId());
 
 		LOGGER.debug("REGISTRATION - HANDLE_PACKET_EXPORT - PACKET_EXPORT_CONTROLLER", APPLICATION_NAME, APPLICATION_ID,
 				"Export the packets to the External device");
 
-		List<PacketStatusDTO> exportedPackets = new ArrayList<>();
-
 		if (!packetsToBeExported.isEmpty()) {
 
 			Stage primaryStage = new Stage();
@@ -66,31 +79,44 @@ public class PacketExportController extends BaseController {
 
 			packetUploadController.getUploadPacketRoot().setDisable(false);
 			if (destinationPath != null) {
-				// Iterate through the synched packets and copy to the Destination folder
-				for (PacketStatusDTO packetToCopy : packetsToBeExported) {
-					String ackFileName = packetToCopy.getPacketPath();
-					int lastIndex = ackFileName.indexOf(RegistrationConstants.ACKNOWLEDGEMENT_FILE);
-					String packetPath = ackFileName.substring(0, lastIndex);
-					File packet = new File(packetPath + RegistrationConstants.ZIP_FILE_EXTENSION);
-					if (packet.length() < destinationPath.getUsableSpace()) {
-						try {
-							FileUtils.copyFileToDirectory(packet, destinationPath);
-							exportedPackets.add(packetToCopy);
-						} catch (IOException ioException) {
-							LOGGER.error("REGISTRATION - HANDLE_PACKET_EXPORT_ERROR - PACKET_EXPORT_CONTROLLER",
-									APPLICATION_NAME, APPLICATION_ID, "Error while exporting packets. packet id : "
-											+ packetToCopy.getFileName() + ExceptionUtils.getStackTrace(ioException));
-						}
+				Task<PacketExportResultDTO> exportTask = new Task<PacketExportResultDTO>() {
+					@Override
+					protected PacketExportResultDTO call() throws RegBaseCheckedException {
+						return packetExportService.exportPackets(packetsToBeExported, destinationPath,
+								(processedBytes, totalBytes) -> updateProgress(processedBytes, totalBytes));
+					}
+				};
+				exportTask.setOnSucceeded(event -> {
+					progressIndicator.setVisible(false);
+					PacketExportResultDTO exportResult = exportTask.getValue();
+					if (exportResult.isInsufficientSpace() || !exportResult.getFailedPackets().isEmpty()) {
+						generateAlert(RegistrationConstants.ERROR, RegistrationUIConstants.PACKET_EXPORT_FAILURE);
+					}
+					onExported.accept(exportResult.getExportedPackets());
+				});
+				exportTask.setOnFailed(event -> {
+					progressIndicator.setVisible(false);
+					LOGGER.error("REGISTRATION - HANDLE_PACKET_EXPORT_ERROR - PACKET_EXPORT_CONTROLLER",
+							APPLICATION_NAME, APPLICATION_ID, "Error while exporting packets"
+									+ ExceptionUtils.getStackTrace(exportTask.getException()));
+					if (exportTask.getException() instanceof RegBaseCheckedException
+							&& RegistrationExceptionConstants.REG_PACKET_EXPORT_IN_PROGRESS.getErrorCode().equals(
+									((RegBaseCheckedException) exportTask.getException()).getErrorCode())) {
+						generateAlert(RegistrationConstants.ALERT_INFORMATION,
+								RegistrationUIConstants.PACKET_EXPORT_IN_PROGRESS);
 					} else {
 						generateAlert(RegistrationConstants.ERROR, RegistrationUIConstants.PACKET_EXPORT_FAILURE);
-						break;
 					}
-				}
+				});
+
+				progressIndicator.progressProperty().bind(exportTask.progressProperty());
+				progressIndicator.setVisible(true);
+				Thread exportThread = new Thread(exportTask, "packet-export");
+				exportThread.setDaemon(true);
+				exportThread.start();
 			}
 		} else {
 			generateAlert(RegistrationConstants.ALERT_INFORMATION, RegistrationUIConstants.PACKET_EXPORT_MESSAGE);
 		}
-		return exportedPackets;
-
 	}
 }
\ No newline at end of file
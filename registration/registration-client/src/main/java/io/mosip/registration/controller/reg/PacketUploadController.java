@@ -427,43 +427,32 @@ public class PacketUploadController extends BaseController implements Initializa
 					packetStatusVO.setName(packet.getName());
 					packetStatusVO.setPhone(packet.getPhone());
 					packetStatusVO.setEmail(packet.getEmail());
-
-					try (FileInputStream fis = new FileInputStream(new File(
-							packet.getPacketPath().replace(RegistrationConstants.ACKNOWLEDGEMENT_FILE_EXTENSION,
-									RegistrationConstants.ZIP_FILE_EXTENSION)))) {
-						byte[] byteArray = new byte[(int) fis.available()];
-						fis.read(byteArray);
-						packetStatusVO.setPacketHash(HMACUtils2.digestAsPlainText(byteArray));
-						packetStatusVO.setPacketSize(BigInteger.valueOf(byteArray.length));
-
-					} catch (IOException | NoSuchAlgorithmException ioException) {
-						LOGGER.error("REGISTRATION_BASE_SERVICE", APPLICATION_NAME, APPLICATION_ID,
-								ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
-					}
 					packetsToBeExported.add(packetStatusVO);
 				}
 			});
-			List<PacketStatusDTO> exportedPackets = packetExportController.packetExport(packetsToBeExported);
-			List<PacketStatusVO> packetsToBeExport = new ArrayList<>();
-			exportedPackets.forEach(packet -> {
-				PacketStatusVO packetStatusVO = new PacketStatusVO();
-				packetStatusVO.setClientStatusComments(packet.getClientStatusComments());
-				packetStatusVO.setFileName(packet.getFileName());
-				packetStatusVO.setPacketClientStatus(packet.getPacketClientStatus());
-				packetStatusVO.setPacketPath(packet.getPacketPath());
-				packetStatusVO.setPacketServerStatus(packet.getPacketServerStatus());
-				packetStatusVO.setPacketStatus(packet.getPacketStatus());
-				packetStatusVO.setStatus(false);
-				packetStatusVO.setUploadStatus(packet.getUploadStatus());
-				packetsToBeExport.add(packetStatusVO);
-			});
-			Map<String, String> exportedPacketMap = new HashMap<>();
-			packetsToBeExport.forEach(regPacket -> {
-				exportedPacketMap.put(regPacket.getFileName(), RegistrationClientStatusCode.EXPORT.getCode());
+			/* The packets are checksummed by the export while they are copied */
+			packetExportController.packetExport(packetsToBeExported, progressIndicator, exportedPackets -> {
+				List<PacketStatusVO> packetsToBeExport = new ArrayList<>();
+				exportedPackets.forEach(packet -> {
+					PacketStatusVO packetStatusVO = new PacketStatusVO();
+					packetStatusVO.setClientStatusComments(packet.getClientStatusComments());
+					packetStatusVO.setFileName(packet.getFileName());
+					packetStatusVO.setPacketClientStatus(packet.getPacketClientStatus());
+					packetStatusVO.setPacketPath(packet.getPacketPath());
+					packetStatusVO.setPacketServerStatus(packet.getPacketServerStatus());
+					packetStatusVO.setPacketStatus(packet.getPacketStatus());
+					packetStatusVO.setStatus(false);
+					packetStatusVO.setUploadStatus(packet.getUploadStatus());
+					packetsToBeExport.add(packetStatusVO);
+				});
+				Map<String, String> exportedPacketMap = new HashMap<>();
+				packetsToBeExport.forEach(regPacket -> {
+					exportedPacketMap.put(regPacket.getFileName(), RegistrationClientStatusCode.EXPORT.getCode());
+				});
+				if (!exportedPacketMap.isEmpty()) {
+					displayStatus(populateTableData(exportedPacketMap));
+				}
 			});
-			if (!exportedPacketMap.isEmpty()) {
-				displayStatus(populateTableData(exportedPacketMap));
-			}
 			selectedPackets.clear();
 		} else {
 			loadInitialPage();
@@ -22,6 +22,7 @@ import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.constants.RegistrationUIConstants;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.controller.BaseController;
+import io.mosip.registration.controller.ScreenRegistry;
 import io.mosip.registration.controller.device.BiometricsController;
 import io.mosip.registration.controller.device.ScanPopUpViewController;
 import io.mosip.registration.controller.device.Streamer;
@@ -302,6 +303,7 @@ public class SchedulerUtil extends BaseController {
 		clearRegistrationData();
 		// to clear the session object
 		SessionContext.destroySession();
+		ScreenRegistry.clear();
 
 		streamer.stop();
 		// load login screen
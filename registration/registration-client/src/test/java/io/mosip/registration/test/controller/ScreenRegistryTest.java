@@ -0,0 +1,159 @@
+package io.mosip.registration.test.controller;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.mosip.registration.controller.ReusableScreen;
+import io.mosip.registration.controller.ScreenRegistry;
+import javafx.scene.Parent;
+import javafx.util.Callback;
+
+public class ScreenRegistryTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private final ResourceBundle resource = new ListResourceBundle() {
+		@Override
+		protected Object[][] getContents() {
+			return new Object[0][];
+		}
+	};
+
+	private BooleanSupplier fxThread;
+
+	private Callback<Class<?>, Object> controllerFactory;
+
+	@After
+	public void restore() throws Exception {
+		if (fxThread != null) {
+			ScreenRegistry.clear();
+			setField("screenThread", fxThread);
+			setField("controllerFactory", controllerFactory);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void loadOutsideFxThreadTest() throws Exception {
+		ScreenRegistry.load(ScreenRegistryTest.class.getResource("ScreenRegistryTest.class"), resource);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void clearOutsideFxThreadTest() {
+		ScreenRegistry.clear();
+	}
+
+	@Test
+	public void reuseTest() throws Exception {
+		loadScreensOnTestThread();
+		URL url = screen("reusable.fxml", ReusableController.class);
+
+		Parent root = ScreenRegistry.load(url, resource);
+		ReusableController controller = (ReusableController) root.getUserData();
+		Assert.assertSame(root, ScreenRegistry.load(url, resource));
+		Assert.assertEquals(1, controller.resets);
+
+		/* Dropped by a change of language or session */
+		ScreenRegistry.clear();
+		Parent reloadedRoot = ScreenRegistry.load(url, resource);
+		Assert.assertNotSame(root, reloadedRoot);
+		Assert.assertEquals(1, controller.resets);
+
+		Assert.assertEquals("count=3, reused=1", getStatistics(url));
+	}
+
+	@Test
+	public void reloadTest() throws Exception {
+		loadScreensOnTestThread();
+		URL reusableUrl = screen("reusable.fxml", ReusableController.class);
+		URL url = screen("screen.fxml", Controller.class);
+
+		/* Loaded with other resources */
+		Parent root = ScreenRegistry.load(reusableUrl, resource);
+		Assert.assertNotSame(root, ScreenRegistry.load(reusableUrl, new ListResourceBundle() {
+			@Override
+			protected Object[][] getContents() {
+				return new Object[0][];
+			}
+		}));
+
+		/* Not reusable */
+		Assert.assertNotSame(ScreenRegistry.load(url, resource), ScreenRegistry.load(url, resource));
+		Assert.assertEquals("count=2, reused=0", getStatistics(url));
+	}
+
+	public static class Controller {
+
+		public Parent root;
+
+		public void initialize() {
+			root.setUserData(this);
+		}
+	}
+
+	public static class ReusableController extends Controller implements ReusableScreen {
+
+		private int resets;
+
+		@Override
+		public void resetScreen() {
+			resets++;
+		}
+	}
+
+	/**
+	 * Loads the screens on the test thread, with controllers created by their
+	 * default constructor
+	 */
+	@SuppressWarnings("unchecked")
+	private void loadScreensOnTestThread() throws Exception {
+		fxThread = (BooleanSupplier) getField("screenThread");
+		controllerFactory = (Callback<Class<?>, Object>) getField("controllerFactory");
+		setField("screenThread", (BooleanSupplier) () -> true);
+		setField("controllerFactory", (Callback<Class<?>, Object>) type -> {
+			try {
+				return type.getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException exception) {
+				throw new IllegalStateException(exception);
+			}
+		});
+	}
+
+	private URL screen(String name, Class<?> controller) throws Exception {
+		File file = temporaryFolder.newFile(name);
+		Files.write(file.toPath(), ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<?import javafx.scene.layout.StackPane?>\n"
+				+ "<StackPane xmlns:fx=\"http://javafx.com/fxml/1\" fx:id=\"root\" fx:controller=\""
+				+ controller.getName() + "\"/>\n").getBytes(StandardCharsets.UTF_8));
+		return file.toURI().toURL();
+	}
+
+	private String getStatistics(URL url) {
+		String statistics = ScreenRegistry.getStatistics().get(url.toExternalForm());
+		return statistics.substring(0, statistics.indexOf(", avg="));
+	}
+
+	private static Object getField(String name) throws Exception {
+		Field field = ScreenRegistry.class.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(null);
+	}
+
+	private static void setField(String name, Object value) throws Exception {
+		Field field = ScreenRegistry.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(null, value);
+	}
+}
@@ -7,12 +7,19 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
 import java.security.InvalidAlgorithmParameterException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
@@ -85,6 +92,8 @@ public class ClientJarDecryption extends Application {
 
 	static String tempPath;
 
+	private static long launchStartTime;
+
 	private String IS_TPM_AVAILABLE = "Checking TPM Avaialbility";
 	private String ENCRYPT_PROPERTIES = "Encrypting Properties";
 	private String DB_CHECK = "Checking for DB Availability";
@@ -147,6 +156,8 @@ public class ClientJarDecryption extends Application {
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
 				LoggerConstants.APPLICATION_ID, "Started run.jar");
 
+		launchStartTime = System.currentTimeMillis();
+
 		if(args.length == 2) {
 			MIN_HEAP_SIZE = String.format(MN_HEAPSIZE, args[0]);
 			MAX_HEAP_SIZE = String.format(MX_HEAPSIZE, args[1]);
@@ -280,32 +291,76 @@ public class ClientJarDecryption extends Application {
 	}
 
 	private void decryptMosipJars(Properties properties) throws IOException {
-		// ClientJarDecryption aesDecrypt = new ClientJarDecryption();
+		long decryptionStartTime = System.currentTimeMillis();
 		File encryptedClientJar = new File(binFolder + MOSIP_CLIENT);
 		File encryptedServicesJar = new File(binFolder + MOSIP_SERVICES);
-		tempPath = FileUtils.getTempDirectoryPath();
-		tempPath = tempPath + SLASH + UUID.randomUUID();
+		tempPath = createRunDirectory().getPath();
 
 		byte[] decryptedKey = getValue(MOSIP_REGISTRATION_APP_KEY, properties, isTPMAvailable(properties));
-		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decrypting mosip-client");
-		byte[] decryptedRegFileBytes = decrypt(FileUtils.readFileToByteArray(encryptedClientJar), decryptedKey);
-		String clientJar = tempPath + SLASH + UUID.randomUUID();
+		File clientJar = new File(tempPath + SLASH + UUID.randomUUID() + ".jar");
+		File servicesJar = new File(tempPath + SLASH + UUID.randomUUID() + ".jar");
 
-		// Decrypt Client Jar
-		FileUtils.writeByteArrayToFile(new File(clientJar + ".jar"), decryptedRegFileBytes);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			// Decrypt Client and Services Jar
+			Future<Void> clientJarDecryption = executorService.submit(() -> {
+				ClientJarStreamDecryption.decrypt(encryptedClientJar, clientJar, decryptedKey);
+				return null;
+			});
+			Future<Void> servicesJarDecryption = executorService.submit(() -> {
+				ClientJarStreamDecryption.decrypt(encryptedServicesJar, servicesJar, decryptedKey);
+				return null;
+			});
+
+			awaitDecryption(clientJarDecryption);
+			awaitDecryption(servicesJarDecryption);
+		} finally {
+			executorService.shutdownNow();
+		}
 
 		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decrypting mosip-services");
-
-		byte[] decryptedRegServiceBytes = decrypt(FileUtils.readFileToByteArray(encryptedServicesJar), decryptedKey);
+				LoggerConstants.APPLICATION_ID, "Decrypting mosip jars completed in "
+						+ (System.currentTimeMillis() - decryptionStartTime) + " ms");
+	}
 
-		// Decrypt Services Jar
-		FileUtils.writeByteArrayToFile(new File(tempPath + SLASH + UUID.randomUUID() + ".jar"),
-				decryptedRegServiceBytes);
+	/**
+	 * Creates the directory the plain jars are decrypted into for this run,
+	 * readable by the current user only where the file system allows it, and
+	 * deleted when the launcher exits, normally or not
+	 */
+	private File createRunDirectory() throws IOException {
+		File runDirectory = new File(FileUtils.getTempDirectoryPath() + SLASH + UUID.randomUUID());
+		if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+			Files.createDirectories(runDirectory.toPath(),
+					PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+		} else {
+			Files.createDirectories(runDirectory.toPath());
+			runDirectory.setReadable(false, false);
+			runDirectory.setReadable(true, true);
+			runDirectory.setWritable(false, false);
+			runDirectory.setWritable(true, true);
+			runDirectory.setExecutable(false, false);
+			runDirectory.setExecutable(true, true);
+		}
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> FileUtils.deleteQuietly(runDirectory)));
+		return runDirectory;
+	}
 
-		LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
-				LoggerConstants.APPLICATION_ID, "Decrypting mosip jars completed");
+	private void awaitDecryption(Future<Void> decryption) throws IOException {
+		try {
+			decryption.get();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			throw new IOException(interruptedException);
+		} catch (ExecutionException executionException) {
+			if (executionException.getCause() instanceof IOException) {
+				throw (IOException) executionException.getCause();
+			}
+			if (executionException.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) executionException.getCause();
+			}
+			throw new IOException(executionException.getCause());
+		}
 	}
 
 	private void cleanup() {
@@ -342,6 +397,9 @@ public class ClientJarDecryption extends Application {
 						LoggerConstants.APPLICATION_ID, info);
 
 				if (info.contains(MOSIP_SCREEN_LOADED)) {
+					LOGGER.info(LoggerConstants.CLIENT_JAR_DECRYPTION, LoggerConstants.APPLICATION_NAME,
+							LoggerConstants.APPLICATION_ID, "Mosip-Client screen loaded in "
+									+ (System.currentTimeMillis() - launchStartTime) + " ms from run.jar start");
 					closeStage();
 					break;
 				}
@@ -0,0 +1,103 @@
+package io.mosip.registration.cipher;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
+import io.mosip.kernel.core.crypto.exception.InvalidKeyException;
+
+/**
+ * Decrypts the encrypted mosip jars as a stream, without loading them into
+ * memory. The plain jars are only written to the per-run directory of the
+ * launcher, which is deleted when the client exits, and are never kept across
+ * runs.
+ */
+public class ClientJarStreamDecryption {
+
+	private static final String AES_ALGORITHM = "AES";
+	private static final String AES_GCM_TRANSFORMATION = "AES/GCM/NoPadding";
+	private static final int TAG_LENGTH = 128;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private ClientJarStreamDecryption() {
+	}
+
+	/**
+	 * Streams the encrypted file through an AES/GCM cipher into the target file.
+	 * The encrypted layout is the cipher text followed by the IV, as written by
+	 * {@link ClientJarEncryption}. The target is deleted if the decryption
+	 * fails.
+	 *
+	 * @param source
+	 *            the encrypted file
+	 * @param target
+	 *            the file to write the plain content
+	 * @param key
+	 *            the symmetric key
+	 * @throws IOException
+	 */
+	public static void decrypt(File source, File target, byte[] key) throws IOException {
+		try {
+			Cipher cipher = Cipher.getInstance(AES_GCM_TRANSFORMATION);
+			int ivLength = cipher.getBlockSize();
+			long cipherTextLength = source.length() - ivLength;
+			if (cipherTextLength < 0) {
+				throw new InvalidDataException("0000", "MOSIP_INVALID_DATA_LENGTH_EXCEPTION");
+			}
+
+			byte[] iv = new byte[ivLength];
+			try (RandomAccessFile randomAccessFile = new RandomAccessFile(source, "r")) {
+				randomAccessFile.seek(cipherTextLength);
+				randomAccessFile.readFully(iv);
+			}
+			cipher.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, AES_ALGORITHM),
+					new GCMParameterSpec(TAG_LENGTH, iv));
+
+			try (InputStream inputStream = new BufferedInputStream(new FileInputStream(source), BUFFER_SIZE);
+					OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(target), BUFFER_SIZE)) {
+				byte[] buffer = new byte[BUFFER_SIZE];
+				long remaining = cipherTextLength;
+				while (remaining > 0) {
+					int read = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+					if (read == -1) {
+						throw new EOFException("Unexpected end of " + source.getName());
+					}
+					remaining -= read;
+					byte[] plain = cipher.update(buffer, 0, read);
+					if (plain != null) {
+						outputStream.write(plain);
+					}
+				}
+				outputStream.write(cipher.doFinal());
+			}
+		} catch (java.security.InvalidKeyException exception) {
+			Files.deleteIfExists(target.toPath());
+			throw new InvalidKeyException("0000", "MOSIP_INVALID_KEY_EXCEPTION", exception);
+		} catch (AEADBadTagException exception) {
+			Files.deleteIfExists(target.toPath());
+			throw new InvalidDataException("MOSIP_INVALID_ENCRYPTED_DATA_CORRUPT_EXCEPTION", exception.getMessage(),
+					exception);
+		} catch (GeneralSecurityException exception) {
+			Files.deleteIfExists(target.toPath());
+			throw new InvalidDataException("MOSIP_INVALID_DATA_EXCEPTION", exception.getMessage(), exception);
+		} catch (IOException | RuntimeException exception) {
+			Files.deleteIfExists(target.toPath());
+			throw exception;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package io.mosip.registration.cipher;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.mosip.kernel.core.crypto.exception.InvalidDataException;
+
+public class ClientJarStreamDecryptionTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private byte[] key = Base64.getDecoder().decode("fdHPgbFn5LZjPE8fX5S0UQ==");
+
+	private byte[] plainBytes;
+
+	private File encryptedJar;
+
+	@Before
+	public void setUp() throws IOException {
+		plainBytes = new byte[300 * 1024];
+		new Random(7).nextBytes(plainBytes);
+		encryptedJar = temporaryFolder.newFile("mosip-client.jar");
+		Files.write(encryptedJar.toPath(), new ClientJarEncryption().encyrpt(plainBytes, key));
+	}
+
+	@Test
+	public void streamingDecryptTest() throws IOException {
+		File target = new File(temporaryFolder.getRoot(), "plain.jar");
+		ClientJarStreamDecryption.decrypt(encryptedJar, target, key);
+
+		assertArrayEquals(plainBytes, Files.readAllBytes(target.toPath()));
+	}
+
+	@Test
+	public void tamperedJarIsNotWritten() throws IOException {
+		byte[] encryptedBytes = Files.readAllBytes(encryptedJar.toPath());
+		encryptedBytes[10] ^= 1;
+		Files.write(encryptedJar.toPath(), encryptedBytes);
+		File target = new File(temporaryFolder.getRoot(), "plain.jar");
+
+		try {
+			ClientJarStreamDecryption.decrypt(encryptedJar, target, key);
+			fail();
+		} catch (InvalidDataException invalidDataException) {
+			assertFalse(target.exists());
+		}
+	}
+}
@@ -14,6 +14,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.mosip.kernel.auditmanager.builder.AuditRequestBuilder;
@@ -30,11 +31,13 @@ import io.mosip.registration.constants.LoggerConstants;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
+import io.mosip.registration.dao.AuditDAO;
 import io.mosip.registration.dao.AuditLogControlDAO;
 import io.mosip.registration.dao.RegistrationDAO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.entity.AuditLogControl;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationAuditDates;
 import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.packet.RegPacketStatusService;
 
@@ -64,6 +67,20 @@ public class AuditManagerSerivceImpl extends BaseService implements AuditManager
 	@Autowired
 	private AuditLogControlDAO auditLogControlDAO;
 
+	@Autowired
+	private AuditDAO auditDAO;
+
+	/**
+	 * Number of audit logs deleted per transaction, below the number of row locks
+	 * Derby escalates to a lock of the whole table
+	 */
+	@Value("${mosip.registration.audit.purge.chunk.size:1000}")
+	private int auditPurgeChunkSize;
+
+	/** Time after which the purge stops, the older audit logs left being purged first next time */
+	@Value("${mosip.registration.audit.purge.max.millis:30000}")
+	private long auditPurgeMaxMillis;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -115,7 +132,7 @@ public class AuditManagerSerivceImpl extends BaseService implements AuditManager
 	 * @see io.mosip.registration.service.audit.AuditService#deleteAuditLogs()
 	 */
 	@Override
-	public synchronized ResponseDTO deleteAuditLogs() {
+	public ResponseDTO deleteAuditLogs() {
 
 		LOGGER.info(LoggerConstants.AUDIT_SERVICE_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "Deletion of Audit Logs Started");
@@ -136,6 +153,9 @@ public class AuditManagerSerivceImpl extends BaseService implements AuditManager
 				/* To-Date */
 				Timestamp req = new Timestamp(cal.getTimeInMillis());
 
+				/* Delete Audit Logs logged before req Time, and already added to a packet */
+				purgeAudits(req.toLocalDateTime());
+
 				/* Fetch Audit Log Controls Using req Time */
 				List<AuditLogControl> auditLogControls = auditLogControlDAO.get(req);
 
@@ -175,4 +195,29 @@ public class AuditManagerSerivceImpl extends BaseService implements AuditManager
 
 		return responseDTO;
 	}
+
+	private void purgeAudits(LocalDateTime retentionTime) {
+		/* The audits logged after the latest packet are yet to be added to the next one */
+		RegistrationAuditDates latestAuditDates = auditLogControlDAO.getLatestRegistrationAuditDates();
+		if (latestAuditDates == null || latestAuditDates.getAuditLogToDateTime() == null) {
+			LOGGER.info(LoggerConstants.AUDIT_SERVICE_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
+					RegistrationConstants.APPLICATION_ID, "No Audit Logs added to a packet yet, none purged");
+			return;
+		}
+		LocalDateTime packetedUpTo = latestAuditDates.getAuditLogToDateTime().toLocalDateTime();
+		LocalDateTime createdUpTo = packetedUpTo.isBefore(retentionTime) ? packetedUpTo : retentionTime;
+
+		long deadline = System.currentTimeMillis() + auditPurgeMaxMillis;
+		int purgedAudits = 0;
+		int deletedAudits;
+
+		/* A chunk at a time, so the audits being logged meanwhile never wait for long */
+		do {
+			deletedAudits = auditDAO.deleteAudits(createdUpTo, auditPurgeChunkSize);
+			purgedAudits += deletedAudits;
+		} while (deletedAudits == auditPurgeChunkSize && System.currentTimeMillis() < deadline);
+
+		LOGGER.info(LoggerConstants.AUDIT_SERVICE_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
+				RegistrationConstants.APPLICATION_ID, "Purged " + purgedAudits + " Audit Logs up to " + createdUpTo);
+	}
 }
@@ -230,6 +230,7 @@ public class DaoConfig extends HibernateDaoConfig {
 		reEncryptExistingDB();
 		setupUserAndPermits();
 		applyKeyManager1155Fix();
+		createSyncCheckpointTable();
 		Map<String, String> dbConf = getDBConf();
 		this.driverManagerDataSource = new DriverManagerDataSource();
 		this.driverManagerDataSource.setDriverClassName(DRIVER_CLASS_NAME);
@@ -604,6 +605,33 @@ public class DaoConfig extends HibernateDaoConfig {
 		}
 	}
 
+	/**
+	 * Creates the table of the per entity master sync checkpoints in a database
+	 * created before it was added to initial.sql
+	 */
+	private void createSyncCheckpointTable() throws Exception {
+		LOGGER.info("****** Checking if sync checkpoint table is to be created ? ******");
+		Connection connection = null;
+		try {
+			Map<String, String> dbConf = getDBConf();
+			connection = DriverManager.getConnection(String.format(URL + ";create=false;" + ENCRYPTION_URL_ATTRIBUTES,
+					dbPath, dbConf.get(BOOTPWD_KEY)), dbConf.get(USERNAME_KEY), dbConf.get(PWD_KEY));
+			DatabaseMetaData databaseMetaData = connection.getMetaData();
+			ResultSet resultSet = databaseMetaData.getTables(null, "REG", "SYNC_CHECKPOINT", null);
+			if(!resultSet.next()) {
+				try(Statement statement = connection.createStatement()) {
+					statement.execute("CREATE TABLE \"REG\".\"SYNC_CHECKPOINT\" (\"ENTITY_NAME\" VARCHAR(128) NOT NULL, \"LAST_SYNC_DTIMES\" TIMESTAMP, \"CHECKSUM\" VARCHAR(64) NOT NULL, \"CR_BY\" VARCHAR(32) NOT NULL, \"CR_DTIMES\" TIMESTAMP NOT NULL, \"UPD_BY\" VARCHAR(32), \"UPD_DTIMES\" TIMESTAMP)");
+					statement.execute("ALTER TABLE \"REG\".\"SYNC_CHECKPOINT\" ADD CONSTRAINT \"PK_SYNCCHK_ENTITY\" PRIMARY KEY (\"ENTITY_NAME\")");
+					LOGGER.info("****** Created sync checkpoint table ******");
+				}
+			}
+			shutdownDatabase();
+		} finally {
+			if(connection != null)
+				connection.close();
+		}
+	}
+
 	private String getCurrentVersion() {
 		try {
 			File localManifestFile = new File("MANIFEST.MF");
@@ -0,0 +1,191 @@
+package io.mosip.registration.config;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.Lifecycle;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Splits the creation of the beans in two stages.
+ * <p>
+ * Only the beans of the packages listed in
+ * mosip.registration.startup.deferred.packages are marked lazy, and among
+ * them only those without an init callback, so the beans which start a
+ * scheduler or a timer when created are still created eagerly and in order.
+ * The deferred beans the login screen is built from are created when it is
+ * loaded, and the remaining ones are created one at a time through the given
+ * executor once the login screen is shown, after which the startup timeline
+ * is written. Lazy creation can be turned off with
+ * mosip.registration.startup.lazy.init=false.
+ * </p>
+ * <p>
+ * Spring holds the singleton lock while a bean is created, so the deferred
+ * beans are not created on a thread of their own, where a screen asking for a
+ * bean would wait for an unrelated one to be created.
+ * </p>
+ */
+@Component
+public class StagedStartup implements BeanFactoryPostProcessor, EnvironmentAware {
+
+	private static final Logger LOGGER = AppConfig.getLogger(StagedStartup.class);
+	private static final String LOGGER_TITLE = "REGISTRATION - STAGED_STARTUP";
+
+	private static final String DEFAULT_DEFERRED_PACKAGES = "io.mosip.registration.controller,"
+			+ "io.mosip.registration.service,io.mosip.registration.dao,io.mosip.registration.util.acktemplate,"
+			+ "io.mosip.commons.packet,io.mosip.kernel.pdfgenerator";
+
+	private Environment environment;
+
+	private ConfigurableListableBeanFactory beanFactory;
+
+	private final List<String> deferredBeans = new ArrayList<>();
+
+	@Override
+	public void setEnvironment(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+		this.beanFactory = beanFactory;
+		deferredBeans.clear();
+		if (!environment.getProperty("mosip.registration.startup.lazy.init", Boolean.class, true)) {
+			return;
+		}
+
+		List<String> deferredPackages = Arrays.asList(StringUtils.commaDelimitedListToStringArray(StringUtils
+				.trimAllWhitespace(environment.getProperty("mosip.registration.startup.deferred.packages",
+						DEFAULT_DEFERRED_PACKAGES))));
+		for (String beanName : beanFactory.getBeanDefinitionNames()) {
+			BeanDefinition beanDefinition = beanFactory.getBeanDefinition(beanName);
+			if (beanDefinition.isSingleton() && !beanDefinition.isAbstract() && !beanDefinition.isLazyInit()
+					&& beanDefinition.getRole() == BeanDefinition.ROLE_APPLICATION && canBeDeferred(beanDefinition, deferredPackages)) {
+				beanDefinition.setLazyInit(true);
+				deferredBeans.add(beanName);
+			}
+		}
+		LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+				deferredBeans.size() + " beans deferred until they are used or the login screen is shown");
+	}
+
+	/**
+	 * Creates the deferred beans not created yet, one bean per task given to the
+	 * executor so other tasks of the executor run in between, and then writes
+	 * the startup timeline
+	 *
+	 * @param executor
+	 *            the executor of the thread the beans are created on
+	 */
+	public void initializeDeferredBeans(Executor executor) {
+		StartupTimeline.mark("deferred-beans-started");
+		executor.execute(() -> createDeferredBean(deferredBeans.iterator(), executor, 0));
+	}
+
+	private void createDeferredBean(Iterator<String> beanNames, Executor executor, int created) {
+		while (beanNames.hasNext()) {
+			String beanName = beanNames.next();
+			if (beanFactory.containsSingleton(beanName)) {
+				continue;
+			}
+			try {
+				beanFactory.getBean(beanName);
+				created++;
+			} catch (RuntimeException runtimeException) {
+				LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, "Failed to create the deferred bean "
+						+ beanName + " : " + ExceptionUtils.getStackTrace(runtimeException));
+			}
+			int createdCount = created;
+			executor.execute(() -> createDeferredBean(beanNames, executor, createdCount));
+			return;
+		}
+
+		StartupTimeline.mark("deferred-beans-completed");
+		LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, created + " deferred beans created after login");
+
+		StartupTimeline.write(Paths.get(environment.getProperty("mosip.registration.startup.timeline.file",
+				"logs/startup-timeline.csv")));
+	}
+
+	/**
+	 * @return the names of the beans whose creation was deferred
+	 */
+	public List<String> getDeferredBeans() {
+		return Collections.unmodifiableList(deferredBeans);
+	}
+
+	/**
+	 * Only the beans of the deferred packages are deferred. Post processors and
+	 * the beans completing the eager initialization are never deferred, as they
+	 * would not be applied or called once lazy, nor are the beans with an init
+	 * callback, which may start a scheduler or a timer expected to run from
+	 * startup.
+	 */
+	private boolean canBeDeferred(BeanDefinition beanDefinition, List<String> deferredPackages) {
+		String beanClassName = beanDefinition.getBeanClassName();
+		if (beanClassName == null && beanDefinition instanceof AnnotatedBeanDefinition) {
+			MethodMetadata factoryMethod = ((AnnotatedBeanDefinition) beanDefinition).getFactoryMethodMetadata();
+			beanClassName = factoryMethod == null ? null : factoryMethod.getReturnTypeName();
+		}
+		if (beanClassName == null || !isDeferredPackage(beanClassName, deferredPackages)
+				|| (beanDefinition instanceof AbstractBeanDefinition
+						&& ((AbstractBeanDefinition) beanDefinition).getInitMethodName() != null)) {
+			return false;
+		}
+		try {
+			Class<?> beanClass = ClassUtils.forName(beanClassName, beanFactory.getBeanClassLoader());
+			return !BeanFactoryPostProcessor.class.isAssignableFrom(beanClass)
+					&& !BeanPostProcessor.class.isAssignableFrom(beanClass)
+					&& !SmartInitializingSingleton.class.isAssignableFrom(beanClass)
+					&& !InitializingBean.class.isAssignableFrom(beanClass)
+					&& !Lifecycle.class.isAssignableFrom(beanClass) && !hasPostConstruct(beanClass);
+		} catch (ClassNotFoundException | LinkageError exception) {
+			return false;
+		}
+	}
+
+	private static boolean isDeferredPackage(String beanClassName, List<String> deferredPackages) {
+		for (String deferredPackage : deferredPackages) {
+			if (!deferredPackage.isEmpty() && beanClassName.startsWith(deferredPackage + ".")) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean hasPostConstruct(Class<?> beanClass) {
+		AtomicBoolean postConstruct = new AtomicBoolean();
+		ReflectionUtils.doWithMethods(beanClass, method -> postConstruct.set(true),
+				method -> method.isAnnotationPresent(PostConstruct.class));
+		return postConstruct.get();
+	}
+}
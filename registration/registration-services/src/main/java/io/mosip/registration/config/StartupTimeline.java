@@ -0,0 +1,155 @@
+package io.mosip.registration.config;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.InstantiationAwareBeanPostProcessor;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Records the startup timeline of the application: the time taken to create
+ * each bean, along with the thread which created it, and the startup
+ * milestones marked by the application. Offsets are measured from the start of
+ * the JVM and bean durations include the creation of the beans they depend on.
+ * The timeline is written as CSV, so the time to login can be compared across
+ * releases.
+ */
+@Component
+public class StartupTimeline implements InstantiationAwareBeanPostProcessor, PriorityOrdered {
+
+	private static final Logger LOGGER = AppConfig.getLogger(StartupTimeline.class);
+	private static final String LOGGER_TITLE = "REGISTRATION - STARTUP_TIMELINE";
+
+	private static final long JVM_START_MILLIS = ManagementFactory.getRuntimeMXBean().getStartTime();
+	private static final long CLASS_LOAD_NANOS = System.nanoTime();
+	private static final long CLASS_LOAD_MILLIS = System.currentTimeMillis();
+
+	private static final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+
+	/** Beans being created by the current thread, innermost last */
+	private final ThreadLocal<Deque<Creation>> creations = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * Marks a startup milestone
+	 *
+	 * @param milestone
+	 *            the name of the milestone
+	 */
+	public static void mark(String milestone) {
+		entries.add(new Entry("milestone", milestone, offsetMillis(System.nanoTime()), 0,
+				Thread.currentThread().getName()));
+	}
+
+	@Override
+	public Object postProcessBeforeInstantiation(Class<?> beanClass, String beanName) throws BeansException {
+		creations.get().addLast(new Creation(beanName, System.nanoTime()));
+		return null;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+		long endNanos = System.nanoTime();
+		/*
+		 * Searched from the innermost creation, as a failed creation is never
+		 * completed, and a factory bean and its object are initialized under the same
+		 * name
+		 */
+		Iterator<Creation> threadCreations = creations.get().descendingIterator();
+		while (threadCreations.hasNext()) {
+			Creation creation = threadCreations.next();
+			if (creation.beanName.equals(beanName)) {
+				threadCreations.remove();
+				entries.add(new Entry("bean", beanName, offsetMillis(creation.startNanos),
+						(endNanos - creation.startNanos) / 1_000_000, Thread.currentThread().getName()));
+				break;
+			}
+		}
+		return bean;
+	}
+
+	@Override
+	public int getOrder() {
+		return HIGHEST_PRECEDENCE;
+	}
+
+	/**
+	 * Writes the timeline recorded so far
+	 *
+	 * @param timelineFile
+	 *            the CSV file to be written
+	 */
+	public static void write(Path timelineFile) {
+		List<Entry> timeline = new ArrayList<>(entries);
+		timeline.sort((entry1, entry2) -> Long.compare(entry1.startMillis, entry2.startMillis));
+		try {
+			if (timelineFile.getParent() != null) {
+				Files.createDirectories(timelineFile.getParent());
+			}
+			try (BufferedWriter writer = Files.newBufferedWriter(timelineFile, StandardCharsets.UTF_8)) {
+				writer.write("type,name,start_ms,duration_ms,thread");
+				writer.newLine();
+				for (Entry entry : timeline) {
+					writer.write(entry.type + "," + entry.name + "," + entry.startMillis + "," + entry.durationMillis
+							+ "," + entry.thread);
+					writer.newLine();
+				}
+			}
+			LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+					"Startup timeline of " + timeline.size() + " entries written to " + timelineFile);
+		} catch (IOException ioException) {
+			LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+					"Failed to write the startup timeline : " + ExceptionUtils.getStackTrace(ioException));
+		}
+	}
+
+	private static long offsetMillis(long nanos) {
+		return CLASS_LOAD_MILLIS - JVM_START_MILLIS + (nanos - CLASS_LOAD_NANOS) / 1_000_000;
+	}
+
+	private static final class Creation {
+
+		private final String beanName;
+		private final long startNanos;
+
+		private Creation(String beanName, long startNanos) {
+			this.beanName = beanName;
+			this.startNanos = startNanos;
+		}
+	}
+
+	private static final class Entry {
+
+		private final String type;
+		private final String name;
+		private final long startMillis;
+		private final long durationMillis;
+		private final String thread;
+
+		private Entry(String type, String name, long startMillis, long durationMillis, String thread) {
+			this.type = type;
+			this.name = name;
+			this.startMillis = startMillis;
+			this.durationMillis = durationMillis;
+			this.thread = thread;
+		}
+	}
+}
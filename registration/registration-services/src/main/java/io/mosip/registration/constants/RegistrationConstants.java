@@ -1138,6 +1138,7 @@ public class RegistrationConstants {
 
 	public static final String PACKET_RETRIVE_STATUS_EXCEPTION = REG_SERVICE_CODE + "PRS - 233";
 	public static final String PACKET_UPDATE_STATUS_EXCEPTION = REG_SERVICE_CODE + "PUS - 234";
+	public static final String PACKET_PURGE_EXCEPTION = REG_SERVICE_CODE + "PPG - 235";
 
 	// Exceptions
 	private static final String REG_UI_CODE = "REG-UI";
@@ -1247,6 +1248,7 @@ public class RegistrationConstants {
 	public static final String STOP_SCHEDULER_ERROR_MESSAGE = "STOP_SCHEDULER_ERROR_MESSAGE";
 	public static final String CURRENT_JOB_DETAILS_ERROR_MESSAGE = "CURRENT_JOB_DETAILS_ERROR_MESSAGE";
 	public static final String EXECUTE_JOB_ERROR_MESSAGE = "EXECUTE_JOB_ERROR_MESSAGE";
+	public static final String EXECUTE_JOB_BUSY_MESSAGE = "EXECUTE_JOB_BUSY_MESSAGE";
 	public static final String SYNC_DATA_PROCESS_ALREADY_STARTED = "SYNC_DATA_PROCESS_ALREADY_STARTED";
 	public static final String SYNC_DATA_PROCESS_ALREADY_STOPPED = "SYNC_DATA_PROCESS_ALREADY_STOPPED";
 	public static final String SYNC_DATA_DTO = "SYNC-DATA DTO";
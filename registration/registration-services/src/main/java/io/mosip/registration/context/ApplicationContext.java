@@ -1,6 +1,6 @@
 package io.mosip.registration.context;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -41,8 +41,11 @@ public class ApplicationContext {
 	/** The local messages bundle. */
 	private ResourceBundle localMessagesBundle;
 
+	/** The configuration store backing the application map. */
+	private static final ConfigurationStore configurationStore = new ConfigurationStore();
+
 	/** The application map. */
-	private static Map<String, Object> applicationMap = new HashMap<>();
+	private static final Map<String, Object> applicationMap = configurationStore.asMap();
 
 	/** The local language. */
 	private String localLanguage;
@@ -193,6 +196,15 @@ public class ApplicationContext {
 		return applicationContext.getApplicationMap();
 	}
 
+	/**
+	 * Configuration store holding the application map.
+	 *
+	 * @return the configuration store
+	 */
+	public static ConfigurationStore configuration() {
+		return configurationStore;
+	}
+
 	/**
 	 * Application language.
 	 *
@@ -333,7 +345,7 @@ public class ApplicationContext {
 	 * @param applicationMap the applicationMap to set
 	 */
 	public static void setApplicationMap(Map<String, Object> applicationMap) {
-		ApplicationContext.applicationMap.putAll(applicationMap);
+		configurationStore.putAll(applicationMap);
 	}
 
 	/**
@@ -404,7 +416,18 @@ public class ApplicationContext {
 	 * @param val  the val
 	 */
 	public static void setGlobalConfigValueOf(String code, String val) {
-		applicationMap.put(code, val);
+		configurationStore.put(code, val);
+	}
+
+	/**
+	 * Updates and removes the global config values as a single change, readers
+	 * see either all or none of them.
+	 *
+	 * @param values       the values to be added or updated
+	 * @param removedCodes the codes to be removed
+	 */
+	public static void updateGlobalConfigValues(Map<String, Object> values, Collection<String> removedCodes) {
+		configurationStore.update(values, removedCodes);
 	}
 
 	/**
@@ -413,19 +436,20 @@ public class ApplicationContext {
 	 * @param code the code
 	 */
 	public static void removeGlobalConfigValueOf(String code) {
-		applicationMap.remove(code);
+		configurationStore.remove(code);
 
 	}
 
 	/**
-	 * Gets the integer value.
+	 * Gets the integer value, parsed once for each version of the application
+	 * map.
 	 *
 	 * @param code the code
 	 * @return the integer value
 	 */
 	public static int getIntValueFromApplicationMap(String code) {
 
-		return Integer.parseInt((String) applicationMap.get(code));
+		return configurationStore.getInt(code);
 
 	}
 
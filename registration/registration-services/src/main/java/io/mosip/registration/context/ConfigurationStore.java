@@ -0,0 +1,295 @@
+package io.mosip.registration.context;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.RegistrationConstants;
+
+/**
+ * Thread safe store of the application configuration.
+ * <p>
+ * The configuration is held in an immutable snapshot which is replaced as a
+ * whole on every change, so readers never observe a partially applied sync.
+ * Typed values are parsed once per snapshot and cached along with it.
+ * Listeners are notified with the changed keys once a new snapshot is
+ * published, so the components can keep values derived from the
+ * configuration instead of deriving them on every use.
+ * </p>
+ * <p>
+ * Every write copies the snapshot, so several values are to be written with a
+ * single {@link #putAll(Map)} or {@link #update(Map, Collection)} rather than
+ * one {@link #put(String, Object)} each.
+ * </p>
+ */
+public class ConfigurationStore {
+
+	private static final Logger LOGGER = AppConfig.getLogger(ConfigurationStore.class);
+
+	private static final String LOGGER_TITLE = "REGISTRATION - CONFIGURATION_STORE";
+
+	private final Object writeLock = new Object();
+
+	private final List<Consumer<Set<String>>> listeners = new CopyOnWriteArrayList<>();
+
+	private final Map<String, Object> mapView = new MapView();
+
+	private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap());
+
+	/**
+	 * Returns a view of the current configuration as a map. Reads see the latest
+	 * published snapshot and writes are applied to the store.
+	 *
+	 * @return the map view
+	 */
+	public Map<String, Object> asMap() {
+		return mapView;
+	}
+
+	/**
+	 * @return the configuration values of the current snapshot
+	 */
+	public Map<String, Object> getValues() {
+		return snapshot.values;
+	}
+
+	public Object get(String key) {
+		return snapshot.values.get(key);
+	}
+
+	public String getString(String key) {
+		Object value = snapshot.values.get(key);
+		return value == null ? null : String.valueOf(value);
+	}
+
+	public String getString(String key, String defaultValue) {
+		String value = getString(key);
+		return value == null ? defaultValue : value;
+	}
+
+	/**
+	 * Returns the value as an int
+	 *
+	 * @param key
+	 *            the configuration key
+	 * @return the parsed value
+	 * @throws NumberFormatException
+	 *             if the value is missing or not a number
+	 */
+	public int getInt(String key) {
+		return snapshot.parse("int:" + key, key, value -> Integer.parseInt(value.trim()));
+	}
+
+	public int getInt(String key, int defaultValue) {
+		try {
+			return getInt(key);
+		} catch (NumberFormatException numberFormatException) {
+			return defaultValue;
+		}
+	}
+
+	public long getLong(String key, long defaultValue) {
+		try {
+			return snapshot.parse("long:" + key, key, value -> Long.parseLong(value.trim()));
+		} catch (NumberFormatException numberFormatException) {
+			return defaultValue;
+		}
+	}
+
+	public double getDouble(String key, double defaultValue) {
+		try {
+			return snapshot.parse("double:" + key, key, value -> Double.parseDouble(value.trim()));
+		} catch (NumberFormatException numberFormatException) {
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Returns true if the value is Y or true, ignoring case
+	 *
+	 * @param key
+	 *            the configuration key
+	 * @param defaultValue
+	 *            returned if the value is missing
+	 * @return the flag value
+	 */
+	public boolean getBoolean(String key, boolean defaultValue) {
+		if (!snapshot.values.containsKey(key) || snapshot.values.get(key) == null) {
+			return defaultValue;
+		}
+		return snapshot.parse("boolean:" + key, key,
+				value -> RegistrationConstants.ENABLE.equalsIgnoreCase(value.trim())
+						|| Boolean.parseBoolean(value.trim()));
+	}
+
+	public void put(String key, Object value) {
+		update(Collections.singletonMap(key, value), Collections.emptyList());
+	}
+
+	public void remove(String key) {
+		update(Collections.emptyMap(), Collections.singletonList(key));
+	}
+
+	public void putAll(Map<String, ?> values) {
+		update(values, Collections.emptyList());
+	}
+
+	/**
+	 * Applies the updates and removals as a single new snapshot
+	 *
+	 * @param values
+	 *            the values to be added or updated
+	 * @param removedKeys
+	 *            the keys to be removed
+	 */
+	public void update(Map<String, ?> values, Collection<String> removedKeys) {
+		Set<String> changedKeys;
+		synchronized (writeLock) {
+			Map<String, Object> current = snapshot.values;
+			changedKeys = getChangedKeys(current, values, removedKeys);
+			if (changedKeys.isEmpty()) {
+				return;
+			}
+			Map<String, Object> next = new HashMap<>(current);
+			next.keySet().removeAll(removedKeys);
+			next.putAll(values);
+			snapshot = new Snapshot(next);
+		}
+		notifyListeners(Collections.unmodifiableSet(changedKeys));
+	}
+
+	/**
+	 * Adds a listener notified with the keys added, updated or removed by each
+	 * write, once its snapshot is published. A write which changes nothing is
+	 * not notified.
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	public void addChangeListener(Consumer<Set<String>> listener) {
+		listeners.add(listener);
+	}
+
+	private void notifyListeners(Set<String> changedKeys) {
+		for (Consumer<Set<String>> listener : listeners) {
+			try {
+				listener.accept(changedKeys);
+			} catch (RuntimeException runtimeException) {
+				LOGGER.error(LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+						runtimeException.getMessage() + ExceptionUtils.getStackTrace(runtimeException));
+			}
+		}
+	}
+
+	/**
+	 * Checks the writes against the current values, so a write which changes
+	 * nothing does not copy the snapshot
+	 */
+	private static Set<String> getChangedKeys(Map<String, Object> current, Map<String, ?> values,
+			Collection<String> removedKeys) {
+		Set<String> changedKeys = new HashSet<>();
+		for (String key : removedKeys) {
+			if (current.containsKey(key)) {
+				changedKeys.add(key);
+			}
+		}
+		for (Map.Entry<String, ?> entry : values.entrySet()) {
+			if (!current.containsKey(entry.getKey()) || !Objects.equals(current.get(entry.getKey()), entry.getValue())) {
+				changedKeys.add(entry.getKey());
+			}
+		}
+		return changedKeys;
+	}
+
+	/**
+	 * Immutable configuration values along with the values parsed from them
+	 */
+	private static final class Snapshot {
+
+		private final Map<String, Object> values;
+
+		private final Map<String, Object> parsedValues = new ConcurrentHashMap<>();
+
+		private Snapshot(Map<String, Object> values) {
+			this.values = Collections.unmodifiableMap(values);
+		}
+
+		@SuppressWarnings("unchecked")
+		private <T> T parse(String cacheKey, String key, Function<String, T> parser) {
+			Object parsedValue = parsedValues.get(cacheKey);
+			if (parsedValue == null) {
+				Object value = values.get(key);
+				if (value == null) {
+					throw new NumberFormatException("No value configured for " + key);
+				}
+				parsedValue = parser.apply(String.valueOf(value));
+				parsedValues.put(cacheKey, parsedValue);
+			}
+			return (T) parsedValue;
+		}
+	}
+
+	/**
+	 * Map view over the current snapshot, kept for the callers of
+	 * {@link ApplicationContext#map()}
+	 */
+	private final class MapView extends AbstractMap<String, Object> {
+
+		@Override
+		public Object get(Object key) {
+			return snapshot.values.get(key);
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return snapshot.values.containsKey(key);
+		}
+
+		@Override
+		public int size() {
+			return snapshot.values.size();
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return snapshot.values.entrySet();
+		}
+
+		@Override
+		public Object put(String key, Object value) {
+			Object previous = snapshot.values.get(key);
+			ConfigurationStore.this.put(key, value);
+			return previous;
+		}
+
+		@Override
+		public Object remove(Object key) {
+			Object previous = snapshot.values.get(key);
+			ConfigurationStore.this.remove(String.valueOf(key));
+			return previous;
+		}
+
+		@Override
+		public void putAll(Map<? extends String, ? extends Object> values) {
+			update(new HashMap<>(values), Collections.emptyList());
+		}
+
+		@Override
+		public void clear() {
+			update(Collections.emptyMap(), snapshot.values.keySet());
+		}
+	}
+}
@@ -2,6 +2,7 @@ package io.mosip.registration.dao;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.registration.entity.RegistrationAuditDates;
@@ -18,6 +19,7 @@ public interface AuditDAO {
 
 	/**
 	 * This method is used to delete all audit rows which are present in between the given specific time.
+	 * The rows are deleted in chunks, each in a transaction of its own.
 	 * 
 	 * @param auditLogFromDtimes
 	 *            startTime
@@ -27,6 +29,19 @@ public interface AuditDAO {
 	 */
 	void deleteAll(LocalDateTime auditLogFromDtimes, LocalDateTime auditLogToDtimes);
 
+	/**
+	 * This method is used to delete a chunk of the oldest audit rows created
+	 * at or before the given time, in a transaction of its own.
+	 * 
+	 * @param createdUpTo
+	 *            the audits created at or before this time are deleted
+	 * @param chunkSize
+	 *            the maximum number of audits to be deleted
+	 * @return the number of audits deleted, less than the chunk size once no
+	 *         audits are left up to the given time
+	 */
+	int deleteAudits(LocalDateTime createdUpTo, int chunkSize);
+
 	/**
 	 * This method is used to retrieve the {@link Audit} logs which are yet to be synchronized to the
 	 * server along with the registration packet
@@ -40,4 +55,26 @@ public interface AuditDAO {
 	 */
 	List<Audit> getAudits(RegistrationAuditDates registrationAuditDates, String registrationId);
 
+	/**
+	 * This method is used to read the {@link Audit} logs which are yet to be
+	 * synchronized to the server along with the registration packet, a page at a
+	 * time, oldest first.
+	 * <p>
+	 * At most the configured maximum number of audits are read. If more audits
+	 * were logged since the last registration packet, only the latest of them are
+	 * read.
+	 * </p>
+	 * 
+	 * @param registrationAuditDates
+	 *            the start and end DateTimes of the audits synchronized with last
+	 *            registration packet
+	 * @param registrationId
+	 *            the registration id, whose audits are read if no audits were
+	 *            synchronized with a registration packet yet
+	 * @param auditConsumer
+	 *            accepts each {@link Audit} read
+	 */
+	void readAudits(RegistrationAuditDates registrationAuditDates, String registrationId,
+			Consumer<Audit> auditConsumer);
+
 }
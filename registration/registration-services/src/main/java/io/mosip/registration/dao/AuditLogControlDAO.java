@@ -40,6 +40,15 @@ public interface AuditLogControlDAO {
 	 */
 	void delete(AuditLogControl auditLogControl);
 
+	/**
+	 * This method is used to delete the audit log controls, and the audit logs
+	 * they refer to, of the given registrations
+	 * 
+	 * @param registrationIds
+	 *            the ids of the registrations being deleted
+	 */
+	void deleteAll(List<String> registrationIds);
+
 	/**
 	 * This method is used to fetch the Audit Log Control
 	 * 
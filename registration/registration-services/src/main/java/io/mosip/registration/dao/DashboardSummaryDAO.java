@@ -0,0 +1,91 @@
+package io.mosip.registration.dao;
+
+import java.sql.Timestamp;
+import java.util.Map;
+
+import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.SyncControl;
+
+/**
+ * DAO class for the aggregates shown on the operator dashboard, the counts of
+ * {@link Registration} per client status and the last sync of each job.
+ * <p>
+ * The aggregates are loaded with aggregate queries on first use, and then kept
+ * up to date by the DAOs writing the {@link Registration} and
+ * {@link SyncControl}, once their transaction is committed. The dashboard reads
+ * them without going through the registrations or the sync controls. A write
+ * whose effect on the counts is not known, such as a batch update, marks them
+ * to be loaded again on next use.
+ * </p>
+ */
+public interface DashboardSummaryDAO {
+
+	/**
+	 * Counts a new {@link Registration}, which is created in the CREATED client
+	 * status
+	 */
+	void registrationCreated();
+
+	/**
+	 * Moves a {@link Registration} from a client status to another
+	 *
+	 * @param fromClientStatusCode
+	 *            the client status before the update
+	 * @param toClientStatusCode
+	 *            the client status after the update
+	 */
+	void clientStatusChanged(String fromClientStatusCode, String toClientStatusCode);
+
+	/**
+	 * Takes the server status of some {@link Registration} into account, which
+	 * only the count of the packets pending upload depends on
+	 */
+	void serverStatusChanged();
+
+	/**
+	 * Counts out a deleted {@link Registration}
+	 *
+	 * @param clientStatusCode
+	 *            its client status
+	 */
+	void registrationDeleted(String clientStatusCode);
+
+	/**
+	 * Marks the counts of {@link Registration} to be loaded again, after a write
+	 * to many of them at once
+	 */
+	void registrationsChanged();
+
+	/**
+	 * Records the last sync of a job
+	 *
+	 * @param syncJobId
+	 *            the job id
+	 * @param lastSyncDtimes
+	 *            the last sync time of the job
+	 */
+	void jobSynced(String syncJobId, Timestamp lastSyncDtimes);
+
+	/**
+	 * @return the number of {@link Registration}
+	 */
+	long getRegistrationCount();
+
+	/**
+	 * @param clientStatusCode
+	 *            the client status
+	 * @return the number of {@link Registration} in the given client status
+	 */
+	long getRegistrationCount(String clientStatusCode);
+
+	/**
+	 * @return the number of packets to be synced to the server, as listed by the
+	 *         packet upload screen
+	 */
+	long getPendingUploadCount();
+
+	/**
+	 * @return the last sync time of each job, by job id
+	 */
+	Map<String, Timestamp> getLastSyncTimes();
+}
@@ -1,5 +1,6 @@
 package io.mosip.registration.dao;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 import io.mosip.registration.dto.mastersync.MasterDataResponseDto;
@@ -189,9 +190,14 @@ public interface MasterSyncDao {
 	 * enhanced to handle dynamic entity data sync along with client settings from syncdata-service
 	 * 
 	 * @param syncDataResponseDto
+	 * @param deltaSync
+	 *            true if the data was requested as of the last sync
+	 * @param lastCommittedSyncTime
+	 *            the last sync time of the job, null if it never completed
 	 * @return 
 	 */
-	public String saveSyncData(SyncDataResponseDto syncDataResponseDto);
+	public String saveSyncData(SyncDataResponseDto syncDataResponseDto, boolean deltaSync,
+			Timestamp lastCommittedSyncTime);
 
 
 
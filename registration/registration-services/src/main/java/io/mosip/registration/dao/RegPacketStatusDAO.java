@@ -1,6 +1,8 @@
 package io.mosip.registration.dao;
 
+import java.sql.Timestamp;
 import java.util.List;
+import java.util.Map;
 
 import io.mosip.registration.entity.Registration;
 
@@ -43,4 +45,21 @@ public interface RegPacketStatusDAO {
 	 * @param registration	- the registration entity that has to be deleted
 	 */
 	void delete(Registration registration);
+
+	/**
+	 * Delete the registrations of the given ids, along with their audit log
+	 * controls, in one transaction
+	 * 
+	 * @param registrationIds - the ids of the registrations to be deleted
+	 */
+	void deleteAll(List<String> registrationIds);
+
+	/**
+	 * Update the server status of the registrations as a single JDBC batch in one
+	 * transaction
+	 * 
+	 * @param serverStatusByRegistrationId - the server status code of each registration id
+	 * @param updatedOn - the server status timestamp
+	 */
+	void updateServerStatus(Map<String, String> serverStatusByRegistrationId, Timestamp updatedOn);
 }
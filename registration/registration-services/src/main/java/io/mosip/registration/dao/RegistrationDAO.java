@@ -6,6 +6,7 @@ import java.util.List;
 import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.dto.RegistrationDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
 
 /**
@@ -123,6 +124,18 @@ public interface RegistrationDAO {
 	 */
 	Registration updateRegStatus(PacketStatusDTO packetStatus);
 
+	/**
+	 * Updates the client status of the registrations in a single batch.
+	 *
+	 * @param registrationIds      the ids of the registrations
+	 * @param clientStatusCode     the client status code
+	 * @param clientStatusComments the client status comments
+	 * @param updatedBy            the user updating the status
+	 * @param updatedOn            the time of the update
+	 */
+	void updateClientStatus(List<String> registrationIds, String clientStatusCode, String clientStatusComments,
+			String updatedBy, Timestamp updatedOn);
+
 	/**
 	 * <p>
 	 * This method will fetch the records which are in
@@ -208,4 +221,111 @@ public interface RegistrationDAO {
 
 	List<Registration> getAllRegistrations();
 
+	/**
+	 * Fetches the next page of packets to be uploaded, those of
+	 * {@link #getRegistrationByStatus(List)}, ordered by registration id.
+	 *
+	 * @param packetStatus
+	 *            the status of the packets to be uploaded
+	 * @param lastId
+	 *            the id of the last packet of the previous page, empty for the
+	 *            first page
+	 * @param pageSize
+	 *            the page size
+	 * @return the packets of the page
+	 */
+	List<RegistrationPacketView> getPacketsToUpload(List<String> packetStatus, String lastId, int pageSize);
+
+	/**
+	 * Fetches the next page of packets of the given client status codes updated
+	 * on or before the given time, ordered by registration id.
+	 *
+	 * @param statusCodes
+	 *            the client status codes
+	 * @param updatedDtimes
+	 *            the latest update time to be considered
+	 * @param lastId
+	 *            the id of the last packet of the previous page, empty for the
+	 *            first page
+	 * @param pageSize
+	 *            the page size
+	 * @return the packets of the page
+	 */
+	List<RegistrationPacketView> getPacketsToSync(List<String> statusCodes, Timestamp updatedDtimes, String lastId,
+			int pageSize);
+
+	/**
+	 * Fetches the packets of the given client status codes, latest updated
+	 * first, without the columns the packet flows do not read.
+	 *
+	 * @param statusCodes
+	 *            the client status codes
+	 * @return the packets
+	 */
+	List<RegistrationPacketView> getPacketViews(List<String> statusCodes);
+
+	/**
+	 * Fetches the next page of packets of the given server status code created
+	 * before the given time, ordered by registration id.
+	 *
+	 * @param crDtimes
+	 *            the date upto which the packets are fetched
+	 * @param serverStatusCode
+	 *            the server status code
+	 * @param lastId
+	 *            the id of the last packet of the previous page, empty for the
+	 *            first page
+	 * @param pageSize
+	 *            the page size
+	 * @return the packets of the page
+	 */
+	List<RegistrationPacketView> getPacketsCreatedBefore(Timestamp crDtimes, String serverStatusCode, String lastId,
+			int pageSize);
+
+	/**
+	 * Fetches the next page of packets of the given server status codes, ordered
+	 * by registration id.
+	 *
+	 * @param serverStatusCodes
+	 *            the server status codes
+	 * @param lastId
+	 *            the id of the last packet of the previous page, empty for the
+	 *            first page
+	 * @param pageSize
+	 *            the page size
+	 * @return the packets of the page
+	 */
+	List<RegistrationPacketView> getPacketsByServerStatus(List<String> serverStatusCodes, String lastId,
+			int pageSize);
+
+	/**
+	 * Checks whether there is a packet of the given client status code.
+	 *
+	 * @param clientStatusCode
+	 *            the client status code
+	 * @return whether there is such a packet
+	 */
+	boolean isPacketPresent(String clientStatusCode);
+
+	/**
+	 * Checks whether there is a packet pending for re-registration, those of
+	 * {@link #fetchReRegisterPendingPackets()}.
+	 *
+	 * @return whether there is such a packet
+	 */
+	boolean isReRegisterPending();
+
+	/**
+	 * Checks whether there is a packet still to be processed by the server, one
+	 * which is not of the given server status codes and not of the given client
+	 * status code.
+	 *
+	 * @param serverStatusCodes
+	 *            the server status codes of the processed packets
+	 * @param clientStatusCode
+	 *            the client status code of the packets not to be considered
+	 * @return whether there is such a packet
+	 */
+	boolean isPendingForProcessing(List<String> serverStatusCodes, String clientStatusCode);
+
 }
\ No newline at end of file
@@ -1,8 +1,8 @@
 package io.mosip.registration.dao;
 
+import java.sql.Timestamp;
 import java.util.List;
 
-import io.mosip.registration.entity.Registration;
 import io.mosip.registration.entity.SyncControl;
 
 /**
@@ -33,8 +33,8 @@ public interface SyncJobControlDAO {
 		/** The sync count. */
 		private double yetToExportCount;
 		
-		/** The last export registration list. */
-		private List<Registration> lastExportRegistrationList;
+		/** The last update time of the uploaded or exported registrations. */
+		private Timestamp lastExportDate;
 
 		/**
 		 * Instantiates a new sync job info.
@@ -43,14 +43,14 @@ public interface SyncJobControlDAO {
 		 * 				the sync control list
 		 * @param yetToExportCount 
 		 * 				the yet to export count
-		 * @param lastExportRegistrationList 
-		 * 				the last export registration list
+		 * @param lastExportDate 
+		 * 				the last update time of the uploaded or exported registrations
 		 */
-		public SyncJobInfo(List<SyncControl> syncControlList, double yetToExportCount, List<Registration> lastExportRegistrationList) {
+		public SyncJobInfo(List<SyncControl> syncControlList, double yetToExportCount, Timestamp lastExportDate) {
 			super();
 			this.syncControlList = syncControlList;
 			this.yetToExportCount = yetToExportCount;
-			this.lastExportRegistrationList = lastExportRegistrationList;
+			this.lastExportDate = lastExportDate;
 		}
 
 		/**
@@ -72,12 +72,56 @@ public interface SyncJobControlDAO {
 		}
 
 		/**
-		 * Gets the last export registration list.
+		 * Gets the last update time of the uploaded or exported registrations.
 		 *
-		 * @return the lastExportRegistrationList
+		 * @return the lastExportDate, or null if no registration is uploaded or
+		 *         exported
 		 */
-		public List<Registration> getLastExportRegistrationList() {
-			return lastExportRegistrationList;
+		public Timestamp getLastExportDate() {
+			return lastExportDate;
+		}
+	}
+
+	/**
+	 * The count and the oldest creation time of the registrations of a status.
+	 */
+	public class RegistrationSummary {
+
+		/** The count of registrations. */
+		private long count;
+
+		/** The creation time of the oldest registration. */
+		private Timestamp oldestCrDtime;
+
+		/**
+		 * Instantiates a new registration summary.
+		 *
+		 * @param count 
+		 * 				the count of registrations
+		 * @param oldestCrDtime 
+		 * 				the creation time of the oldest registration
+		 */
+		public RegistrationSummary(long count, Timestamp oldestCrDtime) {
+			this.count = count;
+			this.oldestCrDtime = oldestCrDtime;
+		}
+
+		/**
+		 * Gets the count of registrations.
+		 *
+		 * @return the count
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Gets the creation time of the oldest registration.
+		 *
+		 * @return the oldestCrDtime, or null if there is no registration
+		 */
+		public Timestamp getOldestCrDtime() {
+			return oldestCrDtime;
 		}
 	}
 
@@ -116,9 +160,10 @@ public interface SyncJobControlDAO {
 	public List<SyncControl> findAll();
 	
 	/**
-	 * Get Registration Details.
+	 * Get the count and the oldest creation time of the registrations yet to be
+	 * approved.
 	 *
-	 * @return list of Registration
+	 * @return the registration summary
 	 */
-	List<Registration> getRegistrationDetails();
+	RegistrationSummary getRegistrationSummary();
 }
@@ -80,6 +80,19 @@ public interface UserDetailDAO {
 	 */
 	void save(UserDetailDto userDetail);
 
+	/**
+	 * Applies the outcome of a user detail sync in batches, within one
+	 * transaction. The roles of the updated users are replaced, and the removed
+	 * users are deleted along with their password, roles, tokens, biometrics and
+	 * center mappings.
+	 *
+	 * @param insertedUsers  the users not stored yet
+	 * @param updatedUsers   the stored users whose details changed
+	 * @param removedUserIds the ids of the stored users which are not synced
+	 *                       anymore
+	 */
+	void saveAll(List<UserDetailDto> insertedUsers, List<UserDetailDto> updatedUsers, List<String> removedUserIds);
+
 	/**
 	 * 
 	 * @param bioType
@@ -5,11 +5,14 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
 import java.time.LocalDateTime;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -34,15 +37,82 @@ public class AuditDAOImpl implements AuditDAO {
 	@Autowired
 	private RegAuditRepository regAuditRepository;
 
+	private static final int DEFAULT_AUDIT_MAX_ROWS = 10000;
+
+	private static final int DEFAULT_AUDIT_PAGE_SIZE = 500;
+
+	/** Maximum number of audits added to a registration packet */
+	private int auditMaxRows = DEFAULT_AUDIT_MAX_ROWS;
+
+	/** Number of audits read or deleted at a time */
+	private int auditPageSize = DEFAULT_AUDIT_PAGE_SIZE;
+
 	/** Object for Logger. */
 	private static final Logger LOGGER = AppConfig.getLogger(AuditDAOImpl.class);
 
+	/**
+	 * Sets the maximum number of audits added to a registration packet, the
+	 * default one if the configured one is not positive
+	 *
+	 * @param auditMaxRows
+	 *            the configured maximum
+	 */
+	@Value("${mosip.registration.packet.audit.max.rows:" + DEFAULT_AUDIT_MAX_ROWS + "}")
+	public void setAuditMaxRows(int auditMaxRows) {
+		this.auditMaxRows = getPositive("mosip.registration.packet.audit.max.rows", auditMaxRows,
+				DEFAULT_AUDIT_MAX_ROWS);
+	}
+
+	/**
+	 * Sets the number of audits read or deleted at a time, the default one if
+	 * the configured one is not positive
+	 *
+	 * @param auditPageSize
+	 *            the configured number
+	 */
+	@Value("${mosip.registration.audit.page.size:" + DEFAULT_AUDIT_PAGE_SIZE + "}")
+	public void setAuditPageSize(int auditPageSize) {
+		this.auditPageSize = getPositive("mosip.registration.audit.page.size", auditPageSize,
+				DEFAULT_AUDIT_PAGE_SIZE);
+	}
+
+	private static int getPositive(String property, int value, int defaultValue) {
+		if (value > 0) {
+			return value;
+		}
+		LOGGER.warn(LOG_AUDIT_DAO, APPLICATION_NAME, APPLICATION_ID,
+				property + " is " + value + ", using " + defaultValue + " instead");
+		return defaultValue;
+	}
+
 	@Override
-	@Transactional
 	public void deleteAll(LocalDateTime auditLogFromDtimes, LocalDateTime auditLogToDtimes) {
 		LOGGER.info(LOG_AUDIT_DAO, APPLICATION_NAME,
 				APPLICATION_ID, "Deleting Audit Logs");
-		regAuditRepository.deleteAllInBatchBycreatedAtBetween(auditLogFromDtimes, auditLogToDtimes);
+
+		int deletedAudits = 0;
+		List<String> auditUUIDs;
+		do {
+			auditUUIDs = regAuditRepository.findUuidsCreatedBetween(auditLogFromDtimes, auditLogToDtimes,
+					PageRequest.of(0, auditPageSize));
+			if (!auditUUIDs.isEmpty()) {
+				deletedAudits += regAuditRepository.deleteByUuids(auditUUIDs);
+			}
+		} while (auditUUIDs.size() == auditPageSize);
+
+		LOGGER.info(LOG_AUDIT_DAO, APPLICATION_NAME, APPLICATION_ID, "Deleted " + deletedAudits + " Audit Logs");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.dao.AuditDAO#deleteAudits(java.time.LocalDateTime,
+	 * int)
+	 */
+	@Override
+	public int deleteAudits(LocalDateTime createdUpTo, int chunkSize) {
+		List<String> auditUUIDs = regAuditRepository.findUuidsCreatedUpTo(createdUpTo, PageRequest.of(0, chunkSize));
+		return auditUUIDs.isEmpty() ? 0 : regAuditRepository.deleteByUuids(auditUUIDs);
 	}
 
 	/*
@@ -54,26 +124,74 @@ public class AuditDAOImpl implements AuditDAO {
 	 */
 	@Override
 	public List<Audit> getAudits(RegistrationAuditDates registrationAuditDates, String registrationId) {
+		List<Audit> audits = new LinkedList<>();
+		readAudits(registrationAuditDates, registrationId, audits::add);
+		return audits;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * io.mosip.registration.dao.AuditDAO#readAudits(io.mosip.registration.entity.
+	 * RegistrationAuditDates, java.lang.String, java.util.function.Consumer)
+	 */
+	@Override
+	public void readAudits(RegistrationAuditDates registrationAuditDates, String registrationId,
+			Consumer<Audit> auditConsumer) {
 		LOGGER.info("REGISTRATION - FETCH_UNSYNCED_AUDITS - GET_ALL_AUDITS", APPLICATION_NAME, APPLICATION_ID,
 				"Fetching of unsynchronized which are to be added to Registartion packet started");
 
 		try {
-			List<Audit> audits;
 			if (registrationAuditDates == null || registrationAuditDates.getAuditLogToDateTime() == null) {
-				audits = regAuditRepository.findByIdOrderByCreatedAtAsc(registrationId);
+				regAuditRepository.findByIdOrderByCreatedAtAsc(registrationId).forEach(auditConsumer);
 			} else {
-				audits = regAuditRepository.findByCreatedAtGreaterThanOrderByCreatedAtAsc(
-						registrationAuditDates.getAuditLogToDateTime().toLocalDateTime());
+				readAuditsCreatedAfter(registrationAuditDates.getAuditLogToDateTime().toLocalDateTime(),
+						auditConsumer);
 			}
 
 			LOGGER.info("REGISTRATION - FETCH_UNSYNCED_AUDITS - GET_ALL_AUDITS", APPLICATION_NAME, APPLICATION_ID,
 					"Fetching of unsynchronized which are to be added to Registartion packet ended");
-
-			return audits;
 		} catch (RuntimeException exception) {
 			throw new RegBaseUncheckedException(RegistrationExceptionConstants.REG_GET_AUDITS_EXCEPTION.getErrorCode(),
 					RegistrationExceptionConstants.REG_GET_AUDITS_EXCEPTION.getErrorMessage(), exception);
 		}
 	}
 
+	private void readAuditsCreatedAfter(LocalDateTime createdAfter, Consumer<Audit> auditConsumer) {
+		LocalDateTime lastCreatedAt = createdAfter;
+		String lastUuid = RegistrationConstants.EMPTY;
+		int readAudits = 0;
+
+		/* Beyond the maximum, the audits are read from the oldest of the latest ones */
+		List<Audit> oldestAudit = regAuditRepository.findNewestCreatedAfter(createdAfter,
+				PageRequest.of(auditMaxRows - 1, 1));
+		if (!oldestAudit.isEmpty()) {
+			Audit audit = oldestAudit.get(0);
+			LOGGER.info("REGISTRATION - FETCH_UNSYNCED_AUDITS - GET_ALL_AUDITS", APPLICATION_NAME, APPLICATION_ID,
+					"More than " + auditMaxRows + " audits logged since the last packet, reading the ones from "
+							+ audit.getCreatedAt());
+			auditConsumer.accept(audit);
+			lastCreatedAt = audit.getCreatedAt();
+			lastUuid = audit.getUuid();
+			readAudits++;
+		}
+
+		List<Audit> audits;
+		do {
+			audits = regAuditRepository.findCreatedAfterKeyset(createdAfter, lastCreatedAt, lastUuid,
+					PageRequest.of(0, auditPageSize));
+			for (Audit audit : audits) {
+				/* Audits logged while the packet is being created are not waited for */
+				if (readAudits == auditMaxRows) {
+					return;
+				}
+				auditConsumer.accept(audit);
+				readAudits++;
+				lastCreatedAt = audit.getCreatedAt();
+				lastUuid = audit.getUuid();
+			}
+		} while (audits.size() == auditPageSize);
+	}
+
 }
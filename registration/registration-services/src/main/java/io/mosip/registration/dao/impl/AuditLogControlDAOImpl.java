@@ -83,6 +83,28 @@ public class AuditLogControlDAOImpl implements AuditLogControlDAO {
 
 	}
 
+	/* (non-Javadoc)
+	 * @see io.mosip.registration.dao.AuditLogControlDAO#deleteAll(java.util.List)
+	 */
+	@Override
+	public void deleteAll(List<String> registrationIds) {
+
+		LOGGER.debug("AUDIT - DELETE_AUDIT_LOG_CONTROL - AUDIT_LOG_CONTROL_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Started Deleting the audit log controls for " + registrationIds.size() + " registration packets");
+
+		for (AuditLogControl auditLogControl : auditLogControlRepository.findByRegistrationIdIn(registrationIds)) {
+			/* Delete Audit Logs */
+			auditDAO.deleteAll(auditLogControl.getAuditLogFromDateTime().toLocalDateTime(),
+					auditLogControl.getAuditLogToDateTime().toLocalDateTime());
+		}
+
+		/* Delete Audit Control Logs */
+		auditLogControlRepository.deleteByRegistrationIds(registrationIds);
+
+		LOGGER.debug("AUDIT - DELETE_AUDIT_LOG_CONTROL - AUDIT_LOG_CONTROL_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Completed Deleting the audit log controls for " + registrationIds.size() + " registration packets");
+	}
+
 	@Override
 	public List<AuditLogControl> get(Timestamp req) {
 		LOGGER.debug("AUDIT - GET_AUDIT_LOG_CONTROL - AUDIT_LOG_CONTROL_DAO", APPLICATION_NAME, APPLICATION_ID,
@@ -0,0 +1,248 @@
+package io.mosip.registration.dao.impl;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.RegistrationClientStatusCode;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.dao.DashboardSummaryDAO;
+
+/**
+ * The implementation class of {@link DashboardSummaryDAO}
+ * <p>
+ * The aggregates are updated under a lock, without any query. A load runs
+ * outside of it, and the loaded aggregates are only kept if no update was
+ * made meanwhile, otherwise the next use loads them again.
+ * </p>
+ */
+@Repository
+public class DashboardSummaryDAOImpl implements DashboardSummaryDAO {
+
+	private static final Logger LOGGER = AppConfig.getLogger(DashboardSummaryDAOImpl.class);
+
+	private static final String LOGGER_TITLE = "REGISTRATION - DASHBOARD_SUMMARY - DASHBOARD_SUMMARY_DAO";
+
+	private static final String COUNT_REGISTRATIONS = "SELECT CLIENT_STATUS_CODE, COUNT(*) FROM REG.REGISTRATION GROUP BY CLIENT_STATUS_CODE";
+
+	/** The criteria of PacketSynchService#fetchPacketsToBeSynched, as a count */
+	private static final String COUNT_PENDING_UPLOAD = "SELECT COUNT(*) FROM REG.REGISTRATION WHERE (CLIENT_STATUS_CODE IN ("
+			+ String.join(",", Collections.nCopies(RegistrationConstants.PACKET_STATUS_UPLOAD.size(), "?"))
+			+ ") OR SERVER_STATUS_CODE = ?)"
+			+ " AND (UPPER(CLIENT_STATUS_CODE) <> ? OR CLIENT_STATUS_COMMENT IS NULL OR CLIENT_STATUS_COMMENT NOT LIKE ?)"
+			+ " AND (SERVER_STATUS_CODE IS NULL OR (CLIENT_STATUS_DTIME IS NOT NULL AND SERVER_STATUS_DTIME IS NOT NULL"
+			+ " AND NOT (UPPER(SERVER_STATUS_CODE) = ? AND CLIENT_STATUS_DTIME > SERVER_STATUS_DTIME)))";
+
+	private static final String FIND_LAST_SYNCS = "SELECT SYNCJOB_ID, LAST_SYNC_DTIMES FROM REG.SYNC_CONTROL";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final Object lock = new Object();
+
+	/** Incremented by every update of the registration counts */
+	private long registrationsVersion;
+
+	/** Incremented by every update of the last sync times */
+	private long jobsVersion;
+
+	/** Number of registrations by client status, null until loaded, or when to be loaded again */
+	private Map<String, Long> registrationCounts;
+
+	private Long pendingUploadCount;
+
+	private Map<String, Timestamp> lastSyncTimes;
+
+	@Override
+	public void registrationCreated() {
+		afterCommit(() -> {
+			synchronized (lock) {
+				registrationsVersion++;
+				pendingUploadCount = null;
+				if (registrationCounts != null) {
+					registrationCounts.merge(RegistrationClientStatusCode.CREATED.getCode(), 1L, Long::sum);
+				}
+			}
+		});
+	}
+
+	@Override
+	public void clientStatusChanged(String fromClientStatusCode, String toClientStatusCode) {
+		afterCommit(() -> {
+			synchronized (lock) {
+				registrationsVersion++;
+				pendingUploadCount = null;
+				if (registrationCounts != null) {
+					add(registrationCounts, fromClientStatusCode, -1);
+					add(registrationCounts, toClientStatusCode, 1);
+				}
+			}
+		});
+	}
+
+	@Override
+	public void serverStatusChanged() {
+		afterCommit(() -> {
+			synchronized (lock) {
+				registrationsVersion++;
+				pendingUploadCount = null;
+			}
+		});
+	}
+
+	@Override
+	public void registrationDeleted(String clientStatusCode) {
+		afterCommit(() -> {
+			synchronized (lock) {
+				registrationsVersion++;
+				pendingUploadCount = null;
+				if (registrationCounts != null) {
+					add(registrationCounts, clientStatusCode, -1);
+				}
+			}
+		});
+	}
+
+	@Override
+	public void registrationsChanged() {
+		afterCommit(() -> {
+			synchronized (lock) {
+				registrationsVersion++;
+				pendingUploadCount = null;
+				registrationCounts = null;
+			}
+		});
+	}
+
+	@Override
+	public void jobSynced(String syncJobId, Timestamp lastSyncDtimes) {
+		afterCommit(() -> {
+			synchronized (lock) {
+				jobsVersion++;
+				if (lastSyncTimes != null) {
+					lastSyncTimes.put(syncJobId, lastSyncDtimes);
+				}
+			}
+		});
+	}
+
+	@Override
+	public long getRegistrationCount() {
+		return getRegistrationCounts().values().stream().mapToLong(Long::longValue).sum();
+	}
+
+	@Override
+	public long getRegistrationCount(String clientStatusCode) {
+		return getRegistrationCounts().getOrDefault(clientStatusCode, 0L);
+	}
+
+	@Override
+	public long getPendingUploadCount() {
+		long loadVersion;
+		synchronized (lock) {
+			if (pendingUploadCount != null) {
+				return pendingUploadCount;
+			}
+			loadVersion = registrationsVersion;
+		}
+
+		List<Object> args = new ArrayList<>(RegistrationConstants.PACKET_STATUS_UPLOAD);
+		args.add(RegistrationConstants.SERVER_STATUS_RESEND);
+		args.add(RegistrationConstants.SYNCED_STATUS.toUpperCase());
+		args.add("%" + RegistrationConstants.RE_REGISTER_STATUS_COMEMNTS + "%");
+		args.add(RegistrationConstants.SERVER_STATUS_RESEND.toUpperCase());
+		Long count = jdbcTemplate.queryForObject(COUNT_PENDING_UPLOAD, args.toArray(), Long.class);
+
+		synchronized (lock) {
+			if (registrationsVersion == loadVersion) {
+				pendingUploadCount = count;
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public Map<String, Timestamp> getLastSyncTimes() {
+		long loadVersion;
+		synchronized (lock) {
+			if (lastSyncTimes != null) {
+				return new HashMap<>(lastSyncTimes);
+			}
+			loadVersion = jobsVersion;
+		}
+
+		LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, "Loading the last sync of the jobs");
+
+		Map<String, Timestamp> loadedLastSyncTimes = new HashMap<>();
+		jdbcTemplate.query(FIND_LAST_SYNCS, (RowCallbackHandler) resultSet -> loadedLastSyncTimes
+				.put(resultSet.getString(1), resultSet.getTimestamp(2)));
+
+		synchronized (lock) {
+			if (jobsVersion == loadVersion) {
+				lastSyncTimes = new HashMap<>(loadedLastSyncTimes);
+			}
+		}
+		return loadedLastSyncTimes;
+	}
+
+	private Map<String, Long> getRegistrationCounts() {
+		long loadVersion;
+		synchronized (lock) {
+			if (registrationCounts != null) {
+				return new HashMap<>(registrationCounts);
+			}
+			loadVersion = registrationsVersion;
+		}
+
+		LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, "Loading the registration counts");
+
+		Map<String, Long> loadedCounts = new HashMap<>();
+		jdbcTemplate.query(COUNT_REGISTRATIONS, (RowCallbackHandler) resultSet -> add(loadedCounts,
+				resultSet.getString(1), resultSet.getLong(2)));
+
+		synchronized (lock) {
+			if (registrationsVersion == loadVersion) {
+				registrationCounts = new HashMap<>(loadedCounts);
+			}
+		}
+		return loadedCounts;
+	}
+
+	private static void add(Map<String, Long> registrationCounts, String clientStatusCode, long count) {
+		if (clientStatusCode != null) {
+			registrationCounts.merge(clientStatusCode, count, Long::sum);
+		}
+	}
+
+	/**
+	 * Runs the update once the current transaction, if any, is committed, so a
+	 * rolled back write is never counted
+	 */
+	private static void afterCommit(Runnable update) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					update.run();
+				}
+			});
+		} else {
+			update.run();
+		}
+	}
+}
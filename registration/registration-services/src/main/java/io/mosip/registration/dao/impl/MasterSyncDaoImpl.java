@@ -4,6 +4,7 @@ import static io.mosip.registration.constants.LoggerConstants.LOG_REG_MASTER_SYN
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 import javax.transaction.Transactional;
@@ -314,15 +315,21 @@ public class MasterSyncDaoImpl implements MasterSyncDao {
 	 *
 	 * @param syncDataResponseDto
 	 *            All the master details will be available in the {@link MasterDataResponseDto}
+	 * @param deltaSync
+	 *            true if the data was requested as of the last sync
+	 * @param lastCommittedSyncTime
+	 *            the last sync time of the job, null if it never completed
 	 * @return the string
 	 * 			- Returns the Success or Error response
 	 */
 	
 	@Override
-	public String saveSyncData(SyncDataResponseDto syncDataResponseDto) {
+	public String saveSyncData(SyncDataResponseDto syncDataResponseDto, boolean deltaSync,
+			Timestamp lastCommittedSyncTime) {
 		String syncStatusMessage = null;
 		try {
-			syncStatusMessage = clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+			syncStatusMessage = clientSettingSyncHelper.saveClientSettings(syncDataResponseDto, deltaSync,
+					lastCommittedSyncTime);
 			return syncStatusMessage;
 		} catch (Exception runtimeException) {			
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
@@ -3,15 +3,22 @@ package io.mosip.registration.dao.impl;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.RegistrationClientStatusCode;
 import io.mosip.registration.dao.AuditLogControlDAO;
+import io.mosip.registration.dao.DashboardSummaryDAO;
 import io.mosip.registration.dao.RegPacketStatusDAO;
 import io.mosip.registration.entity.AuditLogControl;
 import io.mosip.registration.entity.Registration;
@@ -32,6 +39,14 @@ public class RegPacketStatusDAOImpl implements RegPacketStatusDAO {
 	@Autowired
 	private AuditLogControlDAO auditLogControlDAO;
 
+	@Autowired
+	private DashboardSummaryDAO dashboardSummaryDAO;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private static final String UPDATE_SERVER_STATUS = "UPDATE REG.REGISTRATION SET SERVER_STATUS_CODE = ?, SERVER_STATUS_DTIME = ? WHERE ID = ?";
+
 	/**
 	 * Object for Logger
 	 */
@@ -77,7 +92,10 @@ public class RegPacketStatusDAOImpl implements RegPacketStatusDAO {
 	public Registration update(Registration registration) {
 		LOGGER.info("REGISTRATION - PACKET_STATUS_SYNC - REG_PACKET_STATUS_DAO", APPLICATION_NAME, APPLICATION_ID,
 				"Update registration has been started");
-		return registrationRepository.update(registration);
+		Registration updatedRegistration = registrationRepository.update(registration);
+		/* The status before the update is not known here */
+		dashboardSummaryDAO.registrationsChanged();
+		return updatedRegistration;
 
 	}
 
@@ -94,7 +112,34 @@ public class RegPacketStatusDAOImpl implements RegPacketStatusDAO {
 
 		/* Delete Registartion */
 		registrationRepository.deleteById(registration.getId());
+		dashboardSummaryDAO.registrationDeleted(registration.getClientStatusCode());
+
+	}
 
+	@Override
+	@Transactional
+	public void deleteAll(List<String> registrationIds) {
+		LOGGER.info("Delete of {} registrations has been started", registrationIds.size());
+
+		/* Delete Audit Logs */
+		auditLogControlDAO.deleteAll(registrationIds);
+
+		/* Delete Registartions */
+		registrationRepository.deleteByRegistrationIds(registrationIds);
+		dashboardSummaryDAO.registrationsChanged();
+	}
+
+	@Override
+	@Transactional
+	public void updateServerStatus(Map<String, String> serverStatusByRegistrationId, Timestamp updatedOn) {
+		LOGGER.info("Server status update of {} registrations has been started", serverStatusByRegistrationId.size());
+
+		List<Object[]> batchArgs = new ArrayList<>();
+		for (Entry<String, String> serverStatus : serverStatusByRegistrationId.entrySet()) {
+			batchArgs.add(new Object[] { serverStatus.getValue(), updatedOn, serverStatus.getKey() });
+		}
+		jdbcTemplate.batchUpdate(UPDATE_SERVER_STATUS, batchArgs);
+		dashboardSummaryDAO.serverStatusChanged();
 	}
 
 }
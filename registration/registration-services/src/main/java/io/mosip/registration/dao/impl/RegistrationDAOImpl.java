@@ -14,6 +14,8 @@ import java.util.Optional;
 import javax.transaction.Transactional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import io.mosip.commons.packet.dto.packet.SimpleDto;
@@ -27,12 +29,14 @@ import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.constants.RegistrationType;
 import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
+import io.mosip.registration.dao.DashboardSummaryDAO;
 import io.mosip.registration.dao.RegistrationDAO;
 import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.dto.RegistrationDTO;
 import io.mosip.registration.dto.RegistrationDataDto;
 import io.mosip.registration.dto.UiSchemaDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
@@ -58,6 +62,14 @@ public class RegistrationDAOImpl implements RegistrationDAO {
 	@Autowired
 	private IdentitySchemaService identitySchemaService;
 
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DashboardSummaryDAO dashboardSummaryDAO;
+
+	private static final String UPDATE_CLIENT_STATUS = "UPDATE REG.REGISTRATION SET CLIENT_STATUS_CODE = ?, CLIENT_STATUS_COMMENT = ?, CLIENT_STATUS_DTIME = ?, UPD_BY = ?, UPD_DTIMES = ? WHERE ID = ?";
+
 	/** Object for Logger. */
 	private static final Logger LOGGER = AppConfig.getLogger(RegistrationDAOImpl.class);
 
@@ -116,6 +128,7 @@ public class RegistrationDAOImpl implements RegistrationDAO {
 			registration.setAdditionalInfo(additionalInfo.getBytes());
 
 			registrationRepository.create(registration);
+			dashboardSummaryDAO.registrationCreated();
 
 			LOGGER.info(LOG_SAVE_PKT, APPLICATION_NAME, APPLICATION_ID, "Save Registration has been ended");
 		} catch (RuntimeException | JsonProcessingException runtimeException) {
@@ -175,6 +188,7 @@ public class RegistrationDAOImpl implements RegistrationDAO {
 
 			Timestamp timestamp = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
 			Registration registration = registrationRepository.getOne(registrationID);
+			String previousClientStatusCode = registration.getClientStatusCode();
 			// registration.setStatusCode(clientStatusCode);
 			registration.setStatusTimestamp(timestamp);
 			registration.setClientStatusCode(clientStatusCode);
@@ -188,7 +202,9 @@ public class RegistrationDAOImpl implements RegistrationDAO {
 			LOGGER.info("REGISTRATION - UPDATE_STATUS - REGISTRATION_DAO", APPLICATION_NAME, APPLICATION_ID,
 					"Packet updation has been ended");
 
-			return registrationRepository.update(registration);
+			Registration updatedRegistration = registrationRepository.update(registration);
+			dashboardSummaryDAO.clientStatusChanged(previousClientStatusCode, clientStatusCode);
+			return updatedRegistration;
 		} catch (RuntimeException runtimeException) {
 			throw new RegBaseUncheckedException(RegistrationConstants.PACKET_UPDATE_STATUS,
 					runtimeException.toString());
@@ -250,6 +266,7 @@ public class RegistrationDAOImpl implements RegistrationDAO {
 		Timestamp timestamp = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
 
 		Registration reg = registrationRepository.getOne(registrationPacket.getFileName());
+		String previousClientStatusCode = reg.getClientStatusCode();
 		reg.setClientStatusCode(registrationPacket.getPacketClientStatus());
 		if (registrationPacket.getUploadStatus() != null) {
 			reg.setFileUploadStatus(registrationPacket.getUploadStatus());
@@ -262,7 +279,31 @@ public class RegistrationDAOImpl implements RegistrationDAO {
 		reg.setUploadCount((short) (reg.getUploadCount() + 1));
 		reg.setUpdBy(SessionContext.userContext().getUserId());
 		reg.setServerStatusCode(registrationPacket.getPacketServerStatus());
-		return registrationRepository.update(reg);
+		Registration updatedRegistration = registrationRepository.update(reg);
+		dashboardSummaryDAO.clientStatusChanged(previousClientStatusCode, registrationPacket.getPacketClientStatus());
+		return updatedRegistration;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.dao.RegistrationDAO#updateClientStatus(java.util.
+	 * List, java.lang.String, java.lang.String, java.lang.String,
+	 * java.sql.Timestamp)
+	 */
+	@Override
+	public void updateClientStatus(List<String> registrationIds, String clientStatusCode, String clientStatusComments,
+			String updatedBy, Timestamp updatedOn) {
+		LOGGER.info("REGISTRATION - UPDATE_THE_PACKET_STATUS - REGISTRATION_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Updating the client status of " + registrationIds.size() + " registrations");
+
+		List<Object[]> batchArgs = new ArrayList<>();
+		for (String registrationId : registrationIds) {
+			batchArgs.add(new Object[] { clientStatusCode, clientStatusComments, updatedOn, updatedBy, updatedOn,
+					registrationId });
+		}
+		jdbcTemplate.batchUpdate(UPDATE_CLIENT_STATUS, batchArgs);
+		dashboardSummaryDAO.registrationsChanged();
 	}
 
 	/*
@@ -278,11 +319,14 @@ public class RegistrationDAOImpl implements RegistrationDAO {
 
 		Timestamp timestamp = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
 		Registration reg = registrationRepository.getOne(packet.getFileName());
+		String previousClientStatusCode = reg.getClientStatusCode();
 		// reg.setStatusCode(packet.getPacketClientStatus());
 		reg.setClientStatusCode(packet.getPacketClientStatus());
 		reg.setIsActive(true);
 		reg.setUploadTimestamp(timestamp);
-		return registrationRepository.update(reg);
+		Registration updatedRegistration = registrationRepository.update(reg);
+		dashboardSummaryDAO.clientStatusChanged(previousClientStatusCode, packet.getPacketClientStatus());
+		return updatedRegistration;
 	}
 
 	/*
@@ -385,4 +429,69 @@ public class RegistrationDAOImpl implements RegistrationDAO {
 		
 		return registrationRepository.findAll();
 	}
+
+	@Override
+	public List<RegistrationPacketView> getPacketsToUpload(List<String> packetStatus, String lastId, int pageSize) {
+		LOGGER.debug("REGISTRATION - BY_STATUS - REGISTRATION_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Retrieving the packets to be uploaded after " + lastId);
+
+		return registrationRepository.findPacketsToUploadAfter(packetStatus.get(0), packetStatus.get(1),
+				packetStatus.get(2), packetStatus.get(3), lastId, PageRequest.of(0, pageSize));
+	}
+
+	@Override
+	public List<RegistrationPacketView> getPacketsToSync(List<String> statusCodes, Timestamp updatedDtimes,
+			String lastId, int pageSize) {
+		LOGGER.debug("REGISTRATION - BY_STATUS - REGISTRATION_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Retrieving the packets to be synced after " + lastId);
+
+		return registrationRepository.findPacketsByClientStatusCodesAfter(statusCodes, updatedDtimes, lastId,
+				PageRequest.of(0, pageSize));
+	}
+
+	@Override
+	public List<RegistrationPacketView> getPacketViews(List<String> statusCodes) {
+		LOGGER.debug("REGISTRATION - BY_STATUS - REGISTRATION_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Retrieving the packets based on client status codes");
+
+		return registrationRepository.findPacketsByClientStatusCodes(statusCodes);
+	}
+
+	@Override
+	public List<RegistrationPacketView> getPacketsCreatedBefore(Timestamp crDtimes, String serverStatusCode,
+			String lastId, int pageSize) {
+		LOGGER.debug("REGISTRATION - BY_STATUS - REGISTRATION_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Retrieving the packets based on crDtime and status after " + lastId);
+
+		return registrationRepository.findPacketsCreatedBeforeAfter(crDtimes, serverStatusCode, lastId,
+				PageRequest.of(0, pageSize));
+	}
+
+	@Override
+	public List<RegistrationPacketView> getPacketsByServerStatus(List<String> serverStatusCodes, String lastId,
+			int pageSize) {
+		LOGGER.debug("REGISTRATION - BY_STATUS - REGISTRATION_DAO", APPLICATION_NAME, APPLICATION_ID,
+				"Retrieving the packets based on server status codes after " + lastId);
+
+		return registrationRepository.findPacketsByServerStatusCodesAfter(serverStatusCodes, lastId,
+				PageRequest.of(0, pageSize));
+	}
+
+	@Override
+	public boolean isPacketPresent(String clientStatusCode) {
+		return registrationRepository.existsByClientStatusCode(clientStatusCode);
+	}
+
+	@Override
+	public boolean isReRegisterPending() {
+		return registrationRepository.existsByClientStatusCodeNotInAndServerStatusCodeIn(
+				Arrays.asList(RegistrationClientStatusCode.RE_REGISTER.getCode()),
+				Arrays.asList(RegistrationConstants.PACKET_STATUS_CODE_REREGISTER));
+	}
+
+	@Override
+	public boolean isPendingForProcessing(List<String> serverStatusCodes, String clientStatusCode) {
+		return registrationRepository.countByServerStatusCodeNotInAndClientStatusCodeNot(serverStatusCodes,
+				clientStatusCode) > 0;
+	}
 }
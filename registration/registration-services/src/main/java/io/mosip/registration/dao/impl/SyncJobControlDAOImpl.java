@@ -3,6 +3,7 @@ package io.mosip.registration.dao.impl;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
+import java.sql.Timestamp;
 import java.util.Arrays;
 import java.util.List;
 
@@ -18,8 +19,8 @@ import io.mosip.registration.constants.Components;
 import io.mosip.registration.constants.RegistrationClientStatusCode;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.SessionContext;
+import io.mosip.registration.dao.DashboardSummaryDAO;
 import io.mosip.registration.dao.SyncJobControlDAO;
-import io.mosip.registration.entity.Registration;
 import io.mosip.registration.entity.SyncControl;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.repositories.RegistrationRepository;
@@ -62,6 +63,9 @@ public class SyncJobControlDAOImpl implements SyncJobControlDAO {
 	@Autowired
 	private AuditManagerService auditFactory;
 
+	@Autowired
+	private DashboardSummaryDAO dashboardSummaryDAO;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -73,10 +77,9 @@ public class SyncJobControlDAOImpl implements SyncJobControlDAO {
 				"Fetching the last sync details from database started");
 
 		try {
-			List<Registration> registrationsList = registrationRepository
-					.findByClientStatusCodeInOrderByUpdDtimesDesc(REG_STATUS_CODES);
-			List<Registration> lastExportRegistrationList = registrationRepository
-					.findByClientStatusCodeInOrderByUpdDtimesDesc(LAST_EXPORT_STATUS_CODES);
+			/* Only the count and the latest time are needed, not the registrations */
+			long yetToExportCount = registrationRepository.countByClientStatusCodeIn(REG_STATUS_CODES);
+			Timestamp lastExportDate = registrationRepository.findLatestUpdDtimes(LAST_EXPORT_STATUS_CODES);
 
 			LOGGER.info("REGISTRATION - SYNC - VALIDATION", APPLICATION_NAME, APPLICATION_ID,
 					"Fetching the last sync details from database ended");
@@ -84,7 +87,7 @@ public class SyncJobControlDAOImpl implements SyncJobControlDAO {
 			auditFactory.audit(AuditEvent.SYNCJOB_INFO_FETCH, Components.SYNC_VALIDATE, SessionContext.userId(),
 					AuditReferenceIdTypes.USER_ID.getReferenceTypeId());
 
-			return new SyncJobInfo(syncJobRepository.findAll(), registrationsList.size(), lastExportRegistrationList);
+			return new SyncJobInfo(syncJobRepository.findAll(), yetToExportCount, lastExportDate);
 
 		} catch (RuntimeException runtimeException) {
 			throw new RegBaseUncheckedException(RegistrationConstants.SYNC_STATUS_VALIDATE,
@@ -103,7 +106,9 @@ public class SyncJobControlDAOImpl implements SyncJobControlDAO {
 	public SyncControl update(SyncControl syncControl) {
 		LOGGER.info(RegistrationConstants.SYNC_JOB_CONTROL_DAO_LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
 				"updating sync details from database started");
-		return syncJobRepository.update(syncControl);
+		SyncControl updatedSyncControl = syncJobRepository.update(syncControl);
+		dashboardSummaryDAO.jobSynced(syncControl.getSyncJobId(), syncControl.getLastSyncDtimes());
+		return updatedSyncControl;
 	}
 
 	/*
@@ -116,7 +121,9 @@ public class SyncJobControlDAOImpl implements SyncJobControlDAO {
 	public SyncControl save(SyncControl syncControl) {
 		LOGGER.info(RegistrationConstants.SYNC_JOB_CONTROL_DAO_LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
 				"saving sync details to database started");
-		return syncJobRepository.save(syncControl);
+		SyncControl savedSyncControl = syncJobRepository.save(syncControl);
+		dashboardSummaryDAO.jobSynced(syncControl.getSyncJobId(), syncControl.getLastSyncDtimes());
+		return savedSyncControl;
 	}
 
 	/*
@@ -146,15 +153,16 @@ public class SyncJobControlDAOImpl implements SyncJobControlDAO {
 	/*
 	 * (non-Javadoc)
 	 * 
-	 * @see io.mosip.registration.dao.SyncJobDAO#getRegistrationDetails()
+	 * @see io.mosip.registration.dao.SyncJobDAO#getRegistrationSummary()
 	 */
-	public List<Registration> getRegistrationDetails() {
+	public RegistrationSummary getRegistrationSummary() {
 
 		LOGGER.info(RegistrationConstants.SYNC_JOB_CONTROL_DAO_LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
-				"Fetching the Registration Details of Registered Status");
+				"Fetching the Registration Summary of Registered Status");
 
-		return registrationRepository
-				.findByclientStatusCodeOrderByCrDtimeAsc(RegistrationClientStatusCode.CREATED.getCode());
+		String statusCode = RegistrationClientStatusCode.CREATED.getCode();
+		return new RegistrationSummary(registrationRepository.countByClientStatusCode(statusCode),
+				registrationRepository.findOldestCrDtime(statusCode));
 	}
 
 }
@@ -8,11 +8,13 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -55,6 +57,20 @@ public class UserDetailDAOImpl implements UserDetailDAO {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(UserDetailDAOImpl.class);
 
+	private static final String INSERT_USER = "INSERT INTO REG.USER_DETAIL (ID, NAME, EMAIL, MOBILE, STATUS_CODE, LANG_CODE, IS_ACTIVE, CR_BY, CR_DTIMES) VALUES (?, ?, ?, ?, '00', ?, ?, ?, ?)";
+	private static final String UPDATE_USER = "UPDATE REG.USER_DETAIL SET NAME = ?, EMAIL = ?, MOBILE = ?, STATUS_CODE = '00', LANG_CODE = ?, IS_ACTIVE = ?, UPD_BY = ?, UPD_DTIMES = ? WHERE ID = ?";
+	private static final String INSERT_USER_PWD = "INSERT INTO REG.USER_PWD (USR_ID, STATUS_CODE, LANG_CODE, IS_ACTIVE, CR_BY, CR_DTIMES) VALUES (?, '00', ?, ?, ?, ?)";
+	private static final String UPDATE_USER_PWD = "UPDATE REG.USER_PWD SET STATUS_CODE = '00', LANG_CODE = ?, IS_ACTIVE = ?, UPD_BY = ?, UPD_DTIMES = ? WHERE USR_ID = ?";
+	private static final String INSERT_USER_ROLE = "INSERT INTO REG.USER_ROLE (USR_ID, ROLE_CODE, LANG_CODE, IS_ACTIVE, CR_BY, CR_DTIMES) VALUES (?, ?, ?, ?, ?, ?)";
+	private static final String DELETE_USER_ROLES = "DELETE FROM REG.USER_ROLE WHERE USR_ID = ?";
+	private static final String DELETE_USER_TOKEN = "DELETE FROM REG.USER_TOKEN WHERE USR_ID = ?";
+
+	/** Deletes a user along with the rows cascaded from {@link UserDetail} */
+	private static final String[] DELETE_USER = { DELETE_USER_ROLES, "DELETE FROM REG.USER_PWD WHERE USR_ID = ?",
+			DELETE_USER_TOKEN, "DELETE FROM REG.USER_BIOMETRIC WHERE USR_ID = ?",
+			"DELETE FROM REG.REG_CENTER_USER_MACHINE WHERE USR_ID = ?",
+			"DELETE FROM REG.REG_CENTER_USER WHERE USR_ID = ?", "DELETE FROM REG.USER_DETAIL WHERE ID = ?" };
+
 	/** The userDetail repository. */
 	@Autowired
 	private UserDetailRepository userDetailRepository;
@@ -74,6 +90,9 @@ public class UserDetailDAOImpl implements UserDetailDAO {
 	@Autowired
 	private UserTokenRepository userTokenRepository;
 
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -201,6 +220,88 @@ public class UserDetailDAOImpl implements UserDetailDAO {
 
 	}
 
+	@Override
+	public void saveAll(List<UserDetailDto> insertedUsers, List<UserDetailDto> updatedUsers,
+			List<String> removedUserIds) {
+		String langCode = ApplicationContext.applicationLanguage();
+		String syncedBy = SessionContext.isSessionContextAvailable() ? SessionContext.userContext().getUserId()
+				: RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM;
+		Timestamp syncedTime = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
+
+		if (!removedUserIds.isEmpty()) {
+			List<Object[]> userIds = new ArrayList<>();
+			removedUserIds.forEach(userId -> userIds.add(new Object[] { userId }));
+			for (String deleteUser : DELETE_USER) {
+				batchUpdate(deleteUser, userIds);
+			}
+		}
+
+		List<Object[]> userArgs = new ArrayList<>();
+		List<Object[]> pwdArgs = new ArrayList<>();
+		List<Object[]> roleArgs = new ArrayList<>();
+		for (UserDetailDto user : insertedUsers) {
+			boolean userStatus = isActive(user);
+			userArgs.add(new Object[] { user.getUserName(), user.getName(), user.getMail(), user.getMobile(), langCode,
+					userStatus, syncedBy, syncedTime });
+			pwdArgs.add(new Object[] { user.getUserName(), langCode, userStatus, syncedBy, syncedTime });
+			addRoles(user, langCode, syncedBy, syncedTime, roleArgs);
+		}
+		batchUpdate(INSERT_USER, userArgs);
+		batchUpdate(INSERT_USER_PWD, pwdArgs);
+
+		if (!updatedUsers.isEmpty()) {
+			userArgs.clear();
+			pwdArgs.clear();
+			List<Object[]> userIds = new ArrayList<>();
+			List<Object[]> inactiveUserIds = new ArrayList<>();
+			for (UserDetailDto user : updatedUsers) {
+				boolean userStatus = isActive(user);
+				userArgs.add(new Object[] { user.getName(), user.getMail(), user.getMobile(), langCode, userStatus,
+						syncedBy, syncedTime, user.getUserName() });
+				pwdArgs.add(new Object[] { langCode, userStatus, syncedBy, syncedTime, user.getUserName() });
+				userIds.add(new Object[] { user.getUserName() });
+				if (!userStatus) {
+					inactiveUserIds.add(new Object[] { user.getUserName() });
+				}
+				addRoles(user, langCode, syncedBy, syncedTime, roleArgs);
+			}
+			batchUpdate(UPDATE_USER, userArgs);
+			batchUpdate(DELETE_USER_ROLES, userIds);
+			// delete authtoken of inactive users
+			batchUpdate(DELETE_USER_TOKEN, inactiveUserIds);
+
+			int[] updatedPwds = batchUpdate(UPDATE_USER_PWD, pwdArgs);
+			List<Object[]> missingPwdArgs = new ArrayList<>();
+			for (int index = 0; index < updatedPwds.length; index++) {
+				if (updatedPwds[index] == 0) {
+					UserDetailDto user = updatedUsers.get(index);
+					missingPwdArgs.add(new Object[] { user.getUserName(), langCode, isActive(user), syncedBy, syncedTime });
+				}
+			}
+			batchUpdate(INSERT_USER_PWD, missingPwdArgs);
+		}
+		batchUpdate(INSERT_USER_ROLE, roleArgs);
+
+		LOGGER.info(LOG_REG_USER_DETAIL, APPLICATION_NAME, APPLICATION_ID,
+				"Saved user details, inserted : " + insertedUsers.size() + ", updated : " + updatedUsers.size()
+						+ ", removed : " + removedUserIds.size());
+	}
+
+	private int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+		return batchArgs.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(sql, batchArgs);
+	}
+
+	private boolean isActive(UserDetailDto user) {
+		return user.getIsActive() != null ? user.getIsActive().booleanValue() : true;
+	}
+
+	private void addRoles(UserDetailDto user, String langCode, String syncedBy, Timestamp syncedTime,
+			List<Object[]> roleArgs) {
+		boolean userStatus = isActive(user);
+		for (String role : new HashSet<>(user.getRoles() == null ? Collections.<String>emptyList() : user.getRoles())) {
+			roleArgs.add(new Object[] { user.getUserName(), role, langCode, userStatus, syncedBy, syncedTime });
+		}
+	}
 
 	@Override
 	public UserBiometric getUserSpecificBioDetail(String userId, String bioType, String subType) {
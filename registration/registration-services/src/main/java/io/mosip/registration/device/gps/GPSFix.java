@@ -0,0 +1,32 @@
+package io.mosip.registration.device.gps;
+
+/**
+ * A valid position fix received from the GPS device: the GPRMC sentence
+ * holding the position and the time it was received at.
+ */
+public final class GPSFix {
+
+	private final String sentence;
+
+	private final long receivedAtMillis;
+
+	public GPSFix(String sentence, long receivedAtMillis) {
+		this.sentence = sentence;
+		this.receivedAtMillis = receivedAtMillis;
+	}
+
+	/**
+	 * @return the NMEA sentence of the fix, starting with $GPRMC
+	 */
+	public String getSentence() {
+		return sentence;
+	}
+
+	public long getReceivedAtMillis() {
+		return receivedAtMillis;
+	}
+
+	public long getAgeMillis() {
+		return System.currentTimeMillis() - receivedAtMillis;
+	}
+}
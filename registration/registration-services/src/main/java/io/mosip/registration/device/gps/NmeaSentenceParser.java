@@ -0,0 +1,172 @@
+package io.mosip.registration.device.gps;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Incremental parser of the NMEA stream of a GPS device.
+ * <p>
+ * Bytes are fed as they are read from the device, in chunks of any size.
+ * Sentences are delimited by the start character $ or by a line break and are
+ * dropped when their checksum does not match. The last valid GPRMC fix is kept
+ * with the time it was received at, and the callers waiting for a fix are
+ * woken up as soon as one is received.
+ * </p>
+ */
+public class NmeaSentenceParser {
+
+	private static final String FIX_SENTENCE_TYPE = "GPRMC";
+	private static final String FIX_STATUS_VALID = "A";
+
+	/** NMEA limits a sentence to 82 characters, longer ones are treated as noise */
+	private static final int MAX_SENTENCE_LENGTH = 128;
+
+	private final StringBuilder sentence = new StringBuilder(MAX_SENTENCE_LENGTH);
+
+	private volatile GPSFix lastFix;
+
+	private volatile String lastSentence;
+
+	private volatile long lastSentenceAtMillis;
+
+	/**
+	 * Parses the next chunk of the stream
+	 *
+	 * @param data
+	 *            the bytes read from the device
+	 * @param offset
+	 *            the offset of the chunk in the bytes
+	 * @param length
+	 *            the length of the chunk
+	 * @return the valid sentences completed by the chunk
+	 */
+	public synchronized List<String> accept(byte[] data, int offset, int length) {
+		List<String> sentences = new ArrayList<>();
+		for (int index = offset; index < offset + length; index++) {
+			char character = (char) (data[index] & 0xFF);
+			if (character == '$') {
+				complete(sentences);
+				sentence.append(character);
+			} else if (character == '\r' || character == '\n') {
+				complete(sentences);
+			} else if (sentence.length() > 0) {
+				if (sentence.length() < MAX_SENTENCE_LENGTH) {
+					sentence.append(character);
+				} else {
+					sentence.setLength(0);
+				}
+			}
+		}
+		if (!sentences.isEmpty()) {
+			notifyAll();
+		}
+		return sentences;
+	}
+
+	public List<String> accept(String data) {
+		byte[] bytes = data.getBytes(StandardCharsets.US_ASCII);
+		return accept(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * @return the last valid fix, null if none was received
+	 */
+	public GPSFix getLastFix() {
+		return lastFix;
+	}
+
+	/**
+	 * @param maxAgeMillis
+	 *            the maximum age of the fix
+	 * @return the last valid fix if it is not older than the maximum age, else null
+	 */
+	public GPSFix getLastFix(long maxAgeMillis) {
+		GPSFix fix = lastFix;
+		return fix != null && maxAgeMillis > 0 && fix.getAgeMillis() <= maxAgeMillis ? fix : null;
+	}
+
+	/**
+	 * @param sinceMillis
+	 *            the time from which the sentences are considered
+	 * @return the last valid sentence of any type received since the time, null
+	 *         if none
+	 */
+	public String getLastSentence(long sinceMillis) {
+		String receivedSentence = lastSentence;
+		return receivedSentence != null && lastSentenceAtMillis >= sinceMillis ? receivedSentence : null;
+	}
+
+	/**
+	 * Waits until a valid fix is received after the given time
+	 *
+	 * @param sinceMillis
+	 *            the time after which the fix should be received
+	 * @param timeoutMillis
+	 *            the maximum time to wait
+	 * @return the fix, null if none was received in time
+	 * @throws InterruptedException
+	 *             if the waiting thread is interrupted
+	 */
+	public synchronized GPSFix awaitFix(long sinceMillis, long timeoutMillis) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+		while (lastFix == null || lastFix.getReceivedAtMillis() < sinceMillis) {
+			long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			if (remainingMillis <= 0) {
+				return null;
+			}
+			wait(remainingMillis);
+		}
+		return lastFix;
+	}
+
+	private void complete(List<String> sentences) {
+		if (sentence.length() == 0) {
+			return;
+		}
+		String completedSentence = sentence.toString();
+		sentence.setLength(0);
+		if (!isChecksumValid(completedSentence)) {
+			return;
+		}
+		long receivedAtMillis = System.currentTimeMillis();
+		sentences.add(completedSentence);
+		lastSentence = completedSentence;
+		lastSentenceAtMillis = receivedAtMillis;
+		if (isValidFix(completedSentence)) {
+			lastFix = new GPSFix(completedSentence, receivedAtMillis);
+		}
+	}
+
+	/**
+	 * The checksum is the two hex digits after *, the XOR of the characters
+	 * between $ and *. Sentences without checksum are accepted.
+	 */
+	static boolean isChecksumValid(String nmeaSentence) {
+		int checksumIndex = nmeaSentence.lastIndexOf('*');
+		if (checksumIndex < 0) {
+			return nmeaSentence.length() > 1;
+		}
+		if (checksumIndex + 3 != nmeaSentence.length()) {
+			return false;
+		}
+		int checksum = 0;
+		for (int index = 1; index < checksumIndex; index++) {
+			checksum ^= nmeaSentence.charAt(index);
+		}
+		try {
+			return checksum == Integer.parseInt(nmeaSentence.substring(checksumIndex + 1), 16);
+		} catch (NumberFormatException numberFormatException) {
+			return false;
+		}
+	}
+
+	private static boolean isValidFix(String nmeaSentence) {
+		int checksumIndex = nmeaSentence.lastIndexOf('*');
+		String[] fields = nmeaSentence.substring(1, checksumIndex < 0 ? nmeaSentence.length() : checksumIndex)
+				.split(",", -1);
+		return fields.length > 6 && FIX_SENTENCE_TYPE.equals(fields[0]) && FIX_STATUS_VALID.equals(fields[2])
+				&& !fields[3].isEmpty() && !fields[4].isEmpty() && !fields[5].isEmpty() && !fields[6].isEmpty();
+	}
+}
@@ -3,14 +3,16 @@ package io.mosip.registration.device.gps.impl;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.Enumeration;
 import java.util.TooManyListenersException;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import gnu.io.CommPortIdentifier;
@@ -24,12 +26,22 @@ import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.device.gps.GPSFix;
 import io.mosip.registration.device.gps.MosipGPSProvider;
+import io.mosip.registration.device.gps.NmeaSentenceParser;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 
 /**
  * Class for implementing GPS Connection and Latitude and distance.
+ * <p>
+ * The NMEA sentences are parsed as the serial port reports data, and the last
+ * valid fix is kept in memory. A fix younger than
+ * mosip.registration.gps.fix.max.age.seconds is returned without reading the
+ * port, otherwise the port is opened and the call returns as soon as a fix is
+ * received, waiting at most the port read wait time. The port keeps listening
+ * after a fix is received so the fix stays recent.
+ * </p>
  *
  * @author Sreekar Chukka
  * @since 1.0.0
@@ -49,6 +61,16 @@ public class GPSBU343Connector implements MosipGPSProvider, SerialPortEventListe
 	/** Object for deviceData. */
 	private StringBuilder deviceData = new StringBuilder();
 
+	/** Parser of the NMEA stream, holding the last valid fix. */
+	private final NmeaSentenceParser nmeaSentenceParser = new NmeaSentenceParser();
+
+	/** Buffer for the bytes read from the port on a data event. */
+	private final byte[] readBuffer = new byte[1024];
+
+	/** Maximum age of the last fix for it to be returned without reading the port. */
+	@Value("${mosip.registration.gps.fix.max.age.seconds:30}")
+	private long fixMaxAgeSeconds;
+
 	/** Object for Logger. */
 
 	private static final Logger LOGGER = AppConfig.getLogger(GPSBU343Connector.class);
@@ -69,6 +91,16 @@ public class GPSBU343Connector implements MosipGPSProvider, SerialPortEventListe
 		LOGGER.info(RegistrationConstants.GPS_LOGGER, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID,
 				"Entering to fetch GPS inforamtion" + "Port Name" + portNo + "wait time" + portReadWaitTime);
+
+		GPSFix gpsFix = nmeaSentenceParser.getLastFix(TimeUnit.SECONDS.toMillis(fixMaxAgeSeconds));
+		if (gpsFix != null) {
+			LOGGER.info(RegistrationConstants.GPS_LOGGER, RegistrationConstants.APPLICATION_NAME,
+					RegistrationConstants.APPLICATION_ID,
+					"Returning the GPS fix received (ms) ago : " + gpsFix.getAgeMillis());
+			return gpsFix.getSentence();
+		}
+
+		long readStartMillis = System.currentTimeMillis();
 		try {
 
 			@SuppressWarnings("unchecked")
@@ -86,7 +118,7 @@ public class GPSBU343Connector implements MosipGPSProvider, SerialPortEventListe
 						if (portEnumList.getName().equals(portNo)) {
 
 							readDataFromComPort();
-							Thread.sleep(portReadWaitTime);
+							gpsFix = nmeaSentenceParser.awaitFix(readStartMillis, portReadWaitTime);
 
 						} else {
 							deviceData.append(RegistrationConstants.GPS_CAPTURE_PORT_FAILURE_MSG);
@@ -95,11 +127,11 @@ public class GPSBU343Connector implements MosipGPSProvider, SerialPortEventListe
 					} else {
 
 						readDataFromComPort();
-						Thread.sleep(portReadWaitTime);
+						gpsFix = nmeaSentenceParser.awaitFix(readStartMillis, portReadWaitTime);
 
 					}
 
-					if (deviceData.toString().contains(RegistrationConstants.GPS_SIGNAL)) {
+					if (gpsFix != null || nmeaSentenceParser.getLastSentence(readStartMillis) != null) {
 						break;
 
 					}
@@ -112,21 +144,22 @@ public class GPSBU343Connector implements MosipGPSProvider, SerialPortEventListe
 				deviceData.append(RegistrationConstants.GPS_DEVICE_CONNECTION_FAILURE);
 			}
 
-			gpsResponse = deviceData.toString();
+			if (gpsFix != null) {
+				gpsResponse = gpsFix.getSentence();
+			} else if (nmeaSentenceParser.getLastSentence(readStartMillis) != null) {
+				/* Data without a valid fix, reported as a weak signal */
+				gpsResponse = nmeaSentenceParser.getLastSentence(readStartMillis);
+			} else {
+				gpsResponse = deviceData.toString();
+			}
 
 			if (StringUtils.isEmpty(gpsResponse)) {
 
 				gpsResponse = RegistrationConstants.GPS_DEVICE_CONNECTION_FAILURE;
 			}
 
-			if (!gpsResponse.equals(RegistrationConstants.GPS_CAPTURE_FAILURE)
-					&& !gpsResponse.equals(RegistrationConstants.GPS_CAPTURE_FAILURE_MSG)
-					&& !gpsResponse.contains(RegistrationConstants.GPS_CAPTURE_PORT_FAILURE_MSG)
-					&& !gpsResponse.equals(RegistrationConstants.GPS_DEVICE_CONNECTION_FAILURE)) {
-
-				inputStream.close();
-				serialPortId.removeEventListener();
-				serialPortId.close();
+			if (gpsFix == null) {
+				closePort();
 			}
 
 			deviceData = new StringBuilder();
@@ -167,23 +200,40 @@ public class GPSBU343Connector implements MosipGPSProvider, SerialPortEventListe
 		LOGGER.info(RegistrationConstants.GPS_LOGGER, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "Reading data from GPS devie");
 
-		if (serialPortId != null) {
-			serialPortId.removeEventListener();
-			serialPortId.close();
-		}
+		closePort();
 
 		serialPortId = (SerialPort) portEnumList.open("", 0);
+		inputStream = serialPortId.getInputStream();
 
 		serialPortId.addEventListener(this);
 		serialPortId.notifyOnDataAvailable(true);
 		serialPortId.setSerialPortParams(4800, SerialPort.DATABITS_8, SerialPort.STOPBITS_1, SerialPort.PARITY_NONE);
 
-		inputStream = serialPortId.getInputStream();
-
 		LOGGER.info(RegistrationConstants.GPS_LOGGER, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "Ends Reading data from GPS devie");
 	}
 
+	/**
+	 * Stops listening to the port and closes it.
+	 */
+	@PreDestroy
+	public synchronized void closePort() {
+		if (serialPortId != null) {
+			try {
+				if (inputStream != null) {
+					inputStream.close();
+				}
+			} catch (IOException ioException) {
+				LOGGER.error(RegistrationConstants.GPS_LOGGER, RegistrationConstants.APPLICATION_NAME,
+						RegistrationConstants.APPLICATION_ID, ExceptionUtils.getStackTrace(ioException));
+			}
+			serialPortId.removeEventListener();
+			serialPortId.close();
+			serialPortId = null;
+			inputStream = null;
+		}
+	}
+
 	/**
 	 * This method is serial event to read byte stream for GPS.
 	 *
@@ -209,19 +259,18 @@ public class GPSBU343Connector implements MosipGPSProvider, SerialPortEventListe
 
 		case SerialPortEvent.DATA_AVAILABLE:
 
-			String line = "";
-
-			try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));) {
-
-				// read data
-				while (inputStream.available() > 0) {
+			try {
 
-					while (reader.ready()) {
+				// read the available bytes without blocking, the sentences may span events
+				InputStream portInputStream = inputStream;
+				int available;
+				while (portInputStream != null && (available = portInputStream.available()) > 0) {
 
-						line = reader.readLine();
-						deviceData.append(line);
+					int read = portInputStream.read(readBuffer, 0, Math.min(available, readBuffer.length));
+					if (read < 0) {
+						break;
 					}
-
+					nmeaSentenceParser.accept(readBuffer, 0, read);
 				}
 			} catch (IOException exception) {
 
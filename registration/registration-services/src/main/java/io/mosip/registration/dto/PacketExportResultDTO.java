@@ -0,0 +1,29 @@
+package io.mosip.registration.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Outcome of an export of the packets to an external device.
+ */
+@Data
+public class PacketExportResultDTO {
+
+	/** Packets which are on the device and verified, copied now or by an earlier export */
+	private List<PacketStatusDTO> exportedPackets = new ArrayList<>();
+
+	/** Ids of the packets which failed to be copied, verified or marked as exported */
+	private List<String> failedPackets = new ArrayList<>();
+
+	private int copiedCount;
+
+	private int skippedCount;
+
+	private long copiedBytes;
+
+	/** True if the export stopped as the device ran out of space */
+	private boolean insufficientSpace;
+
+}
@@ -14,6 +14,10 @@ public class BiometricsDto {
 	private int numOfRetries;	
 	private boolean isCaptured;
 	private String subType;
+	/** Time taken by the device to capture the biometrics, in millis */
+	private long captureDuration;
+	/** Time taken to check the quality of the captured biometrics with the SDK, in millis */
+	private long qualityCheckDuration;
 
 		
 	public BiometricsDto(String bioAttribute, byte[] attributeISO, double qualityScore) {
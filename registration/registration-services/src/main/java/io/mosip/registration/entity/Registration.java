@@ -18,7 +18,7 @@ import io.mosip.kernel.core.util.DateUtils;
  */
 @Entity
 @Table(schema = "REG", name = "REGISTRATION")
-public class Registration extends RegistrationCommonFields {
+public class Registration extends RegistrationCommonFields implements RegistrationPacketView {
 	@Id
 	@Column(name = "ID")
 	private String id;
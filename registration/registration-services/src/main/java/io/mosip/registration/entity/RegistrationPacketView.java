@@ -0,0 +1,33 @@
+package io.mosip.registration.entity;
+
+import java.sql.Timestamp;
+
+/**
+ * The columns of a {@link Registration} read by the packet sync, upload,
+ * export and deletion flows.
+ * <p>
+ * The bulk read paths of the registrations select only these columns instead
+ * of the whole entity. {@link Registration} implements the view as well, so the
+ * flows work on an entity read by id the same way.
+ * </p>
+ */
+public interface RegistrationPacketView {
+
+	String getId();
+
+	String getStatusCode();
+
+	String getAckFilename();
+
+	String getClientStatusCode();
+
+	String getClientStatusComments();
+
+	String getServerStatusCode();
+
+	String getFileUploadStatus();
+
+	byte[] getAdditionalInfo();
+
+	Timestamp getUpdDtimes();
+}
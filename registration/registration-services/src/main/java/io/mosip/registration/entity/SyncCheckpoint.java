@@ -0,0 +1,40 @@
+package io.mosip.registration.entity;
+
+import java.sql.Timestamp;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Entity for the checkpoint of an entity type synced by the client settings
+ * sync, the sync time of the response its data was last saved from and the
+ * checksum of that data
+ */
+@Entity
+@Table(schema = "reg", name = "sync_checkpoint")
+@Getter
+@Setter
+public class SyncCheckpoint {
+
+	@Id
+	@Column(name = "entity_name")
+	private String entityName;
+	@Column(name = "last_sync_dtimes")
+	private Timestamp lastSyncDtimes;
+	@Column(name = "checksum")
+	private String checksum;
+	@Column(name = "CR_BY")
+	private String crBy;
+	@Column(name = "CR_DTIMES")
+	private Timestamp crDtime;
+	@Column(name = "UPD_BY")
+	private String updBy;
+	@Column(name = "UPD_DTIMES")
+	private Timestamp updDtimes;
+
+}
@@ -74,6 +74,8 @@ public enum RegistrationExceptionConstants {
 	REG_FTP_CONNECTION_ERROR_CODE(PACKET_UPLOAD_EXP_CODE + "FUM-002","Error in ftp connection"),
 	REG_TEMPLATE_IO_EXCEPTION(REG_ACK_EXP_CODE + "TES","Exception while writing the template into file"),
 	REG_FTP_PROPERTIES_SET_ERROR_CODE(PACKET_UPLOAD_EXP_CODE + "FUM-003","Error in ftp properties"),
+	REG_PACKET_EXPORT_TARGET_ERROR(PACKET_UPLOAD_EXP_CODE + "PEX-001", "The export directory is not writable"),
+	REG_PACKET_EXPORT_IN_PROGRESS(PACKET_UPLOAD_EXP_CODE + "PEX-002", "Another packet export is in progress"),
 	REG_SERVICE_DELEGATE_UTIL_CODE(PACKET_CREATION_EXP_CODE + "SDU-002","Exception through service delegate util, class not found"),
 	REG_RSA_INVALID_DATA(PACKET_CREATION_EXP_CODE + "REM-001", "Invalid data for RSA encryption"),
 	REG_RSA_INVALID_KEY(PACKET_CREATION_EXP_CODE + "REM-002", "Invalid key for RSA encryption"),
@@ -201,6 +203,7 @@ public enum RegistrationExceptionConstants {
 
 	REG_SYNC_NO_RESPONSE("REG-SYN-001","Response cannot be null or empty"),
 	REG_SYNC_FAILURE("REG-SYN-002","%s failed"),
+	REG_SYNC_JOB_BUSY("REG-SYN-003","%s is held back by the running jobs"),
 	
 	// LOCAL Client security Impl
 	NON_TPM_SIGN_ERROR("REG-NONTPM-001", "Exception while signing the data using NON-TPM"),
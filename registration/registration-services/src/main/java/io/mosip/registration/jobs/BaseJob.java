@@ -1,15 +1,18 @@
 package io.mosip.registration.jobs;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.util.ClassUtils;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -21,6 +24,7 @@ import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.entity.SyncTransaction;
 import io.mosip.registration.exception.RegBaseUncheckedException;
+import io.mosip.registration.jobs.JobExecutionGuard.JobExecution;
 import io.mosip.registration.service.config.impl.JobConfigurationServiceImpl;
 
 /**
@@ -58,15 +62,21 @@ public abstract class BaseJob extends QuartzJobBean {
 
 	protected ResponseDTO responseDTO;
 
-	private static Map<String, String> completedJobMap = new HashMap<>();
+	private static Map<String, String> completedJobMap = new ConcurrentHashMap<>();
 
-	public static final List<String> successJob = new ArrayList<>();
+	public static final List<String> successJob = Collections.synchronizedList(new ArrayList<>());
 
 	/**
 	 * LOGGER for logging
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(BaseJob.class);
 
+	/** Resource of the jobs working on the registration packets */
+	protected static final String PACKETS_RESOURCE = "packets";
+
+	/** Resource of the jobs working on the pre-registration packets */
+	protected static final String PRE_REGISTRATION_RESOURCE = "preRegistration";
+
 
 
 	/**
@@ -79,6 +89,47 @@ public abstract class BaseJob extends QuartzJobBean {
 		return this.getClass();
 	}
 
+	/**
+	 * How the executions of the job may overlap with the other jobs. A job runs
+	 * alone among the jobs of its resource unless it declares otherwise.
+	 * 
+	 * @return the concurrency policy
+	 */
+	public JobConcurrencyPolicy getConcurrencyPolicy() {
+		return JobConcurrencyPolicy.PER_RESOURCE;
+	}
+
+	/**
+	 * The resource the job works on, the jobs of the same resource do not run at
+	 * the same time under {@link JobConcurrencyPolicy#PER_RESOURCE}. Each job is
+	 * its own resource unless it declares otherwise.
+	 * 
+	 * @return the resource name
+	 */
+	public String getConcurrencyResource() {
+		return ClassUtils.getUserClass(this).getSimpleName();
+	}
+
+	/**
+	 * Runs the scheduled execution of the job once its concurrency policy
+	 * allows.
+	 */
+	@Override
+	public void execute(JobExecutionContext context) throws JobExecutionException {
+		ApplicationContext jobApplicationContext = (ApplicationContext) context.getJobDetail().getJobDataMap()
+				.get(RegistrationConstants.APPLICATION_CONTEXT);
+		if (jobApplicationContext == null) {
+			/* Not run without the guard, the job could overlap the jobs it must not */
+			throw new JobExecutionException(
+					"Application context missing for job " + context.getJobDetail().getKey().getName());
+		}
+		jobApplicationContext.getBean(JobExecutionGuard.class).execute(this,
+				context.getJobDetail().getKey().getName(), () -> {
+					super.execute(context);
+					return null;
+				});
+	}
+
 	/**
 	 * The executeJob will execute the service class defined in the functionality.
 	 * 
@@ -122,7 +173,7 @@ public abstract class BaseJob extends QuartzJobBean {
 	 * @param jobMap
 	 *            is a job's map
 	 */
-	public synchronized ResponseDTO executeParentJob(String currentJobID) {
+	public ResponseDTO executeParentJob(String currentJobID) {
 
 		LOGGER.info(LoggerConstants.BASE_JOB_TITLE, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "job execution started");
@@ -136,9 +187,10 @@ public abstract class BaseJob extends QuartzJobBean {
 				/* Parent SyncJob */
 				BaseJob parentBaseJob = (BaseJob) applicationContext.getBean(parentJob.getApiName());
 				
-				/* Response of parentBaseJob */
-				parentJobResponse = parentBaseJob
-						.executeJob(RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM, parentJob.getId());
+				/* Response of parentBaseJob, run once its own concurrency policy allows */
+				parentJobResponse = applicationContext.getBean(JobExecutionGuard.class).execute(parentBaseJob,
+						parentJob.getId(), () -> parentBaseJob.executeJob(RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM,
+								parentJob.getId()));
 
 
 			} else {
@@ -183,7 +235,7 @@ public abstract class BaseJob extends QuartzJobBean {
 	 * @param syncJobId
 	 *            - the sync job ID
 	 */
-	public synchronized void syncTransactionUpdate(ResponseDTO responseDTO, String triggerPoint, String syncJobId) {
+	public void syncTransactionUpdate(ResponseDTO responseDTO, String triggerPoint, String syncJobId) {
 
 		String status = (responseDTO != null && responseDTO.getSuccessResponseDTO() != null)
 				? RegistrationConstants.JOB_EXECUTION_SUCCESS
@@ -192,9 +244,14 @@ public abstract class BaseJob extends QuartzJobBean {
 
 			addToCompletedJobMap(syncJobId, status);
 
-			/* Insert Sync Transaction of executed with Success/failure */
-			SyncTransaction syncTransaction = syncManager.createSyncTransaction(status, status, triggerPoint,
-					syncJobId);
+			/* Insert Sync Transaction of executed with Success/failure, with the time waited and run */
+			JobExecution execution = JobExecutionGuard.getCurrentExecution();
+			SyncTransaction syncTransaction = execution != null && syncJobId != null
+					&& syncJobId.equals(execution.getJobId())
+							? syncManager.createSyncTransaction(status, status, triggerPoint, syncJobId,
+									"{\"queueWaitMillis\":" + execution.getQueueWaitMillis() + ",\"runMillis\":"
+											+ execution.getRunMillis() + "}")
+							: syncManager.createSyncTransaction(status, status, triggerPoint, syncJobId);
 
 			if (RegistrationConstants.JOB_EXECUTION_SUCCESS.equals(status)) {
 				/* Insert Sync Control transaction */
@@ -212,7 +269,7 @@ public abstract class BaseJob extends QuartzJobBean {
 	}
 
 
-	protected synchronized String loadContext(JobExecutionContext context) {
+	protected String loadContext(JobExecutionContext context) {
 		try {
 
 			/*
@@ -0,0 +1,20 @@
+package io.mosip.registration.jobs;
+
+/**
+ * How the executions of a job may overlap with the executions of the other
+ * jobs, declared by each job through {@link BaseJob#getConcurrencyPolicy()}.
+ */
+public enum JobConcurrencyPolicy {
+
+	/** Runs alone, no other job runs at the same time */
+	EXCLUSIVE,
+
+	/**
+	 * Runs alone among the jobs of the same resource, alongside the jobs of the
+	 * other resources
+	 */
+	PER_RESOURCE,
+
+	/** Runs alongside any other job, including another execution of itself */
+	PARALLEL
+}
@@ -0,0 +1,218 @@
+package io.mosip.registration.jobs;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.LoggerConstants;
+import io.mosip.registration.exception.RegBaseUncheckedException;
+import io.mosip.registration.exception.RegistrationExceptionConstants;
+
+/**
+ * Runs the jobs as their {@link JobConcurrencyPolicy} allows, instead of the
+ * jobs serializing on shared monitors.
+ * <p>
+ * An exclusive job waits for all the running jobs and holds back the others
+ * while it runs. A per resource job only waits for the jobs of its resource,
+ * and a parallel job only for the exclusive ones. A parent job run by a job
+ * takes the permit of its own policy as well, for a limited time as the job
+ * already holds a permit. The time a job waited for its permit and the time it
+ * has run since are kept for the thread running it, to be recorded with the
+ * result of the job.
+ * </p>
+ */
+@Component
+public class JobExecutionGuard {
+
+	private static final Logger LOGGER = AppConfig.getLogger(JobExecutionGuard.class);
+
+	/** Execution of the job run by the current thread */
+	private static final ThreadLocal<JobExecution> CURRENT_EXECUTION = new ThreadLocal<>();
+
+	/** Held in write mode by the exclusive jobs and in read mode by the others */
+	private final ReentrantReadWriteLock exclusiveLock = new ReentrantReadWriteLock(true);
+
+	private final Map<String, Lock> resourceLocks = new ConcurrentHashMap<>();
+
+	/** Time a job run on demand or by another job waits for its permit */
+	@Value("${mosip.registration.job.permit.wait.seconds:30}")
+	private long permitWaitSeconds;
+
+	/**
+	 * Action of a job
+	 */
+	@FunctionalInterface
+	public interface JobAction<T, E extends Exception> {
+
+		T run() throws E;
+	}
+
+	/**
+	 * Runs the action of the job once its concurrency policy allows, waiting as
+	 * long as the running jobs take. Run by another job, the job waits for its
+	 * permit for a limited time only.
+	 *
+	 * @param job
+	 *            the job
+	 * @param jobId
+	 *            the job ID
+	 * @param action
+	 *            the action
+	 * @return the result of the action
+	 * @throws E
+	 *             the exception of the action
+	 * @throws RegBaseUncheckedException
+	 *             if the job is run by another job and its permit was not
+	 *             granted in time
+	 */
+	public <T, E extends Exception> T execute(BaseJob job, String jobId, JobAction<T, E> action) throws E {
+		return execute(job, jobId, false, action);
+	}
+
+	/**
+	 * Runs the action of the job once its concurrency policy allows, waiting
+	 * for the running jobs for a limited time
+	 *
+	 * @param job
+	 *            the job
+	 * @param jobId
+	 *            the job ID
+	 * @param action
+	 *            the action
+	 * @return the result of the action
+	 * @throws E
+	 *             the exception of the action
+	 * @throws RegBaseUncheckedException
+	 *             if the permit of the job was not granted in time
+	 */
+	public <T, E extends Exception> T tryExecute(BaseJob job, String jobId, JobAction<T, E> action) throws E {
+		return execute(job, jobId, true, action);
+	}
+
+	private <T, E extends Exception> T execute(BaseJob job, String jobId, boolean timed, JobAction<T, E> action)
+			throws E {
+		JobConcurrencyPolicy policy = job.getConcurrencyPolicy() != null ? job.getConcurrencyPolicy()
+				: JobConcurrencyPolicy.PER_RESOURCE;
+		String resource = job.getConcurrencyResource() != null ? job.getConcurrencyResource() : jobId;
+
+		/* A job run by another job waits for a limited time, as the other job already holds a permit */
+		JobExecution enclosingExecution = CURRENT_EXECUTION.get();
+		boolean limitedWait = timed || enclosingExecution != null;
+
+		/* The read permit of a running job cannot be turned into the exclusive one */
+		if (policy == JobConcurrencyPolicy.EXCLUSIVE && exclusiveLock.getReadHoldCount() > 0) {
+			throw busy(jobId, policy, resource);
+		}
+
+		long queuedAt = System.currentTimeMillis();
+		Lock policyLock = policy == JobConcurrencyPolicy.EXCLUSIVE ? exclusiveLock.writeLock()
+				: exclusiveLock.readLock();
+		if (!acquire(policyLock, limitedWait)) {
+			throw busy(jobId, policy, resource);
+		}
+		Lock resourceLock = null;
+		try {
+			if (policy == JobConcurrencyPolicy.PER_RESOURCE) {
+				Lock lock = resourceLocks.computeIfAbsent(resource, name -> new ReentrantLock(true));
+				if (!acquire(lock, limitedWait)) {
+					throw busy(jobId, policy, resource);
+				}
+				resourceLock = lock;
+			}
+			JobExecution execution = new JobExecution(jobId, queuedAt, System.currentTimeMillis());
+			CURRENT_EXECUTION.set(execution);
+			try {
+				return action.run();
+			} finally {
+				if (enclosingExecution != null) {
+					CURRENT_EXECUTION.set(enclosingExecution);
+				} else {
+					CURRENT_EXECUTION.remove();
+				}
+				LOGGER.info(LoggerConstants.BASE_JOB_TITLE, APPLICATION_NAME, APPLICATION_ID,
+						"Job " + jobId + " (" + policy + " " + resource + ") waited (ms) : "
+								+ execution.getQueueWaitMillis() + ", ran (ms) : " + execution.getRunMillis());
+			}
+		} finally {
+			if (resourceLock != null) {
+				resourceLock.unlock();
+			}
+			policyLock.unlock();
+		}
+	}
+
+	private boolean acquire(Lock lock, boolean limitedWait) {
+		if (!limitedWait) {
+			lock.lock();
+			return true;
+		}
+		try {
+			return lock.tryLock(permitWaitSeconds, TimeUnit.SECONDS);
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private RegBaseUncheckedException busy(String jobId, JobConcurrencyPolicy policy, String resource) {
+		LOGGER.info(LoggerConstants.BASE_JOB_TITLE, APPLICATION_NAME, APPLICATION_ID,
+				"Job " + jobId + " (" + policy + " " + resource + ") is held back by the running jobs");
+		return new RegBaseUncheckedException(RegistrationExceptionConstants.REG_SYNC_JOB_BUSY.getErrorCode(),
+				String.format(RegistrationExceptionConstants.REG_SYNC_JOB_BUSY.getErrorMessage(), jobId));
+	}
+
+	/**
+	 * @return the execution of the job run by the current thread, or null if the
+	 *         thread is not running a job
+	 */
+	public static JobExecution getCurrentExecution() {
+		return CURRENT_EXECUTION.get();
+	}
+
+	/**
+	 * Timing of a job execution
+	 */
+	public static class JobExecution {
+
+		private final String jobId;
+
+		private final long queuedAt;
+
+		private final long startedAt;
+
+		private JobExecution(String jobId, long queuedAt, long startedAt) {
+			this.jobId = jobId;
+			this.queuedAt = queuedAt;
+			this.startedAt = startedAt;
+		}
+
+		public String getJobId() {
+			return jobId;
+		}
+
+		/**
+		 * @return the time the job waited for the other jobs before it started
+		 */
+		public long getQueueWaitMillis() {
+			return startedAt - queuedAt;
+		}
+
+		/**
+		 * @return the time the job has run since it started
+		 */
+		public long getRunMillis() {
+			return System.currentTimeMillis() - startedAt;
+		}
+	}
+}
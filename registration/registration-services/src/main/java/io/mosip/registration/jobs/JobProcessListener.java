@@ -1,5 +1,7 @@
 package io.mosip.registration.jobs;
 
+import java.util.concurrent.TimeUnit;
+
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.quartz.listeners.JobListenerSupport;
@@ -12,6 +14,7 @@ import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.LoggerConstants;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.exception.RegBaseUncheckedException;
+import io.mosip.registration.util.metrics.MetricsRegistry;
 
 /**
  * This class gives the information of job process like the jobs to be executed
@@ -37,6 +40,12 @@ public class JobProcessListener extends JobListenerSupport {
 	@Autowired
 	private SyncManager syncTransactionManager;
 
+	/**
+	 * Records the run time of the scheduled jobs, which are not Spring proxied
+	 */
+	@Autowired
+	private MetricsRegistry metricsRegistry;
+
 	/**
 	 * LOGGER for logging
 	 */
@@ -59,7 +68,7 @@ public class JobProcessListener extends JobListenerSupport {
 	 * JobExecutionContext)
 	 */
 	@Override
-	public synchronized void jobToBeExecuted(JobExecutionContext context) {
+	public void jobToBeExecuted(JobExecutionContext context) {
 
 		LOGGER.info(LoggerConstants.BATCH_JOBS_PROCESS_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "Job to be executed started");
@@ -92,7 +101,7 @@ public class JobProcessListener extends JobListenerSupport {
 	 * JobExecutionContext, org.quartz.JobExecutionException)
 	 */
 	@Override
-	public synchronized void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
+	public void jobWasExecuted(JobExecutionContext context, JobExecutionException jobException) {
 		LOGGER.info(LoggerConstants.BATCH_JOBS_PROCESS_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "Job was executed started");
 
@@ -108,6 +117,12 @@ public class JobProcessListener extends JobListenerSupport {
 					regBaseUncheckedException.getMessage() + ExceptionUtils.getStackTrace(regBaseUncheckedException));
 		}
 
+		metricsRegistry.recordTime("job.scheduled." + context.getJobDetail().getKey().getName(),
+				context.getJobRunTime(), TimeUnit.MILLISECONDS);
+		if (jobException != null) {
+			metricsRegistry.increment("job.scheduled." + context.getJobDetail().getKey().getName() + ".errors");
+		}
+
 		LOGGER.info(LoggerConstants.BATCH_JOBS_PROCESS_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "Job was executed ended");
 
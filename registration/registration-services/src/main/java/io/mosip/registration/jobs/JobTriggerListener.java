@@ -50,7 +50,7 @@ public class JobTriggerListener extends TriggerListenerSupport {
 	private static final Logger LOGGER = AppConfig.getLogger(JobTriggerListener.class);
 
 	@Override
-	public synchronized void triggerMisfired(Trigger trigger) {
+	public void triggerMisfired(Trigger trigger) {
 
 		LOGGER.info(LoggerConstants.BATCH_JOBS_TRIGGER_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "trigger misfired started");
@@ -80,7 +80,7 @@ public class JobTriggerListener extends TriggerListenerSupport {
 	}
 
 	@Override
-	public synchronized void triggerFired(Trigger trigger, JobExecutionContext context) {
+	public void triggerFired(Trigger trigger, JobExecutionContext context) {
 
 		LOGGER.info(LoggerConstants.BATCH_JOBS_TRIGGER_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "trigger fired started");
@@ -102,7 +102,7 @@ public class JobTriggerListener extends TriggerListenerSupport {
 	}
 
 	@Override
-	public synchronized void triggerComplete(Trigger trigger, JobExecutionContext context,
+	public void triggerComplete(Trigger trigger, JobExecutionContext context,
 			CompletedExecutionInstruction triggerInstructionCode) {
 
 		LOGGER.info(LoggerConstants.BATCH_JOBS_TRIGGER_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
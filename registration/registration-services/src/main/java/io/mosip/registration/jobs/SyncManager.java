@@ -31,6 +31,25 @@ public interface SyncManager {
 	 */
 	public SyncTransaction createSyncTransaction(String status, String statusComment, String triggerPoint,
 			String syncJobId);
+
+	/**
+	 * To create a new transaction in sync transaction table with the parameters
+	 * of the sync
+	 * 
+	 * @param status
+	 *            of Job
+	 * @param statusComment
+	 *            of job
+	 * @param triggerPoint
+	 *            information system/User
+	 * @param syncJobId
+	 *            information of job
+	 * @param syncParam
+	 *            parameters of the sync, such as the time the job waited and ran
+	 * @return last inserted sync transaction
+	 */
+	public SyncTransaction createSyncTransaction(String status, String statusComment, String triggerPoint,
+			String syncJobId, String syncParam);
 	
 	/**
 	 * @param syncTransaction
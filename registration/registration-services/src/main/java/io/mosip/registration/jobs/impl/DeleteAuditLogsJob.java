@@ -61,6 +61,11 @@ public class DeleteAuditLogsJob extends BaseJob {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(DeleteAuditLogsJob.class);
 
+	@Override
+	public String getConcurrencyResource() {
+		return PACKETS_RESOURCE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
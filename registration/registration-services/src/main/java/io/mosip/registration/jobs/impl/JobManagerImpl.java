@@ -41,18 +41,18 @@ public class JobManagerImpl implements JobManager {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(JobManagerImpl.class);
 
-	public synchronized String getJobId(JobExecutionContext context) {
+	public String getJobId(JobExecutionContext context) {
 
 		return getJobId(context.getJobDetail());
 	}
 
-	public synchronized String getJobId(JobDetail jobDetail) {
+	public String getJobId(JobDetail jobDetail) {
 
 		return jobDetail.getKey().getName();
 	}
 
 	@Override
-	public synchronized String getJobId(Trigger trigger) {
+	public String getJobId(Trigger trigger) {
 		return getJobId((JobDetail) trigger.getJobDataMap().get(RegistrationConstants.JOB_DETAIL));
 	}
 
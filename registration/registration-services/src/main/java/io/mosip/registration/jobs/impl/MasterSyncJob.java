@@ -17,6 +17,7 @@ import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.jobs.BaseJob;
+import io.mosip.registration.jobs.JobConcurrencyPolicy;
 import io.mosip.registration.service.sync.MasterSyncService;
 
 /**
@@ -50,6 +51,15 @@ public class MasterSyncJob extends BaseJob {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(MasterSyncJob.class);
 
+	/**
+	 * The master data the other jobs read is replaced, so no other job runs
+	 * alongside.
+	 */
+	@Override
+	public JobConcurrencyPolicy getConcurrencyPolicy() {
+		return JobConcurrencyPolicy.EXCLUSIVE;
+	}
+
 	/**
 	 * Execute internal.
 	 *
@@ -56,6 +56,11 @@ public class PacketSyncStatusJob extends BaseJob {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(PacketSyncStatusJob.class);
 
+	@Override
+	public String getConcurrencyResource() {
+		return PACKETS_RESOURCE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -47,6 +47,11 @@ public class PreRegistrationDataSyncJob extends BaseJob {
 
 	private static final Logger LOGGER = AppConfig.getLogger(PreRegistrationDataSyncJob.class);
 
+	@Override
+	public String getConcurrencyResource() {
+		return PRE_REGISTRATION_RESOURCE;
+	}
+
 	@Autowired
 	PreRegistrationDataSyncService preRegistrationDataSyncService;
 
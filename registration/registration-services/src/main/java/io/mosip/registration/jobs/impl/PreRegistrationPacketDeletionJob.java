@@ -50,6 +50,11 @@ public class PreRegistrationPacketDeletionJob extends BaseJob {
 
 	private static final Logger LOGGER = AppConfig.getLogger(PreRegistrationPacketDeletionJob.class);
 
+	@Override
+	public String getConcurrencyResource() {
+		return PRE_REGISTRATION_RESOURCE;
+	}
+
 	@Autowired
 	private PreRegistrationDataSyncService preRegistrationDataSyncService;
 
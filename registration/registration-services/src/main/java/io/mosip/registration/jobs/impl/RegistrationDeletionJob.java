@@ -46,6 +46,11 @@ public class RegistrationDeletionJob extends BaseJob {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(RegistrationDeletionJob.class);
 
+	@Override
+	public String getConcurrencyResource() {
+		return PACKETS_RESOURCE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
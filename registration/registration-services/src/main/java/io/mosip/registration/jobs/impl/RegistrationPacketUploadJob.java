@@ -47,6 +47,11 @@ public class RegistrationPacketUploadJob extends BaseJob {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(RegistrationPacketSyncJob.class);
 
+	@Override
+	public String getConcurrencyResource() {
+		return PACKETS_RESOURCE;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -12,6 +12,7 @@ import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.jobs.BaseJob;
+import io.mosip.registration.jobs.JobConcurrencyPolicy;
 import io.mosip.registration.service.packet.RegistrationPacketVirusScanService;
 
 /**
@@ -46,6 +47,15 @@ public class RegistrationPacketVirusScanJob extends BaseJob {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(RegistrationPacketVirusScanJob.class);
 
+	/**
+	 * The scan only reads the files and the scans themselves run in turn, so it
+	 * does not hold back the other jobs.
+	 */
+	@Override
+	public JobConcurrencyPolicy getConcurrencyPolicy() {
+		return JobConcurrencyPolicy.PARALLEL;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -1,7 +1,9 @@
 package io.mosip.registration.jobs.impl;
 
 import java.sql.Timestamp;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -52,6 +54,9 @@ public class SyncManagerImpl extends BaseService implements SyncManager {
 	 */
 	private static final Logger LOGGER = AppConfig.getLogger(SyncManagerImpl.class);
 
+	/** Locks the sync control of a job while it is read and written */
+	private final Map<String, Object> syncControlLocks = new ConcurrentHashMap<>();
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -60,7 +65,14 @@ public class SyncManagerImpl extends BaseService implements SyncManager {
 	 * registration.entity.SyncTransaction)
 	 */
 	@Override
-	public synchronized SyncControl createSyncControlTransaction(final SyncTransaction syncTransaction) {
+	public SyncControl createSyncControlTransaction(final SyncTransaction syncTransaction) {
+		synchronized (syncControlLocks.computeIfAbsent(String.valueOf(syncTransaction.getSyncJobId()),
+				syncJobId -> new Object())) {
+			return saveSyncControl(syncTransaction);
+		}
+	}
+
+	private SyncControl saveSyncControl(final SyncTransaction syncTransaction) {
 
 		SyncControl syncControl = syncJobDAO.findBySyncJobId(syncTransaction.getSyncJobId());
 
@@ -102,8 +114,21 @@ public class SyncManagerImpl extends BaseService implements SyncManager {
 	 * String, java.lang.String, java.lang.String, java.lang.String)
 	 */
 	@Override
-	public synchronized SyncTransaction createSyncTransaction(final String status, final String statusComment,
+	public SyncTransaction createSyncTransaction(final String status, final String statusComment,
 			final String triggerPoint, final String syncJobId) {
+		return createSyncTransaction(status, statusComment, triggerPoint, syncJobId, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.jobs.SyncManager#createSyncTransaction(java.lang.
+	 * String, java.lang.String, java.lang.String, java.lang.String,
+	 * java.lang.String)
+	 */
+	@Override
+	public SyncTransaction createSyncTransaction(final String status, final String statusComment,
+			final String triggerPoint, final String syncJobId, final String syncParam) {
 		LOGGER.info(LoggerConstants.BATCH_JOBS_SYNC_TRANSC_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
 				RegistrationConstants.APPLICATION_ID, "Create Sync Transaction started");
 
@@ -121,6 +146,8 @@ public class SyncManagerImpl extends BaseService implements SyncManager {
 
 			syncTransaction.setTriggerPoint(triggerPoint);
 
+			syncTransaction.setSyncParam(syncParam);
+
 			syncTransaction.setSyncFrom(RegistrationSystemPropertiesChecker.getMachineId());
 
 			syncTransaction.setSyncTo(RegistrationConstants.JOB_SYNC_TO_SERVER);
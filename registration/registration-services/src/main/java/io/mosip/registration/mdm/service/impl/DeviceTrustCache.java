@@ -0,0 +1,120 @@
+package io.mosip.registration.mdm.service.impl;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.LoggerConstants;
+
+/**
+ * Device certificate chains found trusted in a trust domain.
+ * <p>
+ * A chain is identified by the thumbprint of the certificates in the x5c
+ * header of the signed MDS response and by the trust domain. Once a response
+ * signed with the chain has passed the trust validation, the responses signed
+ * with the same chain only need their signature verified until the entry
+ * expires, after mosip.registration.mdm.trust.cache.expiry.seconds, or the CA
+ * certificates are synced again. An expiry of 0 turns the cache off.
+ * </p>
+ */
+@Component
+public class DeviceTrustCache {
+
+	private static final Logger LOGGER = AppConfig.getLogger(DeviceTrustCache.class);
+
+	private static final String X5C = "x5c";
+
+	@Value("${mosip.registration.mdm.trust.cache.expiry.seconds:3600}")
+	private long expirySeconds;
+
+	private final ObjectMapper mapper = new ObjectMapper();
+
+	/** Expiry time in millis of each trusted chain */
+	private final Map<String, Long> trustedChains = new ConcurrentHashMap<>();
+
+	/**
+	 * @param signedData
+	 *            the signed MDS response, in JWS compact serialization
+	 * @param domain
+	 *            the trust domain
+	 * @return the key of the certificate chain the response is signed with, or
+	 *         null if the cache is off or the response has no chain
+	 */
+	public String getChainKey(String signedData, String domain) {
+		if (expirySeconds <= 0 || signedData == null) {
+			return null;
+		}
+		int headerEnd = signedData.indexOf('.');
+		if (headerEnd <= 0) {
+			return null;
+		}
+		try {
+			JsonNode header = mapper.readTree(Base64.getUrlDecoder().decode(signedData.substring(0, headerEnd)));
+			JsonNode chain = header.get(X5C);
+			if (chain == null || !chain.isArray() || chain.size() == 0) {
+				return null;
+			}
+			StringBuilder certificates = new StringBuilder(domain);
+			chain.forEach(certificate -> certificates.append('.').append(certificate.asText()));
+			return DigestUtils.sha256Hex(certificates.toString().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException | IllegalArgumentException exception) {
+			LOGGER.debug(LoggerConstants.MOSIP_BIO_DEVICE_MANAGER, APPLICATION_NAME, APPLICATION_ID,
+					"No certificate chain in the MDS response header : " + exception.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * @param chainKey
+	 *            the key of the certificate chain
+	 * @return whether the chain was found trusted and the entry is not expired
+	 */
+	public boolean isTrusted(String chainKey) {
+		if (chainKey == null) {
+			return false;
+		}
+		Long expiresAt = trustedChains.get(chainKey);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (expiresAt < System.currentTimeMillis()) {
+			trustedChains.remove(chainKey, expiresAt);
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @param chainKey
+	 *            the key of the certificate chain found trusted
+	 */
+	public void trust(String chainKey) {
+		if (chainKey != null) {
+			trustedChains.put(chainKey, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(expirySeconds));
+		}
+	}
+
+	/**
+	 * Drops all the trusted chains, to be called when the CA certificates change
+	 */
+	public void invalidateAll() {
+		trustedChains.clear();
+		LOGGER.info(LoggerConstants.MOSIP_BIO_DEVICE_MANAGER, APPLICATION_NAME, APPLICATION_ID,
+				"Device certificate trust cache cleared");
+	}
+}
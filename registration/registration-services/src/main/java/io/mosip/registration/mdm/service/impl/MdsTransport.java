@@ -0,0 +1,227 @@
+package io.mosip.registration.mdm.service.impl;
+
+import static io.mosip.registration.constants.LoggerConstants.MOSIP_BIO_DEVICE_INTEGERATOR;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.http.Consts;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+
+/**
+ * HTTP transport of the requests to the MDS.
+ * <p>
+ * The requests of all the spec versions share one client, whose connections
+ * to each device port are pooled and kept alive between the device info,
+ * capture and stream requests, instead of a new client and connection per
+ * request. Requests are written and responses read as JSON with the mapper of
+ * {@link MosipDeviceSpecificationHelper}, the responses straight from the
+ * connection without buffering them in a String first.
+ * </p>
+ * <p>
+ * Connecting, waiting for a pooled connection and every read are bounded, so
+ * a device which stops responding fails the request instead of holding the
+ * capture. The read timeout is to be longer than the capture timeout sent to
+ * the device.
+ * </p>
+ */
+@Component
+public class MdsTransport {
+
+	private static final Logger LOGGER = AppConfig.getLogger(MdsTransport.class);
+
+	/** Content type the MDS requests have always been sent with */
+	private static final ContentType REQUEST_CONTENT_TYPE = ContentType.create("Content-Type", Consts.UTF_8);
+
+	@Autowired
+	private MosipDeviceSpecificationHelper mosipDeviceSpecificationHelper;
+
+	@Value("${mosip.registration.mdm.connection.max.per.device:4}")
+	private int maxConnectionsPerDevice;
+
+	@Value("${mosip.registration.mdm.connection.idle.timeout.seconds:30}")
+	private int idleTimeoutSeconds;
+
+	@Value("${mosip.registration.mdm.connect.timeout.seconds:10}")
+	private int connectTimeoutSeconds;
+
+	@Value("${mosip.registration.mdm.connection.request.timeout.seconds:10}")
+	private int connectionRequestTimeoutSeconds;
+
+	@Value("${mosip.registration.mdm.socket.timeout.seconds:120}")
+	private int socketTimeoutSeconds;
+
+	private PoolingHttpClientConnectionManager connectionManager;
+
+	private CloseableHttpClient httpClient;
+
+	@PostConstruct
+	public void init() {
+		connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setDefaultMaxPerRoute(maxConnectionsPerDevice);
+		connectionManager.setMaxTotal(maxConnectionsPerDevice * 8);
+		/* MDS may close an idle connection on its side, check before reusing it */
+		connectionManager.setValidateAfterInactivity(1000);
+		RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectTimeout((int) TimeUnit.SECONDS.toMillis(connectTimeoutSeconds))
+				.setConnectionRequestTimeout((int) TimeUnit.SECONDS.toMillis(connectionRequestTimeoutSeconds))
+				.setSocketTimeout((int) TimeUnit.SECONDS.toMillis(socketTimeoutSeconds)).build();
+		httpClient = HttpClients.custom().setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.setKeepAliveStrategy(DefaultConnectionKeepAliveStrategy.INSTANCE)
+				.evictIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS).build();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		try {
+			httpClient.close();
+		} catch (IOException exception) {
+			LOGGER.error(MOSIP_BIO_DEVICE_INTEGERATOR, APPLICATION_NAME, APPLICATION_ID,
+					"Failed to close the MDS connections : " + ExceptionUtils.getStackTrace(exception));
+		}
+	}
+
+	/**
+	 * Sends the request and reads the JSON response
+	 *
+	 * @param method
+	 *            the MDS method, such as RCAPTURE
+	 * @param url
+	 *            the URL of the device endpoint
+	 * @param request
+	 *            the request, written as JSON unless already a JSON String, or
+	 *            null for no body
+	 * @param responseType
+	 *            the type of the response
+	 * @return the response, or null if it has no body
+	 * @throws IOException
+	 */
+	public <T> T execute(String method, String url, Object request, Class<T> responseType) throws IOException {
+		return execute(method, url, request, getMapper().constructType(responseType));
+	}
+
+	/**
+	 * Sends the request and reads the JSON response
+	 *
+	 * @param method
+	 *            the MDS method, such as MOSIPDISC
+	 * @param url
+	 *            the URL of the device endpoint
+	 * @param request
+	 *            the request, written as JSON unless already a JSON String, or
+	 *            null for no body
+	 * @param responseType
+	 *            the type of the response
+	 * @return the response, or null if it has no body
+	 * @throws IOException
+	 */
+	public <T> T execute(String method, String url, Object request, TypeReference<T> responseType)
+			throws IOException {
+		return execute(method, url, request, getMapper().getTypeFactory().constructType(responseType));
+	}
+
+	/**
+	 * Sends the request and reads the response as a String
+	 *
+	 * @param method
+	 *            the MDS method, such as MOSIPDINFO
+	 * @param url
+	 *            the URL of the device endpoint
+	 * @return the response, or null if it has no body
+	 * @throws IOException
+	 */
+	public String executeForString(String method, String url) throws IOException {
+		try (CloseableHttpResponse response = httpClient.execute(buildRequest(method, url, null))) {
+			HttpEntity entity = response.getEntity();
+			return entity == null ? null : EntityUtils.toString(entity);
+		}
+	}
+
+	/**
+	 * Sends the request and returns the response body as it arrives, such as
+	 * the frames of a stream. Closing the returned stream closes the
+	 * connection, as the response never ends.
+	 *
+	 * @param method
+	 *            the MDS method, such as STREAM
+	 * @param url
+	 *            the URL of the device endpoint
+	 * @param request
+	 *            the request, written as JSON unless already a JSON String
+	 * @return the response body, or null if it has none
+	 * @throws IOException
+	 */
+	public InputStream open(String method, String url, Object request) throws IOException {
+		CloseableHttpResponse response = httpClient.execute(buildRequest(method, url, request));
+		HttpEntity entity = response.getEntity();
+		if (entity == null) {
+			response.close();
+			return null;
+		}
+		return new FilterInputStream(entity.getContent()) {
+			@Override
+			public void close() throws IOException {
+				/* Closing the response without reading it to the end drops the connection */
+				response.close();
+			}
+		};
+	}
+
+	public ObjectMapper getMapper() {
+		return mosipDeviceSpecificationHelper.getMapper();
+	}
+
+	private <T> T execute(String method, String url, Object request, JavaType responseType) throws IOException {
+		try (CloseableHttpResponse response = httpClient.execute(buildRequest(method, url, request))) {
+			HttpEntity entity = response.getEntity();
+			if (entity == null) {
+				return null;
+			}
+			/* The connection goes back to the pool once the content is read and closed */
+			try (InputStream content = entity.getContent()) {
+				return getMapper().readValue(content, responseType);
+			}
+		}
+	}
+
+	private HttpUriRequest buildRequest(String method, String url, Object request) throws IOException {
+		RequestBuilder requestBuilder = RequestBuilder.create(method).setUri(url);
+		if (request != null) {
+			/* A request already written, such as for the log, is sent as it is */
+			byte[] body = request instanceof String ? ((String) request).getBytes(Consts.UTF_8)
+					: getMapper().writeValueAsBytes(request);
+			requestBuilder.setEntity(new ByteArrayEntity(body, REQUEST_CONTENT_TYPE));
+		}
+		return requestBuilder.build();
+	}
+}
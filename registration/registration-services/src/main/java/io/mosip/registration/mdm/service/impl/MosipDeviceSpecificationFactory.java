@@ -18,12 +18,10 @@ import io.mosip.kernel.signature.dto.JWTSignatureVerifyRequestDto;
 import io.mosip.kernel.signature.dto.JWTSignatureVerifyResponseDto;
 import io.mosip.kernel.signature.service.SignatureService;
 import io.mosip.registration.exception.DeviceException;
-import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -72,6 +70,9 @@ public class MosipDeviceSpecificationFactory {
 	@Autowired
 	private MosipDeviceSpecificationHelper mosipDeviceSpecificationHelper;
 
+	@Autowired
+	private MdsTransport mdsTransport;
+
 	private int portFrom;
 	private int portTo;
 
@@ -292,14 +293,10 @@ public class MosipDeviceSpecificationFactory {
 	}
 
 	private String getDeviceInfoResponse(String url) {
-		HttpUriRequest request = RequestBuilder.create("MOSIPDINFO").setUri(url).build();
-		CloseableHttpClient client = HttpClients.createDefault();
-		CloseableHttpResponse clientResponse = null;
 		String response = null;
 
 		try {
-			clientResponse = client.execute(request);
-			response = EntityUtils.toString(clientResponse.getEntity());
+			response = mdsTransport.executeForString("MOSIPDINFO", url);
 		} catch (IOException exception) {
 			LOGGER.error(MOSIP_BIO_DEVICE_INTEGERATOR, APPLICATION_NAME, APPLICATION_ID,
 					ExceptionUtils.getStackTrace(exception));
@@ -16,6 +16,7 @@ import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.mdm.dto.Biometric;
 import io.mosip.registration.mdm.dto.MDMError;
 import io.mosip.registration.mdm.dto.MdmDeviceInfo;
+import org.apache.commons.io.input.CharSequenceInputStream;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -23,6 +24,8 @@ import org.springframework.stereotype.Component;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -45,6 +48,9 @@ public class MosipDeviceSpecificationHelper {
 	@Autowired
 	private SignatureService signatureService;
 
+	@Autowired
+	private DeviceTrustCache deviceTrustCache;
+
 	@Value("${mosip.registration.mdm.trust.domain.rcapture:DEVICE}")
 	private String rCaptureTrustDomain;
 
@@ -71,11 +77,41 @@ public class MosipDeviceSpecificationHelper {
 				RegistrationExceptionConstants.MDS_PAYLOAD_EMPTY.getErrorMessage());
 	}
 
+	/**
+	 * Reads the JSON payload of the signed MDS response, decoding it as it is
+	 * parsed rather than into an intermediate String
+	 *
+	 * @param data
+	 *            the signed response, in JWS compact serialization
+	 * @param payloadType
+	 *            the type of the payload
+	 * @return the payload
+	 * @throws RegBaseCheckedException
+	 *             if the response has no payload
+	 * @throws IOException
+	 *             if the payload can not be parsed
+	 */
+	public <T> T getPayLoad(String data, Class<T> payloadType) throws RegBaseCheckedException, IOException {
+		if (data == null || data.isEmpty()) {
+			throw new RegBaseCheckedException(RegistrationExceptionConstants.MDS_JWT_INVALID.getErrorCode(),
+					RegistrationExceptionConstants.MDS_JWT_INVALID.getErrorMessage());
+		}
+		int payloadStart = data.indexOf('.') + 1;
+		int payloadEnd = data.lastIndexOf('.');
+		if (payloadStart == 0 || payloadEnd < payloadStart) {
+			throw new RegBaseCheckedException(RegistrationExceptionConstants.MDS_PAYLOAD_EMPTY.getErrorCode(),
+					RegistrationExceptionConstants.MDS_PAYLOAD_EMPTY.getErrorMessage());
+		}
+		try (InputStream payload = Base64.getUrlDecoder().wrap(new CharSequenceInputStream(
+				CharBuffer.wrap(data, payloadStart, payloadEnd), StandardCharsets.US_ASCII))) {
+			return mapper.readValue(payload, payloadType);
+		}
+	}
+
 	public MdmDeviceInfo getDeviceInfoDecoded(String deviceInfo) {
 		try {
 			validateJWTResponse(deviceInfo, deviceInfoTrustDomain);
-			String result = new String(Base64.getUrlDecoder().decode(getPayLoad(deviceInfo)));
-			return mapper.readValue(result, MdmDeviceInfo.class);
+			return getPayLoad(deviceInfo, MdmDeviceInfo.class);
 		} catch (Exception exception) {
 			LOGGER.error(APPLICATION_ID, APPLICATION_NAME, "Failed to decode device info",
 					ExceptionUtils.getStackTrace(exception));
@@ -83,9 +119,22 @@ public class MosipDeviceSpecificationHelper {
 		return null;
 	}
 
+	/**
+	 * Verifies the signature of the MDS response and that the certificate chain
+	 * it is signed with is trusted in the domain. The trust of a chain is only
+	 * validated again once its {@link DeviceTrustCache} entry is gone.
+	 *
+	 * @param signedData
+	 *            the signed response
+	 * @param domain
+	 *            the trust domain
+	 * @throws DeviceException
+	 *             if the signature is not valid or the chain is not trusted
+	 */
 	public void validateJWTResponse(final String signedData, final String domain) throws DeviceException {
+		String chainKey = deviceTrustCache.getChainKey(signedData, domain);
 		JWTSignatureVerifyRequestDto jwtSignatureVerifyRequestDto = new JWTSignatureVerifyRequestDto();
-		jwtSignatureVerifyRequestDto.setValidateTrust(true);
+		jwtSignatureVerifyRequestDto.setValidateTrust(!deviceTrustCache.isTrusted(chainKey));
 		jwtSignatureVerifyRequestDto.setDomain(domain);
 		jwtSignatureVerifyRequestDto.setJwtSignatureData(signedData);
 		JWTSignatureVerifyResponseDto jwtSignatureVerifyResponseDto = signatureService
@@ -99,6 +148,10 @@ public class MosipDeviceSpecificationHelper {
 			throw new DeviceException(MDMError.MDM_CERT_PATH_TRUST_FAILED.getErrorCode(),
 					MDMError.MDM_CERT_PATH_TRUST_FAILED.getErrorMessage());
 		}
+
+		if (jwtSignatureVerifyRequestDto.getValidateTrust()) {
+			deviceTrustCache.trust(chainKey);
+		}
 	}
 
 	public String generateMDMTransactionId() {
@@ -6,22 +6,11 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Base64;
 import java.util.LinkedList;
 import java.util.List;
 
-import org.apache.http.Consts;
-import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.client.methods.RequestBuilder;
-import org.apache.http.entity.ContentType;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.util.EntityUtils;
 import org.assertj.core.util.Arrays;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,7 +19,6 @@ import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -46,6 +34,7 @@ import io.mosip.registration.mdm.dto.MDMRequestDto;
 import io.mosip.registration.mdm.dto.MdmBioDevice;
 import io.mosip.registration.mdm.dto.MdmDeviceInfo;
 import io.mosip.registration.mdm.integrator.MosipDeviceSpecificationProvider;
+import io.mosip.registration.mdm.service.impl.MdsTransport;
 import io.mosip.registration.mdm.service.impl.MosipDeviceSpecificationFactory;
 import io.mosip.registration.mdm.service.impl.MosipDeviceSpecificationHelper;
 import io.mosip.registration.mdm.spec_0_9_2.dto.request.DeviceDiscoveryRequest;
@@ -71,6 +60,9 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 	@Autowired
 	private MosipDeviceSpecificationHelper mosipDeviceSpecificationHelper;
 
+	@Autowired
+	private MdsTransport mdsTransport;
+
 	// TODO - remove, and use helper. as this leads to circular dependency
 	@Autowired
 	private MosipDeviceSpecificationFactory deviceSpecificationFactory;
@@ -139,27 +131,14 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 			streamRequestDTO.setDeviceId(bioDevice.getDeviceId());
 			streamRequestDTO.setDeviceSubId(getDeviceSubId(modality));
 
-			String request = new ObjectMapper().writeValueAsString(streamRequestDTO);
-
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Request for Stream...." + request);
-
-			CloseableHttpClient client = HttpClients.createDefault();
-			StringEntity requestEntity = new StringEntity(request, ContentType.create("Content-Type", Consts.UTF_8));
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Building Stream url...." + System.currentTimeMillis());
-			HttpUriRequest httpUriRequest = RequestBuilder.create("STREAM").setUri(url).setEntity(requestEntity)
-					.build();
+			String streamRequest = mdsTransport.getMapper().writeValueAsString(streamRequestDTO);
+			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Request for Stream...." + streamRequest);
 
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Requesting Stream url...." + System.currentTimeMillis());
-			CloseableHttpResponse response = client.execute(httpUriRequest);
+			InputStream urlStream = mdsTransport.open("STREAM", url, streamRequest);
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Request completed.... " + System.currentTimeMillis());
-
-			InputStream urlStream = null;
-			if (response.getEntity() != null) {
-				urlStream = response.getEntity().getContent();
-			}
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Stream Request Completed" + System.currentTimeMillis());
 			return urlStream;
@@ -191,29 +170,16 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Entering into Capture method....." + System.currentTimeMillis());
 
-			String requestBody = null;
-			ObjectMapper mapper = new ObjectMapper();
-			requestBody = mapper.writeValueAsString(rCaptureRequestDTO);
-
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Request for RCapture...." + requestBody);
+			String rCaptureRequest = mdsTransport.getMapper().writeValueAsString(rCaptureRequestDTO);
+			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Request for RCapture...." + rCaptureRequest);
 
-			CloseableHttpClient client = HttpClients.createDefault();
-			StringEntity requestEntity = new StringEntity(requestBody,
-					ContentType.create("Content-Type", Consts.UTF_8));
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Bulding capture url...." + System.currentTimeMillis());
-			HttpUriRequest request = RequestBuilder.create("RCAPTURE").setUri(url).setEntity(requestEntity).build();
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Requesting capture url...." + System.currentTimeMillis());
-			CloseableHttpResponse response = client.execute(request);
+			RCaptureResponseDTO captureResponse = mdsTransport.execute("RCAPTURE", url, rCaptureRequest,
+					RCaptureResponseDTO.class);
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Request completed.... " + System.currentTimeMillis());
 
-			String val = EntityUtils.toString(response.getEntity());
-
-			RCaptureResponseDTO captureResponse = mapper.readValue(val.getBytes(StandardCharsets.UTF_8),
-					RCaptureResponseDTO.class);
-
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Response Decode and leaving the method.... " + System.currentTimeMillis());
 
@@ -227,10 +193,8 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 						"Getting data payload of biometric" + System.currentTimeMillis());
 
 				mosipDeviceSpecificationHelper.validateJWTResponse(rCaptureResponseBiometricsDTO.getData(), rCaptureTrustDomain);
-				String payLoad = mosipDeviceSpecificationHelper.getPayLoad(rCaptureResponseBiometricsDTO.getData());
-
-				RCaptureResponseDataDTO dataDTO = mapper.readValue(new String(Base64.getUrlDecoder().decode(payLoad)),
-						RCaptureResponseDataDTO.class);
+				RCaptureResponseDataDTO dataDTO = mosipDeviceSpecificationHelper
+						.getPayLoad(rCaptureResponseBiometricsDTO.getData(), RCaptureResponseDataDTO.class);
 
 				LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 						"Parsed decoded payload" + System.currentTimeMillis());
@@ -333,9 +297,7 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 
 	private DigitalId getDigitalId(String digitalId) throws IOException, RegBaseCheckedException, DeviceException {
 		mosipDeviceSpecificationHelper.validateJWTResponse(digitalId, digitalIdTrustDomain);
-		return mosipDeviceSpecificationHelper.getMapper().readValue(
-				new String(Base64.getUrlDecoder().decode(mosipDeviceSpecificationHelper.getPayLoad(digitalId))),
-				DigitalId.class);
+		return mosipDeviceSpecificationHelper.getPayLoad(digitalId, DigitalId.class);
 	}
 
 	private static String getDevicCode(String deviceType) {
@@ -365,27 +327,12 @@ public class MosipDeviceSpecification_092_ProviderImpl implements MosipDeviceSpe
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
 					"Entering into Device availbale check....." + System.currentTimeMillis());
 
-			ObjectMapper mapper = new ObjectMapper();
-			String requestBody = mapper.writeValueAsString(deviceDiscoveryRequest);
-
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID, "Request for RCapture...." + requestBody);
-
-			CloseableHttpClient client = HttpClients.createDefault();
-			StringEntity requestEntity = new StringEntity(requestBody,
-					ContentType.create("Content-Type", Consts.UTF_8));
-			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"Bulding Device availbale check url...." + System.currentTimeMillis());
-
-			HttpUriRequest request = RequestBuilder.create("MOSIPDISC")
-					.setUri(mosipDeviceSpecificationHelper.buildUrl(mdmBioDevice.getPort(), "device"))
-					.setEntity(requestEntity).build();
-
-			CloseableHttpResponse response = client.execute(request);
+			List<DeviceDiscoveryMDSResponse> deviceList = mdsTransport.execute("MOSIPDISC",
+					mosipDeviceSpecificationHelper.buildUrl(mdmBioDevice.getPort(), "device"), deviceDiscoveryRequest,
+					new TypeReference<List<DeviceDiscoveryMDSResponse>>() {});
 
 			LOGGER.info(loggerClassName, APPLICATION_NAME, APPLICATION_ID,
-					"parsing device discovery response to 095 dto");
-			List<DeviceDiscoveryMDSResponse> deviceList = (mosipDeviceSpecificationHelper.getMapper().readValue(
-					EntityUtils.toString(response.getEntity()), new TypeReference<List<DeviceDiscoveryMDSResponse>>() {	}));
+					"parsed device discovery response to 092 dto");
 
 			isDeviceAvailable = deviceList.stream().anyMatch(resp ->
 					Arrays.asList(resp.getSpecVersion()).contains(SPEC_VERSION)
@@ -3,9 +3,11 @@ package io.mosip.registration.repositories;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
@@ -37,8 +39,6 @@ public interface RegAuditRepository extends BaseRepository<Audit, Long> {
 	@Query(value = "UPDATE AUDIT.APP_AUDIT_LOG a SET a.IS_SYNC = true WHERE a.LOG_ID IN :audits", nativeQuery = true)
 	int updateSyncAudits(@Param("audits") List<String> auditUUIDs);
 	
-	void deleteAllInBatchBycreatedAtBetween(LocalDateTime auditLogFromDtimes,LocalDateTime auditLogToDtimes);
-
 	/**
 	 * Retrieves the {@link Audit} which are logged after the input parameter
 	 * auditStartTime. The returned list is ordered by created time.
@@ -59,4 +59,80 @@ public interface RegAuditRepository extends BaseRepository<Audit, Long> {
 	
 	List<Audit> findByIdOrderByCreatedAtAsc(String registrationId);
 
+	/**
+	 * Retrieves a page of the {@link Audit} logged after the input parameter
+	 * createdAfter, newest first. The page at the offset of the maximum number of
+	 * audits to be read gives the oldest {@link Audit} within that maximum.
+	 * 
+	 * @param createdAfter
+	 *            the {@link Audit} will be fetched after this {@link LocalDateTime}
+	 * @param pageable
+	 *            the page to be fetched
+	 * @return the page of {@link Audit}
+	 */
+	@Query("select audit from Audit audit where audit.createdAt > :createdAfter order by audit.createdAt desc, audit.uuid desc")
+	List<Audit> findNewestCreatedAfter(@Param("createdAfter") LocalDateTime createdAfter, Pageable pageable);
+
+	/**
+	 * Retrieves the next page of the {@link Audit} logged after the input
+	 * parameter createdAfter, ordered by created time and UUID, following the
+	 * last {@link Audit} of the previous page.
+	 * 
+	 * @param createdAfter
+	 *            the {@link Audit} will be fetched after this {@link LocalDateTime}
+	 * @param lastCreatedAt
+	 *            the created time of the last {@link Audit} of the previous page
+	 * @param lastUuid
+	 *            the UUID of the last {@link Audit} of the previous page
+	 * @param pageable
+	 *            the size of the page
+	 * @return the page of {@link Audit}
+	 */
+	@Query("select audit from Audit audit where audit.createdAt > :createdAfter and (audit.createdAt > :lastCreatedAt or (audit.createdAt = :lastCreatedAt and audit.uuid > :lastUuid)) order by audit.createdAt asc, audit.uuid asc")
+	List<Audit> findCreatedAfterKeyset(@Param("createdAfter") LocalDateTime createdAfter,
+			@Param("lastCreatedAt") LocalDateTime lastCreatedAt, @Param("lastUuid") String lastUuid,
+			Pageable pageable);
+
+	/**
+	 * Retrieves the UUIDs of the oldest {@link Audit} logged at or before the
+	 * input parameter createdUpTo
+	 * 
+	 * @param createdUpTo
+	 *            the {@link Audit} logged at or before this {@link LocalDateTime}
+	 * @param pageable
+	 *            the number of UUIDs to be fetched
+	 * @return the UUIDs of the {@link Audit}
+	 */
+	@Query("select audit.uuid from Audit audit where audit.createdAt <= :createdUpTo order by audit.createdAt asc")
+	List<String> findUuidsCreatedUpTo(@Param("createdUpTo") LocalDateTime createdUpTo, Pageable pageable);
+
+	/**
+	 * Retrieves the UUIDs of the oldest {@link Audit} logged between the input
+	 * parameters
+	 * 
+	 * @param createdFrom
+	 *            the start time
+	 * @param createdTo
+	 *            the end time
+	 * @param pageable
+	 *            the number of UUIDs to be fetched
+	 * @return the UUIDs of the {@link Audit}
+	 */
+	@Query("select audit.uuid from Audit audit where audit.createdAt between :createdFrom and :createdTo order by audit.createdAt asc")
+	List<String> findUuidsCreatedBetween(@Param("createdFrom") LocalDateTime createdFrom,
+			@Param("createdTo") LocalDateTime createdTo, Pageable pageable);
+
+	/**
+	 * Deletes the {@link Audit} of the given UUIDs in a transaction of its own,
+	 * so the rows are locked only for the one statement
+	 * 
+	 * @param auditUUIDs
+	 *            the UUIDs of the {@link Audit} to be deleted
+	 * @return the number of records deleted
+	 */
+	@Transactional
+	@Modifying
+	@Query("delete from Audit audit where audit.uuid in :audits")
+	int deleteByUuids(@Param("audits") List<String> auditUUIDs);
+
 }
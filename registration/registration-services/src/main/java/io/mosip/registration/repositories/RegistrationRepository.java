@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 
 /**
  * The repository interface for {@link Registration}
@@ -21,6 +22,21 @@ import io.mosip.registration.entity.Registration;
  */
 public interface RegistrationRepository extends BaseRepository<Registration, String> {
 
+	/** Selects the columns of {@link RegistrationPacketView} */
+	String PACKET_VIEW = "select reg.id as id, reg.statusCode as statusCode, reg.ackFilename as ackFilename, "
+			+ "reg.clientStatusCode as clientStatusCode, reg.clientStatusComments as clientStatusComments, "
+			+ "reg.serverStatusCode as serverStatusCode, reg.fileUploadStatus as fileUploadStatus, "
+			+ "reg.additionalInfo as additionalInfo, reg.updDtimes as updDtimes from Registration reg ";
+
+	/**
+	 * {@link #PACKET_VIEW} with the creation time as the update time of a
+	 * registration which was never updated
+	 */
+	String PACKET_STATUS_VIEW = "select reg.id as id, reg.statusCode as statusCode, reg.ackFilename as ackFilename, "
+			+ "reg.clientStatusCode as clientStatusCode, reg.clientStatusComments as clientStatusComments, "
+			+ "reg.serverStatusCode as serverStatusCode, reg.fileUploadStatus as fileUploadStatus, "
+			+ "reg.additionalInfo as additionalInfo, coalesce(reg.updDtimes, reg.crDtime) as updDtimes from Registration reg ";
+
 	/**
 	 * This method returns the list of {@link Registration} based on provided id's.
 	 *
@@ -57,6 +73,46 @@ public interface RegistrationRepository extends BaseRepository<Registration, Str
 	 */
 	List<Registration> findByClientStatusCodeInOrderByUpdDtimesDesc(List<String> statusCodes);
 	
+	/**
+	 * Counts the registrations of the given client status codes.
+	 *
+	 * @param statusCodes
+	 *            the status codes
+	 * @return the count of registrations
+	 */
+	long countByClientStatusCodeIn(List<String> statusCodes);
+
+	/**
+	 * Counts the registrations of the given client status code.
+	 *
+	 * @param statusCode
+	 *            the status code
+	 * @return the count of registrations
+	 */
+	long countByClientStatusCode(String statusCode);
+
+	/**
+	 * Fetches the latest update time of the registrations of the given client
+	 * status codes.
+	 *
+	 * @param statusCodes
+	 *            the status codes
+	 * @return the latest update time, or null if there is no such registration
+	 */
+	@Query("select max(reg.updDtimes) from Registration reg where reg.clientStatusCode in :statusCodes")
+	Timestamp findLatestUpdDtimes(@Param("statusCodes") List<String> statusCodes);
+
+	/**
+	 * Fetches the creation time of the oldest registration of the given client
+	 * status code.
+	 *
+	 * @param statusCode
+	 *            the status code
+	 * @return the oldest creation time, or null if there is no such registration
+	 */
+	@Query("select min(reg.crDtime) from Registration reg where reg.clientStatusCode = :statusCode")
+	Timestamp findOldestCrDtime(@Param("statusCode") String statusCode);
+	
 	/**
 	 * To fetch the records for Packet Upload.
 	 *
@@ -152,14 +208,193 @@ public interface RegistrationRepository extends BaseRepository<Registration, Str
 
 	Registration findTopByOrderByUpdDtimesDesc();
 
+	/**
+	 * @return the latest update time of the registrations, the creation time for
+	 *         a registration which was never updated, null if there is none
+	 */
+	@Query("select max(coalesce(reg.updDtimes, reg.crDtime)) from Registration reg")
+	Timestamp findLatestUpdDtimes();
+
 	Slice<Registration> findByClientStatusCodeInAndUpdDtimesLessThanEqual(List<String> statusCodes, Timestamp updatedDtimes,
 																		  Pageable pageable);
 
 	Slice<Registration> findByClientStatusCodeOrClientStatusCommentsAndUpdDtimesLessThanEqual(String statusCode, String statusComments, Timestamp updatedDtimes,
 																							  Pageable pageable);
 
+	/**
+	 * Fetches the next page of uploaded or exported registrations updated on or
+	 * before the given time, ordered by update time and id. The page starts after
+	 * the last registration of the previous page, so the cost of a page does not
+	 * grow with the number of registrations already read. A registration which
+	 * was never updated is read by its creation time.
+	 *
+	 * @param statusCode
+	 *            the client status code
+	 * @param statusComments
+	 *            the client status comments
+	 * @param updatedDtimes
+	 *            the latest update time to be considered
+	 * @param lastUpdDtimes
+	 *            the update time of the last registration of the previous page
+	 * @param lastId
+	 *            the id of the last registration of the previous page
+	 * @param pageable
+	 *            the page size
+	 * @return the registrations of the page
+	 */
+	@Query(PACKET_STATUS_VIEW + "where (reg.clientStatusCode = :statusCode or reg.clientStatusComments = :statusComments) "
+			+ "and coalesce(reg.updDtimes, reg.crDtime) <= :updatedDtimes "
+			+ "and (coalesce(reg.updDtimes, reg.crDtime) > :lastUpdDtimes or (coalesce(reg.updDtimes, reg.crDtime) = :lastUpdDtimes and reg.id > :lastId)) "
+			+ "order by coalesce(reg.updDtimes, reg.crDtime) asc, reg.id asc")
+	List<RegistrationPacketView> findByClientStatusAfter(@Param("statusCode") String statusCode,
+			@Param("statusComments") String statusComments, @Param("updatedDtimes") Timestamp updatedDtimes,
+			@Param("lastUpdDtimes") Timestamp lastUpdDtimes, @Param("lastId") String lastId, Pageable pageable);
+
+	/**
+	 * Fetches the next page of registrations to be uploaded, ordered by id. The
+	 * registrations are those of {@link #findByStatusCodes}, and the page starts
+	 * after the last registration of the previous page.
+	 *
+	 * @param clientstatusCode
+	 *            the client status code of the synced registrations
+	 * @param exportstatusCode
+	 *            the client status code of the exported registrations
+	 * @param serverStatusCode
+	 *            the server status code of the registrations to be resent
+	 * @param fileUploadStatus
+	 *            the file upload status of the failed uploads
+	 * @param lastId
+	 *            the id of the last registration of the previous page, empty for
+	 *            the first page
+	 * @param pageable
+	 *            the page size
+	 * @return the registrations of the page
+	 */
+	@Query(PACKET_VIEW + "where (reg.clientStatusCode = :syncStatus or reg.clientStatusCode = :exportStatus and "
+			+ "(reg.serverStatusCode = :resendStatus or reg.serverStatusCode is null) or reg.fileUploadStatus = :fileUploadStatus) "
+			+ "and reg.id > :lastId order by reg.id asc")
+	List<RegistrationPacketView> findPacketsToUploadAfter(@Param("syncStatus") String clientstatusCode,
+			@Param("exportStatus") String exportstatusCode, @Param("resendStatus") String serverStatusCode,
+			@Param("fileUploadStatus") String fileUploadStatus, @Param("lastId") String lastId, Pageable pageable);
+
+	/**
+	 * Fetches the next page of registrations of the given client status codes
+	 * updated on or before the given time, ordered by id.
+	 *
+	 * @param statusCodes
+	 *            the client status codes
+	 * @param updatedDtimes
+	 *            the latest update time to be considered
+	 * @param lastId
+	 *            the id of the last registration of the previous page, empty for
+	 *            the first page
+	 * @param pageable
+	 *            the page size
+	 * @return the registrations of the page
+	 */
+	@Query(PACKET_VIEW + "where reg.clientStatusCode in :statusCodes and reg.updDtimes <= :updatedDtimes "
+			+ "and reg.id > :lastId order by reg.id asc")
+	List<RegistrationPacketView> findPacketsByClientStatusCodesAfter(@Param("statusCodes") List<String> statusCodes,
+			@Param("updatedDtimes") Timestamp updatedDtimes, @Param("lastId") String lastId, Pageable pageable);
+
+	/**
+	 * Fetches the registrations of the given client status codes, latest updated
+	 * first.
+	 *
+	 * @param statusCodes
+	 *            the client status codes
+	 * @return the registrations
+	 */
+	@Query(PACKET_VIEW + "where reg.clientStatusCode in :statusCodes order by reg.updDtimes desc")
+	List<RegistrationPacketView> findPacketsByClientStatusCodes(@Param("statusCodes") List<String> statusCodes);
+
+	/**
+	 * Fetches the next page of registrations of the given server status code
+	 * created before the given time, ordered by id.
+	 *
+	 * @param crDtimes
+	 *            the date upto which the registrations are fetched
+	 * @param serverStatusCode
+	 *            the server status code
+	 * @param lastId
+	 *            the id of the last registration of the previous page, empty for
+	 *            the first page
+	 * @param pageable
+	 *            the page size
+	 * @return the registrations of the page
+	 */
+	@Query(PACKET_VIEW + "where reg.crDtime < :crDtimes and reg.serverStatusCode = :serverStatusCode "
+			+ "and reg.id > :lastId order by reg.id asc")
+	List<RegistrationPacketView> findPacketsCreatedBeforeAfter(@Param("crDtimes") Timestamp crDtimes,
+			@Param("serverStatusCode") String serverStatusCode, @Param("lastId") String lastId, Pageable pageable);
+
+	/**
+	 * Fetches the next page of registrations of the given server status codes,
+	 * ordered by id.
+	 *
+	 * @param statusCodes
+	 *            the server status codes
+	 * @param lastId
+	 *            the id of the last registration of the previous page, empty for
+	 *            the first page
+	 * @param pageable
+	 *            the page size
+	 * @return the registrations of the page
+	 */
+	@Query(PACKET_VIEW + "where reg.serverStatusCode in :statusCodes and reg.id > :lastId order by reg.id asc")
+	List<RegistrationPacketView> findPacketsByServerStatusCodesAfter(@Param("statusCodes") List<String> statusCodes,
+			@Param("lastId") String lastId, Pageable pageable);
+
+	/**
+	 * Checks whether there is a registration of the given client status code.
+	 *
+	 * @param statusCode
+	 *            the client status code
+	 * @return whether there is such a registration
+	 */
+	boolean existsByClientStatusCode(String statusCode);
+
+	/**
+	 * Checks whether there is a registration of the given server status codes
+	 * which is not of the given client status codes.
+	 *
+	 * @param clientStatusCodes
+	 *            the client status codes
+	 * @param serverStatusCodes
+	 *            the server status codes
+	 * @return whether there is such a registration
+	 */
+	boolean existsByClientStatusCodeNotInAndServerStatusCodeIn(List<String> clientStatusCodes,
+			List<String> serverStatusCodes);
+
+	/**
+	 * Counts the registrations which are not of the given server status codes,
+	 * or have no server status yet, and are not of the given client status code.
+	 *
+	 * @param serverStatusCodes
+	 *            the server status codes
+	 * @param clientStatusCode
+	 *            the client status code
+	 * @return the count of registrations
+	 */
+	@Query("select count(reg) from Registration reg where (reg.serverStatusCode not in :serverStatusCodes "
+			+ "or reg.serverStatusCode is null) and reg.clientStatusCode <> :clientStatusCode")
+	long countByServerStatusCodeNotInAndClientStatusCodeNot(@Param("serverStatusCodes") List<String> serverStatusCodes,
+			@Param("clientStatusCode") String clientStatusCode);
+
 	@Modifying
 	@Query("update Registration set serverStatusCode=:serverStatus, serverStatusTimestamp=:updatedOn where id=:registrationId")
 	void updateRegistrationServerStatus(@Param("registrationId") String registrationId,
 										@Param("serverStatus") String serverStatus, @Param("updatedOn") Timestamp updatedOn);
+
+	/**
+	 * Deletes the registrations of the given ids in a single statement.
+	 *
+	 * @param registrationIds
+	 *            the registration ids
+	 * @return the number of rows deleted
+	 */
+	@Modifying
+	@Query("delete from Registration reg where reg.id in :registrationIds")
+	int deleteByRegistrationIds(@Param("registrationIds") List<String> registrationIds);
 }
@@ -0,0 +1,15 @@
+package io.mosip.registration.repositories;
+
+import java.util.List;
+
+import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
+import io.mosip.registration.entity.SyncCheckpoint;
+
+/**
+ * Repository interface for {@link SyncCheckpoint} table
+ */
+public interface SyncCheckpointRepository extends BaseRepository<SyncCheckpoint, String> {
+
+	@Override
+	List<SyncCheckpoint> findAll();
+}
@@ -67,7 +67,7 @@ import io.mosip.registration.dto.RegistrationDataDto;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.dto.packetmanager.BiometricsDto;
-import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.service.config.GlobalParamService;
@@ -309,7 +309,7 @@ public class BaseService {
 	 *            the registration
 	 * @return the packet status DTO
 	 */
-	public PacketStatusDTO packetStatusDtoPreperation(Registration registration) {
+	public PacketStatusDTO packetStatusDtoPreperation(RegistrationPacketView registration) {
 		PacketStatusDTO statusDTO = new PacketStatusDTO();
 		statusDTO.setFileName(registration.getId());
 		statusDTO.setPacketClientStatus(registration.getClientStatusCode());
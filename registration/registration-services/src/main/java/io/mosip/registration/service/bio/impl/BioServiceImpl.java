@@ -9,11 +9,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 
 import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.mosip.commons.packet.constants.Biometric;
@@ -21,6 +31,7 @@ import io.mosip.commons.packet.constants.PacketManagerConstants;
 import io.mosip.kernel.biometrics.constant.BiometricFunction;
 import io.mosip.kernel.biometrics.constant.BiometricType;
 import io.mosip.kernel.biosdk.provider.factory.BioAPIFactory;
+import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
 import io.mosip.kernel.core.cbeffutil.entity.BIR;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -61,6 +72,16 @@ public class BioServiceImpl extends BaseService implements BioService {
 	@Autowired
 	private BioAPIFactory bioAPIFactory;
 
+	/**
+	 * Threads evaluating the quality of the biometrics of a capture with the SDK.
+	 * The default of 1 evaluates them in turn, more are only to be configured
+	 * for an SDK known to be thread safe.
+	 */
+	@Value("${mosip.registration.bio.quality.check.threads:1}")
+	private int qualityCheckThreads;
+
+	private ExecutorService qualityCheckExecutor;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -109,51 +130,129 @@ public class BioServiceImpl extends BaseService implements BioService {
 		MosipDeviceSpecificationProvider deviceSpecificationProvider = deviceSpecificationFactory
 				.getMdsProvider(bioDevice.getSpecVersion());
 
+		long captureStartTime = System.currentTimeMillis();
 		List<BiometricsDto> biometricsDtos = deviceSpecificationProvider.rCapture(bioDevice, mdmRequestDto);
+		long captureDuration = System.currentTimeMillis() - captureStartTime;
 
+		long qualityCheckStartTime = System.currentTimeMillis();
 		try {
 			for (BiometricsDto biometricsDto : biometricsDtos) {
 				if (biometricsDto != null
 						&& isQualityScoreMaxInclusive(String.valueOf(biometricsDto.getQualityScore()))) {
-					String checkSDKQualityScore = (String) ApplicationContext.map().getOrDefault(RegistrationConstants.QUALITY_CHECK_WITH_SDK, RegistrationConstants.DISABLE);
-					if (checkSDKQualityScore.equalsIgnoreCase(RegistrationConstants.ENABLE)) {
-						LOGGER.info(BIO_SERVICE, APPLICATION_NAME, APPLICATION_ID,
-								"Quality check with Biometric SDK flag is enabled..");
-
-						BiometricType biometricType = BiometricType
-								.fromValue(Biometric.getSingleTypeByAttribute(biometricsDto.getBioAttribute()).name());
-						BIR bir = buildBir(biometricsDto);
-						BIR[] birList = new BIR[] { bir };
-						Map<BiometricType, Float> scoreMap = bioAPIFactory
-								.getBioProvider(biometricType, BiometricFunction.QUALITY_CHECK)
-								.getModalityQuality(birList, null);
-
-						String updateQualityScore = (String) ApplicationContext.map().getOrDefault(RegistrationConstants.UPDATE_SDK_QUALITY_SCORE, RegistrationConstants.DISABLE);
-						if (updateQualityScore.equalsIgnoreCase(RegistrationConstants.ENABLE)) {
-							LOGGER.info(BIO_SERVICE, APPLICATION_NAME, APPLICATION_ID,
-									"Flag to update quality score evaluated from Biometric SDK is enabled");
-
-							biometricsDto.setQualityScore(scoreMap.get(biometricType));
-							
-							LOGGER.info(BIO_SERVICE, APPLICATION_NAME, APPLICATION_ID,
-									"Quality score is evaluated and assigned to biometricsDto");
-						}
-					}
 					list.add(biometricsDto);
 				}
 			}
+
+			String checkSDKQualityScore = (String) ApplicationContext.map().getOrDefault(RegistrationConstants.QUALITY_CHECK_WITH_SDK, RegistrationConstants.DISABLE);
+			if (!list.isEmpty() && checkSDKQualityScore.equalsIgnoreCase(RegistrationConstants.ENABLE)) {
+				LOGGER.info(BIO_SERVICE, APPLICATION_NAME, APPLICATION_ID,
+						"Quality check with Biometric SDK flag is enabled..");
+
+				String updateQualityScore = (String) ApplicationContext.map().getOrDefault(RegistrationConstants.UPDATE_SDK_QUALITY_SCORE, RegistrationConstants.DISABLE);
+				checkQualityWithSDK(list, updateQualityScore.equalsIgnoreCase(RegistrationConstants.ENABLE));
+			}
 		} catch (Exception exception) {
 			throw new RegBaseCheckedException(
 					RegistrationExceptionConstants.REG_BIOMETRIC_QUALITY_CHECK_ERROR.getErrorCode(),
 					RegistrationExceptionConstants.REG_BIOMETRIC_QUALITY_CHECK_ERROR.getErrorMessage()
 							+ ExceptionUtils.getStackTrace(exception));
 		}
+		long qualityCheckDuration = System.currentTimeMillis() - qualityCheckStartTime;
+
+		for (BiometricsDto biometricsDto : list) {
+			biometricsDto.setCaptureDuration(captureDuration);
+			biometricsDto.setQualityCheckDuration(qualityCheckDuration);
+		}
+
+		LOGGER.info(BIO_SERVICE, APPLICATION_NAME, APPLICATION_ID,
+				"Captured " + list.size() + " biometrics of " + mdmRequestDto.getModality() + ", device capture (ms) : "
+						+ captureDuration + ", quality check (ms) : " + qualityCheckDuration);
 
 		LOGGER.info(BIO_SERVICE, APPLICATION_NAME, APPLICATION_ID,
 				"Ended captureModality method.." + System.currentTimeMillis());
 		return list;
 	}
 
+	/**
+	 * Evaluates the quality of the captured biometrics with the Biometric SDK,
+	 * all the biometrics of the capture at once. The SDK provider is looked up
+	 * once for each biometric type of the capture.
+	 *
+	 * @param biometricsDtos
+	 *            the captured biometrics
+	 * @param updateQualityScore
+	 *            whether the quality score of the biometrics is replaced with
+	 *            the one evaluated by the SDK
+	 */
+	private void checkQualityWithSDK(List<BiometricsDto> biometricsDtos, boolean updateQualityScore)
+			throws Exception {
+		Map<BiometricType, iBioProviderApi> bioProviders = new EnumMap<>(BiometricType.class);
+		List<Callable<Float>> qualityChecks = new ArrayList<>();
+		for (BiometricsDto biometricsDto : biometricsDtos) {
+			BiometricType biometricType = BiometricType
+					.fromValue(Biometric.getSingleTypeByAttribute(biometricsDto.getBioAttribute()).name());
+			if (!bioProviders.containsKey(biometricType)) {
+				bioProviders.put(biometricType,
+						bioAPIFactory.getBioProvider(biometricType, BiometricFunction.QUALITY_CHECK));
+			}
+			iBioProviderApi bioProvider = bioProviders.get(biometricType);
+			BIR bir = buildBir(biometricsDto);
+			qualityChecks.add(
+					() -> bioProvider.getModalityQuality(new BIR[] { bir }, null).get(biometricType));
+		}
+
+		List<Float> qualityScores = new ArrayList<>();
+		if (qualityChecks.size() == 1 || qualityCheckThreads <= 1) {
+			for (Callable<Float> qualityCheck : qualityChecks) {
+				qualityScores.add(qualityCheck.call());
+			}
+		} else {
+			try {
+				for (Future<Float> qualityScore : getQualityCheckExecutor().invokeAll(qualityChecks)) {
+					qualityScores.add(qualityScore.get());
+				}
+			} catch (ExecutionException executionException) {
+				throw executionException.getCause() instanceof Exception ? (Exception) executionException.getCause()
+						: executionException;
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				throw interruptedException;
+			}
+		}
+
+		if (updateQualityScore) {
+			LOGGER.info(BIO_SERVICE, APPLICATION_NAME, APPLICATION_ID,
+					"Flag to update quality score evaluated from Biometric SDK is enabled");
+
+			for (int index = 0; index < biometricsDtos.size(); index++) {
+				biometricsDtos.get(index).setQualityScore(qualityScores.get(index));
+			}
+
+			LOGGER.info(BIO_SERVICE, APPLICATION_NAME, APPLICATION_ID,
+					"Quality score is evaluated and assigned to biometricsDto");
+		}
+	}
+
+	private synchronized ExecutorService getQualityCheckExecutor() {
+		if (qualityCheckExecutor == null) {
+			AtomicInteger threadCount = new AtomicInteger();
+			qualityCheckExecutor = Executors.newFixedThreadPool(qualityCheckThreads, runnable -> {
+				Thread thread = new Thread(runnable, "bio-quality-check-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return qualityCheckExecutor;
+	}
+
+	@PreDestroy
+	public synchronized void shutdownQualityCheckExecutor() {
+		if (qualityCheckExecutor != null) {
+			qualityCheckExecutor.shutdownNow();
+			qualityCheckExecutor = null;
+		}
+	}
+
 	private List<BiometricsDto> captureMockModality(MDMRequestDto mdmRequestDto, boolean isUserOnboarding)
 			throws RegBaseCheckedException {
 		LOGGER.info(LOG_REG_FINGERPRINT_FACADE, APPLICATION_NAME, APPLICATION_ID,
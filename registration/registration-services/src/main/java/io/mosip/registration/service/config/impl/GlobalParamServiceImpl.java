@@ -6,6 +6,7 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -187,18 +188,26 @@ public class GlobalParamServiceImpl extends BaseService implements GlobalParamSe
 
 						List<GlobalParam> globalParamList = globalParamDAO.getAllEntries();
 
-						isToBeRestarted = parseGlobalParam(isToBeRestarted, globalParamMap, globalParamList);
+						/* Changes to the application map, published together once saved */
+						Map<String, Object> applicationMapUpdates = new HashMap<>();
+						List<String> applicationMapRemovals = new ArrayList<>();
+
+						isToBeRestarted = parseGlobalParam(isToBeRestarted, globalParamMap, globalParamList,
+								applicationMapUpdates, applicationMapRemovals);
 
 						for (Entry<String, String> key : globalParamMap.entrySet()) {
 							createNew(key.getKey(), globalParamMap.get(key.getKey()), globalParamList);
 
 							isToBeRestarted = isPropertyRequireRestart(key.getKey());
 							/* Add in application map */
-							updateApplicationMap(key.getKey(), key.getValue());
+							applicationMapUpdates.put(key.getKey(), key.getValue());
 						}
 
 						/* Save all Global Params */
 						globalParamDAO.saveAll(globalParamList);
+
+						/* Publish the synced configuration as a single snapshot */
+						ApplicationContext.updateGlobalConfigValues(applicationMapUpdates, applicationMapRemovals);
 						if (isToBeRestarted) {
 							Map<String, Object> attributes = new HashMap<>();
 							attributes.put("Restart", RegistrationConstants.ENABLE);
@@ -230,7 +239,8 @@ public class GlobalParamServiceImpl extends BaseService implements GlobalParamSe
 	}
 
 	private boolean parseGlobalParam(boolean isToBeRestarted, HashMap<String, String> globalParamMap,
-			List<GlobalParam> globalParamList) {
+			List<GlobalParam> globalParamList, Map<String, Object> applicationMapUpdates,
+			List<String> applicationMapRemovals) {
 		for (GlobalParam globalParam : globalParamList) {
 			if (!NON_REMOVABLE_PARAMS.contains(globalParam.getGlobalParamId().getCode())) {
 				/* Check in map, if exists, update it and remove from map */
@@ -245,7 +255,7 @@ public class GlobalParamServiceImpl extends BaseService implements GlobalParamSe
 						updateVal(globalParam, val);
 
 						/* Add in application map */
-						updateApplicationMap(globalParamId.getCode(), val);
+						applicationMapUpdates.put(globalParamId.getCode(), val);
 
 						isToBeRestarted = isPropertyRequireRestart(globalParamId.getCode());
 					}
@@ -253,7 +263,7 @@ public class GlobalParamServiceImpl extends BaseService implements GlobalParamSe
 				/* Set is deleted true as removed from server */
 				else {
 					updateIsDeleted(globalParam);
-					ApplicationContext.removeGlobalConfigValueOf(globalParamId.getCode());
+					applicationMapRemovals.add(globalParamId.getCode());
 				}
 				globalParamMap.remove(globalParamId.getCode());
 			}
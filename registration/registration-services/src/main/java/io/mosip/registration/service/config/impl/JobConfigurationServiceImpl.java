@@ -54,7 +54,10 @@ import io.mosip.registration.dto.SyncDataProcessDTO;
 import io.mosip.registration.entity.SyncControl;
 import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.entity.SyncTransaction;
+import io.mosip.registration.exception.RegBaseUncheckedException;
+import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.jobs.BaseJob;
+import io.mosip.registration.jobs.JobExecutionGuard;
 import io.mosip.registration.jobs.JobProcessListener;
 import io.mosip.registration.jobs.JobTriggerListener;
 import io.mosip.registration.service.BaseService;
@@ -130,6 +133,12 @@ public class JobConfigurationServiceImpl extends BaseService implements JobConfi
 	 */
 	private BaseJob baseJob;
 
+	/**
+	 * Runs the jobs executed on demand as their concurrency policy allows
+	 */
+	@Autowired
+	private JobExecutionGuard jobExecutionGuard;
+
 	private List<String> restartableJobList;
 
 	/**
@@ -461,20 +470,31 @@ public class JobConfigurationServiceImpl extends BaseService implements JobConfi
 
 				if (syncJobDef != null && !isNull(syncJobDef.getApiName())) {
 					// Get Job using application context and api name
-					baseJob = (BaseJob) applicationContext.getBean(syncJobDef.getApiName());
+					BaseJob job = (BaseJob) applicationContext.getBean(syncJobDef.getApiName());
 
 					BaseJob.removeCompletedJobInMap(jobId);
 
-					baseJob.setApplicationContext(applicationContext);
+					job.setApplicationContext(applicationContext);
 
-					// Job Invocation
-					responseDTO = baseJob.executeJob(triggerPoint, jobId);
+					// Job Invocation, reported busy if the running jobs hold it back too long
+					responseDTO = jobExecutionGuard.tryExecute(job, jobId, () -> job.executeJob(triggerPoint, jobId));
 
 				} else {
 					setErrorResponse(responseDTO, RegistrationConstants.EXECUTE_JOB_ERROR_MESSAGE, null);
 				}
 				return responseDTO;
 
+			} catch (RegBaseUncheckedException regBaseUncheckedException) {
+				LOGGER.error(LoggerConstants.BATCH_JOBS_CONFIG_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
+						RegistrationConstants.APPLICATION_ID, regBaseUncheckedException.getMessage()
+								+ ExceptionUtils.getStackTrace(regBaseUncheckedException));
+
+				setErrorResponse(responseDTO,
+						RegistrationExceptionConstants.REG_SYNC_JOB_BUSY.getErrorCode()
+								.equals(regBaseUncheckedException.getErrorCode())
+										? RegistrationConstants.EXECUTE_JOB_BUSY_MESSAGE
+										: RegistrationConstants.EXECUTE_JOB_ERROR_MESSAGE,
+						null);
 			} catch (RuntimeException runtimeException) {
 				LOGGER.error(LoggerConstants.BATCH_JOBS_CONFIG_LOGGER_TITLE, RegistrationConstants.APPLICATION_NAME,
 						RegistrationConstants.APPLICATION_ID,
@@ -15,12 +15,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -95,55 +95,48 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 	public RegistrationDTO extractPreRegZipFile(byte[] preRegZipFile) throws RegBaseCheckedException {
 		LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
 				"extractPreRegZipFile invoked");
-		try{
+		try {
+			Map<String, Entry<String, DocumentDto>> documentsByFileName = null;
+			Map<String, byte[]> entriesBeforeDemographics = new LinkedHashMap<>();
+			Map<String, List<DocumentType>> documentTypesByName = new HashMap<>();
 			BufferedReader bufferedReader = null;
 			try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(preRegZipFile))) {
 				ZipEntry zipEntry;
 				while ((zipEntry = zipInputStream.getNextEntry()) != null) {
-					if (zipEntry.getName().equalsIgnoreCase("ID.json")) {
+					String fileName = zipEntry.getName();
+					LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+							"extractPreRegZipFile zipEntry >>>> " + fileName);
+					if (fileName.equalsIgnoreCase("ID.json")) {
 						bufferedReader = new BufferedReader(new InputStreamReader(zipInputStream, StandardCharsets.UTF_8));
-						parseDemographicJson(bufferedReader, zipEntry);						
-					}	
+						parseDemographicJson(bufferedReader, zipEntry);
+						documentsByFileName = getDocumentsByFileName();
+					} else if (documentsByFileName == null) {
+						/* Documents are known only once ID.json is read, keep the entries found before it */
+						entriesBeforeDemographics.put(fileName, IOUtils.toByteArray(zipInputStream));
+					} else if (documentsByFileName.containsKey(fileName)) {
+						attachDocument(documentsByFileName.get(fileName), IOUtils.toByteArray(zipInputStream),
+								documentTypesByName);
+					}
 				}
-			}finally {
-				if(bufferedReader != null) {
+			} finally {
+				if (bufferedReader != null) {
 					bufferedReader.close();
-					bufferedReader = null;
-				}				
+				}
 			}
-			
-			try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(preRegZipFile))) {
-				ZipEntry zipEntry;
-				while ((zipEntry = zipInputStream.getNextEntry()) != null) {
-					String fileName = zipEntry.getName();
-					//if (zipEntry.getName().contains("_")) {
-					LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
-							"extractPreRegZipFile zipEntry >>>> " + fileName);				
-						Optional<Map.Entry<String, DocumentDto>> result = getRegistrationDtoContent().getDocuments().entrySet().stream()
-								.filter(e -> fileName.equals(e.getValue().getValue().concat(".").concat(e.getValue().getFormat()))).findFirst();
-						if(result.isPresent()) {
-							DocumentDto documentDto = result.get().getValue();
-							documentDto.setDocument(IOUtils.toByteArray(zipInputStream));
-							
-							List<DocumentType> documentTypes = documentTypeDAO.getDocTypeByName(documentDto.getType());
-							if(Objects.nonNull(documentTypes) && !documentTypes.isEmpty()) {
-								LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
-										documentDto.getType() + " >>>> documentTypes.get(0).getCode() >>>> " + documentTypes.get(0).getCode());	
-								documentDto.setType(documentTypes.get(0).getCode());
-								documentDto.setValue(documentDto.getCategory().concat("_").concat(documentDto.getType()));
-							}							
-							getRegistrationDtoContent().addDocument(result.get().getKey(), result.get().getValue());
-							LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
-									"Added zip entry as document for field >>>> " + result.get().getKey());	
-						}
-					//}	
+
+			if (!entriesBeforeDemographics.isEmpty()) {
+				if (documentsByFileName == null) {
+					documentsByFileName = getDocumentsByFileName();
+				}
+				for (Entry<String, byte[]> entry : entriesBeforeDemographics.entrySet()) {
+					if (documentsByFileName.containsKey(entry.getKey())) {
+						attachDocument(documentsByFileName.get(entry.getKey()), entry.getValue(), documentTypesByName);
+					}
 				}
 			}
-			
-			Set<Entry<String, DocumentDto>> entries = getRegistrationDtoContent().getDocuments().entrySet();
-			entries.stream()
-				.filter(e -> e.getValue().getDocument() == null || e.getValue().getDocument().length == 0)
-				.forEach(e -> { getRegistrationDtoContent().removeDocument(e.getKey()); });
+
+			getRegistrationDtoContent().getDocuments().values()
+				.removeIf(document -> document.getDocument() == null || document.getDocument().length == 0);
 		
 		} catch (IOException exception) {
 			exception.printStackTrace();
@@ -162,6 +155,38 @@ public class PreRegZipHandlingServiceImpl implements PreRegZipHandlingService {
 	}
 	
 	
+	/**
+	 * @return the documents of the registration, by the file name of the
+	 *         document in the pre-registration packet
+	 */
+	private Map<String, Entry<String, DocumentDto>> getDocumentsByFileName() {
+		Map<String, Entry<String, DocumentDto>> documentsByFileName = new HashMap<>();
+		for (Entry<String, DocumentDto> document : getRegistrationDtoContent().getDocuments().entrySet()) {
+			documentsByFileName.putIfAbsent(
+					document.getValue().getValue().concat(".").concat(document.getValue().getFormat()), document);
+		}
+		return documentsByFileName;
+	}
+
+	private void attachDocument(Entry<String, DocumentDto> document, byte[] content,
+			Map<String, List<DocumentType>> documentTypesByName) {
+		DocumentDto documentDto = document.getValue();
+		documentDto.setDocument(content);
+
+		/* Documents of the same type are looked up once */
+		List<DocumentType> documentTypes = documentTypesByName.computeIfAbsent(documentDto.getType(),
+				documentTypeDAO::getDocTypeByName);
+		if (Objects.nonNull(documentTypes) && !documentTypes.isEmpty()) {
+			LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+					documentDto.getType() + " >>>> documentTypes.get(0).getCode() >>>> " + documentTypes.get(0).getCode());
+			documentDto.setType(documentTypes.get(0).getCode());
+			documentDto.setValue(documentDto.getCategory().concat("_").concat(documentDto.getType()));
+		}
+		getRegistrationDtoContent().addDocument(document.getKey(), documentDto);
+		LOGGER.debug("PRE_REG_ZIP_HANDLING_SERVICE_IMPL", RegistrationConstants.APPLICATION_NAME, RegistrationConstants.APPLICATION_ID,
+				"Added zip entry as document for field >>>> " + document.getKey());
+	}
+
 	private void attachDocument(DocumentDto documentDetailsDTO, ZipInputStream zipInputStream, String fileName,
 			String docCatgory) throws IOException {
 		documentDetailsDTO.setDocument(IOUtils.toByteArray(zipInputStream));
@@ -8,14 +8,17 @@ import static io.mosip.registration.mapper.CustomObjectMapper.MAPPER_FACADE;
 import java.sql.Timestamp;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
 import io.mosip.registration.constants.*;
 import io.mosip.registration.dto.*;
 import io.mosip.registration.service.sync.CertificateSyncService;
+import io.mosip.registration.util.common.SyncStepOrchestrator;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.restclient.AuthTokenUtilService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -118,6 +121,15 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 	@Autowired
 	private ClientCryptoFacade clientCryptoFacade;
 
+	@Value("${mosip.registration.initial.sync.max.parallel.steps:3}")
+	private int initialSyncMaxParallelSteps;
+
+	@Value("${mosip.registration.initial.sync.step.timeout.seconds:600}")
+	private long initialSyncStepTimeoutSeconds;
+
+	@Value("${mosip.registration.initial.sync.step.retry.count:0}")
+	private int initialSyncStepRetryCount;
+
 	@Autowired
 	private CertificateSyncService certificateSyncService;
 
@@ -318,64 +330,63 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 		}
 	}
 	
-	/* Must follow the same order on every initial sync
+	/* Initial sync steps and the steps they depend on
 	 * 1. signing key sync
-	 * 2. verify machine-key mapping
-	 * 3. global parameters sync
-	 * 4. client-settings / master-data sync
-	 * 5. user details sync
+	 * 2. verify machine-key mapping, after 1
+	 * 3. global parameters sync, after 2
+	 * 4. client-settings / master-data sync, after 3
+	 * 5. user details sync, after 3
+	 * 6. CA certificates sync, after 1
 	 * user salt sync is removed @Since 1.1.3
 	 */
 	@Override
 	public List<String> initialSync(String triggerPoint) {
-		long start = System.currentTimeMillis();
 		LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, "Started Initial sync");
 		List<String> results = new LinkedList<>();
-		ResponseDTO responseDTO = null;
-		
-		try {
-			long taskStart = System.currentTimeMillis();
-			responseDTO = publicKeySyncImpl.getPublicKey(triggerPoint);
-			validateResponse(responseDTO, PUBLIC_KEY_SYNC_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, PUBLIC_KEY_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
-
-			taskStart = System.currentTimeMillis();
-			responseDTO = tpmPublicKeySyncService.syncTPMPublicKey();
-			validateResponse(responseDTO, MACHINE_KEY_VERIFICATION_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, MACHINE_KEY_VERIFICATION_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
+		AtomicBoolean restartRequired = new AtomicBoolean();
+
+		SyncStepOrchestrator orchestrator = new SyncStepOrchestrator("initial-sync", initialSyncMaxParallelSteps,
+				TimeUnit.SECONDS.toMillis(initialSyncStepTimeoutSeconds), initialSyncStepRetryCount)
+						.retryIf(exception -> !isAuthTokenEmptyException(exception));
+
+		orchestrator.addStep(PUBLIC_KEY_SYNC_STEP,
+				() -> validateResponse(publicKeySyncImpl.getPublicKey(triggerPoint), PUBLIC_KEY_SYNC_STEP));
+
+		orchestrator.addStep(MACHINE_KEY_VERIFICATION_STEP, () -> {
+			validateResponse(tpmPublicKeySyncService.syncTPMPublicKey(), MACHINE_KEY_VERIFICATION_STEP);
 
 			String keyIndex = CryptoUtil.computeFingerPrint(clientCryptoFacade.getClientSecurity().getEncryptionPublicPart(), null);
 			ApplicationContext.map().put(RegistrationConstants.KEY_INDEX, keyIndex);
-
 			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, "Initial Verifiation Done : " + MACHINE_KEY_VERIFICATION_STEP);
+		}, PUBLIC_KEY_SYNC_STEP);
 
-			taskStart = System.currentTimeMillis();
-			responseDTO = globalParamService.synchConfigData(false);
+		orchestrator.addStep(GLOBAL_PARAM_SYNC_STEP, () -> {
+			ResponseDTO responseDTO = globalParamService.synchConfigData(false);
 			validateResponse(responseDTO, GLOBAL_PARAM_SYNC_STEP);
 			if(responseDTO.getSuccessResponseDTO().getOtherAttributes() != null)
-				results.add(RegistrationConstants.RESTART);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, GLOBAL_PARAM_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
-
-			taskStart = System.currentTimeMillis();
-			responseDTO = masterSyncService.getMasterSync(RegistrationConstants.OPT_TO_REG_MDS_J00001, triggerPoint) ;
-			validateResponse(responseDTO, CLIENTSETTINGS_SYNC_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, CLIENTSETTINGS_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
-
-			taskStart = System.currentTimeMillis();
-			responseDTO = userDetailService.save(triggerPoint);
-			validateResponse(responseDTO, USER_DETAIL_SYNC_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, USER_DETAIL_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
-
-			taskStart = System.currentTimeMillis();
-			responseDTO = certificateSyncService.getCACertificates(triggerPoint);
-			validateResponse(responseDTO, CACERT_SYNC_STEP);
-			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, CACERT_SYNC_STEP+ " task completed in (ms) : " +
-					(System.currentTimeMillis() - taskStart));
+				restartRequired.set(true);
+		}, MACHINE_KEY_VERIFICATION_STEP);
+
+		orchestrator.addStep(CLIENTSETTINGS_SYNC_STEP,
+				() -> validateResponse(masterSyncService.getMasterSync(RegistrationConstants.OPT_TO_REG_MDS_J00001, triggerPoint),
+						CLIENTSETTINGS_SYNC_STEP),
+				GLOBAL_PARAM_SYNC_STEP);
+
+		orchestrator.addStep(USER_DETAIL_SYNC_STEP,
+				() -> validateResponse(userDetailService.save(triggerPoint), USER_DETAIL_SYNC_STEP),
+				CLIENTSETTINGS_SYNC_STEP);
+
+		orchestrator.addStep(CACERT_SYNC_STEP,
+				() -> validateResponse(certificateSyncService.getCACertificates(triggerPoint), CACERT_SYNC_STEP),
+				PUBLIC_KEY_SYNC_STEP);
+
+		SyncStepOrchestrator.SyncResult syncResult = orchestrator.run();
+		if(restartRequired.get())
+			results.add(RegistrationConstants.RESTART);
+
+		try {
+			if(!syncResult.isSuccess())
+				throw syncResult.getFailure();
 
 			if(isInitialSync()) {
 				LoginUserDTO loginUserDTO = (LoginUserDTO) ApplicationContext.map().get(RegistrationConstants.USER_DTO);
@@ -386,7 +397,7 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 			globalParamService.update(RegistrationConstants.INITIAL_SETUP, RegistrationConstants.DISABLE);
 			
 			LOGGER.info("REGISTRATION  - LOGINSERVICE", APPLICATION_NAME, APPLICATION_ID, "completed Initial sync in (ms) : " +
-					(System.currentTimeMillis() - start));
+					syncResult.getDurationMillis());
 		
 		} catch (Exception e) {
 			LOGGER.error(LoggerConstants.LOG_REG_LOGIN, APPLICATION_NAME, APPLICATION_ID, ExceptionUtils.getStackTrace(e));
@@ -538,12 +549,14 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 					return responseDTO;
 				}
 
-				ApplicationContext.map().put(RegistrationConstants.USER_CENTER_ID, centerId);
+				/* The user values are written to the application map together */
+				Map<String, Object> userValues = new HashMap<>();
+				userValues.put(RegistrationConstants.USER_CENTER_ID, centerId);
 				if (userDTO.getStatusCode().equalsIgnoreCase(RegistrationConstants.BLOCKED)) {
 					setErrorResponse(responseDTO, RegistrationConstants.BLOCKED_USER_ERROR, null);
 				} else {
 					for (UserMachineMappingDTO userMachineMapping : userDTO.getUserMachineMapping()) {
-						ApplicationContext.map().put(RegistrationConstants.DONGLE_SERIAL_NUMBER,
+						userValues.put(RegistrationConstants.DONGLE_SERIAL_NUMBER,
 								userMachineMapping.getMachineMaster().getSerialNum());
 					}
 
@@ -562,7 +575,7 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 							|| roleList.contains(RegistrationConstants.ROLE_DEFAULT))) {
 						setErrorResponse(responseDTO, RegistrationConstants.ROLES_EMPTY_ERROR, null);
 					} else {
-						ApplicationContext.map().put(RegistrationConstants.USER_STATION_ID, stationId);
+						userValues.put(RegistrationConstants.USER_STATION_ID, stationId);
 
 						Map<String, Object> params = new LinkedHashMap<>();
 						params.put(RegistrationConstants.ROLES_LIST, roleList);
@@ -570,6 +583,7 @@ public class LoginServiceImpl extends BaseService implements LoginService {
 						setSuccessResponse(responseDTO, RegistrationConstants.SUCCESS, params);
 					}
 				}
+				ApplicationContext.map().putAll(userValues);
 			}
 
 			LOGGER.info(LoggerConstants.LOG_REG_LOGIN, APPLICATION_NAME, APPLICATION_ID, "completed validating user");
@@ -7,11 +7,15 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 
 import java.io.IOException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Optional;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import io.mosip.registration.context.SessionContext;
@@ -28,9 +32,11 @@ import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
 import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.kernel.core.util.StringUtils;
 import io.mosip.registration.config.AppConfig;
 import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.dao.UserDetailDAO;
 import io.mosip.registration.dto.ErrorResponseDTO;
 import io.mosip.registration.dto.ResponseDTO;
@@ -65,6 +71,11 @@ public class UserDetailServiceImpl extends BaseService implements UserDetailServ
 
 	private ObjectMapper objectMapper = new ObjectMapper();
 
+	private static final String INSERTED = "inserted";
+	private static final String UPDATED = "updated";
+	private static final String REMOVED = "removed";
+	private static final String UNCHANGED = "unchanged";
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -99,25 +110,54 @@ public class UserDetailServiceImpl extends BaseService implements UserDetailServ
 			List<UserDetailDto> userDtls = objectMapper.readValue(jsonString,
 					new TypeReference<List<UserDetailDto>>() {});
 
+			// Stored users keyed by their id ignoring case
+			Map<String, UserDetail> existingUsers = new HashMap<>();
+			for (UserDetail existingUserDetail : userDetailDAO.getAllUsers()) {
+				existingUsers.put(existingUserDetail.getId().toLowerCase(Locale.ROOT), existingUserDetail);
+			}
+
+			Map<String, UserDetailDto> syncedUsers = new LinkedHashMap<>();
+			userDtls.forEach(user -> syncedUsers.put(user.getUserName().toLowerCase(Locale.ROOT), user));
+
+			List<UserDetailDto> insertedUsers = new ArrayList<>();
+			List<UserDetailDto> updatedUsers = new ArrayList<>();
+			int unchangedUsers = 0;
+			for (Map.Entry<String, UserDetailDto> syncedUser : syncedUsers.entrySet()) {
+				UserDetail existingUserDetail = existingUsers.get(syncedUser.getKey());
+				UserDetailDto userDetailDto = syncedUser.getValue();
+				if (existingUserDetail == null) {
+					insertedUsers.add(userDetailDto);
+				} else if (!getContentHash(userDetailDto).equals(getContentHash(existingUserDetail))) {
+					userDetailDto.setUserName(existingUserDetail.getId());
+					updatedUsers.add(userDetailDto);
+				} else {
+					unchangedUsers++;
+				}
+			}
+
 			//Remove users who are not part of current sync
-			List<UserDetail> existingUserDetails = userDetailDAO.getAllUsers();
-			for (UserDetail existingUserDetail : existingUserDetails) {
-				Optional<UserDetailDto> result = userDtls.stream().filter(userDetailDto -> userDetailDto
-						.getUserName().equalsIgnoreCase(existingUserDetail.getId())).findFirst();
-				if (!result.isPresent()) {
+			List<String> removedUserIds = new ArrayList<>();
+			existingUsers.forEach((userId, existingUserDetail) -> {
+				if (!syncedUsers.containsKey(userId)) {
 					LOGGER.info(LOG_REG_USER_DETAIL, APPLICATION_NAME, APPLICATION_ID,
 							"Deleting User : " + existingUserDetail.getId());
-					userDetailDAO.deleteUser(existingUserDetail);
+					removedUserIds.add(existingUserDetail.getId());
 				}
-			}
+			});
 
-			userDtls.forEach(user -> userDetailDAO.save(user));
+			userDetailDAO.saveAll(insertedUsers, updatedUsers, removedUserIds);
 
-			responseDTO = setSuccessResponse(responseDTO, RegistrationConstants.SUCCESS, null);
+			Map<String, Object> syncCounts = new LinkedHashMap<>();
+			syncCounts.put(INSERTED, insertedUsers.size());
+			syncCounts.put(UPDATED, updatedUsers.size());
+			syncCounts.put(REMOVED, removedUserIds.size());
+			syncCounts.put(UNCHANGED, unchangedUsers);
+
+			responseDTO = setSuccessResponse(responseDTO, RegistrationConstants.SUCCESS, syncCounts);
 			LOGGER.info(LOG_REG_USER_DETAIL, APPLICATION_NAME, APPLICATION_ID,
-					"User Detail Sync Success......");
+					"User Detail Sync Success...... " + syncCounts);
 
-		} catch (RegBaseCheckedException | IOException exception) {
+		} catch (RegBaseCheckedException | IOException | NoSuchAlgorithmException exception) {
 			LOGGER.error(LOG_REG_USER_DETAIL, APPLICATION_NAME, APPLICATION_ID,
 					ExceptionUtils.getStackTrace(exception));
 			setErrorResponse(responseDTO, exception.getMessage(), null);
@@ -126,6 +166,35 @@ public class UserDetailServiceImpl extends BaseService implements UserDetailServ
 	}
 
 
+	/**
+	 * Hash of the synced details of the user, computed alike for the synced and
+	 * the stored user
+	 */
+	private String getContentHash(UserDetailDto userDetailDto) throws NoSuchAlgorithmException {
+		return getContentHash(userDetailDto.getName(), userDetailDto.getMail(), userDetailDto.getMobile(),
+				userDetailDto.getIsActive() == null || userDetailDto.getIsActive(),
+				ApplicationContext.applicationLanguage(), userDetailDto.getRoles());
+	}
+
+	private String getContentHash(UserDetail userDetail) throws NoSuchAlgorithmException {
+		List<String> roles = new ArrayList<>();
+		if (userDetail.getUserRole() != null) {
+			userDetail.getUserRole().forEach(userRole -> roles.add(userRole.getUserRoleId().getRoleCode()));
+		}
+		return getContentHash(userDetail.getName(), userDetail.getEmail(), userDetail.getMobile(),
+				Boolean.TRUE.equals(userDetail.getIsActive()), userDetail.getLangCode(), roles);
+	}
+
+	private String getContentHash(String name, String mail, String mobile, boolean isActive, String langCode,
+			List<String> roles) throws NoSuchAlgorithmException {
+		StringBuilder content = new StringBuilder();
+		for (Object field : new Object[] { name, mail, mobile, isActive, langCode,
+				roles == null ? new TreeSet<>() : new TreeSet<>(roles) }) {
+			content.append(field).append('\u0000');
+		}
+		return HMACUtils2.digestAsPlainText(content.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
 	private LinkedHashMap<String, Object> getUsrDetails(String triggerPoint) throws RegBaseCheckedException {
 
 		LOGGER.info(LOG_REG_USER_DETAIL, APPLICATION_NAME, APPLICATION_ID,
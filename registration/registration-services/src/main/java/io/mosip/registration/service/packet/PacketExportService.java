@@ -1,8 +1,11 @@
 package io.mosip.registration.service.packet;
 
+import java.io.File;
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import io.mosip.registration.dto.ErrorResponseDTO;
+import io.mosip.registration.dto.PacketExportResultDTO;
 import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
@@ -65,4 +68,30 @@ public interface PacketExportService {
 	 */
 	ResponseDTO updateRegistrationStatus(List<PacketStatusDTO> exportedPackets) throws RegBaseCheckedException;
 
+	/**
+	 * Copies the packets to the target directory and marks them as exported.
+	 * 
+	 * <p>
+	 * The packets are copied in parallel, each one to a temporary file which is
+	 * checksummed while it is written and renamed once the copy is verified. The
+	 * size and checksum of every verified copy are recorded in a manifest in the
+	 * target directory, so the packets already exported to it are skipped when
+	 * the export is run again. The client status of the exported packets is
+	 * updated in the {@link Registration} table in batches.
+	 * </p>
+	 * 
+	 * @param packets
+	 *            the packets to be exported
+	 * @param targetDirectory
+	 *            the directory of the external device
+	 * @param progressListener
+	 *            notified with the bytes processed and the total bytes of the
+	 *            packets
+	 * @return the outcome of the export
+	 * @throws RegBaseCheckedException
+	 *             if the target directory is not writable
+	 */
+	PacketExportResultDTO exportPackets(List<PacketStatusDTO> packets, File targetDirectory,
+			BiConsumer<Long, Long> progressListener) throws RegBaseCheckedException;
+
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import io.mosip.registration.dto.ErrorResponseDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
 
 /**
@@ -178,7 +179,7 @@ public interface RegPacketStatusService {
 	 * @param registrations
 	 *            the list of {@link Registration} entries to be deleted
 	 */
-	void deleteRegistrations(List<Registration> registrations);
+	void deleteRegistrations(List<? extends RegistrationPacketView> registrations);
 
 	/**
 	 * Deletes all the registration packets which are no more needed for the
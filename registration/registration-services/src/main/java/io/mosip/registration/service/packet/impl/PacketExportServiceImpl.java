@@ -3,21 +3,56 @@ package io.mosip.registration.service.packet.impl;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.RegistrationClientStatusCode;
 import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.dao.RegistrationDAO;
+import io.mosip.registration.dto.PacketExportResultDTO;
 import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.service.packet.PacketExportService;
 import io.mosip.registration.util.advice.AuthenticationAdvice;
 import io.mosip.registration.util.advice.PreAuthorizeUserId;
@@ -34,8 +69,33 @@ public class PacketExportServiceImpl implements PacketExportService {
 	@Autowired
 	private RegistrationDAO registrationDAO;
 
+	@Value("${mosip.registration.packet.export.parallel.copies:2}")
+	private int parallelCopies;
+
+	@Value("${mosip.registration.packet.export.verify:true}")
+	private boolean verifyCopies;
+
+	@Value("${mosip.registration.packet.export.status.batch.size:50}")
+	private int statusBatchSize;
+
 	private static final Logger LOGGER = AppConfig.getLogger(PacketExportServiceImpl.class);
 
+	private static final String LOGGER_TITLE = "REGISTRATION - EXPORT_PACKETS - PACKET_EXPORT_SERVICE";
+
+	/** Manifest of the verified packets, in the export directory */
+	private static final String MANIFEST_FILE = "packet-export-manifest.csv";
+	private static final String MANIFEST_HEADER = "packet,size,sha256";
+	private static final String PART_FILE_EXTENSION = ".part";
+	private static final String EXPORT_COMMENT = "Exported to external device";
+	private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+	private enum ExportStatus {
+		COPIED, SKIPPED, FAILED, NO_SPACE
+	}
+
+	/** Set while an export runs, as two exports would copy and mark the same packets */
+	private final AtomicBoolean exportInProgress = new AtomicBoolean();
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -49,7 +109,8 @@ public class PacketExportServiceImpl implements PacketExportService {
 				"Fetch the packets that needs to be exported");
 
 		List<PacketStatusDTO> packetDto = new ArrayList<>();
-		List<Registration> synchedPackets =  registrationDAO.getPacketsToBeSynched(RegistrationConstants.PACKET_EXPORT_STATUS);
+		List<RegistrationPacketView> synchedPackets = registrationDAO
+				.getPacketViews(RegistrationConstants.PACKET_EXPORT_STATUS);
 		synchedPackets.forEach(packet -> {
 			PacketStatusDTO packetStatusDTO =new PacketStatusDTO();
 			packetStatusDTO.setClientStatusComments(packet.getClientStatusComments());
@@ -89,4 +150,328 @@ public class PacketExportServiceImpl implements PacketExportService {
 
 		return responseDTO;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.service.packet.PacketExportService#
+	 * exportPackets(java.util.List, java.io.File, java.util.function.BiConsumer)
+	 */
+	@Override
+	@PreAuthorizeUserId(roles= {AuthenticationAdvice.OFFICER_ROLE,AuthenticationAdvice.SUPERVISOR_ROLE, AuthenticationAdvice.ADMIN_ROLE,AuthenticationAdvice.DEFAULT_ROLE})
+	public PacketExportResultDTO exportPackets(List<PacketStatusDTO> packets, File targetDirectory,
+			BiConsumer<Long, Long> progressListener) throws RegBaseCheckedException {
+
+		LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+				"Exporting " + packets.size() + " packets to " + targetDirectory);
+
+		if (targetDirectory == null || !targetDirectory.isDirectory() || !targetDirectory.canWrite()) {
+			throw new RegBaseCheckedException(
+					RegistrationExceptionConstants.REG_PACKET_EXPORT_TARGET_ERROR.getErrorCode(),
+					RegistrationExceptionConstants.REG_PACKET_EXPORT_TARGET_ERROR.getErrorMessage());
+		}
+
+		if (!exportInProgress.compareAndSet(false, true)) {
+			LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+					RegistrationExceptionConstants.REG_PACKET_EXPORT_IN_PROGRESS.getErrorMessage());
+			throw new RegBaseCheckedException(
+					RegistrationExceptionConstants.REG_PACKET_EXPORT_IN_PROGRESS.getErrorCode(),
+					RegistrationExceptionConstants.REG_PACKET_EXPORT_IN_PROGRESS.getErrorMessage());
+		}
+		try {
+			return exportToDirectory(packets, targetDirectory.toPath(), progressListener);
+		} finally {
+			exportInProgress.set(false);
+		}
+	}
+
+	private PacketExportResultDTO exportToDirectory(List<PacketStatusDTO> packets, Path targetDirectory,
+			BiConsumer<Long, Long> progressListener) throws RegBaseCheckedException {
+		PacketExportResultDTO exportResult = new PacketExportResultDTO();
+		ExportManifest manifest = ExportManifest.load(targetDirectory.resolve(MANIFEST_FILE));
+
+		List<PacketStatusDTO> packetsToCopy = new ArrayList<>();
+		List<Path> sourcePaths = new ArrayList<>();
+		long totalBytes = 0;
+		for (PacketStatusDTO packet : packets) {
+			Path sourcePath = getPacketZipPath(packet);
+			if (sourcePath == null || !Files.isRegularFile(sourcePath)) {
+				LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+						"Packet not found for export : " + packet.getFileName());
+				exportResult.getFailedPackets().add(packet.getFileName());
+				continue;
+			}
+			packetsToCopy.add(packet);
+			sourcePaths.add(sourcePath);
+			totalBytes += sourcePath.toFile().length();
+		}
+
+		ExportContext exportContext = new ExportContext(targetDirectory, manifest, totalBytes,
+				progressListener);
+		ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, parallelCopies),
+				runnable -> {
+					Thread thread = new Thread(runnable,
+							"packet-export-" + exportContext.threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+		CompletionService<ExportStatus> completionService = new ExecutorCompletionService<>(executorService);
+		Map<Future<ExportStatus>, PacketStatusDTO> packetsByTask = new HashMap<>();
+		for (int index = 0; index < packetsToCopy.size(); index++) {
+			PacketStatusDTO packet = packetsToCopy.get(index);
+			Path sourcePath = sourcePaths.get(index);
+			packetsByTask.put(completionService.submit(() -> exportPacket(sourcePath, exportContext)), packet);
+		}
+
+		List<PacketStatusDTO> exportedSinceLastUpdate = new ArrayList<>();
+		try {
+			for (int index = 0; index < packetsToCopy.size(); index++) {
+				Future<ExportStatus> completedTask = completionService.take();
+				PacketStatusDTO packet = packetsByTask.get(completedTask);
+				ExportStatus exportStatus = getStatus(completedTask, packet);
+				switch (exportStatus) {
+				case COPIED:
+					exportResult.setCopiedCount(exportResult.getCopiedCount() + 1);
+					exportedSinceLastUpdate.add(packet);
+					break;
+				case SKIPPED:
+					exportResult.setSkippedCount(exportResult.getSkippedCount() + 1);
+					exportedSinceLastUpdate.add(packet);
+					break;
+				case NO_SPACE:
+					exportResult.setInsufficientSpace(true);
+					break;
+				default:
+					exportResult.getFailedPackets().add(packet.getFileName());
+					break;
+				}
+				if (exportedSinceLastUpdate.size() >= Math.max(1, statusBatchSize)) {
+					markExported(exportedSinceLastUpdate, exportResult);
+				}
+			}
+		} catch (InterruptedException interruptedException) {
+			LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, "Packet export interrupted");
+			Thread.currentThread().interrupt();
+		} finally {
+			executorService.shutdownNow();
+			markExported(exportedSinceLastUpdate, exportResult);
+		}
+		exportResult.setCopiedBytes(exportContext.copiedBytes.get());
+
+		LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+				"Packets copied : " + exportResult.getCopiedCount() + ", already exported : "
+						+ exportResult.getSkippedCount() + ", failed : " + exportResult.getFailedPackets().size()
+						+ ", out of space : " + exportResult.isInsufficientSpace());
+		return exportResult;
+	}
+
+	private ExportStatus getStatus(Future<ExportStatus> completedTask, PacketStatusDTO packet)
+			throws InterruptedException {
+		try {
+			return completedTask.get();
+		} catch (ExecutionException executionException) {
+			LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, "Error while exporting packet : "
+					+ packet.getFileName() + ExceptionUtils.getStackTrace(executionException.getCause()));
+			return ExportStatus.FAILED;
+		}
+	}
+
+	/**
+	 * Copies the packet to a temporary file, checksumming the bytes as they are
+	 * written, verifies the copy and renames it to the packet name
+	 */
+	private ExportStatus exportPacket(Path sourcePath, ExportContext exportContext) throws IOException {
+		if (exportContext.outOfSpace.get()) {
+			return ExportStatus.NO_SPACE;
+		}
+
+		String packetName = sourcePath.getFileName().toString();
+		long packetSize = Files.size(sourcePath);
+		Path targetPath = exportContext.targetDirectory.resolve(packetName);
+
+		if (exportContext.manifest.isExported(packetName, packetSize, targetPath)) {
+			exportContext.addProgress(packetSize);
+			return ExportStatus.SKIPPED;
+		}
+
+		if (!exportContext.reserveSpace(packetSize)) {
+			exportContext.outOfSpace.set(true);
+			return ExportStatus.NO_SPACE;
+		}
+
+		Path partPath = exportContext.targetDirectory.resolve(packetName + PART_FILE_EXTENSION);
+		try {
+			MessageDigest messageDigest = DigestUtils.getSha256Digest();
+			try (InputStream inputStream = Files.newInputStream(sourcePath);
+					OutputStream outputStream = Files.newOutputStream(partPath, StandardOpenOption.CREATE,
+							StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+				byte[] buffer = new byte[COPY_BUFFER_SIZE];
+				int read;
+				while ((read = inputStream.read(buffer)) > 0) {
+					if (Thread.currentThread().isInterrupted()) {
+						throw new IOException("Export interrupted while copying " + packetName);
+					}
+					outputStream.write(buffer, 0, read);
+					messageDigest.update(buffer, 0, read);
+					exportContext.addProgress(read);
+				}
+			}
+			String checksum = Hex.encodeHexString(messageDigest.digest());
+
+			if (verifyCopies) {
+				try (InputStream copyInputStream = Files.newInputStream(partPath)) {
+					if (!checksum.equals(DigestUtils.sha256Hex(copyInputStream))) {
+						LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+								"Checksum mismatch of the exported copy : " + packetName);
+						Files.deleteIfExists(partPath);
+						return ExportStatus.FAILED;
+					}
+				}
+			}
+
+			Files.move(partPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+			exportContext.manifest.add(packetName, packetSize, checksum);
+			exportContext.copiedBytes.addAndGet(packetSize);
+			return ExportStatus.COPIED;
+		} catch (IOException ioException) {
+			Files.deleteIfExists(partPath);
+			throw ioException;
+		} finally {
+			exportContext.releaseSpace(packetSize);
+		}
+	}
+
+	private void markExported(List<PacketStatusDTO> exportedPackets, PacketExportResultDTO exportResult) {
+		if (exportedPackets.isEmpty()) {
+			return;
+		}
+		List<String> registrationIds = new ArrayList<>();
+		for (PacketStatusDTO packet : exportedPackets) {
+			registrationIds.add(packet.getFileName());
+		}
+		String updatedBy = SessionContext.isSessionContextAvailable() ? SessionContext.userContext().getUserId()
+				: RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM;
+		try {
+			registrationDAO.updateClientStatus(registrationIds, RegistrationClientStatusCode.EXPORT.getCode(),
+					EXPORT_COMMENT, updatedBy, Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()));
+			for (PacketStatusDTO packet : exportedPackets) {
+				packet.setPacketClientStatus(RegistrationClientStatusCode.EXPORT.getCode());
+				packet.setClientStatusComments(EXPORT_COMMENT);
+			}
+			exportResult.getExportedPackets().addAll(exportedPackets);
+		} catch (RuntimeException runtimeException) {
+			/* The copies are on the device, but the packets are not marked as exported */
+			LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+					"Failed to update the status of the exported packets : "
+							+ ExceptionUtils.getStackTrace(runtimeException));
+			exportResult.getFailedPackets().addAll(registrationIds);
+		}
+		exportedPackets.clear();
+	}
+
+	private static Path getPacketZipPath(PacketStatusDTO packet) {
+		String ackFileName = packet.getPacketPath();
+		if (ackFileName == null || !ackFileName.contains(RegistrationConstants.ACKNOWLEDGEMENT_FILE)) {
+			return null;
+		}
+		String packetPath = ackFileName.substring(0, ackFileName.indexOf(RegistrationConstants.ACKNOWLEDGEMENT_FILE));
+		return Paths.get(packetPath + RegistrationConstants.ZIP_FILE_EXTENSION);
+	}
+
+	/**
+	 * State shared by the copies of an export
+	 */
+	private static final class ExportContext {
+
+		private final Path targetDirectory;
+		private final ExportManifest manifest;
+		private final long totalBytes;
+		private final BiConsumer<Long, Long> progressListener;
+		private final AtomicLong processedBytes = new AtomicLong();
+		private final AtomicLong copiedBytes = new AtomicLong();
+		private final AtomicBoolean outOfSpace = new AtomicBoolean();
+		private final AtomicInteger threadCount = new AtomicInteger();
+		private long reservedBytes;
+
+		private ExportContext(Path targetDirectory, ExportManifest manifest, long totalBytes,
+				BiConsumer<Long, Long> progressListener) {
+			this.targetDirectory = targetDirectory;
+			this.manifest = manifest;
+			this.totalBytes = totalBytes;
+			this.progressListener = progressListener;
+		}
+
+		private void addProgress(long bytes) {
+			long processed = processedBytes.addAndGet(bytes);
+			if (progressListener != null) {
+				progressListener.accept(processed, totalBytes);
+			}
+		}
+
+		/** Reserves the space of a copy, so the parallel copies do not overfill the device */
+		private synchronized boolean reserveSpace(long bytes) {
+			if (targetDirectory.toFile().getUsableSpace() - reservedBytes < bytes) {
+				return false;
+			}
+			reservedBytes += bytes;
+			return true;
+		}
+
+		private synchronized void releaseSpace(long bytes) {
+			reservedBytes -= bytes;
+		}
+	}
+
+	/**
+	 * Manifest of the packets exported to a directory, one line per verified copy
+	 * with its size and SHA-256 checksum. Lines are appended as the copies are
+	 * verified, so an interrupted export can be resumed.
+	 */
+	private static final class ExportManifest {
+
+		private final Path manifestPath;
+
+		private final Map<String, Long> exportedSizes = new ConcurrentHashMap<>();
+
+		private ExportManifest(Path manifestPath) {
+			this.manifestPath = manifestPath;
+		}
+
+		private static ExportManifest load(Path manifestPath) throws RegBaseCheckedException {
+			ExportManifest manifest = new ExportManifest(manifestPath);
+			if (!Files.exists(manifestPath)) {
+				return manifest;
+			}
+			try {
+				for (String line : Files.readAllLines(manifestPath, StandardCharsets.UTF_8)) {
+					String[] fields = line.split(",");
+					if (fields.length == 3 && !MANIFEST_HEADER.equals(line)) {
+						manifest.exportedSizes.put(fields[0], Long.parseLong(fields[1]));
+					}
+				}
+			} catch (IOException | NumberFormatException exception) {
+				LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+						"Unable to read the export manifest, all the packets are copied : "
+								+ ExceptionUtils.getStackTrace(exception));
+				manifest.exportedSizes.clear();
+			}
+			return manifest;
+		}
+
+		private boolean isExported(String packetName, long packetSize, Path targetPath) {
+			Long exportedSize = exportedSizes.get(packetName);
+			return exportedSize != null && exportedSize == packetSize && targetPath.toFile().length() == packetSize;
+		}
+
+		private synchronized void add(String packetName, long packetSize, String checksum) throws IOException {
+			List<String> lines = new ArrayList<>();
+			if (!Files.exists(manifestPath)) {
+				lines.add(MANIFEST_HEADER);
+			}
+			lines.add(packetName + "," + packetSize + "," + checksum);
+			Files.write(manifestPath, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+					StandardOpenOption.APPEND);
+			exportedSizes.put(packetName, packetSize);
+		}
+	}
 }
@@ -31,7 +31,6 @@ import io.mosip.commons.packet.dto.packet.DeviceMetaInfo;
 import io.mosip.commons.packet.dto.packet.DigitalId;
 import io.mosip.commons.packet.dto.packet.SimpleDto;
 import io.mosip.commons.packet.facade.PacketWriter;
-import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.kernel.biometrics.entities.BIR;
 import io.mosip.kernel.biometrics.entities.BiometricRecord;
 import io.mosip.kernel.core.exception.ExceptionUtils;
@@ -547,16 +546,15 @@ public class PacketHandlerServiceImpl extends BaseService implements PacketHandl
 	}
 
 	private void setAudits(RegistrationDTO registrationDTO) {
-		List<Audit> audits = auditDAO.getAudits(auditLogControlDAO.getLatestRegistrationAuditDates(),
-				registrationDTO.getRegistrationId());
-
 		List<Map<String, String>> auditList = new LinkedList<>();
+		// Fix to resolve date format issue in reg-proc
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
 
-		for (Audit audit : audits) {
+		/* Each page of audits is mapped as it is read, rather than holding all the entities */
+		auditDAO.readAudits(auditLogControlDAO.getLatestRegistrationAuditDates(),
+				registrationDTO.getRegistrationId(), audit -> {
 
 			Map<String, String> auditMap = new LinkedHashMap<>();
-			// Fix to resolve date format issue in reg-proc
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
 			auditMap.put("uuid", audit.getUuid());
 			auditMap.put("createdAt", String.valueOf(audit.getCreatedAt().format(formatter)));
 			auditMap.put("eventId", audit.getEventId());
@@ -578,7 +576,7 @@ public class PacketHandlerServiceImpl extends BaseService implements PacketHandl
 			auditMap.put("actionTimeStamp", String.valueOf(audit.getActionTimeStamp().format(formatter)));
 
 			auditList.add(auditMap);
-		}
+		});
 
 		packetWriter.addAudits(registrationDTO.getRegistrationId(), auditList, source.toUpperCase(),
 				registrationDTO.getRegistrationCategory().toUpperCase());
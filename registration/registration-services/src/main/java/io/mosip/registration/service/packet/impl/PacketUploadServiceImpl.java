@@ -14,6 +14,7 @@ import javax.transaction.Transactional;
 
 import io.mosip.registration.exception.PreConditionCheckException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -37,6 +38,7 @@ import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
@@ -69,6 +71,9 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 	@Autowired
 	private AuditManagerService auditFactory;
 
+	@Value("${mosip.registration.packet.upload.batch.size:100}")
+	private int uploadBatchSize;
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -213,9 +218,20 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 	 *            the synced packets
 	 */
 	private ResponseDTO uploadSyncedPacket(List<PacketStatusDTO> syncedPackets) {
+		return uploadSyncedPacket(syncedPackets, new ResponseDTO());
+	}
+
+	/**
+	 * Upload synced packets, with the result added to the given response.
+	 *
+	 * @param syncedPackets
+	 *            the synced packets
+	 * @param responseDTO
+	 *            the response of the packets uploaded so far
+	 */
+	private ResponseDTO uploadSyncedPacket(List<PacketStatusDTO> syncedPackets, ResponseDTO responseDTO) {
 		LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME, APPLICATION_ID,
 				"uploadSyncedPacket invoked");
-		ResponseDTO responseDTO = new ResponseDTO();
 		List<PacketStatusDTO> packetUploadList = new ArrayList<>();
 
 		for (PacketStatusDTO syncedPacket : syncedPackets) {
@@ -317,18 +333,34 @@ public class PacketUploadServiceImpl extends BaseService implements PacketUpload
 			return responseDTO;
 		}
 
-		List<Registration> synchedPackets = getSynchedPackets();
-		List<PacketStatusDTO> packetsToBeSynced = new ArrayList<>();
-		if(synchedPackets != null) {
+		/*
+		 * Packets are read a page at a time, after the id of the last packet read, and
+		 * each page is uploaded before the next one is read
+		 */
+		int pageSize = Math.max(1, uploadBatchSize);
+		String lastId = RegistrationConstants.EMPTY;
+		int packetCount = 0;
+		List<RegistrationPacketView> synchedPackets;
+		do {
+			synchedPackets = registrationDAO.getPacketsToUpload(RegistrationConstants.PACKET_UPLOAD_STATUS, lastId,
+					pageSize);
+			if (synchedPackets == null || synchedPackets.isEmpty()) {
+				break;
+			}
+			List<PacketStatusDTO> packetsToBeSynced = new ArrayList<>();
 			synchedPackets.forEach(reg -> {
 				packetsToBeSynced.add(packetStatusDtoPreperation(reg));
 			});
-		}
+			lastId = synchedPackets.get(synchedPackets.size() - 1).getId();
+			packetCount += packetsToBeSynced.size();
+
+			uploadSyncedPacket(packetsToBeSynced, responseDTO);
+		} while (synchedPackets.size() == pageSize);
 
 		LOGGER.info("REGISTRATION - PUSH_PACKET - PACKET_UPLOAD_SERVICE", APPLICATION_NAME, APPLICATION_ID,
-				"Syncing Packets: " + packetsToBeSynced.size());
+				"Syncing Packets: " + packetCount);
 
-		return uploadSyncedPacket(packetsToBeSynced);
+		return responseDTO;
 	}
 
 	private Boolean checkPacketDto(PacketStatusDTO packetStatusDTO) throws RegBaseCheckedException {
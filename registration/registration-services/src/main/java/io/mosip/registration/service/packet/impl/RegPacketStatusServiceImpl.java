@@ -5,27 +5,34 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
 import java.io.File;
+import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PreDestroy;
 
 import io.mosip.registration.repositories.RegistrationRepository;
-import org.assertj.core.util.Files;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
@@ -37,7 +44,6 @@ import io.mosip.kernel.core.exception.ExceptionUtils;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.kernel.core.util.DateUtils;
-import io.mosip.kernel.core.util.FileUtils;
 import io.mosip.kernel.core.util.StringUtils;
 import io.mosip.kernel.core.util.exception.JsonProcessingException;
 import io.mosip.registration.config.AppConfig;
@@ -57,12 +63,14 @@ import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.dto.SyncRegistrationDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.packet.RegPacketStatusService;
 import io.mosip.registration.service.sync.PacketSynchService;
+import io.mosip.registration.util.common.PacketFileReclaimer;
 
 /**
  * The implementation class of {@link RegPacketStatusService}to update status of
@@ -91,9 +99,23 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 	@Autowired
 	private RegistrationRepository registrationRepository;
 
+	@Autowired
+	private PacketFileReclaimer packetFileReclaimer;
+
 	@Value("${mosip.registration.rid_sync_batch_size:10}")
 	private int batchCount;
 
+	@Value("${mosip.registration.packet.purge.batch.size:100}")
+	private int purgeBatchSize;
+
+	@Value("${mosip.registration.packet.status.sync.max.inflight.requests:3}")
+	private int maxInflightStatusRequests;
+
+	private final Object purgeLock = new Object();
+
+	/** Shared by the runs of the packet status sync, created on first use */
+	private ExecutorService statusExecutor;
+
 	private static final Logger LOGGER = AppConfig.getLogger(RegPacketStatusServiceImpl.class);
 
 	/*
@@ -103,22 +125,28 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 	 * deleteRegistrationPackets()
 	 */
 	@Override
-	public synchronized ResponseDTO deleteRegistrationPackets() {
+	public ResponseDTO deleteRegistrationPackets() {
 
 		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID, "Delete  Reg-packets started");
 
 		ResponseDTO responseDTO = new ResponseDTO();
 
 		try {
-			/* Get Registrations to be deleted */
-			List<Registration> registrations = registrationDAO.get(
-					getPacketDeletionLastDate(Timestamp.valueOf(DateUtils.getUTCCurrentDateTime())),
-					RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
-
-			if (!isNull(registrations) && !isEmpty(registrations)) {
+			/* Get Registrations to be deleted, a page at a time */
+			Timestamp deletionLastDate = getPacketDeletionLastDate(
+					Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()));
+			int pageSize = Math.max(1, purgeBatchSize);
+			String lastId = RegistrationConstants.EMPTY;
+			List<RegistrationPacketView> registrations;
+			do {
+				registrations = registrationDAO.getPacketsCreatedBefore(deletionLastDate,
+						RegistrationConstants.PACKET_STATUS_CODE_PROCESSED, lastId, pageSize);
+				if (isNull(registrations) || isEmpty(registrations)) {
+					break;
+				}
+				lastId = registrations.get(registrations.size() - 1).getId();
 				deleteRegistrations(registrations);
-
-			}
+			} while (registrations.size() == pageSize);
 
 			setSuccessResponse(responseDTO, RegistrationConstants.REGISTRATION_DELETION_BATCH_JOBS_SUCCESS, null);
 
@@ -148,21 +176,30 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		LOGGER.info("REGISTRATION - DELETE-PACKETS-WHEN-MACHINE-REMAPPED - REG_PACKET_STATUS_SERVICE", APPLICATION_NAME,
 				APPLICATION_ID, "packet deletion when the machine is remapped is started");
 
-		List<Registration> registrations = registrationDAO
-				.findByServerStatusCodeIn(RegistrationConstants.PACKET_STATUS_CODES_FOR_REMAPDELETE);
-		if (registrations != null && !registrations.isEmpty()) {
+		int pageSize = Math.max(1, purgeBatchSize);
+		String lastId = RegistrationConstants.EMPTY;
+		List<RegistrationPacketView> registrations;
+		do {
+			registrations = registrationDAO.getPacketsByServerStatus(
+					RegistrationConstants.PACKET_STATUS_CODES_FOR_REMAPDELETE, lastId, pageSize);
+			if (registrations == null || registrations.isEmpty()) {
+				break;
+			}
+			lastId = registrations.get(registrations.size() - 1).getId();
 
-			for (Registration registration : registrations) {
+			List<RegistrationPacketView> deletableRegistrations = new ArrayList<>();
+			for (RegistrationPacketView registration : registrations) {
 				if (RegistrationConstants.PACKET_STATUS_CODE_REREGISTER
 						.equalsIgnoreCase(registration.getServerStatusCode())) {
 					if (RegistrationClientStatusCode.RE_REGISTER.getCode()
 							.equalsIgnoreCase(registration.getClientStatusCode()))
-						delete(registration);
+						deletableRegistrations.add(registration);
 				} else {
-					delete(registration);
+					deletableRegistrations.add(registration);
 				}
 			}
-		}
+			purge(deletableRegistrations);
+		} while (registrations.size() == pageSize);
 
 	}
 
@@ -190,11 +227,13 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
 				"updating packets sync status from server has been started");
 		try {
+			Map<String, String> serverStatusByRegistrationId = new LinkedHashMap<>();
 			for (LinkedHashMap<String, String> registrationStatus : registrationStatuses) {
-				registrationRepository.updateRegistrationServerStatus(registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_REGISTRATION_ID),
-						registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE),
-						new Timestamp(System.currentTimeMillis()));
+				serverStatusByRegistrationId.put(
+						registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_REGISTRATION_ID),
+						registrationStatus.get(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE));
 			}
+			regPacketStatusDAO.updateServerStatus(serverStatusByRegistrationId, new Timestamp(System.currentTimeMillis()));
 			LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
 					"updating packets sync status from server has been ended");
 		} catch (RuntimeException runtimeException) {
@@ -229,28 +268,47 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 
 		ResponseDTO response = new ResponseDTO();
 		try {
-			Registration registration = registrationRepository.findTopByOrderByUpdDtimesDesc();
-			Timestamp currentTimeLimit = registration == null ? Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()) : registration.getUpdDtimes();
-
-			Pageable pageable = PageRequest.of(0, batchCount, Sort.by(Sort.Direction.ASC, "updDtimes"));
-			Slice<Registration> registrationSlice = null;
-
-			do {
-				if(registrationSlice != null)
-					pageable = registrationSlice.nextPageable();
-
-				registrationSlice = registrationRepository.findByClientStatusCodeOrClientStatusCommentsAndUpdDtimesLessThanEqual(
-						RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode(),
-						RegistrationClientStatusCode.EXPORT.getCode(), currentTimeLimit, pageable);
-
-				if (!registrationSlice.getContent().isEmpty()) {
-					try {
-						syncPacketStatus(triggerPoint, registrationSlice.getContent());
-					} catch (Exception e) {
-						LOGGER.error("Failed to sync packet status of current batch", e);
+			Timestamp latestUpdDtimes = registrationRepository.findLatestUpdDtimes();
+			Timestamp currentTimeLimit = latestUpdDtimes == null ? Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()) : latestUpdDtimes;
+
+			/*
+			 * Pages are read with the update time and id of the last registration read,
+			 * and the next page is fetched while the status of the previous pages is
+			 * being requested
+			 */
+			Pageable pageable = PageRequest.of(0, batchCount);
+			Timestamp lastUpdDtimes = new Timestamp(0);
+			String lastId = RegistrationConstants.EMPTY;
+			List<RegistrationPacketView> registrations;
+			ExecutorService statusRequestExecutor = getStatusExecutor();
+			Deque<Future<?>> inflightRequests = new ArrayDeque<>();
+			try {
+				do {
+					registrations = registrationRepository.findByClientStatusAfter(
+							RegistrationClientStatusCode.UPLOADED_SUCCESSFULLY.getCode(),
+							RegistrationClientStatusCode.EXPORT.getCode(), currentTimeLimit, lastUpdDtimes, lastId,
+							pageable);
+
+					if (!registrations.isEmpty()) {
+						RegistrationPacketView lastRegistration = registrations.get(registrations.size() - 1);
+						lastUpdDtimes = lastRegistration.getUpdDtimes();
+						lastId = lastRegistration.getId();
+
+						if (inflightRequests.size() >= Math.max(1, maxInflightStatusRequests)) {
+							awaitPacketStatusSync(inflightRequests.poll());
+						}
+						List<RegistrationPacketView> registrationsToSyncStatus = registrations;
+						inflightRequests.add(statusRequestExecutor.submit(() -> {
+							syncPacketStatus(triggerPoint, registrationsToSyncStatus);
+							return null;
+						}));
 					}
+				} while (registrations.size() == batchCount);
+			} finally {
+				while (!inflightRequests.isEmpty()) {
+					awaitPacketStatusSync(inflightRequests.poll());
 				}
-			} while (registrationSlice != null && registrationSlice.hasNext());
+			}
 
 			SuccessResponseDTO successResponse = new SuccessResponseDTO();
 			successResponse.setCode(RegistrationConstants.ALERT_INFORMATION);
@@ -270,13 +328,45 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		return response;
 	}
 
-	private void syncPacketStatus(String triggerPoint, List<Registration> registrationsToSyncStatus) throws Exception {
+	private synchronized ExecutorService getStatusExecutor() {
+		if (statusExecutor == null) {
+			AtomicInteger threadCount = new AtomicInteger();
+			statusExecutor = Executors.newFixedThreadPool(Math.max(1, maxInflightStatusRequests), runnable -> {
+				Thread thread = new Thread(runnable, "packet-status-sync-" + threadCount.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return statusExecutor;
+	}
+
+	@PreDestroy
+	public synchronized void shutdownStatusExecutor() {
+		if (statusExecutor != null) {
+			statusExecutor.shutdownNow();
+			statusExecutor = null;
+		}
+	}
+
+	private void awaitPacketStatusSync(Future<?> statusRequest) {
+		try {
+			statusRequest.get();
+		} catch (ExecutionException executionException) {
+			LOGGER.error("Failed to sync packet status of current batch", executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			LOGGER.error("Interrupted while syncing packet status of current batch", interruptedException);
+		}
+	}
+
+	private void syncPacketStatus(String triggerPoint, List<RegistrationPacketView> registrationsToSyncStatus)
+			throws Exception {
 		if(registrationsToSyncStatus == null || registrationsToSyncStatus.isEmpty())
 			return;
 
 		PacketStatusReaderDTO packetStatusReaderDTO = new PacketStatusReaderDTO();
 		List<RegistrationIdDTO> registrationIdDTOs = new ArrayList<>();
-		for (Registration registration : registrationsToSyncStatus) {
+		for (RegistrationPacketView registration : registrationsToSyncStatus) {
 			RegistrationIdDTO registrationIdDTO = new RegistrationIdDTO();
 			registrationIdDTO.setRegistrationId(registration.getId());
 			registrationIdDTOs.add(registrationIdDTO);
@@ -311,35 +401,64 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 	 * deleteRegistrations(java.util.List)
 	 */
 	@Override
-	public void deleteRegistrations(final List<Registration> registrations) {
-		for (Registration registration : registrations) {
+	public void deleteRegistrations(final List<? extends RegistrationPacketView> registrations) {
+		List<RegistrationPacketView> processedRegistrations = new ArrayList<>();
+		for (RegistrationPacketView registration : registrations) {
 
 			if (registration.getServerStatusCode()
 					.equalsIgnoreCase(RegistrationConstants.PACKET_STATUS_CODE_PROCESSED)) {
-				/* Delete Registration */
-				delete(registration);
+				processedRegistrations.add(registration);
 			}
 		}
 
+		/* Delete Registrations */
+		purge(processedRegistrations);
 	}
 
-	private void delete(Registration registration) {
-		File ackFile = null;
-		File zipFile = null;
-		String ackPath = registration.getAckFilename();
-		ackFile = FileUtils.getFile(ackPath);
-		String zipPath = ackPath.replace("_Ack.html", RegistrationConstants.ZIP_FILE_EXTENSION);
-		zipFile = FileUtils.getFile(zipPath);
+	/**
+	 * Deletes the registrations in batches. The rows of a batch are deleted in a
+	 * single transaction, after the files of the batch are recorded in a
+	 * tombstone, and the files are then deleted asynchronously. Files left behind
+	 * by an earlier purge which did not complete are deleted first.
+	 *
+	 * @param registrations
+	 *            the registrations to be deleted
+	 */
+	private void purge(List<RegistrationPacketView> registrations) {
+		synchronized (purgeLock) {
+			packetFileReclaimer.recover();
+
+			int batchSize = Math.max(1, purgeBatchSize);
+			for (int fromIndex = 0; fromIndex < registrations.size(); fromIndex += batchSize) {
+				List<RegistrationPacketView> batch = registrations.subList(fromIndex,
+						Math.min(fromIndex + batchSize, registrations.size()));
+				List<String> registrationIds = new ArrayList<>();
+				for (RegistrationPacketView registration : batch) {
+					registrationIds.add(registration.getId());
+				}
 
-		if (zipFile.exists()) {
+				File tombstone;
+				try {
+					tombstone = packetFileReclaimer.writeTombstone(batch);
+				} catch (IOException ioException) {
+					throw new RegBaseUncheckedException(RegistrationConstants.PACKET_PURGE_EXCEPTION,
+							ioException.getMessage(), ioException);
+				}
+
+				try {
+					/* Delete rows from DB */
+					regPacketStatusDAO.deleteAll(registrationIds);
+				} catch (RuntimeException runtimeException) {
+					packetFileReclaimer.discard(tombstone);
+					throw runtimeException;
+				}
 
-			Files.delete(ackFile);
-			Files.delete(zipFile);
+				packetFileReclaimer.reclaim(tombstone);
 
+				LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
+						"Deleted " + registrationIds.size() + " registrations");
+			}
 		}
-
-		/* Delete row from DB */
-		regPacketStatusDAO.delete(registration);
 	}
 
 	/*
@@ -363,25 +482,30 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 
 			Registration registration = registrationRepository.findTopByOrderByUpdDtimesDesc();
 			Timestamp currentTimeLimit = registration == null ? Timestamp.valueOf(DateUtils.getUTCCurrentDateTime()) : registration.getUpdDtimes();
-			Pageable pageable = PageRequest.of(0, batchCount, Sort.by(Sort.Direction.ASC, "updDtimes"));
-			Slice<Registration> registrationSlice = null;
+			/*
+			 * Pages are read after the id of the last registration read, as the synced
+			 * registrations leave the status codes read and would shift an offset
+			 */
+			String lastId = RegistrationConstants.EMPTY;
+			List<RegistrationPacketView> registrations;
 
 			do {
-				if(registrationSlice != null)
-					pageable = registrationSlice.nextPageable();
-
-				registrationSlice = registrationRepository.findByClientStatusCodeInAndUpdDtimesLessThanEqual(RegistrationConstants.PACKET_STATUS,
-								currentTimeLimit, pageable);
+				registrations = registrationDAO.getPacketsToSync(RegistrationConstants.PACKET_STATUS, currentTimeLimit,
+						lastId, batchCount);
+				if (registrations == null || registrations.isEmpty()) {
+					break;
+				}
+				lastId = registrations.get(registrations.size() - 1).getId();
 
 				try {
-					syncPacketBatch(triggerPoint, registrationSlice.getContent());
+					syncPacketBatch(triggerPoint, registrations);
 					successResponseDTO.setMessage(RegistrationConstants.SUCCESS);
 					responseDTO.setSuccessResponseDTO(successResponseDTO);
 					LOGGER.debug("Sync the packets to the server batch ended");
 				} catch (Exception e) {
 					LOGGER.error("Failed to sync registration to server batch", e);
 				}
-			} while(registrationSlice != null && registrationSlice.hasNext());
+			} while (registrations.size() == batchCount);
 
 		} catch (Throwable t) {
 			LOGGER.error("Registration sync batch failed", t);
@@ -393,13 +517,13 @@ public class RegPacketStatusServiceImpl extends BaseService implements RegPacket
 		return responseDTO;
 	}
 
-	private void syncPacketBatch(String triggerPoint, List<Registration> registrationToSync) throws Exception {
+	private void syncPacketBatch(String triggerPoint, List<RegistrationPacketView> registrationToSync) throws Exception {
 		if(registrationToSync == null || registrationToSync.isEmpty())
 			return;
 
 		List<PacketStatusDTO> packetDto = new ArrayList<>();
 		List<SyncRegistrationDTO> syncDtoList = new ArrayList<>();
-		for (Registration reg : registrationToSync) {
+		for (RegistrationPacketView reg : registrationToSync) {
 			PacketStatusDTO packetStatusDTO = packetStatusDtoPreperation(reg);
 			packetDto.add(packetStatusDTO);
 			SyncRegistrationDTO syncDto = new SyncRegistrationDTO();
@@ -7,7 +7,6 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import io.mosip.registration.exception.RemapException;
 import io.mosip.registration.service.remap.RemapStatus;
@@ -37,7 +36,6 @@ import io.mosip.registration.dao.RegistrationDAO;
 import io.mosip.registration.dao.SyncJobConfigDAO;
 import io.mosip.registration.entity.GlobalParam;
 import io.mosip.registration.entity.PreRegistrationList;
-import io.mosip.registration.entity.Registration;
 import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.entity.id.GlobalParamId;
 import io.mosip.registration.exception.RegBaseCheckedException;
@@ -241,13 +239,8 @@ public class CenterMachineReMapServiceImpl implements CenterMachineReMapService
 	 */
 	@Override
 	public boolean isPacketsPendingForProcessing() {
-		List<Registration> registrations = registrationDAO
-				.findByServerStatusCodeNotIn(RegistrationConstants.PACKET_STATUS_CODES_FOR_REMAPDELETE);
-		registrations = registrations.stream()
-				.filter(reg -> !reg.getClientStatusCode().equalsIgnoreCase("RE_REGISTER_APPROVED"))
-				.collect(Collectors.toList());
-
-		return registrations != null && !registrations.isEmpty();
+		return registrationDAO.isPendingForProcessing(RegistrationConstants.PACKET_STATUS_CODES_FOR_REMAPDELETE,
+				"RE_REGISTER_APPROVED");
 	}
 
 	/*
@@ -259,14 +252,13 @@ public class CenterMachineReMapServiceImpl implements CenterMachineReMapService
 	@Override
 	public boolean isPacketsPendingForEOD() {
 
-		return isNotNullNotEmpty(registrationDAO.getEnrollmentByStatus(RegistrationClientStatusCode.CREATED.getCode()));
+		return registrationDAO.isPacketPresent(RegistrationClientStatusCode.CREATED.getCode());
 	}
 
 	@Override
 	public boolean isPacketsPendingForReRegister() {
 
-		return (registrationDAO.fetchReRegisterPendingPackets() != null
-				&& registrationDAO.fetchReRegisterPendingPackets().size() > 0) ? true : false;
+		return registrationDAO.isReRegisterPending();
 	}
 
 	/**
@@ -1,6 +1,7 @@
 package io.mosip.registration.service.sync;
 
 import java.util.List;
+import java.util.Map;
 
 import io.mosip.registration.dto.IndividualTypeDto;
 import io.mosip.registration.dto.ResponseDTO;
@@ -51,6 +52,14 @@ public interface MasterSyncService {
 	 */
 	List<GenericDto> findLocationByHierarchyCode(int hierarchyLevel, String langCode) throws RegBaseCheckedException;
 
+	/**
+	 * Gets the hierarchy level of each location hierarchy name.
+	 *
+	 * @param langCode the lang code
+	 * @return the hierarchy level mapped to the hierarchy name
+	 */
+	Map<String, Integer> getLocationHierarchyLevels(String langCode);
+
 	/**
 	 * Find proviance by hierarchy code.
 	 *
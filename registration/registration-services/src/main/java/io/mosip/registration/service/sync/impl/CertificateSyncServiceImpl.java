@@ -21,6 +21,7 @@ import io.mosip.registration.entity.SyncControl;
 import io.mosip.registration.entity.SyncTransaction;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.jobs.SyncManager;
+import io.mosip.registration.mdm.service.impl.DeviceTrustCache;
 import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.sync.CertificateSyncService;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
@@ -62,6 +63,9 @@ public class CertificateSyncServiceImpl extends BaseService implements Certifica
     @Autowired
     private PartnerCertificateManagerService partnerCertificateManagerService;
 
+    @Autowired
+    private DeviceTrustCache deviceTrustCache;
+
     @Value("${mosip.registration.mdm.trust.domain.rcapture:DEVICE}")
     private String rCaptureTrustDomain;
 
@@ -119,6 +123,7 @@ public class CertificateSyncServiceImpl extends BaseService implements Certifica
             trustedDomains.add(deviceInfoTrustDomain);
             trustedDomains.add(digitalIdTrustDomain);
 
+            int savedCount = 0;
             for(CaCertificateDto cert : certs) {
                 if(trustedDomains.contains(cert.getPartnerDomain().toUpperCase())) {
                     try {
@@ -127,11 +132,16 @@ public class CertificateSyncServiceImpl extends BaseService implements Certifica
                         caCertificateRequestDto.setPartnerDomain(cert.getPartnerDomain());
                         CACertificateResponseDto caCertificateResponseDto = partnerCertificateManagerService.uploadCACertificate(caCertificateRequestDto);
                         LOGGER.debug(caCertificateResponseDto.getStatus());
+                        savedCount++;
                     } catch (Exception exception) {
                         LOGGER.error("Failed to save CA cert : " + cert.getCertId(), exception);
                     }
                 }
             }
+            //Device certificates are validated again against the synced CA certificates
+            if(savedCount > 0)
+                deviceTrustCache.invalidateAll();
+
             return saveLastSuccessfulSyncTime(responseDTO, triggerPoint,
                     responseMap.get(LAST_SYNC_TIME) == null ? null : responseMap.get(LAST_SYNC_TIME).toString());
 
@@ -52,7 +52,6 @@ import io.mosip.registration.entity.DocumentCategory;
 import io.mosip.registration.entity.DocumentType;
 import io.mosip.registration.entity.Gender;
 import io.mosip.registration.entity.IndividualType;
-import io.mosip.registration.entity.Location;
 import io.mosip.registration.entity.ReasonCategory;
 import io.mosip.registration.entity.ReasonList;
 import io.mosip.registration.entity.SyncControl;
@@ -66,6 +65,7 @@ import io.mosip.registration.service.BaseService;
 import io.mosip.registration.service.config.GlobalParamService;
 import io.mosip.registration.service.sync.MasterSyncService;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
+import io.mosip.registration.util.mastersync.LocationHierarchyIndex;
 import io.mosip.registration.util.mastersync.MapperUtils;
 
 /**
@@ -120,6 +120,9 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	/** Object for Logger. */
 	private static final Logger LOGGER = AppConfig.getLogger(MasterSyncServiceImpl.class);
 
+	/** Index of the synced locations, rebuilt after every successful master sync */
+	private volatile LocationHierarchyIndex locationHierarchyIndex;
+
 	/**
 	 * It invokes the Master Sync service to download the required information from
 	 * external services if the system is online. Once download, the data would be
@@ -162,17 +165,7 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	public List<GenericDto> findLocationByHierarchyCode(int hierarchyLevel, String langCode)
 			throws RegBaseCheckedException {
 
-		List<GenericDto> locationDto = new ArrayList<>();
-		List<Location> masterLocation = masterSyncDao.findLocationByLangCode(hierarchyLevel, langCode);
-
-		for (Location masLocation : masterLocation) {
-			GenericDto location = new GenericDto();
-			location.setCode(masLocation.getCode());
-			location.setName(masLocation.getName());
-			location.setLangCode(masLocation.getLangCode());
-			locationDto.add(location);
-		}
-		return locationDto;
+		return getLocationHierarchyIndex().getLocations(hierarchyLevel, langCode);
 	}
 
 	/**
@@ -186,17 +179,9 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	@Override
 	public List<GenericDto> findProvianceByHierarchyCode(String code, String langCode) throws RegBaseCheckedException {
 
-		List<GenericDto> locationDto = new ArrayList<>();
+		List<GenericDto> locationDto;
 		if (codeAndlangCodeNullCheck(code, langCode)) {
-			List<Location> masterLocation = masterSyncDao.findLocationByParentLocCode(code, langCode);
-
-			for (Location masLocation : masterLocation) {
-				GenericDto location = new GenericDto();
-				location.setCode(masLocation.getCode());
-				location.setName(masLocation.getName());
-				location.setLangCode(masLocation.getLangCode());
-				locationDto.add(location);
-			}
+			locationDto = getLocationHierarchyIndex().getChildren(code, langCode);
 		} else {
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
 					RegistrationConstants.CODE_AND_LANG_CODE_MANDATORY);
@@ -207,6 +192,50 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 		return locationDto;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see io.mosip.registration.service.sync.MasterSyncService#
+	 * getLocationHierarchyLevels(java.lang.String)
+	 */
+	@Override
+	public Map<String, Integer> getLocationHierarchyLevels(String langCode) {
+		return getLocationHierarchyIndex().getHierarchyLevels(langCode);
+	}
+
+	private LocationHierarchyIndex getLocationHierarchyIndex() {
+		LocationHierarchyIndex index = locationHierarchyIndex;
+		if (index == null) {
+			synchronized (this) {
+				index = locationHierarchyIndex;
+				if (index == null) {
+					index = refreshLocationHierarchyIndex();
+				}
+			}
+		}
+		return index;
+	}
+
+	private void onLocationsSynced() {
+		try {
+			refreshLocationHierarchyIndex();
+		} catch (RuntimeException runtimeException) {
+			/* Built again on the next lookup */
+			locationHierarchyIndex = null;
+			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
+					ExceptionUtils.getStackTrace(runtimeException));
+		}
+	}
+
+	private synchronized LocationHierarchyIndex refreshLocationHierarchyIndex() {
+		long start = System.currentTimeMillis();
+		LocationHierarchyIndex index = LocationHierarchyIndex.build(masterSyncDao.getLocationDetails());
+		locationHierarchyIndex = index;
+		LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
+				"Location hierarchy index built in (ms) : " + (System.currentTimeMillis() - start));
+		return index;
+	}
+
 	/**
 	 * Gets all the reasons for rejection that to be selected during EOD approval
 	 * process.
@@ -628,7 +657,8 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 			}
 
 			if (null != masterSyncResponse.get(RegistrationConstants.RESPONSE)) {
-				saveClientSettings(masterSyncDtls, triggerPoint, masterSyncResponse, responseDTO);
+				saveClientSettings(masterSyncDtls, triggerPoint, masterSyncResponse, responseDTO,
+						requestParam.containsKey(RegistrationConstants.MASTER_DATA_LASTUPDTAE));
 				return responseDTO;
 			}
 
@@ -645,18 +675,21 @@ public class MasterSyncServiceImpl extends BaseService implements MasterSyncServ
 	}
 
 	private void saveClientSettings(String masterSyncDtls, String triggerPoint,
-			LinkedHashMap<String, Object> masterSyncResponse, ResponseDTO responseDTO) throws Exception {
+			LinkedHashMap<String, Object> masterSyncResponse, ResponseDTO responseDTO, boolean deltaSync)
+			throws Exception {
 		LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "save Client Settings started...");
-		String jsonString = MapperUtils
-				.convertObjectToJsonString(masterSyncResponse.get(RegistrationConstants.RESPONSE));
-		SyncDataResponseDto syncDataResponseDto = MapperUtils.convertJSONStringToDto(jsonString,
-				new TypeReference<SyncDataResponseDto>() {
+		SyncDataResponseDto syncDataResponseDto = MapperUtils.convertObjectToDto(
+				masterSyncResponse.get(RegistrationConstants.RESPONSE), new TypeReference<SyncDataResponseDto>() {
 				});
 
-		String response = masterSyncDao.saveSyncData(syncDataResponseDto);
+		/* The entity types saved after the last committed sync are not saved again */
+		SyncControl syncControl = masterSyncDao.syncJobDetails(masterSyncDtls);
+		String response = masterSyncDao.saveSyncData(syncDataResponseDto, deltaSync,
+				syncControl == null ? null : syncControl.getLastSyncDtimes());
 
 		if (response.equals(RegistrationConstants.SUCCESS)) {
 			setSuccessResponse(responseDTO, RegistrationConstants.MASTER_SYNC_SUCCESS, null);
+			onLocationsSynced();
 			SyncTransaction syncTransaction = syncManager.createSyncTransaction(
 					RegistrationConstants.JOB_EXECUTION_SUCCESS, RegistrationConstants.JOB_EXECUTION_SUCCESS,
 					triggerPoint, masterSyncDtls);
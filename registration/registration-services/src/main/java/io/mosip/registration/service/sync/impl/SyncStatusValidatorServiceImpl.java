@@ -4,6 +4,7 @@ import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_
 import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
 
 import java.io.File;
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -31,12 +32,12 @@ import io.mosip.registration.dao.GlobalParamDAO;
 import io.mosip.registration.dao.RegistrationCenterDAO;
 import io.mosip.registration.dao.SyncJobConfigDAO;
 import io.mosip.registration.dao.SyncJobControlDAO;
+import io.mosip.registration.dao.SyncJobControlDAO.RegistrationSummary;
 import io.mosip.registration.dao.SyncJobControlDAO.SyncJobInfo;
 import io.mosip.registration.device.gps.GPSFacade;
 import io.mosip.registration.dto.ErrorResponseDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.entity.GlobalParam;
-import io.mosip.registration.entity.Registration;
 import io.mosip.registration.entity.SyncControl;
 import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.entity.id.GlobalParamId;
@@ -211,10 +212,8 @@ public class SyncStatusValidatorServiceImpl extends BaseService implements SyncS
 	 */
 	private void validatingLastExportDurationAndYetToExportCount(List<ErrorResponseDTO> errorResponseDTOList,
 			SyncJobInfo syncJobInfo) {
-		List<Registration> lastExportedRegistrations = syncJobInfo.getLastExportRegistrationList();
-		if (!lastExportedRegistrations.isEmpty()) {
-			Date lastSyncDate = new Date(
-					lastExportedRegistrations.get(RegistrationConstants.PARAM_ZERO).getUpdDtimes().getTime());
+		if (syncJobInfo.getLastExportDate() != null) {
+			Date lastSyncDate = new Date(syncJobInfo.getLastExportDate().getTime());
 			if (ApplicationContext.map().get(RegistrationConstants.OPT_TO_REG_LAST_EXPORT_REG_PKTS_TIME) != null
 					&& Integer.parseInt(String.valueOf(ApplicationContext.map()
 							.get(RegistrationConstants.OPT_TO_REG_LAST_EXPORT_REG_PKTS_TIME))) <= getActualDays(
@@ -249,7 +248,7 @@ public class SyncStatusValidatorServiceImpl extends BaseService implements SyncS
 		LOGGER.info(LoggerConstants.OPT_TO_REG_LOGGER_SESSION_ID, APPLICATION_NAME, APPLICATION_ID,
 				"Fetching Registration details where status is Registered");
 
-		List<Registration> registrationDetails = syncJObDao.getRegistrationDetails();
+		RegistrationSummary registrationSummary = syncJObDao.getRegistrationSummary();
 
 		LOGGER.info(LoggerConstants.OPT_TO_REG_LOGGER_SESSION_ID, APPLICATION_NAME, APPLICATION_ID,
 				"Validating the count of packets of status Registered with configured value");
@@ -257,7 +256,7 @@ public class SyncStatusValidatorServiceImpl extends BaseService implements SyncS
 		auditFactory.audit(AuditEvent.PENDING_PKT_CNT_VALIDATE, Components.SYNC_VALIDATE,
 				RegistrationConstants.APPLICATION_NAME, AuditReferenceIdTypes.APPLICATION_ID.getReferenceTypeId());
 
-		if (registrationDetails.size() >= Integer.parseInt(
+		if (registrationSummary.getCount() >= Integer.parseInt(
 				String.valueOf(ApplicationContext.map().get(RegistrationConstants.REG_PAK_MAX_CNT_APPRV_LIMIT)))) {
 
 			getErrorResponse(RegistrationConstants.PAK_APPRVL_MAX_CNT, RegistrationConstants.REG_PKT_APPRVL_CNT_EXCEED,
@@ -276,8 +275,7 @@ public class SyncStatusValidatorServiceImpl extends BaseService implements SyncS
 		auditFactory.audit(AuditEvent.PENDING_PKT_DUR_VALIDATE, Components.SYNC_VALIDATE,
 				RegistrationConstants.APPLICATION_NAME, AuditReferenceIdTypes.APPLICATION_ID.getReferenceTypeId());
 
-		if (getDifference(!registrationDetails.isEmpty() ? registrationDetails.get(RegistrationConstants.PARAM_ZERO)
-				: null) < 0) {
+		if (getDifference(registrationSummary.getOldestCrDtime()) < 0) {
 
 			getErrorResponse(RegistrationConstants.PAK_APPRVL_MAX_TIME,
 					RegistrationConstants.REG_PKT_APPRVL_TIME_EXCEED, RegistrationConstants.ERROR,
@@ -400,9 +398,9 @@ public class SyncStatusValidatorServiceImpl extends BaseService implements SyncS
 	 * 
 	 * @return long
 	 */
-	private long getDifference(Registration registration) {
+	private long getDifference(Timestamp crDtime) {
 
-		if (registration != null && registration.getCrDtime() != null) {
+		if (crDtime != null) {
 
 			/* This will subtract configured number of days from current Date */
 			Date differDate = new Date(new Date().getTime() - (Long
@@ -411,7 +409,7 @@ public class SyncStatusValidatorServiceImpl extends BaseService implements SyncS
 					* 24 * 3600 * 1000));
 
 			/* This will convert timestamp to Date */
-			Date createdDate = new Date(registration.getCrDtime().getTime());
+			Date createdDate = new Date(crDtime.getTime());
 
 			/* This will return differnce between 2 dates in minutes */
 			return ChronoUnit.MINUTES.between(differDate.toInstant(), createdDate.toInstant());
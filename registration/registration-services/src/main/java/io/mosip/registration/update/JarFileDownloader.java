@@ -0,0 +1,150 @@
+package io.mosip.registration.update;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import javax.xml.bind.DatatypeConverter;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.LoggerConstants;
+
+/**
+ * Downloads a file while computing its SHA-256 in the same pass over the
+ * network stream. The content is written to a <code>.part</code> file next to
+ * the target, which is resumed with a HTTP range request when a previous
+ * download was interrupted, and moved to the target only after the checksum
+ * matches.
+ */
+public class JarFileDownloader {
+
+	private static final Logger LOGGER = AppConfig.getLogger(JarFileDownloader.class);
+	private static final String HASH_ALGORITHM = "SHA-256";
+	private static final String PART_SUFFIX = ".part";
+	private static final String RANGE = "Range";
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final int connectionTimeout;
+	private final int readTimeout;
+
+	public JarFileDownloader(int connectionTimeout, int readTimeout) {
+		this.connectionTimeout = connectionTimeout;
+		this.readTimeout = readTimeout;
+	}
+
+	/**
+	 * Downloads the url to the target file
+	 *
+	 * @param url
+	 *            the url of the file
+	 * @param target
+	 *            the file to be replaced once the download is verified
+	 * @param expectedCheckSum
+	 *            SHA-256 the downloaded content should match, not verified if null
+	 * @return SHA-256 of the downloaded content in upper case hex
+	 * @throws IOException
+	 *             if the download fails or the checksum does not match
+	 * @throws NoSuchAlgorithmException
+	 */
+	public String download(String url, File target, String expectedCheckSum)
+			throws IOException, NoSuchAlgorithmException {
+		File partFile = new File(target.getPath() + PART_SUFFIX);
+		long downloadedLength = partFile.exists() ? partFile.length() : 0;
+
+		URLConnection connection = new URL(url).openConnection();
+		connection.setConnectTimeout(connectionTimeout);
+		connection.setReadTimeout(readTimeout);
+		if (downloadedLength > 0) {
+			connection.setRequestProperty(RANGE, "bytes=" + downloadedLength + "-");
+		}
+
+		boolean resume = false;
+		if (connection instanceof HttpURLConnection) {
+			int responseCode = ((HttpURLConnection) connection).getResponseCode();
+			if (responseCode == HttpURLConnection.HTTP_PARTIAL) {
+				resume = downloadedLength > 0;
+			} else if (responseCode == 416 && downloadedLength > 0) {
+				// Range not satisfiable, the partial file is stale
+				((HttpURLConnection) connection).disconnect();
+				Files.deleteIfExists(partFile.toPath());
+				return download(url, target, expectedCheckSum);
+			} else if (responseCode != HttpURLConnection.HTTP_OK) {
+				((HttpURLConnection) connection).disconnect();
+				throw new IOException("Failed to download " + url + " response code : " + responseCode);
+			}
+		}
+
+		MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+		if (resume) {
+			LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
+					"Resuming download of " + target.getName() + " from byte " + downloadedLength);
+			updateDigest(messageDigest, partFile);
+		}
+
+		if (target.getParentFile() != null) {
+			Files.createDirectories(target.getParentFile().toPath());
+		}
+		try (InputStream inputStream = connection.getInputStream();
+				OutputStream outputStream = new FileOutputStream(partFile, resume)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				messageDigest.update(buffer, 0, read);
+				outputStream.write(buffer, 0, read);
+			}
+		}
+
+		String checkSum = DatatypeConverter.printHexBinary(messageDigest.digest());
+		if (expectedCheckSum != null && !expectedCheckSum.equalsIgnoreCase(checkSum)) {
+			Files.deleteIfExists(partFile.toPath());
+			if (resume) {
+				// the partial content may belong to an older file, download it once again
+				return download(url, target, expectedCheckSum);
+			}
+			throw new IOException("Checksum mismatch for downloaded file " + target.getName());
+		}
+
+		Files.move(partFile.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		return checkSum;
+	}
+
+	/**
+	 * Computes the checksum of a local file, the way a downloaded one is
+	 * verified
+	 *
+	 * @param file
+	 *            the file
+	 * @return SHA-256 of the file in upper case hex
+	 * @throws IOException
+	 * @throws NoSuchAlgorithmException
+	 */
+	public static String getCheckSum(File file) throws IOException, NoSuchAlgorithmException {
+		MessageDigest messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+		updateDigest(messageDigest, file);
+		return DatatypeConverter.printHexBinary(messageDigest.digest());
+	}
+
+	private static void updateDigest(MessageDigest messageDigest, File file) throws IOException {
+		try (InputStream inputStream = new FileInputStream(file)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				messageDigest.update(buffer, 0, read);
+			}
+		}
+	}
+}
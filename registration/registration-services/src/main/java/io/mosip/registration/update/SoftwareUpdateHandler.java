@@ -12,12 +12,15 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.net.URLConnection;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.NoSuchAlgorithmException;
 import java.sql.Timestamp;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
@@ -25,7 +28,6 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
-import io.mosip.kernel.core.util.HMACUtils2;
 import io.mosip.registration.context.ApplicationContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -84,6 +86,10 @@ public class SoftwareUpdateHandler extends BaseService {
 
 	private static final String READ_TIMEOUT = "mosip.registration.sw.file.download.read.timeout";
 
+	private static final String DOWNLOAD_POOL_SIZE = "mosip.registration.sw.file.download.pool.size";
+
+	private static final int DEFAULT_DOWNLOAD_POOL_SIZE = 4;
+
 	private static Map<String, String> CHECKSUM_MAP;
 	private String currentVersion;
 	private String latestVersion;
@@ -367,17 +373,46 @@ public class SoftwareUpdateHandler extends BaseService {
 		String readTimeout = ApplicationContext.getStringValueFromApplicationMap(READ_TIMEOUT);
 
 		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Checking of jars started");
-		for (String jarFile : checkableJars) {
+		long startTime = System.currentTimeMillis();
+
+		ExecutorService executorService = Executors.newFixedThreadPool(getDownloadPoolSize());
+		try {
+			// Every local jar is hashed again, its size and modified time can be forged
+			List<Future<Boolean>> checks = new LinkedList<>();
+			for (String jarFile : checkableJars) {
 
-			String folder = jarFile.contains(mosip) ? binFolder : libFolder;
+				String folder = jarFile.contains(mosip) ? binFolder : libFolder;
 
-			File jarInFolder = new File(folder + jarFile);
+				File jarInFolder = new File(folder + jarFile);
+				String manifestCheckSum = getCheckSum(jarFile, serverManifest);
 
-			if (!jarInFolder.exists() || !isCheckSumValid(jarInFolder, serverManifest)) {
-				download(version, jarFile, connectionTimeout, readTimeout);
-				LOGGER.info("Successfully downloaded the latest file : {}", jarFile);
+				checks.add(executorService.submit(() -> {
+					if (jarInFolder.exists() && isCheckSumValid(jarInFolder, manifestCheckSum)) {
+						return false;
+					}
+					download(version, jarFile, manifestCheckSum, connectionTimeout, readTimeout);
+					LOGGER.info("Successfully downloaded the latest file : {}", jarFile);
+					return true;
+				}));
 			}
 
+			int downloaded = 0;
+			for (Future<Boolean> check : checks) {
+				try {
+					if (check.get()) {
+						downloaded++;
+					}
+				} catch (ExecutionException executionException) {
+					if (executionException.getCause() instanceof Exception) {
+						throw (Exception) executionException.getCause();
+					}
+					throw executionException;
+				}
+			}
+			LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Checked " + checks.size()
+					+ " jars and downloaded " + downloaded + " in (ms) : " + (System.currentTimeMillis() - startTime));
+		} finally {
+			executorService.shutdownNow();
 		}
 
 		if (version.startsWith("1.2.0")) {
@@ -389,17 +424,19 @@ public class SoftwareUpdateHandler extends BaseService {
 		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID, "Checking of jars completed");
 	}
 
-	protected void download(String version, String fileName, String connectionTimeout, String readTimeout) throws Exception {
+	protected String download(String version, String fileName, String checkSum, String connectionTimeout,
+			String readTimeout) throws Exception {
 		String url = getURL(serverRegClientURL) + version + SLASH + libFolder + fileName;
 		LOGGER.info("invoking url : {}", url);
 		try {
 			if(connectionTimeout == null || connectionTimeout.equals("null") || connectionTimeout.trim().isBlank()) { connectionTimeout = "50000"; }
 			if(readTimeout == null || readTimeout.equals("null") || readTimeout.trim().isBlank()) { readTimeout = "0"; }
 
-			URL fileUrl = new URL(url);
-			org.apache.commons.io.FileUtils.copyURLToFile(fileUrl, new File((fileName.contains("mosip") ? binFolder : libFolder) + File.separator + fileName),
-					Integer.parseInt(connectionTimeout), Integer.parseInt(readTimeout));
-			return;
+			JarFileDownloader jarFileDownloader = new JarFileDownloader(Integer.parseInt(connectionTimeout),
+					Integer.parseInt(readTimeout));
+			return jarFileDownloader.download(url,
+					new File((fileName.contains("mosip") ? binFolder : libFolder) + File.separator + fileName),
+					checkSum);
 
 		} catch (IOException e) {
 			LOGGER.error("Failed to download {}", url, e);
@@ -407,6 +444,16 @@ public class SoftwareUpdateHandler extends BaseService {
 		}
 	}
 
+	private int getDownloadPoolSize() {
+		String poolSize = ApplicationContext.getStringValueFromApplicationMap(DOWNLOAD_POOL_SIZE);
+		try {
+			return poolSize == null || poolSize.trim().isEmpty() ? DEFAULT_DOWNLOAD_POOL_SIZE
+					: Math.max(1, Integer.parseInt(poolSize.trim()));
+		} catch (NumberFormatException exception) {
+			return DEFAULT_DOWNLOAD_POOL_SIZE;
+		}
+	}
+
 	/*private InputStream getInputStreamOfJar(String version, String jarName) throws IOException {
 		return getInputStreamOf(getURL(serverRegClientURL) + version + SLASH + libFolder + jarName);
 
@@ -480,19 +527,16 @@ public class SoftwareUpdateHandler extends BaseService {
 		this.latestVersion = latestVersion;
 	}
 
-	private boolean isCheckSumValid(File jarFile, Manifest manifest) {
+	private boolean isCheckSumValid(File jarFile, String manifestCheckSum) {
 		LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
 				"Checking of checksum started for jar :" + jarFile.getName());
 		String checkSum;
 		try {
-			checkSum = HMACUtils2.digestAsPlainText(Files.readAllBytes(jarFile.toPath()));
-
-			// Get Check sum
-			String manifestCheckSum = getCheckSum(jarFile.getName(), manifest);
+			checkSum = JarFileDownloader.getCheckSum(jarFile);
 
 			LOGGER.info(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
 					"Checking of checksum completed for jar :" + jarFile.getName());
-			return checkSum.equals(manifestCheckSum);
+			return checkSum.equalsIgnoreCase(manifestCheckSum);
 
 		} catch (IOException | NoSuchAlgorithmException ioException) {
 			LOGGER.error(LoggerConstants.LOG_REG_UPDATE, APPLICATION_NAME, APPLICATION_ID,
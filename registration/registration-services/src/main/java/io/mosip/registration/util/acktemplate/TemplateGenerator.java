@@ -55,22 +55,18 @@ import io.mosip.registration.constants.RegistrationClientStatusCode;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
+import io.mosip.registration.dao.DashboardSummaryDAO;
 import io.mosip.registration.dto.RegistrationDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.UiSchemaDTO;
 import io.mosip.registration.dto.packetmanager.BiometricsDto;
-import io.mosip.registration.entity.SyncControl;
 import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.entity.UserDetail;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.service.BaseService;
-import io.mosip.registration.service.config.JobConfigurationService;
 import io.mosip.registration.service.impl.IdentitySchemaServiceImpl;
 import io.mosip.registration.service.operator.UserDetailService;
 import io.mosip.registration.service.operator.UserMachineMappingService;
-import io.mosip.registration.service.packet.RegistrationApprovalService;
-import io.mosip.registration.service.packet.impl.PacketHandlerServiceImpl;
-import io.mosip.registration.service.sync.PacketSynchService;
 import io.mosip.registration.service.sync.impl.MasterSyncServiceImpl;
 import io.mosip.registration.update.SoftwareUpdateHandler;
 
@@ -101,20 +97,11 @@ public class TemplateGenerator extends BaseService {
 	private UserMachineMappingService userMachineMappingService;
 
 	@Autowired
-	private PacketHandlerServiceImpl packetHandlerServiceImpl;
-
-	@Autowired
-	private RegistrationApprovalService registrationApprovalService;
-
-	@Autowired
-	private PacketSynchService packetSynchService;
+	private DashboardSummaryDAO dashboardSummaryDAO;
 
 	@Autowired
 	private MasterSyncServiceImpl masterSyncServiceImpl;
 
-	@Autowired
-	private JobConfigurationService jobConfigurationService;
-	
 	@Autowired
 	private SoftwareUpdateHandler softwareUpdateHandler;
 
@@ -643,10 +630,11 @@ public class TemplateGenerator extends BaseService {
 			templateValues.put(RegistrationConstants.TOTAL_PACKETS_LABEL, applicationLanguageProperties.getString("totalPacketsLabel"));
 			templateValues.put(RegistrationConstants.PENDING_EOD_LABEL, applicationLanguageProperties.getString("pendingEODLabel"));
 			templateValues.put(RegistrationConstants.PENDING_UPLOAD_LABEL, applicationLanguageProperties.getString("pendingUploadLabel"));
-			templateValues.put(RegistrationConstants.TOTAL_PACKETS_COUNT, packetHandlerServiceImpl.getAllRegistrations().size());
-			templateValues.put(RegistrationConstants.PENDING_EOD_COUNT, registrationApprovalService
-					.getEnrollmentByStatus(RegistrationClientStatusCode.CREATED.getCode()).size());
-			templateValues.put(RegistrationConstants.PENDING_UPLOAD_COUNT, packetSynchService.fetchPacketsToBeSynched().size());
+			/* Kept up to date as the registrations are written, rather than counted here */
+			templateValues.put(RegistrationConstants.TOTAL_PACKETS_COUNT, dashboardSummaryDAO.getRegistrationCount());
+			templateValues.put(RegistrationConstants.PENDING_EOD_COUNT,
+					dashboardSummaryDAO.getRegistrationCount(RegistrationClientStatusCode.CREATED.getCode()));
+			templateValues.put(RegistrationConstants.PENDING_UPLOAD_COUNT, dashboardSummaryDAO.getPendingUploadCount());
 
 			Map<String, Map<String, Object>> userDetails = setUserDetails();
 			Map<String, List<Map<String, Object>>> activities = setActivities(applicationStartTime);
@@ -720,12 +708,13 @@ public class TemplateGenerator extends BaseService {
 	private Map<String, List<Map<String, Object>>> setActivities(String applicationStartTime) throws RegBaseCheckedException {
 		Map<String, List<Map<String, Object>>> activities = new LinkedHashMap<>();
 		List<SyncJobDef> syncJobs = masterSyncServiceImpl.getSyncJobs();
+		Map<String, Timestamp> lastSyncTimes = dashboardSummaryDAO.getLastSyncTimes();
 		for (SyncJobDef syncJob : syncJobs) {
-			SyncControl syncControl = jobConfigurationService.getSyncControlOfJob(syncJob.getId());
-			if (syncControl != null && syncControl.getLastSyncDtimes() != null) {
+			Timestamp lastSyncDtimes = lastSyncTimes.get(syncJob.getId());
+			if (lastSyncDtimes != null) {
 				Map<String, Object> job = new LinkedHashMap<>();
 				job.put(RegistrationConstants.DASHBOARD_ACTIVITY_NAME, syncJob.getName());
-				job.put(RegistrationConstants.DASHBOARD_ACTIVITY_VALUE, getLocalZoneTime(syncControl.getLastSyncDtimes().toString()));
+				job.put(RegistrationConstants.DASHBOARD_ACTIVITY_VALUE, getLocalZoneTime(lastSyncDtimes.toString()));
 				activities = addToJobList(activities, syncJob.getJobType(), job);
 			}
 		}
@@ -0,0 +1,73 @@
+package io.mosip.registration.util.advice;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.mosip.registration.util.metrics.MetricsRegistry;
+import io.mosip.registration.util.restclient.RequestHTTPDTO;
+
+/**
+ * Records the time taken by the web service calls, the DAO calls and the jobs
+ * in the {@link MetricsRegistry}, along with the count of the calls which
+ * failed with an exception.
+ */
+@Aspect
+@Component
+public class PerformanceMetricsAdvice {
+
+	/** Path segments holding ids, which are replaced so the calls of a service share a metric */
+	private static final Pattern ID_PATH_SEGMENT = Pattern.compile("/[^/]*\\d[^/]*");
+
+	private static final String ERRORS_SUFFIX = ".errors";
+
+	@Autowired
+	private MetricsRegistry metricsRegistry;
+
+	@Around("execution(* io.mosip.registration.util.restclient.RestClientUtil.invoke(..))")
+	public Object recordRestCall(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record(getRestMetricName(joinPoint.getArgs()), joinPoint);
+	}
+
+	@Around("execution(public * io.mosip.registration.dao.impl..*.*(..))")
+	public Object recordDaoCall(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record("dao." + joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+				+ joinPoint.getSignature().getName(), joinPoint);
+	}
+
+	@Around("execution(public * io.mosip.registration.jobs.BaseJob+.executeJob(..))")
+	public Object recordJob(ProceedingJoinPoint joinPoint) throws Throwable {
+		return record("job." + joinPoint.getTarget().getClass().getSimpleName(), joinPoint);
+	}
+
+	private Object record(String metricName, ProceedingJoinPoint joinPoint) throws Throwable {
+		if (!metricsRegistry.isEnabled()) {
+			return joinPoint.proceed();
+		}
+		long start = System.nanoTime();
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable throwable) {
+			metricsRegistry.increment(metricName + ERRORS_SUFFIX);
+			throw throwable;
+		} finally {
+			metricsRegistry.recordTime(metricName, System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static String getRestMetricName(Object[] args) {
+		if (args == null || args.length == 0 || !(args[0] instanceof RequestHTTPDTO)) {
+			return "rest.unknown";
+		}
+		RequestHTTPDTO requestHTTPDTO = (RequestHTTPDTO) args[0];
+		URI uri = requestHTTPDTO.getUri();
+		String path = uri == null || uri.getPath() == null ? "" : ID_PATH_SEGMENT.matcher(uri.getPath()).replaceAll("/{id}");
+		return "rest." + requestHTTPDTO.getHttpMethod() + " " + path;
+	}
+}
@@ -67,6 +67,10 @@ public class ResponseSignatureAdvice {
 
 	private static final String CERTIFICATE_API_PATH = "/v1/syncdata/getCertificate";
 	private static final List<String> IGNORE_ERROR_CODES = new ArrayList<String>();
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/** Serializes the writes of the sign certificate to the keystore */
+	private final Object certificateLock = new Object();
 
 	static {
 		IGNORE_ERROR_CODES.add("KER-KMS-012");
@@ -114,7 +118,7 @@ public class ResponseSignatureAdvice {
 	 */
 	@SuppressWarnings("unchecked")
 	@AfterReturning(pointcut = "execution(* io.mosip.registration.util.restclient.RestClientUtil.invoke(..))", returning = "result")
-	public synchronized Map<String, Object> responseSignatureValidation(JoinPoint joinPoint, Object result)
+	public Map<String, Object> responseSignatureValidation(JoinPoint joinPoint, Object result)
 			throws RegBaseCheckedException {
 
 		LOGGER.info(LoggerConstants.RESPONSE_SIGNATURE_VALIDATION, APPLICATION_ID, APPLICATION_NAME,
@@ -141,7 +145,7 @@ public class ResponseSignatureAdvice {
 				responseHeader = (HttpHeaders) restClientResponse.get(RegistrationConstants.REST_RESPONSE_HEADERS);
 
 				if (isResponseSignatureValid(responseHeader.get(RegistrationConstants.RESPONSE_SIGNATURE).get(0),
-						new ObjectMapper().writeValueAsString(responseBodyMap)) ) {
+						OBJECT_MAPPER.writeValueAsString(responseBodyMap)) ) {
 					LOGGER.info("Response signature is valid... {}", requestDto.getUri());
 					return restClientResponse;
 				} else {
@@ -195,7 +199,9 @@ public class ResponseSignatureAdvice {
 				return;
 			}
 
-			publicKeySync.saveSignPublicKey(resp.get(RegistrationConstants.CERTIFICATE).toString());
+			synchronized (certificateLock) {
+				publicKeySync.saveSignPublicKey(resp.get(RegistrationConstants.CERTIFICATE).toString());
+			}
 		}
 	}
 
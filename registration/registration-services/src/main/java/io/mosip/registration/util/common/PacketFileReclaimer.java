@@ -0,0 +1,226 @@
+package io.mosip.registration.util.common;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+import io.mosip.registration.constants.LoggerConstants;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.entity.RegistrationPacketView;
+import io.mosip.registration.repositories.RegistrationRepository;
+
+/**
+ * Reclaims the acknowledgement and packet files of purged registrations on a
+ * bounded I/O pool.
+ * <p>
+ * Before the registration rows of a batch are deleted, the files of the batch
+ * are recorded in a tombstone file. The tombstone is removed once all its files
+ * are deleted, so the files orphaned by a crash are found and deleted on the
+ * next purge. Files are deleted on recovery only for the registrations which no
+ * longer exist in the database.
+ * </p>
+ */
+@Component
+public class PacketFileReclaimer {
+
+	private static final Logger LOGGER = AppConfig.getLogger(PacketFileReclaimer.class);
+	private static final String DEFAULT_PACKET_STORE = "PacketStore";
+	private static final String TOMBSTONE_FOLDER = "purge";
+	private static final String TOMBSTONE_EXTENSION = ".tombstone";
+	private static final String SEPARATOR = "|";
+
+	@Autowired
+	private RegistrationRepository registrationRepository;
+
+	@Value("${mosip.registration.packet.purge.io.threads:2}")
+	private int ioThreads;
+
+	private ExecutorService ioExecutor;
+
+	private final Set<String> activeTombstones = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Records the files of the registrations in a new tombstone, to be called
+	 * before the registrations are deleted from the database
+	 *
+	 * @param registrations
+	 *            the registrations to be purged
+	 * @return the tombstone file
+	 * @throws IOException
+	 */
+	public File writeTombstone(List<? extends RegistrationPacketView> registrations) throws IOException {
+		File tombstoneFolder = getTombstoneFolder();
+		Files.createDirectories(tombstoneFolder.toPath());
+
+		List<String> lines = new ArrayList<>();
+		for (RegistrationPacketView registration : registrations) {
+			if (registration.getAckFilename() != null) {
+				String ackPath = registration.getAckFilename();
+				String zipPath = ackPath.replace(RegistrationConstants.ACKNOWLEDGEMENT_FILE_EXTENSION,
+						RegistrationConstants.ZIP_FILE_EXTENSION);
+				lines.add(registration.getId() + SEPARATOR + ackPath + SEPARATOR + zipPath);
+			}
+		}
+
+		File tombstone = new File(tombstoneFolder, UUID.randomUUID().toString() + TOMBSTONE_EXTENSION);
+		File partFile = new File(tombstoneFolder, tombstone.getName() + ".part");
+		Files.write(partFile.toPath(), lines, StandardCharsets.UTF_8);
+		Files.move(partFile.toPath(), tombstone.toPath(), StandardCopyOption.ATOMIC_MOVE);
+		activeTombstones.add(tombstone.getName());
+		return tombstone;
+	}
+
+	/**
+	 * Deletes the files recorded in the tombstone asynchronously, to be called once
+	 * the registrations are deleted from the database. The tombstone is removed
+	 * after all its files are deleted.
+	 *
+	 * @param tombstone
+	 *            the tombstone written for the purged registrations
+	 * @return the future completed when all the files are deleted
+	 */
+	public CompletableFuture<Void> reclaim(File tombstone) {
+		List<File> files = new ArrayList<>();
+		for (List<String> paths : readTombstone(tombstone).values()) {
+			for (String path : paths) {
+				files.add(new File(path));
+			}
+		}
+
+		CompletableFuture<?>[] deletions = files.stream()
+				.map(file -> CompletableFuture.runAsync(() -> deleteFile(file), getIoExecutor()))
+				.toArray(CompletableFuture[]::new);
+
+		return CompletableFuture.allOf(deletions).whenComplete((result, throwable) -> {
+			deleteFile(tombstone);
+			activeTombstones.remove(tombstone.getName());
+		});
+	}
+
+	/**
+	 * Discards a tombstone whose registrations could not be deleted from the
+	 * database, the files are kept along with the registrations
+	 *
+	 * @param tombstone
+	 *            the tombstone to be discarded
+	 */
+	public void discard(File tombstone) {
+		deleteFile(tombstone);
+		activeTombstones.remove(tombstone.getName());
+	}
+
+	/**
+	 * Deletes the files left behind by a purge which did not complete, for the
+	 * registrations which are no longer in the database
+	 */
+	public void recover() {
+		File[] tombstones = getTombstoneFolder()
+				.listFiles((folder, name) -> name.endsWith(TOMBSTONE_EXTENSION) && !activeTombstones.contains(name));
+		if (tombstones == null) {
+			return;
+		}
+
+		for (File tombstone : tombstones) {
+			try {
+				Map<String, List<String>> filesById = readTombstone(tombstone);
+				Set<String> existingIds = new HashSet<>();
+				registrationRepository.findAllById(filesById.keySet())
+						.forEach(registration -> existingIds.add(registration.getId()));
+
+				for (Entry<String, List<String>> entry : filesById.entrySet()) {
+					if (!existingIds.contains(entry.getKey())) {
+						entry.getValue().forEach(path -> deleteFile(new File(path)));
+					}
+				}
+				deleteFile(tombstone);
+
+				LOGGER.info(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
+						"Recovered orphaned packet files of tombstone " + tombstone.getName());
+			} catch (RuntimeException runtimeException) {
+				LOGGER.error(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
+						runtimeException.getMessage() + ExceptionUtils.getStackTrace(runtimeException));
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (ioExecutor != null) {
+			ioExecutor.shutdown();
+			try {
+				ioExecutor.awaitTermination(30, TimeUnit.SECONDS);
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private Map<String, List<String>> readTombstone(File tombstone) {
+		Map<String, List<String>> filesById = new LinkedHashMap<>();
+		try {
+			for (String line : Files.readAllLines(tombstone.toPath(), StandardCharsets.UTF_8)) {
+				String[] values = line.split("\\" + SEPARATOR);
+				if (values.length == 3) {
+					List<String> paths = new ArrayList<>();
+					paths.add(values[1]);
+					paths.add(values[2]);
+					filesById.put(values[0], paths);
+				}
+			}
+		} catch (IOException ioException) {
+			LOGGER.error(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
+					ioException.getMessage() + ExceptionUtils.getStackTrace(ioException));
+		}
+		return filesById;
+	}
+
+	private void deleteFile(File file) {
+		try {
+			Files.deleteIfExists(file.toPath());
+		} catch (IOException ioException) {
+			LOGGER.error(LoggerConstants.LOG_PKT_DELETE, APPLICATION_NAME, APPLICATION_ID,
+					"Failed to delete " + file.getName() + " : " + ioException.getMessage());
+		}
+	}
+
+	private File getTombstoneFolder() {
+		Object packetStoreLocation = ApplicationContext.map().get(RegistrationConstants.PACKET_STORE_LOCATION);
+		return new File(packetStoreLocation == null ? DEFAULT_PACKET_STORE : String.valueOf(packetStoreLocation),
+				TOMBSTONE_FOLDER);
+	}
+
+	private synchronized ExecutorService getIoExecutor() {
+		if (ioExecutor == null) {
+			ioExecutor = Executors.newFixedThreadPool(Math.max(1, ioThreads));
+		}
+		return ioExecutor;
+	}
+}
@@ -0,0 +1,459 @@
+package io.mosip.registration.util.common;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+
+/**
+ * Runs sync steps which depend on one another.
+ * <p>
+ * A step is started as soon as all the steps it depends on have succeeded, so
+ * the independent steps run concurrently on a bounded pool and the run takes
+ * about as long as its longest chain of dependent steps. A failed step is
+ * retried as configured; a step which times out is not, as its attempt may
+ * still be running. Once a step has failed no further step is started, the
+ * running ones are awaited and the steps never started are reported as
+ * skipped.
+ * </p>
+ * <p>
+ * The attempts which timed out are interrupted, and the run only returns once
+ * they have stopped, so no step is still writing when the caller goes on.
+ * </p>
+ */
+public class SyncStepOrchestrator {
+
+	private static final Logger LOGGER = AppConfig.getLogger(SyncStepOrchestrator.class);
+	private static final String LOGGER_TITLE = "REGISTRATION - SYNC_STEP_ORCHESTRATOR";
+
+	/**
+	 * Action of a sync step
+	 */
+	@FunctionalInterface
+	public interface SyncAction {
+
+		void run() throws Exception;
+	}
+
+	/**
+	 * Status of a sync step after the run
+	 */
+	public enum StepStatus {
+		SUCCESS, FAILED, TIMED_OUT, SKIPPED
+	}
+
+	private final String name;
+
+	private final int maxParallelSteps;
+
+	private final long defaultTimeoutMillis;
+
+	private final int defaultRetries;
+
+	private Predicate<Exception> retryCondition = exception -> true;
+
+	private final Map<String, Step> steps = new LinkedHashMap<>();
+
+	/**
+	 * @param name
+	 *            the name of the run, used in the logs and the thread names
+	 * @param maxParallelSteps
+	 *            the maximum number of steps run at the same time
+	 * @param defaultTimeoutMillis
+	 *            the time an attempt of a step may take, 0 for no limit
+	 * @param defaultRetries
+	 *            the number of times a failed step is retried
+	 */
+	public SyncStepOrchestrator(String name, int maxParallelSteps, long defaultTimeoutMillis, int defaultRetries) {
+		this.name = name;
+		this.maxParallelSteps = Math.max(1, maxParallelSteps);
+		this.defaultTimeoutMillis = Math.max(0, defaultTimeoutMillis);
+		this.defaultRetries = Math.max(0, defaultRetries);
+	}
+
+	/**
+	 * Adds a step with the default timeout and retries
+	 *
+	 * @param stepName
+	 *            the name of the step
+	 * @param action
+	 *            the action of the step
+	 * @param dependencies
+	 *            the names of the steps which must succeed before this one starts
+	 * @return this orchestrator
+	 */
+	public SyncStepOrchestrator addStep(String stepName, SyncAction action, String... dependencies) {
+		return addStep(stepName, defaultTimeoutMillis, defaultRetries, action, dependencies);
+	}
+
+	/**
+	 * Adds a step
+	 *
+	 * @param stepName
+	 *            the name of the step
+	 * @param timeoutMillis
+	 *            the time an attempt of the step may take, 0 for no limit
+	 * @param retries
+	 *            the number of times the step is retried after a failure
+	 * @param action
+	 *            the action of the step
+	 * @param dependencies
+	 *            the names of the steps, added before, which must succeed before
+	 *            this one starts
+	 * @return this orchestrator
+	 */
+	public SyncStepOrchestrator addStep(String stepName, long timeoutMillis, int retries, SyncAction action,
+			String... dependencies) {
+		for (String dependency : dependencies) {
+			if (!steps.containsKey(dependency)) {
+				throw new IllegalArgumentException(stepName + " depends on " + dependency + " which is not added before");
+			}
+		}
+		steps.put(stepName, new Step(stepName, action, Arrays.asList(dependencies), Math.max(0, timeoutMillis),
+				Math.max(0, retries)));
+		return this;
+	}
+
+	/**
+	 * @param retryCondition
+	 *            tells if a step which failed with the exception may be retried
+	 * @return this orchestrator
+	 */
+	public SyncStepOrchestrator retryIf(Predicate<Exception> retryCondition) {
+		this.retryCondition = retryCondition;
+		return this;
+	}
+
+	/**
+	 * Runs the steps and waits for them to complete
+	 *
+	 * @return the result of the run
+	 */
+	public SyncResult run() {
+		long start = System.currentTimeMillis();
+		AtomicInteger threadCount = new AtomicInteger();
+		ExecutorService executorService = Executors.newFixedThreadPool(Math.max(1, Math.min(maxParallelSteps, steps.size())),
+				runnable -> {
+					Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+
+		Run run = new Run(new ExecutorCompletionService<>(executorService));
+		try {
+			run.execute();
+		} finally {
+			executorService.shutdownNow();
+			awaitTermination(executorService);
+		}
+
+		SyncResult syncResult = new SyncResult(run.results, run.failure, System.currentTimeMillis() - start);
+		LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, name + " completed : " + syncResult);
+		return syncResult;
+	}
+
+	private void awaitTermination(ExecutorService executorService) {
+		try {
+			while (!executorService.awaitTermination(1, TimeUnit.MINUTES)) {
+				LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+						name + " waiting for the interrupted steps to stop");
+			}
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * State of one run of the steps, confined to the calling thread
+	 */
+	private final class Run {
+
+		private final CompletionService<Void> completionService;
+
+		private final Map<Future<Void>, Attempt> running = new HashMap<>();
+
+		private final Set<String> started = new HashSet<>();
+
+		private final Set<String> succeeded = new HashSet<>();
+
+		private final Map<String, StepResult> results = new LinkedHashMap<>();
+
+		private Exception failure;
+
+		private Run(CompletionService<Void> completionService) {
+			this.completionService = completionService;
+		}
+
+		private void execute() {
+			startReadySteps();
+			try {
+				while (!running.isEmpty()) {
+					Future<Void> future = completionService.poll(nextWaitNanos(), TimeUnit.NANOSECONDS);
+					if (future == null) {
+						expireTimedOutAttempts();
+						continue;
+					}
+					/* Cancelled attempts are also delivered, they are already accounted */
+					Attempt attempt = running.remove(future);
+					if (attempt == null) {
+						continue;
+					}
+					try {
+						future.get();
+						onSuccess(attempt);
+					} catch (ExecutionException executionException) {
+						Throwable cause = executionException.getCause();
+						onFailure(attempt, cause instanceof Exception ? (Exception) cause : executionException);
+					}
+				}
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+				running.values().forEach(attempt -> {
+					attempt.future.cancel(true);
+					results.put(attempt.step.name, attempt.result(StepStatus.FAILED, interruptedException));
+				});
+				running.clear();
+				recordFailure(interruptedException);
+			}
+
+			for (Step step : steps.values()) {
+				results.putIfAbsent(step.name, new StepResult(step.name, StepStatus.SKIPPED, 0, 0, null));
+			}
+			/* Report the steps in the order they were added */
+			Map<String, StepResult> orderedResults = new LinkedHashMap<>();
+			steps.keySet().forEach(stepName -> orderedResults.put(stepName, results.get(stepName)));
+			results.clear();
+			results.putAll(orderedResults);
+		}
+
+		private void startReadySteps() {
+			if (failure != null) {
+				return;
+			}
+			for (Step step : steps.values()) {
+				if (!started.contains(step.name) && succeeded.containsAll(step.dependencies)) {
+					started.add(step.name);
+					submit(step, 1);
+				}
+			}
+		}
+
+		private void submit(Step step, int attemptNumber) {
+			Attempt attempt = new Attempt(step, attemptNumber);
+			attempt.future = completionService.submit(() -> {
+				step.action.run();
+				return null;
+			});
+			running.put(attempt.future, attempt);
+		}
+
+		private long nextWaitNanos() {
+			long now = System.nanoTime();
+			long waitNanos = Long.MAX_VALUE;
+			for (Attempt attempt : running.values()) {
+				if (attempt.deadlineNanos != 0) {
+					waitNanos = Math.min(waitNanos, Math.max(0, attempt.deadlineNanos - now));
+				}
+			}
+			return waitNanos;
+		}
+
+		private void expireTimedOutAttempts() {
+			long now = System.nanoTime();
+			List<Attempt> timedOut = new ArrayList<>();
+			for (Attempt attempt : running.values()) {
+				if (attempt.deadlineNanos != 0 && attempt.deadlineNanos - now <= 0) {
+					timedOut.add(attempt);
+				}
+			}
+			for (Attempt attempt : timedOut) {
+				running.remove(attempt.future);
+				attempt.future.cancel(true);
+				TimeoutException timeoutException = new TimeoutException(
+						attempt.step.name + " did not complete in (ms) : " + attempt.step.timeoutMillis);
+				LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, timeoutException.getMessage());
+				results.put(attempt.step.name, attempt.result(StepStatus.TIMED_OUT, timeoutException));
+				recordFailure(timeoutException);
+			}
+		}
+
+		private void onSuccess(Attempt attempt) {
+			LOGGER.info(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+					attempt.step.name + " task completed in (ms) : " + attempt.elapsedMillis());
+			results.put(attempt.step.name, attempt.result(StepStatus.SUCCESS, null));
+			succeeded.add(attempt.step.name);
+			startReadySteps();
+		}
+
+		private void onFailure(Attempt attempt, Exception exception) {
+			LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID, attempt.step.name + " attempt "
+					+ attempt.attemptNumber + " failed in (ms) : " + attempt.elapsedMillis() + " : " + exception.getMessage());
+			if (failure == null && attempt.attemptNumber <= attempt.step.retries && retryCondition.test(exception)) {
+				submit(attempt.step, attempt.attemptNumber + 1);
+				return;
+			}
+			results.put(attempt.step.name, attempt.result(StepStatus.FAILED, exception));
+			recordFailure(exception);
+		}
+
+		private void recordFailure(Exception exception) {
+			if (failure == null) {
+				failure = exception;
+			}
+		}
+	}
+
+	private static final class Step {
+
+		private final String name;
+		private final SyncAction action;
+		private final List<String> dependencies;
+		private final long timeoutMillis;
+		private final int retries;
+
+		private Step(String name, SyncAction action, List<String> dependencies, long timeoutMillis, int retries) {
+			this.name = name;
+			this.action = action;
+			this.dependencies = dependencies;
+			this.timeoutMillis = timeoutMillis;
+			this.retries = retries;
+		}
+	}
+
+	private static final class Attempt {
+
+		private final Step step;
+		private final int attemptNumber;
+		private final long startNanos = System.nanoTime();
+		private final long deadlineNanos;
+		private Future<Void> future;
+
+		private Attempt(Step step, int attemptNumber) {
+			this.step = step;
+			this.attemptNumber = attemptNumber;
+			/* 0 stands for no deadline */
+			long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(step.timeoutMillis);
+			this.deadlineNanos = step.timeoutMillis == 0 ? 0 : (deadline == 0 ? 1 : deadline);
+		}
+
+		private long elapsedMillis() {
+			return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		}
+
+		private StepResult result(StepStatus status, Exception error) {
+			return new StepResult(step.name, status, attemptNumber, elapsedMillis(), error);
+		}
+	}
+
+	/**
+	 * Outcome of a step
+	 */
+	public static final class StepResult {
+
+		private final String stepName;
+		private final StepStatus status;
+		private final int attempts;
+		private final long durationMillis;
+		private final Exception error;
+
+		private StepResult(String stepName, StepStatus status, int attempts, long durationMillis, Exception error) {
+			this.stepName = stepName;
+			this.status = status;
+			this.attempts = attempts;
+			this.durationMillis = durationMillis;
+			this.error = error;
+		}
+
+		public String getStepName() {
+			return stepName;
+		}
+
+		public StepStatus getStatus() {
+			return status;
+		}
+
+		public int getAttempts() {
+			return attempts;
+		}
+
+		/**
+		 * @return the duration of the last attempt
+		 */
+		public long getDurationMillis() {
+			return durationMillis;
+		}
+
+		public Exception getError() {
+			return error;
+		}
+
+		@Override
+		public String toString() {
+			return stepName + "=" + status + "(attempts=" + attempts + ", ms=" + durationMillis + ")";
+		}
+	}
+
+	/**
+	 * Outcome of a run
+	 */
+	public static final class SyncResult {
+
+		private final Map<String, StepResult> stepResults;
+		private final Exception failure;
+		private final long durationMillis;
+
+		private SyncResult(Map<String, StepResult> stepResults, Exception failure, long durationMillis) {
+			this.stepResults = Collections.unmodifiableMap(stepResults);
+			this.failure = failure;
+			this.durationMillis = durationMillis;
+		}
+
+		public boolean isSuccess() {
+			return failure == null;
+		}
+
+		/**
+		 * @return the first failure of the run, null if all the steps succeeded
+		 */
+		public Exception getFailure() {
+			return failure;
+		}
+
+		/**
+		 * @return the result of each step, in the order the steps were added
+		 */
+		public Map<String, StepResult> getStepResults() {
+			return stepResults;
+		}
+
+		public long getDurationMillis() {
+			return durationMillis;
+		}
+
+		@Override
+		public String toString() {
+			return "ms=" + durationMillis + " " + stepResults.values();
+		}
+	}
+}
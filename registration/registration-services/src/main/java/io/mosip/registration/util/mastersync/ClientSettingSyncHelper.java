@@ -5,23 +5,28 @@ import static io.mosip.registration.constants.LoggerConstants.LOG_REG_MASTER_SYN
 import static io.mosip.registration.constants.LoggerConstants.LOG_REG_SCHEMA_SYNC;
 import static io.mosip.registration.constants.RegistrationConstants.*;
 
-import java.io.IOException;
 import java.io.SyncFailedException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 
 import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
 import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.dao.IdentitySchemaDao;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.response.SchemaDto;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
@@ -35,6 +40,7 @@ import io.mosip.registration.dto.mastersync.DynamicFieldDto;
 import io.mosip.registration.dto.response.SyncDataBaseDto;
 import io.mosip.registration.dto.response.SyncDataResponseDto;
 import io.mosip.registration.entity.DynamicField;
+import io.mosip.registration.entity.SyncCheckpoint;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.repositories.AppAuthenticationRepository;
 import io.mosip.registration.repositories.AppDetailRepository;
@@ -73,6 +79,7 @@ import io.mosip.registration.repositories.RegistrationCenterTypeRepository;
 import io.mosip.registration.repositories.RegistrationCenterUserRepository;
 import io.mosip.registration.repositories.ScreenAuthorizationRepository;
 import io.mosip.registration.repositories.ScreenDetailRepository;
+import io.mosip.registration.repositories.SyncCheckpointRepository;
 import io.mosip.registration.repositories.SyncJobDefRepository;
 import io.mosip.registration.repositories.TemplateFileFormatRepository;
 import io.mosip.registration.repositories.TemplateRepository;
@@ -88,6 +95,7 @@ public class ClientSettingSyncHelper {
 	
 	private static final String ENTITY_PACKAGE_NAME = "io.mosip.registration.entity.";	
 	private static final String FIELD_TYPE_DYNAMIC = "dynamic";
+	private static final String ID_SCHEMA_ENTITY = "IdentitySchema";
 		
 	/** Object for Sync Biometric Attribute Repository. */
 	@Autowired
@@ -264,6 +272,9 @@ public class ClientSettingSyncHelper {
 
 	@Autowired
 	private IdentitySchemaDao identitySchemaDao;
+
+	@Autowired
+	private SyncCheckpointRepository syncCheckpointRepository;
 		
 	private static final Map<String, String> ENTITY_CLASS_NAMES = new HashMap<String, String>();
 	
@@ -289,26 +300,47 @@ public class ClientSettingSyncHelper {
 
 	/**
 	 * Save the SyncDataResponseDto 
+	 * <p>
+	 * Each entity type is saved on its own and then checkpointed, with the sync
+	 * time of the response and the checksum of its data. An entity type whose
+	 * data did not change since it was last saved is skipped on a delta sync.
+	 * A full sync only skips it if it was saved after the last committed sync,
+	 * by a run which failed on other entity types, as the local records saved
+	 * before may not match the data anymore. A failed entity type does not stop
+	 * the others, so the sync run again after a failure only saves the entity
+	 * types which were not.
+	 * </p>
 	 * 
 	 * @param syncDataResponseDto
+	 * @param deltaSync
+	 *            true if the data was requested as of the last sync, false for
+	 *            an initial or full sync
+	 * @param lastCommittedSyncTime
+	 *            the last sync time of the job, null if it never completed
 	 * @return
 	 */
 	@SuppressWarnings("unchecked")
-	public String saveClientSettings(SyncDataResponseDto syncDataResponseDto) throws RegBaseUncheckedException {
+	public String saveClientSettings(SyncDataResponseDto syncDataResponseDto, boolean deltaSync,
+			Timestamp lastCommittedSyncTime) throws RegBaseUncheckedException {
 		long start = System.currentTimeMillis();
 		try {
+			SyncRun syncRun = new SyncRun(syncDataResponseDto, getLastSyncTime(syncDataResponseDto), deltaSync,
+					lastCommittedSyncTime);
+			syncCheckpointRepository.findAll()
+					.forEach(checkpoint -> syncRun.checkpoints.put(checkpoint.getEntityName(), checkpoint));
+
 			List<CompletableFuture> futures = new ArrayList<CompletableFuture>();
-			futures.add(handleDeviceSync(syncDataResponseDto));
-			futures.add(handleMachineSync(syncDataResponseDto));
-			futures.add(handleRegistrationCenterSync(syncDataResponseDto));
-			futures.add(handleAppDetailSync(syncDataResponseDto));
-			futures.add(handleTemplateSync(syncDataResponseDto));
-			futures.add(handleDocumentSync(syncDataResponseDto));
-			futures.add(handleIdSchemaPossibleValuesSync(syncDataResponseDto));
-			futures.add(handleMisellaneousSync1(syncDataResponseDto));
-			futures.add(handleMisellaneousSync2(syncDataResponseDto));
-			futures.add(handleDynamicFieldSync(syncDataResponseDto));
-			futures.add(syncSchema("System"));
+			futures.add(handleDeviceSync(syncRun));
+			futures.add(handleMachineSync(syncRun));
+			futures.add(handleRegistrationCenterSync(syncRun));
+			futures.add(handleAppDetailSync(syncRun));
+			futures.add(handleTemplateSync(syncRun));
+			futures.add(handleDocumentSync(syncRun));
+			futures.add(handleIdSchemaPossibleValuesSync(syncRun));
+			futures.add(handleMisellaneousSync1(syncRun));
+			futures.add(handleMisellaneousSync2(syncRun));
+			futures.add(handleDynamicFieldSync(syncRun));
+			futures.add(handleSchemaSync(syncRun));
 
 			CompletableFuture array [] = new CompletableFuture[futures.size()];
 			CompletableFuture<Void> future = CompletableFuture.allOf(futures.toArray(array));
@@ -319,8 +351,13 @@ public class ClientSettingSyncHelper {
 				throw e.getCause();
 			}
 
+			if (!syncRun.failedEntities.isEmpty()) {
+				throw new SyncFailedException("Saving the entities failed for " + syncRun.failedEntities);
+			}
+
 			LOGGER.info(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
-					"Complete master sync completed in (ms) : " + (System.currentTimeMillis() - start));
+					"Complete master sync completed in (ms) : " + (System.currentTimeMillis() - start)
+							+ ", unchanged entities skipped : " + syncRun.skippedEntities);
 			return RegistrationConstants.SUCCESS;
 		} catch (Throwable e) {	
 			throw new RegBaseUncheckedException(RegistrationConstants.MASTER_SYNC_EXCEPTION + RegistrationConstants.FAILURE,
@@ -329,27 +366,25 @@ public class ClientSettingSyncHelper {
 	}
 	
 	/**
-	 * creating meta data for building the entities from SyncDataBaseDto
+	 * creating meta data for building the entities from the decrypted data
 	 * 
-	 * @param syncDataBaseDto
+	 * @param entityName
+	 * @param data
 	 * @return
 	 * @throws Exception
 	 */
-	private List buildEntities(SyncDataBaseDto syncDataBaseDto) throws SyncFailedException {	
+	private List buildEntities(String entityName, byte[] data) throws SyncFailedException {	
 		try {		
 			List<Object> entities = new ArrayList<Object>();
-			if(syncDataBaseDto == null || syncDataBaseDto.getData() == null || syncDataBaseDto.getData().isEmpty())
-				return entities;
 
 			LOGGER.debug(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, "Building entity of type : " +
-					syncDataBaseDto.getEntityName());
+					entityName);
 
-			byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
 			JSONArray jsonArray = new JSONArray(new String(data));
 
 			for(int i =0; i < jsonArray.length(); i++) {
 				JSONObject jsonObject = new JSONObject(jsonArray.getString(i));
-				Object entity = MetaDataUtils.setCreateJSONObjectToMetaData(jsonObject, getEntityClass(syncDataBaseDto.getEntityName()));
+				Object entity = MetaDataUtils.setCreateJSONObjectToMetaData(jsonObject, getEntityClass(entityName));
 				entities.add(entity);
 			}
 
@@ -379,223 +414,271 @@ public class ClientSettingSyncHelper {
 			return Class.forName(ENTITY_PACKAGE_NAME + "Reg" + entityName);
 		}
 	}
+
+	/**
+	 * save the entities of the given type in the given repository, see
+	 * {@link #saveCheckpointed(SyncRun, String, SyncDataBaseDto, EntitySaver)}
+	 * 
+	 * @param syncRun
+	 * @param entityName
+	 * @param repository
+	 */
+	@SuppressWarnings("unchecked")
+	private void saveEntities(SyncRun syncRun, String entityName, JpaRepository repository) {
+		SyncDataBaseDto syncDataBaseDto;
+		try {
+			syncDataBaseDto = getSyncDataBaseDto(syncRun.syncDataResponseDto, entityName);
+		} catch (Exception e) {
+			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, ExceptionUtils.getStackTrace(e));
+			syncRun.failedEntities.add(entityName);
+			return;
+		}
+		saveCheckpointed(syncRun, entityName, syncDataBaseDto,
+				data -> repository.saveAll(buildEntities(entityName, data)));
+	}
+
+	/**
+	 * Saves the data of an entity type unless it is already saved, and then
+	 * checkpoints it. A failure is recorded in the sync run instead of being
+	 * thrown.
+	 * 
+	 * @param syncRun
+	 * @param checkpointName
+	 *            the name the entity type is checkpointed by
+	 * @param syncDataBaseDto
+	 *            the encrypted data of the entity type, if any
+	 * @param entitySaver
+	 *            saves the decrypted data
+	 */
+	private void saveCheckpointed(SyncRun syncRun, String checkpointName, SyncDataBaseDto syncDataBaseDto,
+			EntitySaver entitySaver) {
+		if (syncDataBaseDto == null || syncDataBaseDto.getData() == null || syncDataBaseDto.getData().isEmpty())
+			return;
+
+		try {
+			SyncCheckpoint checkpoint = syncRun.checkpoints.get(checkpointName);
+
+			byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
+			String checksum = DigestUtils.sha256Hex(data);
+			if (checkpoint != null && checksum.equals(checkpoint.getChecksum())
+					&& (syncRun.deltaSync || isSavedAfterLastCommittedSync(syncRun, checkpoint))) {
+				syncRun.skippedEntities.add(checkpointName);
+				return;
+			}
+
+			entitySaver.save(data);
+			saveCheckpoint(syncRun, checkpoint, checkpointName, checksum);
+		} catch (Exception e) {
+			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
+					"Saving the entities of type " + checkpointName + " failed : " + ExceptionUtils.getStackTrace(e));
+			syncRun.failedEntities.add(checkpointName);
+		}
+	}
+
+	/**
+	 * Whether the checkpoint was saved by a run which did not complete, after
+	 * the last committed sync if any
+	 */
+	private boolean isSavedAfterLastCommittedSync(SyncRun syncRun, SyncCheckpoint checkpoint) {
+		return syncRun.lastCommittedSyncTime == null || (checkpoint.getLastSyncDtimes() != null
+				&& checkpoint.getLastSyncDtimes().after(syncRun.lastCommittedSyncTime));
+	}
+
+	private void saveCheckpoint(SyncRun syncRun, SyncCheckpoint checkpoint, String checkpointName, String checksum) {
+		Timestamp timestamp = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
+		if (checkpoint == null) {
+			checkpoint = new SyncCheckpoint();
+			checkpoint.setEntityName(checkpointName);
+			checkpoint.setCrBy(RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM);
+			checkpoint.setCrDtime(timestamp);
+		} else {
+			checkpoint.setUpdBy(RegistrationConstants.JOB_TRIGGER_POINT_SYSTEM);
+			checkpoint.setUpdDtimes(timestamp);
+		}
+		checkpoint.setLastSyncDtimes(syncRun.lastSyncTime);
+		checkpoint.setChecksum(checksum);
+		syncCheckpointRepository.save(checkpoint);
+		syncRun.checkpoints.put(checkpointName, checkpoint);
+	}
+
+	private Timestamp getLastSyncTime(SyncDataResponseDto syncDataResponseDto) {
+		try {
+			return syncDataResponseDto.getLastSyncTime() == null ? null
+					: Timestamp.from(Instant.parse(syncDataResponseDto.getLastSyncTime()));
+		} catch (DateTimeParseException e) {
+			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID,
+					"Invalid last sync time : " + syncDataResponseDto.getLastSyncTime());
+			return null;
+		}
+	}
 	
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws Exception 
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture<Boolean> handleDeviceSync(SyncDataResponseDto syncDataResponseDto) throws Exception {
-		try {		
-			deviceTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DeviceType")));
-			deviceSpecificationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto,"DeviceSpecification")));
-			deviceMasterRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto,"Device")));
-			foundationalTrustProviderRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "FoundationalTrustProvider")));
-		} catch (Exception e) {
-			throw new SyncFailedException(e.getMessage()+"Saving the entities into machine sync is failed ");
-		}
+	private CompletableFuture<Boolean> handleDeviceSync(SyncRun syncRun) {
+		saveEntities(syncRun, "DeviceType", deviceTypeRepository);
+		saveEntities(syncRun, "DeviceSpecification", deviceSpecificationRepository);
+		saveEntities(syncRun, "Device", deviceMasterRepository);
+		saveEntities(syncRun, "FoundationalTrustProvider", foundationalTrustProviderRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 	
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleMachineSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException {
-		try {
-			machineTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "MachineType")));
-			machineSpecificationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "MachineSpecification")));
-			machineRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Machine")));
-		}  catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Machine data sync failed due to " +  e.getMessage());
-		}
+	private CompletableFuture handleMachineSync(SyncRun syncRun) {
+		saveEntities(syncRun, "MachineType", machineTypeRepository);
+		saveEntities(syncRun, "MachineSpecification", machineSpecificationRepository);
+		saveEntities(syncRun, "Machine", machineRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 	
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleRegistrationCenterSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			registrationCenterTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterType")));
-			registrationCenterRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenter")));			
-			registrationCenterDeviceRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterDevice")));
-			centerMachineRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterMachine")));
-			registrationCenterMachineDeviceRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterMachineDevice")));
-			registrationCenterUserRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "RegistrationCenterUser")));
-		} catch (Exception e ) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("RegistrationCenter data sync failed due to " +  e.getMessage());
-		}
+	private CompletableFuture handleRegistrationCenterSync(SyncRun syncRun) {
+		saveEntities(syncRun, "RegistrationCenterType", registrationCenterTypeRepository);
+		saveEntities(syncRun, "RegistrationCenter", registrationCenterRepository);
+		saveEntities(syncRun, "RegistrationCenterDevice", registrationCenterDeviceRepository);
+		saveEntities(syncRun, "RegistrationCenterMachine", centerMachineRepository);
+		saveEntities(syncRun, "RegistrationCenterMachineDevice", registrationCenterMachineDeviceRepository);
+		saveEntities(syncRun, "RegistrationCenterUser", registrationCenterUserRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 	
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleAppDetailSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException {
-		try {
-			appDetailRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppDetail")));
-			appRolePriorityRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppRolePriority")));
-			appAuthenticationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "AppAuthenticationMethod")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("AppDetail data sync failed due to " +  e.getMessage());
-		}
+	private CompletableFuture handleAppDetailSync(SyncRun syncRun) {
+		saveEntities(syncRun, "AppDetail", appDetailRepository);
+		saveEntities(syncRun, "AppRolePriority", appRolePriorityRepository);
+		saveEntities(syncRun, "AppAuthenticationMethod", appAuthenticationRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 	
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleTemplateSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException{
-		try {
-			templateFileFormatRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "TemplateFileFormat")));
-			templateTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "TemplateType")));
-			templateRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Template")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Template data sync failed due to " +  e.getMessage());
-		}
+	private CompletableFuture handleTemplateSync(SyncRun syncRun) {
+		saveEntities(syncRun, "TemplateFileFormat", templateFileFormatRepository);
+		saveEntities(syncRun, "TemplateType", templateTypeRepository);
+		saveEntities(syncRun, "Template", templateRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 	
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleDocumentSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			documentTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DocumentType")));
-			documentCategoryRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "DocumentCategory")));
-			applicantValidDocumentRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ApplicantValidDocument")));
-			validDocumentRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ValidDocument")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Document data sync failed due to " +  e.getMessage());
-		}
+	private CompletableFuture handleDocumentSync(SyncRun syncRun) {
+		saveEntities(syncRun, "DocumentType", documentTypeRepository);
+		saveEntities(syncRun, "DocumentCategory", documentCategoryRepository);
+		saveEntities(syncRun, "ApplicantValidDocument", applicantValidDocumentRepository);
+		saveEntities(syncRun, "ValidDocument", validDocumentRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 	
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleIdSchemaPossibleValuesSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			biometricTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BiometricType")));
-			biometricAttributeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BiometricAttribute")));
-			genderRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Gender")));
-			idTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "IdType")));
-			locationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Location")));
-			titleRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Title")));
-			individualTypeRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "IndividualType")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("IdSchema data sync failed due to " +  e.getMessage());
-		}
+	private CompletableFuture handleIdSchemaPossibleValuesSync(SyncRun syncRun) {
+		saveEntities(syncRun, "BiometricType", biometricTypeRepository);
+		saveEntities(syncRun, "BiometricAttribute", biometricAttributeRepository);
+		saveEntities(syncRun, "Gender", genderRepository);
+		saveEntities(syncRun, "IdType", idTypeRepository);
+		saveEntities(syncRun, "Location", locationRepository);
+		saveEntities(syncRun, "Title", titleRepository);
+		saveEntities(syncRun, "IndividualType", individualTypeRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 	
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleMisellaneousSync1(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			blacklistedWordsRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "BlacklistedWords")));
-			processListRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ProcessList")));
-			screenDetailRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ScreenDetail")));
-			screenAuthorizationRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ScreenAuthorization")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Miscellaneous data sync failed due to " +  e.getMessage());
-		}
+	private CompletableFuture handleMisellaneousSync1(SyncRun syncRun) {
+		saveEntities(syncRun, "BlacklistedWords", blacklistedWordsRepository);
+		saveEntities(syncRun, "ProcessList", processListRepository);
+		saveEntities(syncRun, "ScreenDetail", screenDetailRepository);
+		saveEntities(syncRun, "ScreenAuthorization", screenAuthorizationRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 
 	/**
 	 * save the entities data in respective repository
-	 * @param syncDataResponseDto
-	 * @throws SyncFailedException
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleMisellaneousSync2(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException  {
-		try {
-			languageRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "Language")));
-			reasonCategoryRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ReasonCategory")));
-			reasonListRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "ReasonList")));
-			syncJobDefRepository.saveAll(buildEntities(getSyncDataBaseDto(syncDataResponseDto, "SyncJobDef")));
-		} catch (Exception e) {
-			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Miscellaneous data sync failed due to " +  e.getMessage());
-		}
+	private CompletableFuture handleMisellaneousSync2(SyncRun syncRun) {
+		saveEntities(syncRun, "Language", languageRepository);
+		saveEntities(syncRun, "ReasonCategory", reasonCategoryRepository);
+		saveEntities(syncRun, "ReasonList", reasonListRepository);
+		saveEntities(syncRun, "SyncJobDef", syncJobDefRepository);
 		return CompletableFuture.completedFuture(true);
 	}
 	
 	/**
-	 * save dynamic fields with value json
-	 * @param syncDataResponseDto
+	 * save dynamic fields with value json, each dynamic field checkpointed on its
+	 * own
+	 * @param syncRun
 	 */
 	@Async
-	private CompletableFuture handleDynamicFieldSync(SyncDataResponseDto syncDataResponseDto) throws SyncFailedException {
+	private CompletableFuture handleDynamicFieldSync(SyncRun syncRun) {
+		Iterator<SyncDataBaseDto> iterator = syncRun.syncDataResponseDto.getDataToSync().stream()
+				.filter(obj -> FIELD_TYPE_DYNAMIC.equalsIgnoreCase(obj.getEntityType()))
+				.iterator();
+
+		while(iterator.hasNext()) {
+			SyncDataBaseDto syncDataBaseDto = iterator.next();
+			saveCheckpointed(syncRun, FIELD_TYPE_DYNAMIC + "." + syncDataBaseDto.getEntityName(), syncDataBaseDto,
+					data -> {
+						JSONArray jsonArray = new JSONArray(new String(data));
+
+						List<DynamicField> fields = new ArrayList<DynamicField>();
+						for(int i=0; i< jsonArray.length(); i++) {
+							DynamicFieldDto dynamicFieldDto = MapperUtils.convertJSONStringToDto(jsonArray.getString(i),
+									new TypeReference<DynamicFieldDto>() {});
+							DynamicField dynamicField = new DynamicField();
+							dynamicField.setId(dynamicFieldDto.getId());
+							dynamicField.setDataType(dynamicFieldDto.getDataType());
+							dynamicField.setName(dynamicFieldDto.getName());
+							dynamicField.setLangCode(dynamicFieldDto.getLangCode());
+							dynamicField.setValueJson(dynamicFieldDto.getFieldVal() == null ?
+									"[]" : MapperUtils.convertObjectToJsonString(dynamicFieldDto.getFieldVal()));
+							dynamicField.setActive(dynamicFieldDto.isActive());
+							fields.add(dynamicField);
+						}
+
+						if (!fields.isEmpty()) {
+							dynamicFieldRepository.saveAll(fields);
+						}
+					});
+		}
+		return CompletableFuture.completedFuture(true);
+	}
+
+	private CompletableFuture handleSchemaSync(SyncRun syncRun) {
 		try {
-			Iterator<SyncDataBaseDto> iterator = syncDataResponseDto.getDataToSync().stream()
-					.filter(obj -> FIELD_TYPE_DYNAMIC.equalsIgnoreCase(obj.getEntityType()))
-					.iterator();
-			
-			List<DynamicField> fields = new ArrayList<DynamicField>();
-			while(iterator.hasNext()) {
-				SyncDataBaseDto syncDataBaseDto = iterator.next();
-				
-				if(syncDataBaseDto != null && syncDataBaseDto.getData() != null && !syncDataBaseDto.getData().isEmpty()) {
-					byte[] data = clientCryptoFacade.decrypt(CryptoUtil.decodeBase64(syncDataBaseDto.getData()));
-					JSONArray jsonArray = new JSONArray(new String(data));
-
-					for(int i=0; i< jsonArray.length(); i++) {
-						DynamicFieldDto dynamicFieldDto = MapperUtils.convertJSONStringToDto(jsonArray.getString(i),
-								new TypeReference<DynamicFieldDto>() {});
-						DynamicField dynamicField = new DynamicField();
-						dynamicField.setId(dynamicFieldDto.getId());
-						dynamicField.setDataType(dynamicFieldDto.getDataType());
-						dynamicField.setName(dynamicFieldDto.getName());
-						dynamicField.setLangCode(dynamicFieldDto.getLangCode());
-						dynamicField.setValueJson(dynamicFieldDto.getFieldVal() == null ?
-								"[]" : MapperUtils.convertObjectToJsonString(dynamicFieldDto.getFieldVal()));
-						dynamicField.setActive(dynamicFieldDto.isActive());
-						fields.add(dynamicField);
-					}
-				}
-			}
-			
-			if (!fields.isEmpty()) {
-				dynamicFieldRepository.saveAll(fields);
-			}
-				
-		} catch(IOException e) {
+			return syncSchema("System");
+		} catch (RegBaseCheckedException | SyncFailedException e) {
 			LOGGER.error(LOG_REG_MASTER_SYNC, APPLICATION_NAME, APPLICATION_ID, e.getMessage());
-			throw new SyncFailedException("Dynamic field sync failed due to " +  e.getMessage());
+			syncRun.failedEntities.add(ID_SCHEMA_ENTITY);
+			return CompletableFuture.completedFuture(false);
 		}
-		return CompletableFuture.completedFuture(true);
 	}
 
 	private void checkForDuplicates(List<DynamicField> fields, List<DynamicField> existingFields) {
@@ -641,4 +724,44 @@ public class ClientSettingSyncHelper {
 
 		return CompletableFuture.completedFuture(true);
 	}
+
+	/**
+	 * Saves the decrypted data of an entity type
+	 */
+	@FunctionalInterface
+	private interface EntitySaver {
+
+		void save(byte[] data) throws Exception;
+	}
+
+	/**
+	 * A save of the client settings, with the checkpoints of the entity types
+	 */
+	private static final class SyncRun {
+
+		private final SyncDataResponseDto syncDataResponseDto;
+
+		/** The sync time of the response, null if it is not known */
+		private final Timestamp lastSyncTime;
+
+		/** Whether the data was requested as of the last sync */
+		private final boolean deltaSync;
+
+		/** The last sync time of the job, null if it never completed */
+		private final Timestamp lastCommittedSyncTime;
+
+		private final Map<String, SyncCheckpoint> checkpoints = new HashMap<>();
+
+		private final List<String> skippedEntities = new ArrayList<>();
+
+		private final List<String> failedEntities = new ArrayList<>();
+
+		private SyncRun(SyncDataResponseDto syncDataResponseDto, Timestamp lastSyncTime, boolean deltaSync,
+				Timestamp lastCommittedSyncTime) {
+			this.syncDataResponseDto = syncDataResponseDto;
+			this.lastSyncTime = lastSyncTime;
+			this.deltaSync = deltaSync;
+			this.lastCommittedSyncTime = lastCommittedSyncTime;
+		}
+	}
 }
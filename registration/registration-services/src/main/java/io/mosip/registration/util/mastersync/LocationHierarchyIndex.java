@@ -0,0 +1,119 @@
+package io.mosip.registration.util.mastersync;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.mosip.registration.dto.mastersync.GenericDto;
+import io.mosip.registration.entity.Location;
+
+/**
+ * Immutable index of the synced locations, by language, of the locations of
+ * each hierarchy level and of the children of each location. Built once from
+ * the location table and replaced when the master data is synced, so the
+ * cascading location lookups of the demographic screen do not query the
+ * database.
+ */
+public final class LocationHierarchyIndex {
+
+	private final Map<String, LanguageIndex> languageIndexes;
+
+	private LocationHierarchyIndex(Map<String, LanguageIndex> languageIndexes) {
+		this.languageIndexes = languageIndexes;
+	}
+
+	/**
+	 * Builds the index of the locations
+	 *
+	 * @param locations
+	 *            the active locations of all the languages
+	 * @return the index
+	 */
+	public static LocationHierarchyIndex build(List<Location> locations) {
+		Map<String, LanguageIndex> languageIndexes = new HashMap<>();
+		for (Location location : locations) {
+			if (location.getLangCode() == null) {
+				continue;
+			}
+			languageIndexes.computeIfAbsent(normalize(location.getLangCode()), langCode -> new LanguageIndex())
+					.add(location);
+		}
+		languageIndexes.values().forEach(LanguageIndex::seal);
+		return new LocationHierarchyIndex(languageIndexes);
+	}
+
+	/**
+	 * @param hierarchyLevel
+	 *            the hierarchy level
+	 * @param langCode
+	 *            the language code
+	 * @return the locations of the hierarchy level in the language
+	 */
+	public List<GenericDto> getLocations(int hierarchyLevel, String langCode) {
+		LanguageIndex languageIndex = languageIndexes.get(normalize(langCode));
+		return languageIndex == null ? new ArrayList<>()
+				: new ArrayList<>(languageIndex.locationsByLevel.getOrDefault(hierarchyLevel, Collections.emptyList()));
+	}
+
+	/**
+	 * @param parentLocCode
+	 *            the code of the parent location
+	 * @param langCode
+	 *            the language code
+	 * @return the child locations of the parent in the language
+	 */
+	public List<GenericDto> getChildren(String parentLocCode, String langCode) {
+		LanguageIndex languageIndex = languageIndexes.get(normalize(langCode));
+		return languageIndex == null ? new ArrayList<>()
+				: new ArrayList<>(languageIndex.locationsByParent.getOrDefault(parentLocCode, Collections.emptyList()));
+	}
+
+	/**
+	 * @param langCode
+	 *            the language code
+	 * @return the hierarchy level of each hierarchy name in the language, in the
+	 *         order the names were first found
+	 */
+	public Map<String, Integer> getHierarchyLevels(String langCode) {
+		LanguageIndex languageIndex = languageIndexes.get(normalize(langCode));
+		return languageIndex == null ? Collections.emptyMap() : languageIndex.hierarchyLevels;
+	}
+
+	private static String normalize(String langCode) {
+		return langCode == null ? null : langCode.toLowerCase(Locale.ROOT);
+	}
+
+	private static final class LanguageIndex {
+
+		private Map<Integer, List<GenericDto>> locationsByLevel = new HashMap<>();
+
+		private Map<String, List<GenericDto>> locationsByParent = new HashMap<>();
+
+		private Map<String, Integer> hierarchyLevels = new LinkedHashMap<>();
+
+		private void add(Location location) {
+			GenericDto genericDto = new GenericDto(location.getCode(), location.getName(), location.getLangCode());
+			locationsByLevel.computeIfAbsent(location.getHierarchyLevel(), level -> new ArrayList<>())
+					.add(genericDto);
+			if (location.getParentLocCode() != null) {
+				locationsByParent.computeIfAbsent(location.getParentLocCode(), code -> new ArrayList<>())
+						.add(genericDto);
+			}
+			if (location.getHierarchyName() != null) {
+				hierarchyLevels.putIfAbsent(location.getHierarchyName(), location.getHierarchyLevel());
+			}
+		}
+
+		private void seal() {
+			locationsByLevel.replaceAll((level, locations) -> Collections.unmodifiableList(locations));
+			locationsByParent.replaceAll((code, locations) -> Collections.unmodifiableList(locations));
+			locationsByLevel = Collections.unmodifiableMap(locationsByLevel);
+			locationsByParent = Collections.unmodifiableMap(locationsByParent);
+			hierarchyLevels = Collections.unmodifiableMap(hierarchyLevels);
+		}
+	}
+}
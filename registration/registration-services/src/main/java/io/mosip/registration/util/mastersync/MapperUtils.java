@@ -632,4 +632,12 @@ public class MapperUtils {
 		return mapper.writeValueAsString(object);
 	}
 
+	/**
+	 * Converts an object read from a JSON response, such as a map, to the given
+	 * type without writing it back to a JSON string
+	 */
+	public static <T> T convertObjectToDto(final Object object, TypeReference<T> typeReference) {
+		return mapper.convertValue(object, typeReference);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package io.mosip.registration.util.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter of events, safe to be incremented concurrently
+ */
+public class Counter implements CounterMXBean {
+
+	private final LongAdder count = new LongAdder();
+
+	public void increment() {
+		count.increment();
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + getCount();
+	}
+}
@@ -0,0 +1,9 @@
+package io.mosip.registration.util.metrics;
+
+/**
+ * JMX view of a {@link Counter}
+ */
+public interface CounterMXBean {
+
+	long getCount();
+}
@@ -0,0 +1,135 @@
+package io.mosip.registration.util.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Distribution of non negative values, safe to be recorded concurrently.
+ * <p>
+ * Values are counted in buckets of four per power of two, so the memory used
+ * is fixed and the percentiles are within a quarter of the recorded values.
+ * Timers are histograms of durations in microseconds.
+ * </p>
+ */
+public class Histogram implements HistogramMXBean {
+
+	private static final int SUB_BUCKETS = 4;
+	private static final int BUCKET_COUNT = SUB_BUCKETS + 61 * SUB_BUCKETS;
+
+	private final String unit;
+
+	private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder sum = new LongAdder();
+
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	public Histogram(String unit) {
+		this.unit = unit;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			buckets[index] = new LongAdder();
+		}
+	}
+
+	/**
+	 * @param value
+	 *            the value to be recorded, negative values are recorded as 0
+	 */
+	public void record(long value) {
+		long recordedValue = Math.max(0, value);
+		buckets[bucketOf(recordedValue)].increment();
+		count.increment();
+		sum.add(recordedValue);
+		max.accumulate(recordedValue);
+	}
+
+	@Override
+	public String getUnit() {
+		return unit;
+	}
+
+	@Override
+	public long getCount() {
+		return count.sum();
+	}
+
+	@Override
+	public double getMean() {
+		long recordedCount = count.sum();
+		return recordedCount == 0 ? 0 : (double) sum.sum() / recordedCount;
+	}
+
+	@Override
+	public long getMax() {
+		return max.get();
+	}
+
+	@Override
+	public long getPercentile50() {
+		return getPercentile(0.50);
+	}
+
+	@Override
+	public long getPercentile95() {
+		return getPercentile(0.95);
+	}
+
+	@Override
+	public long getPercentile99() {
+		return getPercentile(0.99);
+	}
+
+	/**
+	 * @param quantile
+	 *            the quantile, between 0 and 1
+	 * @return the upper bound of the bucket holding the quantile, at most the
+	 *         maximum value
+	 */
+	public long getPercentile(double quantile) {
+		long[] counts = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			counts[index] = buckets[index].sum();
+			total += counts[index];
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(quantile * total));
+		long cumulative = 0;
+		for (int index = 0; index < BUCKET_COUNT; index++) {
+			cumulative += counts[index];
+			if (cumulative >= rank) {
+				return Math.min(upperBoundOf(index), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	private static int bucketOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+		return SUB_BUCKETS + (exponent - 2) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long upperBoundOf(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + 2;
+		int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+		long upperBound = ((long) (SUB_BUCKETS | subBucket) + 1) << (exponent - 2);
+		return upperBound <= 0 ? Long.MAX_VALUE : upperBound - 1;
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + getCount() + ", mean=" + String.format("%.1f", getMean()) + ", p50=" + getPercentile50()
+				+ ", p95=" + getPercentile95() + ", p99=" + getPercentile99() + ", max=" + getMax() + " " + unit;
+	}
+}
@@ -0,0 +1,22 @@
+package io.mosip.registration.util.metrics;
+
+/**
+ * JMX view of a {@link Histogram}. Percentiles are approximated within a
+ * quarter of the value.
+ */
+public interface HistogramMXBean {
+
+	String getUnit();
+
+	long getCount();
+
+	double getMean();
+
+	long getMax();
+
+	long getPercentile50();
+
+	long getPercentile95();
+
+	long getPercentile99();
+}
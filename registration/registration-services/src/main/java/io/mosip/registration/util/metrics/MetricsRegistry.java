@@ -0,0 +1,226 @@
+package io.mosip.registration.util.metrics;
+
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_ID;
+import static io.mosip.registration.constants.RegistrationConstants.APPLICATION_NAME;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.mosip.kernel.core.exception.ExceptionUtils;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.registration.config.AppConfig;
+
+/**
+ * Local registry of the performance metrics of the application: counters,
+ * timers and histograms.
+ * <p>
+ * Every metric is registered in JMX under io.mosip.registration:type=Metrics
+ * when it is created. A snapshot of all the metrics is also appended
+ * periodically to a local file, which is rolled over once it reaches the
+ * configured size.
+ * </p>
+ */
+@Component
+public class MetricsRegistry {
+
+	private static final Logger LOGGER = AppConfig.getLogger(MetricsRegistry.class);
+	private static final String LOGGER_TITLE = "REGISTRATION - METRICS_REGISTRY";
+
+	private static final String JMX_DOMAIN = "io.mosip.registration";
+	private static final String TIMER_UNIT = "us";
+
+	@Value("${mosip.registration.metrics.enabled:true}")
+	private boolean metricsEnabled;
+
+	@Value("${mosip.registration.metrics.file:logs/metrics.log}")
+	private String metricsFile;
+
+	@Value("${mosip.registration.metrics.export.interval.seconds:60}")
+	private long exportIntervalSeconds;
+
+	@Value("${mosip.registration.metrics.file.max.size.kb:1024}")
+	private long maxFileSizeKb;
+
+	@Value("${mosip.registration.metrics.file.max.history:5}")
+	private int maxFileHistory;
+
+	private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, Histogram> timers = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+	private ScheduledExecutorService exporter;
+
+	@PostConstruct
+	public void startExport() {
+		if (!metricsEnabled || exportIntervalSeconds <= 0) {
+			return;
+		}
+		exporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "metrics-exporter");
+			thread.setDaemon(true);
+			return thread;
+		});
+		exporter.scheduleWithFixedDelay(this::export, exportIntervalSeconds, exportIntervalSeconds, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	public void stopExport() {
+		if (exporter != null) {
+			exporter.shutdownNow();
+			export();
+		}
+	}
+
+	public boolean isEnabled() {
+		return metricsEnabled;
+	}
+
+	public Counter counter(String name) {
+		return getOrRegister(counters, "counter", name, metricName -> new Counter());
+	}
+
+	/**
+	 * @param name
+	 *            the name of the timer
+	 * @return the histogram of the durations recorded, in microseconds
+	 */
+	public Histogram timer(String name) {
+		return getOrRegister(timers, "timer", name, metricName -> new Histogram(TIMER_UNIT));
+	}
+
+	public Histogram histogram(String name, String unit) {
+		return getOrRegister(histograms, "histogram", name, metricName -> new Histogram(unit));
+	}
+
+	public void increment(String counterName) {
+		if (metricsEnabled) {
+			counter(counterName).increment();
+		}
+	}
+
+	public void recordTime(String timerName, long duration, TimeUnit unit) {
+		if (metricsEnabled) {
+			timer(timerName).record(unit.toMicros(duration));
+		}
+	}
+
+	public void recordValue(String histogramName, String unit, long value) {
+		if (metricsEnabled) {
+			histogram(histogramName, unit).record(value);
+		}
+	}
+
+	/**
+	 * @return the current value of every metric, by type and name
+	 */
+	public Map<String, String> snapshot() {
+		Map<String, String> snapshot = new TreeMap<>();
+		counters.forEach((name, counter) -> snapshot.put("counter " + name, counter.toString()));
+		timers.forEach((name, timer) -> snapshot.put("timer " + name, timer.toString()));
+		histograms.forEach((name, histogram) -> snapshot.put("histogram " + name, histogram.toString()));
+		return snapshot;
+	}
+
+	/**
+	 * Appends the current value of every metric to the metrics file
+	 */
+	public void export() {
+		Map<String, String> snapshot = snapshot();
+		if (snapshot.isEmpty()) {
+			return;
+		}
+		try {
+			Path metricsPath = Paths.get(metricsFile);
+			if (metricsPath.getParent() != null) {
+				Files.createDirectories(metricsPath.getParent());
+			}
+			rollOver(metricsPath);
+
+			String exportTime = LocalDateTime.now().toString();
+			try (BufferedWriter writer = Files.newBufferedWriter(metricsPath, StandardCharsets.UTF_8,
+					StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+				for (Map.Entry<String, String> metric : snapshot.entrySet()) {
+					writer.write(exportTime + " " + metric.getKey() + " " + metric.getValue());
+					writer.newLine();
+				}
+			}
+		} catch (IOException | RuntimeException exception) {
+			LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+					"Failed to export the metrics : " + ExceptionUtils.getStackTrace(exception));
+		}
+	}
+
+	private void rollOver(Path metricsPath) throws IOException {
+		if (!Files.exists(metricsPath) || Files.size(metricsPath) < maxFileSizeKb * 1024) {
+			return;
+		}
+		for (int history = maxFileHistory - 1; history >= 1; history--) {
+			Path rolledPath = Paths.get(metricsFile + "." + history);
+			if (Files.exists(rolledPath)) {
+				Files.move(rolledPath, Paths.get(metricsFile + "." + (history + 1)),
+						StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		if (maxFileHistory > 0) {
+			Files.move(metricsPath, Paths.get(metricsFile + ".1"), StandardCopyOption.REPLACE_EXISTING);
+		} else {
+			Files.delete(metricsPath);
+		}
+	}
+
+	private <T> T getOrRegister(ConcurrentMap<String, T> metrics, String type, String name,
+			Function<String, T> factory) {
+		T metric = metrics.get(name);
+		if (metric != null) {
+			return metric;
+		}
+		T newMetric = factory.apply(name);
+		metric = metrics.putIfAbsent(name, newMetric);
+		if (metric != null) {
+			return metric;
+		}
+		registerInJmx(type, name, newMetric);
+		return newMetric;
+	}
+
+	private void registerInJmx(String type, String name, Object metric) {
+		try {
+			MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+			ObjectName objectName = new ObjectName(
+					JMX_DOMAIN + ":type=Metrics,metric=" + type + ",name=" + ObjectName.quote(name));
+			if (!mBeanServer.isRegistered(objectName)) {
+				mBeanServer.registerMBean(metric, objectName);
+			}
+		} catch (JMException | RuntimeException exception) {
+			LOGGER.error(LOGGER_TITLE, APPLICATION_NAME, APPLICATION_ID,
+					"Failed to register the metric " + name + " in JMX : " + exception.getMessage());
+		}
+	}
+}
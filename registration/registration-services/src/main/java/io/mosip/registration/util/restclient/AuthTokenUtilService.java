@@ -285,9 +285,9 @@ public class AuthTokenUtilService {
         // Timeout in milli second
         SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
         requestFactory.setReadTimeout(
-                Integer.parseInt((String) ApplicationContext.map().get(RegistrationConstants.HTTP_API_READ_TIMEOUT)));
+                ApplicationContext.getIntValueFromApplicationMap(RegistrationConstants.HTTP_API_READ_TIMEOUT));
         requestFactory.setConnectTimeout(
-                Integer.parseInt((String) ApplicationContext.map().get(RegistrationConstants.HTTP_API_WRITE_TIMEOUT)));
+                ApplicationContext.getIntValueFromApplicationMap(RegistrationConstants.HTTP_API_WRITE_TIMEOUT));
         requestHTTPDTO.setSimpleClientHttpRequestFactory(requestFactory);
     }
 }
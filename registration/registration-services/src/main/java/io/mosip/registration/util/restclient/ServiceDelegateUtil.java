@@ -10,6 +10,8 @@ import java.net.URISyntaxException;
 import java.time.LocalDateTime;
 import java.util.*;
 
+import javax.annotation.PostConstruct;
+
 import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
 import io.mosip.kernel.core.util.CryptoUtil;
 import io.mosip.registration.dao.MachineMappingDAO;
@@ -78,6 +80,21 @@ public class ServiceDelegateUtil {
 	private String mosipHostNamePlaceHolder = "${mosip.hostname}";
 	private static final Logger LOGGER = AppConfig.getLogger(ServiceDelegateUtil.class);
 
+	/** Built from the HTTP timeouts on first use, and again once they change */
+	private volatile SimpleClientHttpRequestFactory requestFactory;
+
+	@PostConstruct
+	public void init() {
+		ApplicationContext.configuration().addChangeListener(changedKeys -> {
+			if (changedKeys.contains(RegistrationConstants.HTTP_API_READ_TIMEOUT)
+					|| changedKeys.contains(RegistrationConstants.HTTP_API_WRITE_TIMEOUT)) {
+				synchronized (this) {
+					requestFactory = null;
+				}
+			}
+		});
+	}
+
 
 
 	/**
@@ -493,18 +510,28 @@ public class ServiceDelegateUtil {
 	}
 
 	/**
-	 * Method to set the request timeout
+	 * Method to set the request timeout, with a request factory shared by the
+	 * requests as long as the timeouts do not change
 	 * 
 	 * @param requestHTTPDTO
 	 */
 	private void setTimeout(RequestHTTPDTO requestHTTPDTO) {
-		// Timeout in milli second
-		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-		requestFactory.setReadTimeout(
-				Integer.parseInt((String) ApplicationContext.map().get(RegistrationConstants.HTTP_API_READ_TIMEOUT)));
-		requestFactory.setConnectTimeout(
-				Integer.parseInt((String) ApplicationContext.map().get(RegistrationConstants.HTTP_API_WRITE_TIMEOUT)));
-		requestHTTPDTO.setSimpleClientHttpRequestFactory(requestFactory);
+		SimpleClientHttpRequestFactory factory = requestFactory;
+		if (factory == null) {
+			synchronized (this) {
+				if (requestFactory == null) {
+					// Timeout in milli second
+					SimpleClientHttpRequestFactory newFactory = new SimpleClientHttpRequestFactory();
+					newFactory.setReadTimeout(ApplicationContext
+							.getIntValueFromApplicationMap(RegistrationConstants.HTTP_API_READ_TIMEOUT));
+					newFactory.setConnectTimeout(ApplicationContext
+							.getIntValueFromApplicationMap(RegistrationConstants.HTTP_API_WRITE_TIMEOUT));
+					requestFactory = newFactory;
+				}
+				factory = requestFactory;
+			}
+		}
+		requestHTTPDTO.setSimpleClientHttpRequestFactory(factory);
 	}
 
 	private AuthNRequestDTO prepareAuthNRequestDTO(LoginMode loginMode) {
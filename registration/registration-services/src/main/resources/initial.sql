@@ -111,6 +111,8 @@ CREATE TABLE "REG"."TITLE" ("CODE" VARCHAR(16) NOT NULL, "NAME" VARCHAR(64) NOT
 
 CREATE TABLE "REG"."SYNC_CONTROL" ("ID" VARCHAR(36) NOT NULL, "SYNCJOB_ID" VARCHAR(36) NOT NULL, "MACHINE_ID" VARCHAR(10), "REGCNTR_ID" VARCHAR(10), "SYNCTRN_ID" VARCHAR(36) NOT NULL, "LAST_SYNC_DTIMES" TIMESTAMP NOT NULL, "LANG_CODE" VARCHAR(3), "IS_ACTIVE" BOOLEAN NOT NULL, "CR_BY" VARCHAR(32) NOT NULL, "CR_DTIMES" TIMESTAMP NOT NULL, "UPD_BY" VARCHAR(32), "UPD_DTIMES" TIMESTAMP, "IS_DELETED" BOOLEAN, "DEL_DTIMES" TIMESTAMP);
 
+CREATE TABLE "REG"."SYNC_CHECKPOINT" ("ENTITY_NAME" VARCHAR(128) NOT NULL, "LAST_SYNC_DTIMES" TIMESTAMP, "CHECKSUM" VARCHAR(64) NOT NULL, "CR_BY" VARCHAR(32) NOT NULL, "CR_DTIMES" TIMESTAMP NOT NULL, "UPD_BY" VARCHAR(32), "UPD_DTIMES" TIMESTAMP);
+
 CREATE TABLE "REG"."APPL_FORM_TYPE" ("CODE" VARCHAR(36) NOT NULL, "NAME" VARCHAR(64) NOT NULL, "DESCR" VARCHAR(128), "LANG_CODE" VARCHAR(3) NOT NULL, "IS_ACTIVE" BOOLEAN NOT NULL, "CR_BY" VARCHAR(32) NOT NULL, "CR_DTIMES" TIMESTAMP NOT NULL, "UPD_BY" VARCHAR(32), "UPD_DTIMES" TIMESTAMP, "IS_DELETED" BOOLEAN, "DEL_DTIMES" TIMESTAMP);
 
 CREATE TABLE "REG"."SCREEN_AUTHORIZATION" ("SCREEN_ID" VARCHAR(36) NOT NULL, "ROLE_CODE" VARCHAR(36) NOT NULL, "LANG_CODE" VARCHAR(3) NOT NULL, "IS_PERMITTED" BOOLEAN NOT NULL, "IS_ACTIVE" BOOLEAN NOT NULL, "CR_BY" VARCHAR(32) NOT NULL, "CR_DTIMES" TIMESTAMP NOT NULL, "UPD_BY" VARCHAR(32), "UPD_DTIMES" TIMESTAMP, "IS_DELETED" BOOLEAN, "DEL_DTIMES" TIMESTAMP);
@@ -178,6 +180,8 @@ ALTER TABLE "REG"."SCREEN_DETAIL" ADD CONSTRAINT "PK_SCRDTL_ID" PRIMARY KEY ("ID
 
 ALTER TABLE "REG"."SYNC_CONTROL" ADD CONSTRAINT "PK_SYNCTRL_ID" PRIMARY KEY ("ID");
 
+ALTER TABLE "REG"."SYNC_CHECKPOINT" ADD CONSTRAINT "PK_SYNCCHK_ENTITY" PRIMARY KEY ("ENTITY_NAME");
+
 ALTER TABLE "REG"."APP_DETAIL" ADD CONSTRAINT "PK_APPDTL_ID" PRIMARY KEY ("ID", "LANG_CODE");
 
 ALTER TABLE "REG"."SYNC_TRANSACTION" ADD CONSTRAINT "PK_SYNCTRN_ID" PRIMARY KEY ("ID");
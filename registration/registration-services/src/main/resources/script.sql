@@ -19,4 +19,5 @@ delete from reg.machine_master;
 delete from reg.device_type;
 delete from reg.device_spec;
 delete from reg.device_master;
-delete from reg.user_token;
\ No newline at end of file
+delete from reg.user_token;
+delete from reg.sync_checkpoint;
\ No newline at end of file
@@ -0,0 +1,172 @@
+package io.mosip.registration.bio.service.test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.kernel.biometrics.constant.BiometricFunction;
+import io.mosip.kernel.biometrics.constant.BiometricType;
+import io.mosip.kernel.biosdk.provider.factory.BioAPIFactory;
+import io.mosip.kernel.biosdk.provider.spi.iBioProviderApi;
+import io.mosip.kernel.core.cbeffutil.entity.BIR;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.context.ApplicationContext;
+import io.mosip.registration.dto.packetmanager.BiometricsDto;
+import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.mdm.dto.MDMRequestDto;
+import io.mosip.registration.mdm.dto.MdmBioDevice;
+import io.mosip.registration.mdm.integrator.MosipDeviceSpecificationProvider;
+import io.mosip.registration.mdm.service.impl.MosipDeviceSpecificationFactory;
+import io.mosip.registration.service.bio.impl.BioServiceImpl;
+
+public class BioServiceTest {
+
+	@Rule
+	public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+	@InjectMocks
+	private BioServiceImpl bioService;
+
+	@Mock
+	private MosipDeviceSpecificationFactory deviceSpecificationFactory;
+
+	@Mock
+	private BioAPIFactory bioAPIFactory;
+
+	@Mock
+	private MosipDeviceSpecificationProvider deviceSpecificationProvider;
+
+	@Mock
+	private iBioProviderApi bioProvider;
+
+	private final MDMRequestDto mdmRequestDto = new MDMRequestDto("FINGERPRINT_SLAB_RIGHT", null, "Registration",
+			"Staging", 10000, 1, 60);
+
+	private final Set<String> qualityCheckThreads = ConcurrentHashMap.newKeySet();
+
+	@Before
+	public void initialize() throws Exception {
+		MdmBioDevice bioDevice = new MdmBioDevice();
+		bioDevice.setSpecVersion("0.9.5");
+		Mockito.when(deviceSpecificationFactory.getDeviceInfoByModality(Mockito.anyString())).thenReturn(bioDevice);
+		Mockito.when(deviceSpecificationFactory.getMdsProvider(Mockito.anyString()))
+				.thenReturn(deviceSpecificationProvider);
+		Mockito.when(deviceSpecificationProvider.rCapture(bioDevice, mdmRequestDto)).thenAnswer(invocation -> {
+			Thread.sleep(20);
+			return Arrays.asList(new BiometricsDto("rightIndex", new byte[] { 1 }, 70),
+					new BiometricsDto("rightMiddle", new byte[] { 2 }, 80),
+					new BiometricsDto("rightRing", new byte[] { 3 }, 90));
+		});
+		Mockito.when(bioAPIFactory.getBioProvider(BiometricType.FINGER, BiometricFunction.QUALITY_CHECK))
+				.thenReturn(bioProvider);
+
+		ApplicationContext.map().put(RegistrationConstants.QUALITY_CHECK_WITH_SDK, RegistrationConstants.ENABLE);
+		ApplicationContext.map().put(RegistrationConstants.UPDATE_SDK_QUALITY_SCORE, RegistrationConstants.ENABLE);
+	}
+
+	@After
+	public void shutdown() {
+		bioService.shutdownQualityCheckExecutor();
+		ApplicationContext.map().remove(RegistrationConstants.QUALITY_CHECK_WITH_SDK);
+		ApplicationContext.map().remove(RegistrationConstants.UPDATE_SDK_QUALITY_SCORE);
+	}
+
+	@Test
+	public void sequentialQualityCheckTest() throws Exception {
+		ReflectionTestUtils.setField(bioService, "qualityCheckThreads", 1);
+		mockQualityCheck(null);
+
+		List<BiometricsDto> biometricsDtos = bioService.captureModality(mdmRequestDto);
+
+		assertScores(biometricsDtos);
+		Assert.assertEquals(Collections.singleton(Thread.currentThread().getName()), qualityCheckThreads);
+	}
+
+	@Test
+	public void concurrentQualityCheckTest() throws Exception {
+		ReflectionTestUtils.setField(bioService, "qualityCheckThreads", 3);
+		/* Every quality check waits for the others to start */
+		CountDownLatch allStarted = new CountDownLatch(3);
+		mockQualityCheck(allStarted);
+
+		List<BiometricsDto> biometricsDtos = bioService.captureModality(mdmRequestDto);
+
+		assertScores(biometricsDtos);
+		Assert.assertEquals(3, qualityCheckThreads.size());
+		Assert.assertFalse(qualityCheckThreads.contains(Thread.currentThread().getName()));
+		/* The provider is looked up once for the biometric type */
+		Mockito.verify(bioAPIFactory, Mockito.times(1)).getBioProvider(BiometricType.FINGER,
+				BiometricFunction.QUALITY_CHECK);
+	}
+
+	@Test(expected = RegBaseCheckedException.class)
+	public void qualityCheckFailureTest() throws Exception {
+		ReflectionTestUtils.setField(bioService, "qualityCheckThreads", 3);
+		Mockito.when(bioProvider.getModalityQuality(Mockito.any(BIR[].class), Mockito.any()))
+				.thenThrow(new IllegalStateException("SDK failure"));
+
+		bioService.captureModality(mdmRequestDto);
+	}
+
+	@Test
+	public void timingTest() throws Exception {
+		ReflectionTestUtils.setField(bioService, "qualityCheckThreads", 1);
+		Mockito.when(bioProvider.getModalityQuality(Mockito.any(BIR[].class), Mockito.any())).thenAnswer(invocation -> {
+			Thread.sleep(10);
+			return Collections.singletonMap(BiometricType.FINGER, 50f);
+		});
+
+		List<BiometricsDto> biometricsDtos = bioService.captureModality(mdmRequestDto);
+
+		for (BiometricsDto biometricsDto : biometricsDtos) {
+			Assert.assertTrue(biometricsDto.getCaptureDuration() >= 20);
+			Assert.assertTrue(biometricsDto.getQualityCheckDuration() >= 30);
+			Assert.assertEquals(biometricsDtos.get(0).getCaptureDuration(), biometricsDto.getCaptureDuration());
+		}
+	}
+
+	/**
+	 * The SDK score of each biometric is its device score plus 1, so a score
+	 * assigned to another biometric of the capture is detected
+	 */
+	private void mockQualityCheck(CountDownLatch allStarted) throws Exception {
+		Mockito.when(bioProvider.getModalityQuality(Mockito.any(BIR[].class), Mockito.any())).thenAnswer(invocation -> {
+			qualityCheckThreads.add(Thread.currentThread().getName());
+			if (allStarted != null) {
+				allStarted.countDown();
+				if (!allStarted.await(5, TimeUnit.SECONDS)) {
+					throw new IllegalStateException("Quality checks did not run concurrently");
+				}
+			}
+			BIR bir = ((BIR[]) invocation.getArguments()[0])[0];
+			return Collections.singletonMap(BiometricType.FINGER,
+					(float) (bir.getBdbInfo().getQuality().getScore() + 1));
+		});
+	}
+
+	private void assertScores(List<BiometricsDto> biometricsDtos) {
+		Assert.assertEquals(3, biometricsDtos.size());
+		Assert.assertEquals("rightIndex", biometricsDtos.get(0).getBioAttribute());
+		Assert.assertEquals(71, biometricsDtos.get(0).getQualityScore(), 0);
+		Assert.assertEquals("rightMiddle", biometricsDtos.get(1).getBioAttribute());
+		Assert.assertEquals(81, biometricsDtos.get(1).getQualityScore(), 0);
+		Assert.assertEquals("rightRing", biometricsDtos.get(2).getBioAttribute());
+		Assert.assertEquals(91, biometricsDtos.get(2).getQualityScore(), 0);
+	}
+}
@@ -0,0 +1,72 @@
+package io.mosip.registration.device;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.mosip.registration.device.gps.GPSFix;
+import io.mosip.registration.device.gps.NmeaSentenceParser;
+
+public class NmeaSentenceParserTest {
+
+	private static final String LAST_FIX = "$GPRMC,092752.000,A,1259.4790,N,08014.7430,E,0.01,31.66,190326,,,A*51";
+
+	@Test
+	public void replayTest() throws IOException {
+		NmeaSentenceParser nmeaSentenceParser = new NmeaSentenceParser();
+		List<String> sentences = new ArrayList<>();
+
+		/* Replays the recorded stream in chunks which split the sentences */
+		try (InputStream inputStream = getClass().getResourceAsStream("/gps/nmea-replay.txt")) {
+			byte[] buffer = new byte[7];
+			int read;
+			while ((read = inputStream.read(buffer)) > 0) {
+				sentences.addAll(nmeaSentenceParser.accept(buffer, 0, read));
+			}
+		}
+
+		Assert.assertEquals(7, sentences.size());
+		Assert.assertFalse(sentences.stream().anyMatch(sentence -> sentence.startsWith("$GPGSV")));
+		Assert.assertEquals(LAST_FIX, nmeaSentenceParser.getLastFix().getSentence());
+		Assert.assertNotNull(nmeaSentenceParser.getLastFix(60000));
+	}
+
+	@Test
+	public void noFixWithoutValidStatusTest() {
+		NmeaSentenceParser nmeaSentenceParser = new NmeaSentenceParser();
+
+		nmeaSentenceParser.accept("$GPRMC,092750.000,V,,,,,0.00,0.00,190326,,,N*4B\r\n");
+
+		Assert.assertNull(nmeaSentenceParser.getLastFix());
+		Assert.assertNotNull(nmeaSentenceParser.getLastSentence(0));
+	}
+
+	@Test
+	public void sentencesWithoutLineBreakTest() {
+		NmeaSentenceParser nmeaSentenceParser = new NmeaSentenceParser();
+
+		List<String> sentences = nmeaSentenceParser.accept("$GPGSA,A,1,,,,,,,,,,,,,,,*1E" + LAST_FIX);
+		sentences.addAll(nmeaSentenceParser.accept("\n"));
+
+		Assert.assertEquals(2, sentences.size());
+		Assert.assertEquals(LAST_FIX, nmeaSentenceParser.getLastFix().getSentence());
+	}
+
+	@Test
+	public void awaitFixTest() throws InterruptedException {
+		NmeaSentenceParser nmeaSentenceParser = new NmeaSentenceParser();
+		long since = System.currentTimeMillis();
+
+		Thread device = new Thread(() -> nmeaSentenceParser.accept(LAST_FIX + "\r\n"));
+		device.start();
+		GPSFix gpsFix = nmeaSentenceParser.awaitFix(since, 5000);
+		device.join();
+
+		Assert.assertEquals(LAST_FIX, gpsFix.getSentence());
+		Assert.assertNull(nmeaSentenceParser.awaitFix(System.currentTimeMillis() + 1000, 10));
+	}
+}
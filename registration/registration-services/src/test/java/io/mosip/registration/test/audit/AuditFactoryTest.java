@@ -6,17 +6,20 @@ import static org.mockito.Mockito.when;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
 import org.hibernate.exception.DataException;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -26,6 +29,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.mosip.kernel.auditmanager.request.AuditRequestDto;
 import io.mosip.kernel.core.auditmanager.spi.AuditHandler;
@@ -35,10 +39,12 @@ import io.mosip.registration.constants.Components;
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.context.SessionContext;
+import io.mosip.registration.dao.AuditDAO;
 import io.mosip.registration.dao.AuditLogControlDAO;
 import io.mosip.registration.dao.RegistrationDAO;
 import io.mosip.registration.entity.AuditLogControl;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationAuditDates;
 import io.mosip.registration.service.config.GlobalParamService;
 import io.mosip.registration.service.packet.RegPacketStatusService;
 import net.bytebuddy.build.Plugin.Engine.Source.Empty;
@@ -64,6 +70,9 @@ public class AuditFactoryTest {
 	@Mock
 	private AuditLogControlDAO auditLogControlDAO;
 
+	@Mock
+	private AuditDAO auditDAO;
+
 	@Mock
 	Map<String, Object> applicationMap;
 
@@ -134,6 +143,36 @@ public class AuditFactoryTest {
 
 	}
 
+	@Test
+	public void purgeAuditsTest() {
+		ReflectionTestUtils.setField(auditFactory, "auditPurgeChunkSize", 2);
+		ReflectionTestUtils.setField(auditFactory, "auditPurgeMaxMillis", 60000L);
+		Timestamp packetedUpTo = Timestamp.valueOf(LocalDateTime.now().minusDays(10));
+		RegistrationAuditDates latestAuditDates = Mockito.mock(RegistrationAuditDates.class);
+		Mockito.when(latestAuditDates.getAuditLogToDateTime()).thenReturn(packetedUpTo);
+		Mockito.when(auditLogControlDAO.getLatestRegistrationAuditDates()).thenReturn(latestAuditDates);
+		Mockito.when(auditDAO.deleteAudits(Mockito.any(LocalDateTime.class), Mockito.eq(2))).thenReturn(2, 2, 1);
+		Mockito.when(auditLogControlDAO.get(Mockito.any(Timestamp.class))).thenReturn(new LinkedList<>());
+
+		assertSame(RegistrationConstants.AUDIT_LOGS_DELETION_EMPTY_MSG,
+				auditFactory.deleteAuditLogs().getSuccessResponseDTO().getMessage());
+
+		/* The audits logged after the latest packet are kept, however old */
+		ArgumentCaptor<LocalDateTime> createdUpTo = ArgumentCaptor.forClass(LocalDateTime.class);
+		Mockito.verify(auditDAO, Mockito.times(3)).deleteAudits(createdUpTo.capture(), Mockito.eq(2));
+		Assert.assertEquals(packetedUpTo.toLocalDateTime(), createdUpTo.getValue());
+	}
+
+	@Test
+	public void purgeAuditsNoPacketTest() {
+		Mockito.when(auditLogControlDAO.getLatestRegistrationAuditDates()).thenReturn(null);
+		Mockito.when(auditLogControlDAO.get(Mockito.any(Timestamp.class))).thenReturn(new LinkedList<>());
+
+		assertSame(RegistrationConstants.AUDIT_LOGS_DELETION_EMPTY_MSG,
+				auditFactory.deleteAuditLogs().getSuccessResponseDTO().getMessage());
+		Mockito.verify(auditDAO, Mockito.never()).deleteAudits(Mockito.any(LocalDateTime.class), Mockito.anyInt());
+	}
+
 	@Ignore
 	@Test
 	public void auditLogsDeletionFailureTest() {
@@ -0,0 +1,121 @@
+package io.mosip.registration.test.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.mosip.registration.context.ConfigurationStore;
+
+public class ConfigurationStoreTest {
+
+	@Test
+	public void typedValuesTest() {
+		ConfigurationStore configurationStore = new ConfigurationStore();
+		configurationStore.put("timeout", "60000");
+		configurationStore.put("threshold", "2.5");
+		configurationStore.put("flag", "Y");
+
+		Assert.assertEquals(60000, configurationStore.getInt("timeout"));
+		Assert.assertEquals(60000L, configurationStore.getLong("timeout", 0));
+		Assert.assertEquals(2.5, configurationStore.getDouble("threshold", 0), 0);
+		Assert.assertTrue(configurationStore.getBoolean("flag", false));
+		Assert.assertEquals(10, configurationStore.getInt("missing", 10));
+		Assert.assertEquals(10, configurationStore.getInt("threshold", 10));
+
+		configurationStore.put("timeout", "30000");
+		Assert.assertEquals(30000, configurationStore.getInt("timeout"));
+	}
+
+	@Test(expected = NumberFormatException.class)
+	public void missingIntValueTest() {
+		new ConfigurationStore().getInt("missing");
+	}
+
+	@Test
+	public void snapshotIsNotChangedByLaterUpdatesTest() {
+		ConfigurationStore configurationStore = new ConfigurationStore();
+		configurationStore.put("key1", "value1");
+		Map<String, Object> snapshot = configurationStore.getValues();
+
+		configurationStore.put("key2", "value2");
+
+		Assert.assertEquals(1, snapshot.size());
+		Assert.assertEquals(2, configurationStore.asMap().size());
+	}
+
+	@Test
+	public void updateTest() {
+		ConfigurationStore configurationStore = new ConfigurationStore();
+		Map<String, Object> values = new HashMap<>();
+		values.put("unchanged", "value");
+		values.put("removed", "value");
+		configurationStore.putAll(values);
+		Map<String, Object> snapshot = configurationStore.getValues();
+
+		/* Writes which change nothing keep the current snapshot */
+		configurationStore.update(values, Arrays.asList("missing"));
+		Assert.assertSame(snapshot, configurationStore.getValues());
+
+		values = new HashMap<>();
+		values.put("unchanged", "value");
+		values.put("added", "value");
+		configurationStore.update(values, Arrays.asList("removed"));
+
+		Assert.assertEquals(new HashSet<>(Arrays.asList("unchanged", "added")),
+				configurationStore.getValues().keySet());
+		Assert.assertEquals(2, snapshot.size());
+	}
+
+	@Test
+	public void changeListenerTest() {
+		ConfigurationStore configurationStore = new ConfigurationStore();
+		configurationStore.put("unchanged", "value");
+		configurationStore.put("removed", "value");
+		List<Set<String>> notifications = new ArrayList<>();
+		List<Object> publishedValues = new ArrayList<>();
+		configurationStore.addChangeListener(changedKeys -> {
+			notifications.add(changedKeys);
+			publishedValues.add(configurationStore.get("added"));
+		});
+
+		Map<String, Object> values = new HashMap<>();
+		values.put("unchanged", "value");
+		values.put("added", "value");
+		configurationStore.update(values, Arrays.asList("removed", "missing"));
+
+		/* Once for the batch, with the changed keys, after the snapshot is published */
+		Assert.assertEquals(1, notifications.size());
+		Assert.assertEquals(new HashSet<>(Arrays.asList("added", "removed")), notifications.get(0));
+		Assert.assertEquals("value", publishedValues.get(0));
+
+		/* Writes which change nothing are not notified */
+		configurationStore.putAll(values);
+		configurationStore.remove("missing");
+		Assert.assertEquals(1, notifications.size());
+
+		configurationStore.put("unchanged", "other");
+		configurationStore.remove("added");
+		Assert.assertEquals(Arrays.asList(notifications.get(0), Collections.singleton("unchanged"),
+				Collections.singleton("added")), notifications);
+	}
+
+	@Test
+	public void mapViewWritesToStoreTest() {
+		ConfigurationStore configurationStore = new ConfigurationStore();
+		Map<String, Object> map = configurationStore.asMap();
+
+		Assert.assertNull(map.put("key", "1"));
+		Assert.assertEquals("1", map.put("key", "2"));
+		Assert.assertEquals(2, configurationStore.getInt("key"));
+		Assert.assertEquals("2", map.remove("key"));
+		Assert.assertNull(configurationStore.get("key"));
+	}
+}
@@ -0,0 +1,112 @@
+package io.mosip.registration.test.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.client.RestTemplate;
+
+import io.mosip.registration.config.StagedStartup;
+import io.mosip.registration.config.StartupTimeline;
+
+public class StagedStartupTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void applicationBeansAreDeferredTest() {
+		DefaultListableBeanFactory beanFactory = getBeanFactory();
+
+		StagedStartup stagedStartup = new StagedStartup();
+		stagedStartup.setEnvironment(new MockEnvironment().withProperty("mosip.registration.startup.deferred.packages",
+				"io.mosip.registration.test.config"));
+		stagedStartup.postProcessBeanFactory(beanFactory);
+
+		assertTrue(beanFactory.getBeanDefinition("deferredBean").isLazyInit());
+		assertFalse(beanFactory.getBeanDefinition("timerBean").isLazyInit());
+		assertFalse(beanFactory.getBeanDefinition("restTemplate").isLazyInit());
+		assertFalse(beanFactory.getBeanDefinition("startupTimeline").isLazyInit());
+		assertEquals(Arrays.asList("deferredBean"), stagedStartup.getDeferredBeans());
+	}
+
+	@Test
+	public void defaultPackagesTest() {
+		DefaultListableBeanFactory beanFactory = getBeanFactory();
+
+		StagedStartup stagedStartup = new StagedStartup();
+		stagedStartup.setEnvironment(new MockEnvironment());
+		stagedStartup.postProcessBeanFactory(beanFactory);
+
+		assertTrue(stagedStartup.getDeferredBeans().isEmpty());
+	}
+
+	@Test
+	public void lazyInitDisabledTest() {
+		DefaultListableBeanFactory beanFactory = getBeanFactory();
+
+		StagedStartup stagedStartup = new StagedStartup();
+		stagedStartup.setEnvironment(new MockEnvironment().withProperty("mosip.registration.startup.lazy.init", "false")
+				.withProperty("mosip.registration.startup.deferred.packages", "io.mosip.registration.test.config"));
+		stagedStartup.postProcessBeanFactory(beanFactory);
+
+		assertFalse(beanFactory.getBeanDefinition("deferredBean").isLazyInit());
+		assertTrue(stagedStartup.getDeferredBeans().isEmpty());
+	}
+
+	@Test
+	public void initializeDeferredBeansTest() {
+		DefaultListableBeanFactory beanFactory = getBeanFactory();
+		File timelineFile = new File(temporaryFolder.getRoot(), "startup-timeline.csv");
+
+		StagedStartup stagedStartup = new StagedStartup();
+		stagedStartup.setEnvironment(new MockEnvironment()
+				.withProperty("mosip.registration.startup.deferred.packages", "io.mosip.registration.test.config")
+				.withProperty("mosip.registration.startup.timeline.file", timelineFile.getPath()));
+		stagedStartup.postProcessBeanFactory(beanFactory);
+
+		/* One task per deferred bean and one to complete */
+		List<Runnable> tasks = new ArrayList<>();
+		stagedStartup.initializeDeferredBeans(tasks::add);
+		assertFalse(beanFactory.containsSingleton("deferredBean"));
+		for (int index = 0; index < tasks.size(); index++) {
+			tasks.get(index).run();
+		}
+
+		assertEquals(2, tasks.size());
+		assertTrue(beanFactory.containsSingleton("deferredBean"));
+		assertTrue(timelineFile.exists());
+	}
+
+	private DefaultListableBeanFactory getBeanFactory() {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("deferredBean", new RootBeanDefinition(DeferredBean.class));
+		beanFactory.registerBeanDefinition("timerBean", new RootBeanDefinition(TimerBean.class));
+		beanFactory.registerBeanDefinition("restTemplate", new RootBeanDefinition(RestTemplate.class));
+		beanFactory.registerBeanDefinition("startupTimeline", new RootBeanDefinition(StartupTimeline.class));
+		return beanFactory;
+	}
+
+	public static class DeferredBean {
+	}
+
+	public static class TimerBean {
+
+		@PostConstruct
+		public void startTimer() {
+		}
+	}
+}
@@ -6,11 +6,14 @@ import static org.mockito.Mockito.when;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.UUID;
 
 import org.junit.Assert;
+import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
@@ -19,6 +22,9 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.mosip.kernel.auditmanager.entity.Audit;
 import io.mosip.registration.constants.RegistrationConstants;
@@ -51,6 +57,12 @@ public class AuditDAOTest {
 		audits.add(audit);
 	}
 
+	@Before
+	public void setUp() {
+		ReflectionTestUtils.setField(auditDAO, "auditMaxRows", 10);
+		ReflectionTestUtils.setField(auditDAO, "auditPageSize", 2);
+	}
+
 	@Test
 	public void testGetAudits() {
 		when(auditRepository.findByIdOrderByCreatedAtAsc("1234"))
@@ -80,8 +92,10 @@ public class AuditDAOTest {
 
 	@Test
 	public void testGetAuditsByAuditLogToTime() {
-		when(auditRepository.findByCreatedAtGreaterThanOrderByCreatedAtAsc(Mockito.any(LocalDateTime.class)))
-				.thenReturn(audits);
+		when(auditRepository.findNewestCreatedAfter(Mockito.any(LocalDateTime.class), Mockito.any(Pageable.class)))
+				.thenReturn(Collections.emptyList());
+		when(auditRepository.findCreatedAfterKeyset(Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class),
+				Mockito.anyString(), Mockito.any(Pageable.class))).thenReturn(audits, Collections.emptyList());
 
 		Assert.assertThat(auditDAO.getAudits(new RegistrationAuditDates() {
 
@@ -110,9 +124,69 @@ public class AuditDAOTest {
 		LocalDateTime fromTime = new Timestamp(System.currentTimeMillis()).toLocalDateTime();
 		LocalDateTime toTime = new Timestamp(System.currentTimeMillis()).toLocalDateTime();
 
-		Mockito.doNothing().when(auditRepository).deleteAllInBatchBycreatedAtBetween(fromTime, toTime);
+		when(auditRepository.findUuidsCreatedBetween(fromTime, toTime, PageRequest.of(0, 2)))
+				.thenReturn(Arrays.asList("1", "2"), Arrays.asList("3"));
+		when(auditRepository.deleteByUuids(Mockito.anyList())).thenReturn(2, 1);
 		auditDAO.deleteAll(fromTime, toTime);
 
+		Mockito.verify(auditRepository).deleteByUuids(Arrays.asList("1", "2"));
+		Mockito.verify(auditRepository).deleteByUuids(Arrays.asList("3"));
+	}
+
+	@Test
+	public void deleteAuditsTest() {
+		LocalDateTime createdUpTo = LocalDateTime.now();
+		when(auditRepository.findUuidsCreatedUpTo(createdUpTo, PageRequest.of(0, 100)))
+				.thenReturn(Arrays.asList("1", "2"), Collections.emptyList());
+		when(auditRepository.deleteByUuids(Arrays.asList("1", "2"))).thenReturn(2);
+
+		Assert.assertEquals(2, auditDAO.deleteAudits(createdUpTo, 100));
+		Assert.assertEquals(0, auditDAO.deleteAudits(createdUpTo, 100));
+		Mockito.verify(auditRepository, Mockito.times(1)).deleteByUuids(Mockito.anyList());
+	}
+
+	@Test
+	public void invalidMaxRowsTest() {
+		auditDAO.setAuditMaxRows(0);
+		auditDAO.setAuditPageSize(-1);
+
+		Assert.assertEquals(10000, ReflectionTestUtils.getField(auditDAO, "auditMaxRows"));
+		Assert.assertEquals(500, ReflectionTestUtils.getField(auditDAO, "auditPageSize"));
+	}
+
+	@Test
+	public void testReadAuditsBeyondMaxRows() {
+		ReflectionTestUtils.setField(auditDAO, "auditMaxRows", 3);
+		List<Audit> latestAudits = new LinkedList<>();
+		for (int index = 0; index < 4; index++) {
+			Audit audit = new Audit();
+			audit.setUuid(String.valueOf(index));
+			audit.setCreatedAt(LocalDateTime.now().plusSeconds(index));
+			latestAudits.add(audit);
+		}
+		when(auditRepository.findNewestCreatedAfter(Mockito.any(LocalDateTime.class), Mockito.eq(PageRequest.of(2, 1))))
+				.thenReturn(latestAudits.subList(0, 1));
+		/* The last audit is logged while the packet is created */
+		when(auditRepository.findCreatedAfterKeyset(Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class),
+				Mockito.eq("0"), Mockito.any(Pageable.class))).thenReturn(latestAudits.subList(1, 3));
+		when(auditRepository.findCreatedAfterKeyset(Mockito.any(LocalDateTime.class), Mockito.any(LocalDateTime.class),
+				Mockito.eq("2"), Mockito.any(Pageable.class))).thenReturn(latestAudits.subList(3, 4));
+
+		List<Audit> readAudits = new LinkedList<>();
+		auditDAO.readAudits(new RegistrationAuditDates() {
+
+			@Override
+			public Timestamp getAuditLogToDateTime() {
+				return Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+			}
+
+			@Override
+			public Timestamp getAuditLogFromDateTime() {
+				return null;
+			}
+		}, "1234", readAudits::add);
+
+		Assert.assertEquals(latestAudits.subList(0, 3), readAudits);
 	}
 
 }
@@ -62,6 +62,7 @@ import io.mosip.registration.repositories.RegistrationCenterTypeRepository;
 import io.mosip.registration.repositories.RegistrationCenterUserRepository;
 import io.mosip.registration.repositories.ScreenAuthorizationRepository;
 import io.mosip.registration.repositories.ScreenDetailRepository;
+import io.mosip.registration.repositories.SyncCheckpointRepository;
 import io.mosip.registration.repositories.SyncJobControlRepository;
 import io.mosip.registration.repositories.SyncJobDefRepository;
 import io.mosip.registration.repositories.TemplateFileFormatRepository;
@@ -221,6 +222,9 @@ public class ClientSettingsHelperTest {
 	@Mock
 	private DeviceProviderRepository deviceProviderRepository;
 
+	@Mock
+	private SyncCheckpointRepository syncCheckpointRepository;
+
 	@InjectMocks
 	private ClientSettingSyncHelper clientSettingSyncHelper;
 
@@ -229,7 +233,7 @@ public class ClientSettingsHelperTest {
 	public void testSingleEntity() {
 		String response = null;
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("biometricJson.json");
-		response = clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+		response = clientSettingSyncHelper.saveClientSettings(syncDataResponseDto, false, null);
 		assertEquals(RegistrationConstants.SUCCESS, response);
 	}
 
@@ -238,7 +242,7 @@ public class ClientSettingsHelperTest {
 	public void testEmptyJsonRegBaseUncheckedException() {
 		String response = null;
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("emptyJson.json");
-		clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+		clientSettingSyncHelper.saveClientSettings(syncDataResponseDto, false, null);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -247,7 +251,7 @@ public class ClientSettingsHelperTest {
 
 		String response = null;
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("responseJson.json");
-		response = clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+		response = clientSettingSyncHelper.saveClientSettings(syncDataResponseDto, false, null);
 		assertEquals(RegistrationConstants.SUCCESS, response);
 	}
 
@@ -256,7 +260,7 @@ public class ClientSettingsHelperTest {
 	public void testInvalidJsonSyntaxJsonSyntaxException() {
 		String response = null;
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("invalidJson.json");
-		clientSettingSyncHelper.saveClientSettings(syncDataResponseDto);
+		clientSettingSyncHelper.saveClientSettings(syncDataResponseDto, false, null);
 	}
 
 	private SyncDataResponseDto getSyncDataResponseDto(String fileName) {
@@ -0,0 +1,125 @@
+package io.mosip.registration.test.dao.impl;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import io.mosip.registration.constants.RegistrationClientStatusCode;
+import io.mosip.registration.dao.impl.DashboardSummaryDAOImpl;
+
+public class DashboardSummaryDAOTest {
+
+	@Rule
+	public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+	@InjectMocks
+	private DashboardSummaryDAOImpl dashboardSummaryDAOImpl;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private static final String CREATED = RegistrationClientStatusCode.CREATED.getCode();
+
+	private static final String APPROVED = RegistrationClientStatusCode.APPROVED.getCode();
+
+	@Test
+	public void registrationCountsTest() throws Exception {
+		mockRows("REG.REGISTRATION GROUP BY", new Object[] { CREATED, 2L }, new Object[] { APPROVED, 1L });
+
+		assertEquals(3, dashboardSummaryDAOImpl.getRegistrationCount());
+
+		dashboardSummaryDAOImpl.registrationCreated();
+		dashboardSummaryDAOImpl.clientStatusChanged(CREATED, APPROVED);
+		dashboardSummaryDAOImpl.registrationDeleted(APPROVED);
+
+		assertEquals(3, dashboardSummaryDAOImpl.getRegistrationCount());
+		assertEquals(2, dashboardSummaryDAOImpl.getRegistrationCount(CREATED));
+		assertEquals(1, dashboardSummaryDAOImpl.getRegistrationCount(APPROVED));
+
+		/* Loaded once, and then only updated */
+		Mockito.verify(jdbcTemplate, Mockito.times(1)).query(Mockito.contains("REG.REGISTRATION GROUP BY"),
+				Mockito.any(RowCallbackHandler.class));
+	}
+
+	@Test
+	public void registrationsChangedTest() throws Exception {
+		mockRows("REG.REGISTRATION GROUP BY", new Object[] { CREATED, 2L });
+
+		assertEquals(2, dashboardSummaryDAOImpl.getRegistrationCount(CREATED));
+		dashboardSummaryDAOImpl.registrationsChanged();
+		assertEquals(2, dashboardSummaryDAOImpl.getRegistrationCount(CREATED));
+
+		Mockito.verify(jdbcTemplate, Mockito.times(2)).query(Mockito.contains("REG.REGISTRATION GROUP BY"),
+				Mockito.any(RowCallbackHandler.class));
+	}
+
+	@Test
+	public void pendingUploadCountTest() {
+		Mockito.when(jdbcTemplate.queryForObject(Mockito.anyString(), Mockito.any(Object[].class),
+				Mockito.eq(Long.class))).thenReturn(4L, 5L);
+
+		assertEquals(4, dashboardSummaryDAOImpl.getPendingUploadCount());
+		assertEquals(4, dashboardSummaryDAOImpl.getPendingUploadCount());
+
+		dashboardSummaryDAOImpl.serverStatusChanged();
+		assertEquals(5, dashboardSummaryDAOImpl.getPendingUploadCount());
+	}
+
+	@Test
+	public void lastSyncTimesTest() throws Exception {
+		Timestamp lastSync = new Timestamp(System.currentTimeMillis() - 1000);
+		Timestamp nextSync = new Timestamp(System.currentTimeMillis());
+		mockRows("SYNC_CONTROL", new Object[] { "job1", lastSync }, new Object[] { "job2", lastSync });
+
+		Map<String, Timestamp> lastSyncTimes = dashboardSummaryDAOImpl.getLastSyncTimes();
+		assertEquals(2, lastSyncTimes.size());
+		assertEquals(lastSync, lastSyncTimes.get("job1"));
+
+		dashboardSummaryDAOImpl.jobSynced("job2", nextSync);
+		dashboardSummaryDAOImpl.jobSynced("job3", nextSync);
+
+		lastSyncTimes = dashboardSummaryDAOImpl.getLastSyncTimes();
+		assertEquals(lastSync, lastSyncTimes.get("job1"));
+		assertEquals(nextSync, lastSyncTimes.get("job2"));
+		assertEquals(nextSync, lastSyncTimes.get("job3"));
+
+		Mockito.verify(jdbcTemplate, Mockito.times(1)).query(Mockito.contains("SYNC_CONTROL"),
+				Mockito.any(RowCallbackHandler.class));
+	}
+
+	/**
+	 * Feeds the given rows to the row handler of the query containing the given
+	 * text
+	 */
+	private void mockRows(String sql, Object[]... rows) throws Exception {
+		Mockito.doAnswer(invocation -> {
+			RowCallbackHandler handler = (RowCallbackHandler) invocation.getArguments()[1];
+			for (Object[] row : rows) {
+				ResultSet resultSet = Mockito.mock(ResultSet.class);
+				for (int index = 0; index < row.length; index++) {
+					if (row[index] instanceof Long) {
+						Mockito.when(resultSet.getLong(index + 1)).thenReturn((Long) row[index]);
+					} else if (row[index] instanceof Timestamp) {
+						Mockito.when(resultSet.getTimestamp(index + 1)).thenReturn((Timestamp) row[index]);
+					} else {
+						Mockito.when(resultSet.getString(index + 1)).thenReturn((String) row[index]);
+					}
+				}
+				handler.processRow(resultSet);
+			}
+			return null;
+		}).when(jdbcTemplate).query(Mockito.contains(sql), Mockito.any(RowCallbackHandler.class));
+	}
+}
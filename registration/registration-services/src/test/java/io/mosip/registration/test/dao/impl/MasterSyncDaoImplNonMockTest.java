@@ -97,7 +97,7 @@ public class MasterSyncDaoImplNonMockTest {
 	public void testSuccessBiometricSave() {
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("biometricJson.json");	
 		
-		String response = masterSyncDaoImpl.saveSyncData(syncDataResponseDto);
+		String response = masterSyncDaoImpl.saveSyncData(syncDataResponseDto, false, null);
 
 		assertEquals(RegistrationConstants.SUCCESS, response);
 	}
@@ -109,7 +109,7 @@ public class MasterSyncDaoImplNonMockTest {
 
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("responseJson.json");
 		
-		response = masterSyncDaoImpl.saveSyncData(syncDataResponseDto);
+		response = masterSyncDaoImpl.saveSyncData(syncDataResponseDto, false, null);
 		
 		assertEquals(RegistrationConstants.SUCCESS, response);
 								
@@ -507,9 +507,9 @@ public class MasterSyncDaoImplTest {
 	public void testSingleEntity() {
 		String response=null;
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("biometricJson.json");
-		Mockito.when(clientSettingSyncHelper.saveClientSettings(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(clientSettingSyncHelper.saveClientSettings(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 		.thenReturn(RegistrationConstants.SUCCESS);
-		response= masterSyncDaoImpl.saveSyncData(syncDataResponseDto);		
+		response= masterSyncDaoImpl.saveSyncData(syncDataResponseDto, true, null);		
 		assertEquals(RegistrationConstants.SUCCESS, response);
 	}
 	
@@ -519,9 +519,9 @@ public class MasterSyncDaoImplTest {
 		
 		String response=null;
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("responseJson.json");
-		Mockito.when(clientSettingSyncHelper.saveClientSettings(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(clientSettingSyncHelper.saveClientSettings(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 		.thenReturn(RegistrationConstants.SUCCESS);
-		response= masterSyncDaoImpl.saveSyncData(syncDataResponseDto);		
+		response= masterSyncDaoImpl.saveSyncData(syncDataResponseDto, true, null);		
 		assertEquals(RegistrationConstants.SUCCESS, response);
 	}
 		
@@ -529,18 +529,18 @@ public class MasterSyncDaoImplTest {
 	@Test
 	public void testInvalidJsonSyntaxJsonSyntaxException() {		
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("invalidJson.json");
-		Mockito.when(clientSettingSyncHelper.saveClientSettings(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(clientSettingSyncHelper.saveClientSettings(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 		.thenThrow(Exception.class);
-		masterSyncDaoImpl.saveSyncData(syncDataResponseDto);		
+		masterSyncDaoImpl.saveSyncData(syncDataResponseDto, true, null);		
 	}
 
 	@SuppressWarnings("unchecked")
 	@Test(expected = RegBaseUncheckedException.class)
 	public void testEmptyJsonRegBaseUncheckedException() {		
 		SyncDataResponseDto syncDataResponseDto = getSyncDataResponseDto("emptyJson.json");
-		Mockito.when(clientSettingSyncHelper.saveClientSettings(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(clientSettingSyncHelper.saveClientSettings(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 		.thenThrow(RegBaseUncheckedException.class);
-		masterSyncDaoImpl.saveSyncData(syncDataResponseDto);			
+		masterSyncDaoImpl.saveSyncData(syncDataResponseDto, true, null);			
 	}
 	
 	
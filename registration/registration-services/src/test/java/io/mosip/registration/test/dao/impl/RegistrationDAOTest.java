@@ -1,6 +1,7 @@
 package io.mosip.registration.test.dao.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
@@ -26,11 +27,13 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.data.domain.PageRequest;
 
 import io.mosip.registration.constants.RegistrationClientStatusCode;
 import io.mosip.registration.constants.RegistrationTransactionType;
 import io.mosip.registration.context.SessionContext;
 import io.mosip.registration.context.SessionContext.UserContext;
+import io.mosip.registration.dao.DashboardSummaryDAO;
 import io.mosip.registration.dao.impl.RegistrationDAOImpl;
 import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.dto.RegistrationCenterDetailDTO;
@@ -38,6 +41,7 @@ import io.mosip.registration.dto.RegistrationDTO;
 import io.mosip.registration.dto.RegistrationMetaDataDTO;
 import io.mosip.registration.dto.demographic.ValuesDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.entity.UserDetail;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
@@ -54,6 +58,8 @@ public class RegistrationDAOTest {
 	private RegistrationDAOImpl registrationDAOImpl;
 	@Mock
 	private RegistrationRepository registrationRepository;
+	@Mock
+	private DashboardSummaryDAO dashboardSummaryDAO;
 
 	Timestamp timestamp = new Timestamp(System.currentTimeMillis());
 
@@ -359,4 +365,41 @@ public class RegistrationDAOTest {
 
 	}
 
+	@Test
+	public void getPacketsToUploadTest() {
+		List<RegistrationPacketView> registrations = new ArrayList<>();
+		Registration registration = new Registration();
+		registration.setId("12345");
+		registrations.add(registration);
+		List<String> packetStatus = Arrays.asList("SYNCED", "EXPORTED", "RESEND", "E");
+
+		Mockito.when(registrationRepository.findPacketsToUploadAfter("SYNCED", "EXPORTED", "RESEND", "E", "10000",
+				PageRequest.of(0, 50))).thenReturn(registrations);
+
+		assertEquals(registrations, registrationDAOImpl.getPacketsToUpload(packetStatus, "10000", 50));
+	}
+
+	@Test
+	public void getPacketsCreatedBeforeTest() {
+		List<RegistrationPacketView> registrations = new ArrayList<>();
+		registrations.add(new Registration());
+
+		Mockito.when(registrationRepository.findPacketsCreatedBeforeAfter(timestamp, "PROCESSED", "",
+				PageRequest.of(0, 100))).thenReturn(registrations);
+
+		assertEquals(registrations, registrationDAOImpl.getPacketsCreatedBefore(timestamp, "PROCESSED", "", 100));
+	}
+
+	@Test
+	public void isPendingTest() {
+		List<String> codes = Arrays.asList("PROCESSED");
+		Mockito.when(registrationRepository.existsByClientStatusCode("REGISTERED")).thenReturn(true);
+		Mockito.when(registrationRepository.countByServerStatusCodeNotInAndClientStatusCodeNot(codes,
+				"RE_REGISTER_APPROVED")).thenReturn(0L);
+
+		assertTrue(registrationDAOImpl.isPacketPresent("REGISTERED"));
+		assertFalse(registrationDAOImpl.isReRegisterPending());
+		assertFalse(registrationDAOImpl.isPendingForProcessing(codes, "RE_REGISTER_APPROVED"));
+	}
+
 }
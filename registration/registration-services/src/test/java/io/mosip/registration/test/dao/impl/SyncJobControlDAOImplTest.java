@@ -21,6 +21,8 @@ import org.mockito.junit.MockitoRule;
 import io.mosip.kernel.core.util.DateUtils;
 import io.mosip.registration.audit.AuditManagerSerivceImpl;
 import io.mosip.registration.constants.RegistrationClientStatusCode;
+import io.mosip.registration.dao.DashboardSummaryDAO;
+import io.mosip.registration.dao.SyncJobControlDAO.RegistrationSummary;
 import io.mosip.registration.dao.SyncJobControlDAO.SyncJobInfo;
 import io.mosip.registration.dao.impl.SyncJobControlDAOImpl;
 import io.mosip.registration.entity.Registration;
@@ -44,6 +46,8 @@ public class SyncJobControlDAOImplTest {
 	private SyncJobInfo syncJobnfo;
 	@Mock
 	private AuditManagerSerivceImpl auditFactory;
+	@Mock
+	private DashboardSummaryDAO dashboardSummaryDAO;
 
 	private static final List<String> REG_STATUS_CODES = Arrays.asList(RegistrationClientStatusCode.CREATED.getCode(),
 			RegistrationClientStatusCode.REJECTED.getCode(), RegistrationClientStatusCode.APPROVED.getCode(),
@@ -76,18 +80,21 @@ public class SyncJobControlDAOImplTest {
 		comparableList.add(syncControl1);
 
 		Mockito.when(syncStatusRepository.findAll()).thenReturn(comparableList);
-		Mockito.when(registrationRepository.findByClientStatusCodeInOrderByUpdDtimesDesc(REG_STATUS_CODES))
-				.thenReturn(registrationsList);
+		Mockito.when(registrationRepository.countByClientStatusCodeIn(REG_STATUS_CODES))
+				.thenReturn((long) registrationsList.size());
+		Mockito.when(registrationRepository.findLatestUpdDtimes(Mockito.anyList())).thenReturn(timestamp);
 
 		syncJobnfo = syncJobDAOImpl.getSyncStatus();
 		assertEquals("MDS_J00001", syncJobnfo.getSyncControlList().get(0).getSyncJobId());
 		assertTrue(syncJobnfo.getYetToExportCount() == registrationsList.size());
+		assertEquals(timestamp, syncJobnfo.getLastExportDate());
+		Mockito.verify(registrationRepository, Mockito.never()).findByClientStatusCodeInOrderByUpdDtimesDesc(Mockito.anyList());
 	}
 
 	@SuppressWarnings("unchecked")
 	@Test(expected = RegBaseUncheckedException.class)
 	public void testValidateException() throws RegBaseCheckedException {
-		when(registrationRepository.findByClientStatusCodeInOrderByUpdDtimesDesc(Mockito.anyList()))
+		when(registrationRepository.countByClientStatusCodeIn(Mockito.anyList()))
 				.thenThrow(RegBaseUncheckedException.class);
 		syncJobDAOImpl.getSyncStatus();
 	}
@@ -130,15 +137,16 @@ public class SyncJobControlDAOImplTest {
 	}
 
 	@Test
-	public void getRegistrationDetailsTest() {
+	public void getRegistrationSummaryTest() {
 
-		List<Registration> registrations = new LinkedList<>();
-		Registration registration = new Registration();
-		registrations.add(registration);
+		Timestamp oldestCrDtime = Timestamp.valueOf(DateUtils.getUTCCurrentDateTime());
 
-		when(registrationRepository.findByclientStatusCodeOrderByCrDtimeAsc("REGISTERED")).thenReturn(registrations);
+		when(registrationRepository.countByClientStatusCode("REGISTERED")).thenReturn(3L);
+		when(registrationRepository.findOldestCrDtime("REGISTERED")).thenReturn(oldestCrDtime);
 
-		assertEquals(syncJobDAOImpl.getRegistrationDetails(), registrations);
+		RegistrationSummary registrationSummary = syncJobDAOImpl.getRegistrationSummary();
+		assertEquals(3L, registrationSummary.getCount());
+		assertEquals(oldestCrDtime, registrationSummary.getOldestCrDtime());
 	}
 
 }
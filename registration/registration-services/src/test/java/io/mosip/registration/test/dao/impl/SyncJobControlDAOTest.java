@@ -11,6 +11,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
+import io.mosip.registration.dao.DashboardSummaryDAO;
 import io.mosip.registration.dao.impl.SyncJobControlDAOImpl;
 import io.mosip.registration.entity.SyncControl;
 import io.mosip.registration.repositories.SyncJobControlRepository;
@@ -26,6 +27,9 @@ public class SyncJobControlDAOTest {
 	@Mock
 	SyncJobControlRepository syncJobRepository;
 	
+	@Mock
+	DashboardSummaryDAO dashboardSummaryDAO;
+	
 	@Test
 	public void updateTest() {
 		SyncControl syncControl = new SyncControl();
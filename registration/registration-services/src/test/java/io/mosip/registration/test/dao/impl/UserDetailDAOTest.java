@@ -7,6 +7,7 @@ import static org.mockito.Mockito.doNothing;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 
@@ -23,6 +24,7 @@ import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import io.mosip.registration.context.ApplicationContext;
 import io.mosip.registration.dao.impl.UserDetailDAOImpl;
@@ -62,6 +64,9 @@ public class UserDetailDAOTest {
 	/** The userDetail repository. */
 	@Mock
 	private UserRoleRepository userRoleRepository;
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
 	
 	@Before
 	public void initialize() throws Exception {
@@ -186,4 +191,35 @@ public class UserDetailDAOTest {
 		assertEquals(userBiometric, userDetailDAOImpl.getUserSpecificBioDetail("mosip","bio","sub"));
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void saveAllTest() {
+		UserDetailDto insertedUser = new UserDetailDto();
+		insertedUser.setUserName("mosip");
+		insertedUser.setName("mosip");
+		insertedUser.setRoles(Arrays.asList("REGISTRATION_OFFICER", "REGISTRATION_OFFICER"));
+
+		UserDetailDto updatedUser = new UserDetailDto();
+		updatedUser.setUserName("admin");
+		updatedUser.setName("admin");
+		updatedUser.setIsActive(false);
+		updatedUser.setRoles(Arrays.asList("REGISTRATION_SUPERVISOR"));
+
+		Mockito.when(jdbcTemplate.batchUpdate(Mockito.anyString(), Mockito.anyList())).thenReturn(new int[] { 1 });
+
+		userDetailDAOImpl.saveAll(Arrays.asList(insertedUser), Arrays.asList(updatedUser),
+				Collections.singletonList("removed"));
+
+		Mockito.verify(jdbcTemplate).batchUpdate(Mockito.startsWith("INSERT INTO REG.USER_DETAIL"),
+				Mockito.argThat((List<Object[]> args) -> args.size() == 1));
+		Mockito.verify(jdbcTemplate).batchUpdate(Mockito.startsWith("UPDATE REG.USER_DETAIL"),
+				Mockito.argThat((List<Object[]> args) -> args.size() == 1));
+		Mockito.verify(jdbcTemplate).batchUpdate(Mockito.startsWith("DELETE FROM REG.USER_DETAIL"),
+				Mockito.argThat((List<Object[]> args) -> "removed".equals(args.get(0)[0])));
+		Mockito.verify(jdbcTemplate).batchUpdate(Mockito.startsWith("INSERT INTO REG.USER_ROLE"),
+				Mockito.argThat((List<Object[]> args) -> args.size() == 2));
+		Mockito.verify(jdbcTemplate, Mockito.never()).batchUpdate(Mockito.startsWith("INSERT INTO REG.USER_PWD"),
+				Mockito.argThat((List<Object[]> args) -> "admin".equals(args.get(0)[0])));
+	}
+
 }
@@ -32,6 +32,7 @@ import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.jobs.BaseJob;
+import io.mosip.registration.jobs.JobExecutionGuard;
 import io.mosip.registration.jobs.JobManager;
 import io.mosip.registration.jobs.SyncManager;
 import io.mosip.registration.jobs.impl.DeleteAuditLogsJob;
@@ -102,6 +103,7 @@ public class DeleteAuditLogsJobTest {
 		Map<String, SyncJobDef> parentJobMap = new HashMap<>();
 		parentJobMap.put("1", syncJob);
 		Mockito.when(JobConfigurationServiceImpl.getParentJobMap()).thenReturn(parentJobMap);
+		Mockito.when(applicationContext.getBean(JobExecutionGuard.class)).thenReturn(new JobExecutionGuard());
 	}
 
 	@Test
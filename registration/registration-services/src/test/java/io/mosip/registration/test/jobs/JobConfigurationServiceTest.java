@@ -20,6 +20,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.powermock.api.mockito.PowerMockito;
@@ -49,6 +50,7 @@ import io.mosip.registration.entity.SyncControl;
 import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.entity.SyncTransaction;
 import io.mosip.registration.jobs.BaseJob;
+import io.mosip.registration.jobs.JobExecutionGuard;
 import io.mosip.registration.jobs.impl.PacketSyncStatusJob;
 import io.mosip.registration.service.config.GlobalParamService;
 import io.mosip.registration.service.config.impl.JobConfigurationServiceImpl;
@@ -73,6 +75,9 @@ public class JobConfigurationServiceTest {
 	@InjectMocks
 	private JobConfigurationServiceImpl jobConfigurationService;
 
+	@Spy
+	private JobExecutionGuard jobExecutionGuard = new JobExecutionGuard();
+
 	@Mock
 	SchedulerFactoryBean schedulerFactoryBean;
 
@@ -0,0 +1,207 @@
+package io.mosip.registration.test.jobs;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.registration.exception.RegBaseUncheckedException;
+import io.mosip.registration.exception.RegistrationExceptionConstants;
+import io.mosip.registration.jobs.BaseJob;
+import io.mosip.registration.jobs.JobConcurrencyPolicy;
+import io.mosip.registration.jobs.JobExecutionGuard;
+import io.mosip.registration.jobs.JobExecutionGuard.JobExecution;
+
+public class JobExecutionGuardTest {
+
+	private final JobExecutionGuard jobExecutionGuard = new JobExecutionGuard();
+
+	private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+	@Before
+	public void initialize() {
+		ReflectionTestUtils.setField(jobExecutionGuard, "permitWaitSeconds", 1);
+	}
+
+	@After
+	public void shutdown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	public void differentResourcesOverlapTest() throws Exception {
+		CountDownLatch bothRunning = new CountDownLatch(2);
+
+		Future<Boolean> first = submit(job(JobConcurrencyPolicy.PER_RESOURCE, "packets"), "1", bothRunning);
+		Future<Boolean> second = submit(job(JobConcurrencyPolicy.PER_RESOURCE, "preRegistration"), "2",
+				bothRunning);
+
+		Assert.assertTrue(first.get(5, TimeUnit.SECONDS));
+		Assert.assertTrue(second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void sameResourceSerializesTest() throws Exception {
+		CountDownLatch bothRunning = new CountDownLatch(2);
+
+		Future<Boolean> first = submit(job(JobConcurrencyPolicy.PER_RESOURCE, "packets"), "1", bothRunning);
+		Future<Boolean> second = submit(job(JobConcurrencyPolicy.PER_RESOURCE, "packets"), "2", bothRunning);
+
+		/* The second job only starts once the first one gave up waiting for it */
+		Assert.assertFalse(first.get(5, TimeUnit.SECONDS) && second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void exclusiveTest() throws Exception {
+		CountDownLatch bothRunning = new CountDownLatch(2);
+
+		Future<Boolean> first = submit(job(JobConcurrencyPolicy.EXCLUSIVE, null), "1", bothRunning);
+		Future<Boolean> second = submit(job(JobConcurrencyPolicy.PARALLEL, null), "2", bothRunning);
+
+		Assert.assertFalse(first.get(5, TimeUnit.SECONDS) && second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void parallelTest() throws Exception {
+		CountDownLatch bothRunning = new CountDownLatch(2);
+
+		Future<Boolean> first = submit(job(JobConcurrencyPolicy.PARALLEL, "packets"), "1", bothRunning);
+		Future<Boolean> second = submit(job(JobConcurrencyPolicy.PARALLEL, "packets"), "2", bothRunning);
+
+		Assert.assertTrue(first.get(5, TimeUnit.SECONDS));
+		Assert.assertTrue(second.get(5, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void nestedExecutionTest() throws Exception {
+		BaseJob parentJob = job(JobConcurrencyPolicy.PER_RESOURCE, "packets");
+
+		String jobIds = jobExecutionGuard.execute(job(JobConcurrencyPolicy.PER_RESOURCE, "packets"), "child",
+				() -> jobExecutionGuard.execute(parentJob, "parent",
+						() -> JobExecutionGuard.getCurrentExecution().getJobId()) + " "
+						+ JobExecutionGuard.getCurrentExecution().getJobId());
+
+		/* The parent job runs as its own execution, then the child goes on */
+		Assert.assertEquals("parent child", jobIds);
+		Assert.assertNull(JobExecutionGuard.getCurrentExecution());
+	}
+
+	@Test
+	public void nestedExecutionOtherResourceTest() throws Exception {
+		CountDownLatch otherRunning = new CountDownLatch(1);
+		CountDownLatch childDone = new CountDownLatch(1);
+		Future<?> other = executorService.submit(() -> jobExecutionGuard
+				.execute(job(JobConcurrencyPolicy.PER_RESOURCE, "preRegistration"), "other", () -> {
+					otherRunning.countDown();
+					return childDone.await(5, TimeUnit.SECONDS);
+				}));
+		Assert.assertTrue(otherRunning.await(5, TimeUnit.SECONDS));
+
+		try {
+			/* The parent job waits for the job of its resource, and gives up in time */
+			jobExecutionGuard.execute(job(JobConcurrencyPolicy.PER_RESOURCE, "packets"), "child",
+					() -> jobExecutionGuard.execute(job(JobConcurrencyPolicy.PER_RESOURCE, "preRegistration"),
+							"parent", () -> null));
+			Assert.fail();
+		} catch (RegBaseUncheckedException regBaseUncheckedException) {
+			Assert.assertEquals(RegistrationExceptionConstants.REG_SYNC_JOB_BUSY.getErrorCode(),
+					regBaseUncheckedException.getErrorCode());
+		} finally {
+			childDone.countDown();
+		}
+		other.get(5, TimeUnit.SECONDS);
+		Assert.assertNull(JobExecutionGuard.getCurrentExecution());
+	}
+
+	@Test
+	public void nestedExclusiveExecutionTest() {
+		try {
+			jobExecutionGuard.execute(job(JobConcurrencyPolicy.PER_RESOURCE, "packets"), "child",
+					() -> jobExecutionGuard.execute(job(JobConcurrencyPolicy.EXCLUSIVE, null), "parent", () -> null));
+			Assert.fail();
+		} catch (RegBaseUncheckedException regBaseUncheckedException) {
+			/* Refused at once instead of waiting for the permit the child holds */
+			Assert.assertEquals(RegistrationExceptionConstants.REG_SYNC_JOB_BUSY.getErrorCode(),
+					regBaseUncheckedException.getErrorCode());
+		}
+		Assert.assertEquals("exclusive", jobExecutionGuard.execute(job(JobConcurrencyPolicy.EXCLUSIVE, null),
+				"exclusive", () -> JobExecutionGuard.getCurrentExecution().getJobId()));
+	}
+
+	@Test
+	public void tryExecuteBusyTest() throws Exception {
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch busyReported = new CountDownLatch(1);
+		Future<Boolean> first = executorService.submit(() -> jobExecutionGuard
+				.execute(job(JobConcurrencyPolicy.EXCLUSIVE, null), "1", () -> {
+					running.countDown();
+					return busyReported.await(5, TimeUnit.SECONDS);
+				}));
+		Assert.assertTrue(running.await(5, TimeUnit.SECONDS));
+
+		try {
+			jobExecutionGuard.tryExecute(job(JobConcurrencyPolicy.PARALLEL, null), "2", () -> null);
+			Assert.fail();
+		} catch (RegBaseUncheckedException regBaseUncheckedException) {
+			Assert.assertEquals(RegistrationExceptionConstants.REG_SYNC_JOB_BUSY.getErrorCode(),
+					regBaseUncheckedException.getErrorCode());
+		} finally {
+			busyReported.countDown();
+		}
+		Assert.assertTrue(first.get(5, TimeUnit.SECONDS));
+
+		/* Once the running job is over, the job runs */
+		Assert.assertEquals("2", jobExecutionGuard.tryExecute(job(JobConcurrencyPolicy.PARALLEL, null), "2",
+				() -> JobExecutionGuard.getCurrentExecution().getJobId()));
+	}
+
+	@Test
+	public void currentExecutionTest() throws Exception {
+		JobExecution execution = jobExecutionGuard.execute(job(null, null), "1",
+				JobExecutionGuard::getCurrentExecution);
+
+		Assert.assertEquals("1", execution.getJobId());
+		Assert.assertTrue(execution.getQueueWaitMillis() >= 0);
+		Assert.assertTrue(execution.getRunMillis() >= 0);
+		Assert.assertNull(JobExecutionGuard.getCurrentExecution());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void actionExceptionTest() {
+		try {
+			jobExecutionGuard.execute(job(JobConcurrencyPolicy.EXCLUSIVE, null), "1", () -> {
+				throw new IllegalStateException();
+			});
+		} finally {
+			/* The permit is released for the next job */
+			Assert.assertEquals("2", jobExecutionGuard.execute(job(JobConcurrencyPolicy.EXCLUSIVE, null), "2",
+					() -> JobExecutionGuard.getCurrentExecution().getJobId()));
+		}
+	}
+
+	private BaseJob job(JobConcurrencyPolicy policy, String resource) {
+		BaseJob job = Mockito.mock(BaseJob.class);
+		Mockito.when(job.getConcurrencyPolicy()).thenReturn(policy);
+		Mockito.when(job.getConcurrencyResource()).thenReturn(resource);
+		return job;
+	}
+
+	/**
+	 * Runs a job that waits a while for the other job to be running at the same
+	 * time, and tells whether it was
+	 */
+	private Future<Boolean> submit(BaseJob job, String jobId, CountDownLatch bothRunning) {
+		return executorService.submit(() -> jobExecutionGuard.execute(job, jobId, () -> {
+			bothRunning.countDown();
+			return bothRunning.await(500, TimeUnit.MILLISECONDS);
+		}));
+	}
+}
@@ -17,6 +17,7 @@ import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.jobs.JobManager;
 import io.mosip.registration.jobs.JobProcessListener;
 import io.mosip.registration.jobs.SyncManager;
+import io.mosip.registration.util.metrics.MetricsRegistry;
 
 public class JobProcessorListenerTest {
 
@@ -37,6 +38,9 @@ public class JobProcessorListenerTest {
 	@Mock
 	SyncTransaction syncTransaction;
 
+	@Mock
+	MetricsRegistry metricsRegistry;
+
 	@InjectMocks
 	JobProcessListener processListener;
 
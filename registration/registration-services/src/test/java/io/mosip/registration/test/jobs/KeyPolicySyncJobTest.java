@@ -34,6 +34,7 @@ import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.jobs.BaseJob;
+import io.mosip.registration.jobs.JobExecutionGuard;
 import io.mosip.registration.jobs.JobManager;
 import io.mosip.registration.jobs.SyncManager;
 import io.mosip.registration.jobs.impl.KeyPolicySyncJob;
@@ -114,6 +115,7 @@ public class KeyPolicySyncJobTest {
 		Map<String, SyncJobDef> parentJobMap = new HashMap<>();
 		parentJobMap.put("1", syncJob);
 		Mockito.when(JobConfigurationServiceImpl.getParentJobMap()).thenReturn(parentJobMap);
+		Mockito.when(applicationContext.getBean(JobExecutionGuard.class)).thenReturn(new JobExecutionGuard());
 	}
 
 	@Test
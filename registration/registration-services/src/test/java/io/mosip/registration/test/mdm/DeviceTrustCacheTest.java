@@ -0,0 +1,74 @@
+package io.mosip.registration.test.mdm;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.registration.mdm.service.impl.DeviceTrustCache;
+
+public class DeviceTrustCacheTest {
+
+	private DeviceTrustCache deviceTrustCache;
+
+	@Before
+	public void initialize() {
+		deviceTrustCache = new DeviceTrustCache();
+		ReflectionTestUtils.setField(deviceTrustCache, "expirySeconds", 3600L);
+	}
+
+	@Test
+	public void chainKeyTest() {
+		String signedData = signedData("{\"alg\":\"RS256\",\"x5c\":[\"MIIleaf\",\"MIIca\"]}");
+
+		String chainKey = deviceTrustCache.getChainKey(signedData, "DEVICE");
+
+		Assert.assertNotNull(chainKey);
+		Assert.assertEquals(chainKey, deviceTrustCache.getChainKey(signedData("{\"x5c\":[\"MIIleaf\",\"MIIca\"]}"),
+				"DEVICE"));
+		Assert.assertNotEquals(chainKey, deviceTrustCache.getChainKey(signedData, "FTM"));
+		Assert.assertNotEquals(chainKey,
+				deviceTrustCache.getChainKey(signedData("{\"x5c\":[\"MIIother\",\"MIIca\"]}"), "DEVICE"));
+	}
+
+	@Test
+	public void noChainKeyTest() {
+		Assert.assertNull(deviceTrustCache.getChainKey(signedData("{\"alg\":\"RS256\"}"), "DEVICE"));
+		Assert.assertNull(deviceTrustCache.getChainKey("not a jwt", "DEVICE"));
+		Assert.assertNull(deviceTrustCache.getChainKey(null, "DEVICE"));
+
+		ReflectionTestUtils.setField(deviceTrustCache, "expirySeconds", 0L);
+		Assert.assertNull(deviceTrustCache.getChainKey(signedData("{\"x5c\":[\"MIIleaf\"]}"), "DEVICE"));
+	}
+
+	@Test
+	public void trustTest() {
+		String chainKey = deviceTrustCache.getChainKey(signedData("{\"x5c\":[\"MIIleaf\"]}"), "DEVICE");
+		Assert.assertFalse(deviceTrustCache.isTrusted(chainKey));
+		Assert.assertFalse(deviceTrustCache.isTrusted(null));
+
+		deviceTrustCache.trust(chainKey);
+		Assert.assertTrue(deviceTrustCache.isTrusted(chainKey));
+
+		deviceTrustCache.invalidateAll();
+		Assert.assertFalse(deviceTrustCache.isTrusted(chainKey));
+	}
+
+	@Test
+	public void expiryTest() {
+		String chainKey = deviceTrustCache.getChainKey(signedData("{\"x5c\":[\"MIIleaf\"]}"), "DEVICE");
+		ReflectionTestUtils.setField(deviceTrustCache, "expirySeconds", -1L);
+		deviceTrustCache.trust(chainKey);
+
+		Assert.assertFalse(deviceTrustCache.isTrusted(chainKey));
+	}
+
+	private static String signedData(String header) {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString("{}".getBytes(StandardCharsets.UTF_8)) + ".c2lnbmF0dXJl";
+	}
+}
@@ -0,0 +1,163 @@
+package io.mosip.registration.test.mdm;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.mdm.service.impl.MdsTransport;
+import io.mosip.registration.mdm.service.impl.MosipDeviceSpecificationHelper;
+
+public class MdsTransportTest {
+
+	private HttpServer mockSbi;
+
+	private ExecutorService sbiExecutor;
+
+	private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+	private MosipDeviceSpecificationHelper mosipDeviceSpecificationHelper;
+
+	private MdsTransport mdsTransport;
+
+	private String baseUrl;
+
+	@Before
+	public void initialize() throws IOException {
+		mockSbi = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		mockSbi.createContext("/capture", exchange -> {
+			Map<?, ?> request = new MosipDeviceSpecificationHelper().getMapper().readValue(exchange.getRequestBody(),
+					Map.class);
+			respond(exchange, "{\"method\":\"" + exchange.getRequestMethod() + "\",\"env\":\"" + request.get("env")
+					+ "\"}");
+		});
+		mockSbi.createContext("/device", exchange -> respond(exchange, "[{\"deviceId\":\"1\"},{\"deviceId\":\"2\"}]"));
+		mockSbi.createContext("/hung", exchange -> {
+			try {
+				Thread.sleep(3000);
+			} catch (InterruptedException interruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			respond(exchange, "{}");
+		});
+		sbiExecutor = Executors.newCachedThreadPool();
+		mockSbi.setExecutor(sbiExecutor);
+		mockSbi.start();
+		baseUrl = "http://127.0.0.1:" + mockSbi.getAddress().getPort();
+
+		mosipDeviceSpecificationHelper = new MosipDeviceSpecificationHelper();
+		mdsTransport = new MdsTransport();
+		ReflectionTestUtils.setField(mdsTransport, "mosipDeviceSpecificationHelper", mosipDeviceSpecificationHelper);
+		ReflectionTestUtils.setField(mdsTransport, "maxConnectionsPerDevice", 4);
+		ReflectionTestUtils.setField(mdsTransport, "idleTimeoutSeconds", 30);
+		ReflectionTestUtils.setField(mdsTransport, "connectTimeoutSeconds", 1);
+		ReflectionTestUtils.setField(mdsTransport, "connectionRequestTimeoutSeconds", 1);
+		ReflectionTestUtils.setField(mdsTransport, "socketTimeoutSeconds", 1);
+		mdsTransport.init();
+	}
+
+	@After
+	public void shutdown() {
+		mdsTransport.shutdown();
+		mockSbi.stop(0);
+		sbiExecutor.shutdownNow();
+	}
+
+	@Test
+	public void executeTest() throws IOException {
+		Map<String, String> request = new ConcurrentHashMap<>();
+		request.put("env", "Staging");
+
+		for (int index = 0; index < 3; index++) {
+			Map<?, ?> response = mdsTransport.execute("RCAPTURE", baseUrl + "/capture", request, Map.class);
+			Assert.assertEquals("RCAPTURE", response.get("method"));
+			Assert.assertEquals("Staging", response.get("env"));
+		}
+
+		List<Map<String, String>> devices = mdsTransport.execute("MOSIPDISC", baseUrl + "/device", null,
+				new TypeReference<List<Map<String, String>>>() {
+				});
+		Assert.assertEquals(2, devices.size());
+		Assert.assertEquals("2", devices.get(1).get("deviceId"));
+
+		/* The connection is kept alive and reused */
+		Assert.assertEquals(1, clientPorts.size());
+	}
+
+	@Test
+	public void executeWrittenRequestTest() throws IOException {
+		/* A request already written as JSON, such as for the log, is sent as it is */
+		Map<?, ?> response = mdsTransport.execute("RCAPTURE", baseUrl + "/capture", "{\"env\":\"Staging\"}",
+				Map.class);
+		Assert.assertEquals("RCAPTURE", response.get("method"));
+		Assert.assertEquals("Staging", response.get("env"));
+	}
+
+	@Test
+	public void executeForStringTest() throws IOException {
+		Assert.assertEquals("[{\"deviceId\":\"1\"},{\"deviceId\":\"2\"}]",
+				mdsTransport.executeForString("MOSIPDINFO", baseUrl + "/device"));
+	}
+
+	@Test
+	public void openTest() throws IOException {
+		try (InputStream stream = mdsTransport.open("STREAM", baseUrl + "/device", new ConcurrentHashMap<>())) {
+			Assert.assertEquals('[', stream.read());
+		}
+	}
+
+	@Test(expected = SocketTimeoutException.class)
+	public void socketTimeoutTest() throws IOException {
+		mdsTransport.executeForString("RCAPTURE", baseUrl + "/hung");
+	}
+
+	@Test
+	public void payloadTest() throws RegBaseCheckedException, IOException {
+		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+		String signedData = encoder.encodeToString("{\"alg\":\"RS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+				+ encoder.encodeToString("{\"qualityScore\":\"80\",\"bioSubType\":\"Left IndexFinger\"}"
+						.getBytes(StandardCharsets.UTF_8))
+				+ ".c2lnbmF0dXJl";
+
+		Map<?, ?> payload = mosipDeviceSpecificationHelper.getPayLoad(signedData, Map.class);
+
+		Assert.assertEquals("80", payload.get("qualityScore"));
+		Assert.assertEquals("Left IndexFinger", payload.get("bioSubType"));
+		Assert.assertEquals(mosipDeviceSpecificationHelper.getPayLoad(signedData),
+				signedData.substring(signedData.indexOf('.') + 1, signedData.lastIndexOf('.')));
+	}
+
+	@Test(expected = RegBaseCheckedException.class)
+	public void payloadEmptyTest() throws RegBaseCheckedException, IOException {
+		mosipDeviceSpecificationHelper.getPayLoad("eyJhbGciOiJSUzI1NiJ9", Map.class);
+	}
+
+	private void respond(HttpExchange exchange, String body) throws IOException {
+		clientPorts.add(exchange.getRemoteAddress().getPort());
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+}
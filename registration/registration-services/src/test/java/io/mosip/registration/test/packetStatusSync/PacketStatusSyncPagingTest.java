@@ -0,0 +1,155 @@
+package io.mosip.registration.test.packetStatusSync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+import org.springframework.data.domain.Pageable;
+
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.dao.RegPacketStatusDAO;
+import io.mosip.registration.dto.PacketStatusReaderDTO;
+import io.mosip.registration.dto.RegistrationIdDTO;
+import io.mosip.registration.entity.RegistrationPacketView;
+import io.mosip.registration.repositories.RegistrationRepository;
+import io.mosip.registration.service.packet.impl.RegPacketStatusServiceImpl;
+import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
+import io.mosip.registration.util.restclient.ServiceDelegateUtil;
+
+/**
+ * Pages of the packet status sync, read by the update time and id of the last
+ * registration read
+ */
+@RunWith(PowerMockRunner.class)
+@PowerMockIgnore({ "com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*" })
+@PrepareForTest({ RegistrationAppHealthCheckUtil.class })
+public class PacketStatusSyncPagingTest {
+
+	@Rule
+	public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+	@InjectMocks
+	private RegPacketStatusServiceImpl packetStatusService;
+
+	@Mock
+	private RegistrationRepository registrationRepository;
+
+	@Mock
+	private RegPacketStatusDAO packetStatusDao;
+
+	@Mock
+	private ServiceDelegateUtil serviceDelegateUtil;
+
+	private final Timestamp firstUpdate = Timestamp.valueOf("2021-03-01 10:00:00");
+
+	private final Timestamp lastUpdate = Timestamp.valueOf("2021-03-02 10:00:00");
+
+	@Before
+	public void initialize() throws Exception {
+		PowerMockito.mockStatic(RegistrationAppHealthCheckUtil.class);
+		Mockito.when(RegistrationAppHealthCheckUtil.isNetworkAvailable()).thenReturn(true);
+		Whitebox.setInternalState(packetStatusService, "batchCount", 2);
+		Whitebox.setInternalState(packetStatusService, "maxInflightStatusRequests", 2);
+
+		/* Every registration requested is processed */
+		Mockito.when(serviceDelegateUtil.post(Mockito.anyString(), Mockito.any(), Mockito.anyString()))
+				.thenAnswer(invocation -> {
+					List<LinkedHashMap<String, String>> statuses = new ArrayList<>();
+					for (RegistrationIdDTO registrationIdDTO : ((PacketStatusReaderDTO) invocation.getArguments()[1])
+							.getRequest()) {
+						LinkedHashMap<String, String> status = new LinkedHashMap<>();
+						status.put(RegistrationConstants.PACKET_STATUS_READER_REGISTRATION_ID,
+								registrationIdDTO.getRegistrationId());
+						status.put(RegistrationConstants.PACKET_STATUS_READER_STATUS_CODE,
+								RegistrationConstants.PACKET_STATUS_CODE_PROCESSED);
+						statuses.add(status);
+					}
+					LinkedHashMap<String, Object> response = new LinkedHashMap<>();
+					response.put(RegistrationConstants.RESPONSE, statuses);
+					return response;
+				});
+	}
+
+	@After
+	public void shutdown() {
+		packetStatusService.shutdownStatusExecutor();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void keysetPagingTest() throws Exception {
+		Mockito.when(registrationRepository.findLatestUpdDtimes()).thenReturn(lastUpdate);
+		Mockito.when(registrationRepository.findByClientStatusAfter(Mockito.anyString(), Mockito.anyString(),
+				Mockito.any(Timestamp.class), Mockito.any(Timestamp.class), Mockito.anyString(),
+				Mockito.any(Pageable.class))).thenReturn(
+						Arrays.asList(registration("REG1", firstUpdate), registration("REG2", firstUpdate)),
+						Arrays.asList(registration("REG3", lastUpdate)));
+
+		assertNotNull(packetStatusService.packetSyncStatus("System").getSuccessResponseDTO());
+
+		Mockito.verify(registrationRepository).findByClientStatusAfter(Mockito.anyString(), Mockito.anyString(),
+				Mockito.eq(lastUpdate), Mockito.eq(new Timestamp(0)), Mockito.eq(RegistrationConstants.EMPTY),
+				Mockito.any(Pageable.class));
+		Mockito.verify(registrationRepository).findByClientStatusAfter(Mockito.anyString(), Mockito.anyString(),
+				Mockito.eq(lastUpdate), Mockito.eq(firstUpdate), Mockito.eq("REG2"), Mockito.any(Pageable.class));
+		Mockito.verify(registrationRepository, Mockito.times(2)).findByClientStatusAfter(Mockito.anyString(),
+				Mockito.anyString(), Mockito.any(Timestamp.class), Mockito.any(Timestamp.class), Mockito.anyString(),
+				Mockito.any(Pageable.class));
+
+		/* One batch update of the server status per page */
+		ArgumentCaptor<Map<String, String>> serverStatuses = ArgumentCaptor.forClass(Map.class);
+		Mockito.verify(packetStatusDao, Mockito.times(2)).updateServerStatus(serverStatuses.capture(),
+				Mockito.any(Timestamp.class));
+		Set<String> updatedIds = new HashSet<>();
+		serverStatuses.getAllValues().forEach(serverStatus -> updatedIds.addAll(serverStatus.keySet()));
+		assertEquals(new HashSet<>(Arrays.asList("REG1", "REG2", "REG3")), updatedIds);
+	}
+
+	@Test
+	public void noRegistrationTimeLimitTest() throws Exception {
+		Mockito.when(registrationRepository.findLatestUpdDtimes()).thenReturn(null);
+		Mockito.when(registrationRepository.findByClientStatusAfter(Mockito.anyString(), Mockito.anyString(),
+				Mockito.any(Timestamp.class), Mockito.any(Timestamp.class), Mockito.anyString(),
+				Mockito.any(Pageable.class))).thenReturn(new ArrayList<>());
+
+		assertNotNull(packetStatusService.packetSyncStatus("System").getSuccessResponseDTO());
+
+		ArgumentCaptor<Timestamp> timeLimit = ArgumentCaptor.forClass(Timestamp.class);
+		Mockito.verify(registrationRepository).findByClientStatusAfter(Mockito.anyString(), Mockito.anyString(),
+				timeLimit.capture(), Mockito.any(Timestamp.class), Mockito.anyString(), Mockito.any(Pageable.class));
+		assertNotNull(timeLimit.getValue());
+		Mockito.verify(packetStatusDao, Mockito.never()).updateServerStatus(Mockito.anyMap(),
+				Mockito.any(Timestamp.class));
+	}
+
+	private RegistrationPacketView registration(String id, Timestamp updDtimes) {
+		RegistrationPacketView registration = Mockito.mock(RegistrationPacketView.class);
+		Mockito.when(registration.getId()).thenReturn(id);
+		Mockito.when(registration.getUpdDtimes()).thenReturn(updDtimes);
+		return registration;
+	}
+}
@@ -1,18 +1,26 @@
 package io.mosip.registration.test.packetStatusSync;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.when;
 
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import io.mosip.registration.dao.AuditLogControlDAO;
+import io.mosip.registration.dao.DashboardSummaryDAO;
 import io.mosip.registration.dao.impl.RegPacketStatusDAOImpl;
 import io.mosip.registration.entity.AuditLogControl;
 import io.mosip.registration.entity.Registration;
@@ -29,12 +37,18 @@ public class RegPacketStatusDaoImplTest {
 	@InjectMocks
 	RegPacketStatusDAOImpl packetStatusDao;
 
+	@Mock
+	DashboardSummaryDAO dashboardSummaryDAO;
+
 	@Mock
 	AuditLogControlRepository auditLogControlRepository;
 
 	@Mock
 	AuditLogControlDAO auditLogControlDAO;
 
+	@Mock
+	JdbcTemplate jdbcTemplate;
+
 	@Test
 	public void getTest() {
 		when(registrationRepository.findById(Mockito.any(), Mockito.anyString())).thenReturn(new Registration());
@@ -76,4 +90,22 @@ public class RegPacketStatusDaoImplTest {
 
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void updateServerStatusTest() {
+		Map<String, String> serverStatusByRegistrationId = new LinkedHashMap<>();
+		serverStatusByRegistrationId.put("REG1", "PROCESSED");
+		serverStatusByRegistrationId.put("REG2", "REREGISTER");
+		Timestamp updatedOn = new Timestamp(System.currentTimeMillis());
+
+		packetStatusDao.updateServerStatus(serverStatusByRegistrationId, updatedOn);
+
+		ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+		Mockito.verify(jdbcTemplate, Mockito.times(1)).batchUpdate(Mockito.anyString(), batchArgs.capture());
+		assertEquals(2, batchArgs.getValue().size());
+		assertArrayEquals(new Object[] { "PROCESSED", updatedOn, "REG1" }, batchArgs.getValue().get(0));
+		assertArrayEquals(new Object[] { "REREGISTER", updatedOn, "REG2" }, batchArgs.getValue().get(1));
+		Mockito.verify(dashboardSummaryDAO).serverStatusChanged();
+	}
+
 }
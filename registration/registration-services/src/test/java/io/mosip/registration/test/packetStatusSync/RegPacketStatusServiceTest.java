@@ -5,10 +5,13 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
 import java.net.SocketTimeoutException;
 import java.net.URISyntaxException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -45,10 +48,12 @@ import io.mosip.registration.dto.RegistrationPacketSyncDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.service.config.GlobalParamService;
 import io.mosip.registration.service.packet.impl.RegPacketStatusServiceImpl;
 import io.mosip.registration.service.sync.PacketSynchService;
+import io.mosip.registration.util.common.PacketFileReclaimer;
 import io.mosip.registration.util.restclient.ServiceDelegateUtil;
 
 @RunWith(PowerMockRunner.class)
@@ -75,6 +80,9 @@ public class RegPacketStatusServiceTest {
 	@Mock
 	RegistrationDAO registrationDAO;
 
+	@Mock
+	private PacketFileReclaimer packetFileReclaimer;
+
 	@Before
 	public void initiate() throws Exception {
 		PowerMockito.mockStatic(HMACUtils2.class);
@@ -223,21 +231,26 @@ public class RegPacketStatusServiceTest {
 
 	@Test
 	public void deleteReRegistrationPacketsTest() {
-		List<Registration> list = prepareSamplePackets();
+		List<RegistrationPacketView> list = prepareSamplePackets();
 		SuccessResponseDTO successResponseDTO = new SuccessResponseDTO();
 		successResponseDTO.setMessage(RegistrationConstants.REGISTRATION_DELETION_BATCH_JOBS_SUCCESS);
 
-		when(registrationDAO.get(Mockito.any(), Mockito.anyString())).thenReturn(list);
+		when(registrationDAO.getPacketsCreatedBefore(Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyInt())).thenReturn(list, Collections.emptyList());
 
-		Mockito.doNothing().when(packetStatusDao).delete(Mockito.any());
+		Mockito.doNothing().when(packetStatusDao).deleteAll(Mockito.anyList());
 
 		assertSame(successResponseDTO.getMessage(),
 				packetStatusService.deleteRegistrationPackets().getSuccessResponseDTO().getMessage());
 
+		Mockito.verify(packetFileReclaimer).recover();
+		Mockito.verify(packetStatusDao).deleteAll(Arrays.asList("12345"));
+		Mockito.verify(packetFileReclaimer).reclaim(Mockito.any());
+
 	}
 
-	protected List<Registration> prepareSamplePackets() {
-		List<Registration> list = new LinkedList<>();
+	protected List<RegistrationPacketView> prepareSamplePackets() {
+		List<RegistrationPacketView> list = new LinkedList<>();
 		Registration regis = new Registration();
 		regis.setId("12345");
 		regis.setAckFilename("..//PacketStore/02-Jan-2019/2018782130000102012019115112_Ack.png");
@@ -249,11 +262,29 @@ public class RegPacketStatusServiceTest {
 		return list;
 	}
 
+	@Test
+	public void deleteRegistrationPacketsDBFailureTest() throws Exception {
+		List<RegistrationPacketView> list = prepareSamplePackets();
+		File tombstone = new File("tombstone");
+
+		when(registrationDAO.getPacketsCreatedBefore(Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyInt())).thenReturn(list, Collections.emptyList());
+		when(packetFileReclaimer.writeTombstone(Mockito.anyList())).thenReturn(tombstone);
+		Mockito.doThrow(RuntimeException.class).when(packetStatusDao).deleteAll(Mockito.anyList());
+
+		assertSame(RegistrationConstants.REGISTRATION_DELETION_BATCH_JOBS_FAILURE,
+				packetStatusService.deleteRegistrationPackets().getErrorResponseDTOs().get(0).getMessage());
+
+		Mockito.verify(packetFileReclaimer).discard(tombstone);
+		Mockito.verify(packetFileReclaimer, Mockito.never()).reclaim(Mockito.any());
+	}
+
 	@Test
 	public void deleteReRegistrationPacketsFailureTest() {
-		List<Registration> list = prepareSamplePackets();
+		List<RegistrationPacketView> list = prepareSamplePackets();
 
-		when(registrationDAO.get(Mockito.any(), Mockito.anyString())).thenThrow(RuntimeException.class);
+		when(registrationDAO.getPacketsCreatedBefore(Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+				Mockito.anyInt())).thenThrow(RuntimeException.class);
 
 		assertSame(RegistrationConstants.REGISTRATION_DELETION_BATCH_JOBS_FAILURE,
 				packetStatusService.deleteRegistrationPackets().getErrorResponseDTOs().get(0).getMessage());
@@ -266,13 +297,14 @@ public class RegPacketStatusServiceTest {
 		PowerMockito.mockStatic(io.mosip.registration.context.ApplicationContext.class);
 		when(io.mosip.registration.context.ApplicationContext.map()).thenReturn(applicationMap);
 
-		List<Registration> packetsToBeSynched = new ArrayList<>();
+		List<RegistrationPacketView> packetsToBeSynched = new ArrayList<>();
 		Registration reg = new Registration();
 		reg.setId("123456");
 		reg.setAckFilename("10001100010025920190430051904_Ack.html");
 		reg.setStatusCode("NEW");
 		packetsToBeSynched.add(reg);
-		Mockito.when(registrationDAO.getPacketsToBeSynched(Mockito.anyList())).thenReturn(packetsToBeSynched);
+		Mockito.when(registrationDAO.getPacketsToSync(Mockito.anyList(), Mockito.any(), Mockito.anyString(),
+				Mockito.anyInt())).thenReturn(packetsToBeSynched, Collections.emptyList());
 		ResponseDTO responseDTO = new ResponseDTO();
 		SuccessResponseDTO successResponseDTO = new SuccessResponseDTO();
 		Map<String, Object> otherAttributes = new HashMap<>();
@@ -294,11 +326,13 @@ public class RegPacketStatusServiceTest {
 
 	@Test
 	public void deleteAllProcessedRegPacketsTest() {
-		List<Registration> list = prepareSamplePackets();
-		Mockito.when(
-				registrationDAO.findByServerStatusCodeIn(RegistrationConstants.PACKET_STATUS_CODES_FOR_REMAPDELETE))
-				.thenReturn(list);
+		List<RegistrationPacketView> list = prepareSamplePackets();
+		Mockito.when(registrationDAO.getPacketsByServerStatus(
+				Mockito.eq(RegistrationConstants.PACKET_STATUS_CODES_FOR_REMAPDELETE), Mockito.anyString(),
+				Mockito.anyInt())).thenReturn(list, Collections.emptyList());
 		packetStatusService.deleteAllProcessedRegPackets();
 
+		Mockito.verify(packetStatusDao).deleteAll(Arrays.asList("12345"));
+
 	}
 }
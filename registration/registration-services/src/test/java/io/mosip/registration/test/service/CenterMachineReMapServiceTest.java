@@ -1,6 +1,6 @@
 package io.mosip.registration.test.service;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.sql.Connection;
@@ -41,7 +41,6 @@ import io.mosip.registration.dao.RegistrationDAO;
 import io.mosip.registration.dao.SyncJobConfigDAO;
 import io.mosip.registration.entity.GlobalParam;
 import io.mosip.registration.entity.PreRegistrationList;
-import io.mosip.registration.entity.Registration;
 import io.mosip.registration.entity.SyncJobDef;
 import io.mosip.registration.service.config.GlobalParamService;
 import io.mosip.registration.service.packet.PacketUploadService;
@@ -108,10 +107,7 @@ public class CenterMachineReMapServiceTest {
 
 		globalParam.setVal("true");
 		Mockito.when(globalParamDAO.get(Mockito.anyObject())).thenReturn(globalParam);
-		List<Registration> registrationList = new ArrayList<>();
-		Registration registration = new Registration();
-		registrationList.add(registration);
-		Mockito.when(registrationDAO.findByServerStatusCodeNotIn(Mockito.anyList())).thenReturn(registrationList);
+		Mockito.when(registrationDAO.isPendingForProcessing(Mockito.anyList(), Mockito.anyString())).thenReturn(true);
 		SyncJobDef syncJobDef = new SyncJobDef();
 		List<SyncJobDef> syncJobDefList = new ArrayList<>();
 		Mockito.when(syncJobConfigDAO.getActiveJobs()).thenReturn(syncJobDefList);
@@ -141,9 +137,7 @@ public class CenterMachineReMapServiceTest {
 
 		globalParam.setVal("true");
 		Mockito.when(globalParamDAO.get(Mockito.anyObject())).thenReturn(globalParam);
-		List<Registration> registrationList = new ArrayList<>();
-
-		Mockito.when(registrationDAO.findByServerStatusCodeNotIn(Mockito.anyList())).thenReturn(registrationList);
+		Mockito.when(registrationDAO.isPendingForProcessing(Mockito.anyList(), Mockito.anyString())).thenReturn(false);
 		SyncJobDef syncJobDef = new SyncJobDef();
 		List<SyncJobDef> syncJobDefList = new ArrayList<>();
 		syncJobDefList.add(syncJobDef);
@@ -154,8 +148,7 @@ public class CenterMachineReMapServiceTest {
 		PreRegistrationList preRegistrationList = new PreRegistrationList();
 		list.add(preRegistrationList);
 		Mockito.when(preRegistrationDataSyncDAO.getAllPreRegPackets()).thenReturn(list);
-		List<Registration> regList = new ArrayList<>();
-		Mockito.when(registrationDAO.getEnrollmentByStatus(Mockito.anyString())).thenReturn(regList);
+		Mockito.when(registrationDAO.isPacketPresent(Mockito.anyString())).thenReturn(false);
 
 		PowerMockito.doNothing().when(FileUtils.class, "deleteDirectory", Mockito.any(File.class));
 
@@ -170,9 +163,8 @@ public class CenterMachineReMapServiceTest {
 	public void PacketsPendingForEODTest() {
 		PowerMockito.mockStatic(RegistrationAppHealthCheckUtil.class);
 		PowerMockito.mockStatic(FileUtils.class);
-		List<Registration> regList = new ArrayList<>();
-		Mockito.when(registrationDAO.getEnrollmentByStatus(Mockito.anyString())).thenReturn(regList);
-		assertNotNull(centerMachineReMapServiceImpl.isPacketsPendingForEOD());
+		Mockito.when(registrationDAO.isPacketPresent(Mockito.anyString())).thenReturn(true);
+		assertTrue(centerMachineReMapServiceImpl.isPacketsPendingForEOD());
 
 	}
 
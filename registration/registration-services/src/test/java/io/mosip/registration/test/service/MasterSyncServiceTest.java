@@ -2,6 +2,7 @@ package io.mosip.registration.test.service;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
@@ -57,6 +58,7 @@ import io.mosip.registration.dto.RegistrationCenterDetailDTO;
 import io.mosip.registration.dto.ResponseDTO;
 import io.mosip.registration.dto.SuccessResponseDTO;
 import io.mosip.registration.dto.mastersync.BiometricAttributeDto;
+import io.mosip.registration.dto.mastersync.GenericDto;
 import io.mosip.registration.dto.mastersync.MasterDataResponseDto;
 import io.mosip.registration.dto.response.SchemaDto;
 import io.mosip.registration.dto.response.SyncDataResponseDto;
@@ -228,7 +230,7 @@ public class MasterSyncServiceTest {
 
 		Mockito.when(objectMapper.readValue(masterJson, MasterDataResponseDto.class)).thenReturn(masterSyncDto);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class))).thenReturn(RegistrationConstants.SUCCESS);
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any())).thenReturn(RegistrationConstants.SUCCESS);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
 
@@ -311,7 +313,7 @@ public class MasterSyncServiceTest {
 		Mockito.when(objectMapper.readValue(masterSyncJson.toString(), MasterDataResponseDto.class))
 				.thenReturn(masterSyncDto);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenThrow(RegBaseUncheckedException.class);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
@@ -360,7 +362,7 @@ public class MasterSyncServiceTest {
 		Mockito.when(objectMapper.readValue(masterSyncJson.toString(), MasterDataResponseDto.class))
 				.thenReturn(masterSyncDto);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
@@ -407,7 +409,7 @@ public class MasterSyncServiceTest {
 
 		Mockito.when(objectMapper.readValue(masterJson, MasterDataResponseDto.class)).thenReturn(masterSyncDto);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 		when(masterSyncDao.syncJobDetails(Mockito.anyString())).thenReturn(null);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
@@ -456,7 +458,7 @@ public class MasterSyncServiceTest {
 
 		Mockito.when(objectMapper.readValue(masterJson, MasterDataResponseDto.class)).thenReturn(masterSyncDto);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
@@ -494,7 +496,7 @@ public class MasterSyncServiceTest {
 
 		Mockito.when(objectMapper.readValue(masterJson, MasterDataResponseDto.class)).thenReturn(masterSyncDto);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 		when(masterSyncDao.syncJobDetails(Mockito.anyString())).thenReturn(null);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
@@ -576,7 +578,7 @@ public class MasterSyncServiceTest {
 		Mockito.when(objectMapper.readValue(masterSyncJson.toString(), MasterDataResponseDto.class))
 				.thenReturn(masterSyncDt);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
@@ -652,7 +654,7 @@ public class MasterSyncServiceTest {
 		Mockito.when(objectMapper.readValue(masterSyncJson.toString(), MasterDataResponseDto.class))
 				.thenReturn(masterSyncDt);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 
 		sucessResponse.setCode(RegistrationConstants.MASTER_SYNC_SUCESS_MSG_CODE);
@@ -723,7 +725,7 @@ public class MasterSyncServiceTest {
 		Mockito.when(objectMapper.readValue(masterSyncJson.toString(), MasterDataResponseDto.class))
 				.thenReturn(masterSyncDt);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
@@ -751,10 +753,26 @@ public class MasterSyncServiceTest {
 		locattion.setParentLocCode("english");
 		locations.add(locattion);
 
-		Mockito.when(masterSyncDao.findLocationByLangCode(Mockito.anyInt(), Mockito.anyString()))
-				.thenReturn(locations);
+		Location otherLevel = new Location();
+		otherLevel.setCode("LOC02");
+		otherLevel.setName("english");
+		otherLevel.setLangCode("ENG");
+		otherLevel.setHierarchyLevel(2);
+		otherLevel.setHierarchyName("city");
+		otherLevel.setParentLocCode("LOC01");
+		locations.add(otherLevel);
 
-		masterSyncServiceImpl.findLocationByHierarchyCode(1, "ENG");
+		Mockito.when(masterSyncDao.getLocationDetails()).thenReturn(locations);
+
+		List<GenericDto> result = masterSyncServiceImpl.findLocationByHierarchyCode(1, "ENG");
+		assertEquals(1, result.size());
+		assertEquals("LOC01", result.get(0).getCode());
+		assertEquals(1, masterSyncServiceImpl.findLocationByHierarchyCode(1, "eng").size());
+		assertEquals(Integer.valueOf(2), masterSyncServiceImpl.getLocationHierarchyLevels("ENG").get("city"));
+
+		/* Served from the index after it is built */
+		masterSyncServiceImpl.findLocationByHierarchyCode(2, "ENG");
+		Mockito.verify(masterSyncDao, Mockito.times(1)).getLocationDetails();
 
 	}
 
@@ -771,10 +789,12 @@ public class MasterSyncServiceTest {
 		locattion.setParentLocCode("english");
 		locations.add(locattion);
 
-		Mockito.when(masterSyncDao.findLocationByParentLocCode(Mockito.anyString(), Mockito.anyString()))
-				.thenReturn(locations);
+		Mockito.when(masterSyncDao.getLocationDetails()).thenReturn(locations);
 
-		masterSyncServiceImpl.findProvianceByHierarchyCode("LOC01", "eng");
+		List<GenericDto> result = masterSyncServiceImpl.findProvianceByHierarchyCode("english", "eng");
+		assertEquals(1, result.size());
+		assertEquals("LOC01", result.get(0).getCode());
+		assertTrue(masterSyncServiceImpl.findProvianceByHierarchyCode("LOC01", "eng").isEmpty());
 
 	}
 
@@ -944,7 +964,7 @@ public class MasterSyncServiceTest {
 
 		Mockito.when(objectMapper.readValue(masterJson, MasterDataResponseDto.class)).thenReturn(masterSyncDto);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
@@ -1029,7 +1049,7 @@ public class MasterSyncServiceTest {
 
 		Mockito.when(objectMapper.readValue(masterJson, MasterDataResponseDto.class)).thenReturn(masterSyncDto);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.FAILURE);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
@@ -1336,7 +1356,7 @@ public class MasterSyncServiceTest {
 		Mockito.when(objectMapper.readValue(masterSyncJson.toString(), MasterDataResponseDto.class))
 				.thenReturn(masterSyncDt);
 
-		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class)))
+		Mockito.when(masterSyncDao.saveSyncData(Mockito.any(SyncDataResponseDto.class), Mockito.anyBoolean(), Mockito.any()))
 				.thenReturn(RegistrationConstants.SUCCESS);
 		Mockito.when(machineMappingDAO.getKeyIndexByMachineName(Mockito.anyString()))
 		.thenReturn("keyIndex");
@@ -1,5 +1,7 @@
 package io.mosip.registration.test.service;
 
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.ByteArrayOutputStream;
@@ -7,6 +9,7 @@ import java.io.File;
 import java.net.URL;
 import java.net.URLDecoder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -48,6 +51,8 @@ import io.mosip.registration.dto.RegistrationMetaDataDTO;
 import io.mosip.registration.dto.UiSchemaDTO;
 import io.mosip.registration.dto.biometric.BiometricDTO;
 import io.mosip.registration.dto.biometric.BiometricInfoDTO;
+import io.mosip.registration.dto.packetmanager.DocumentDto;
+import io.mosip.registration.entity.DocumentType;
 import io.mosip.registration.exception.RegBaseCheckedException;
 import io.mosip.registration.exception.RegBaseUncheckedException;
 import io.mosip.registration.service.IdentitySchemaService;
@@ -150,6 +155,54 @@ public class PreRegZipHandlingServiceTest {
 		}
 	}
 
+	@Test
+	public void extractPreRegZipFileDocumentsTest() throws Exception {
+		Mockito.when(identitySchemaService.getUISchema(Mockito.anyDouble())).thenReturn(
+				Arrays.asList(createDocumentField("proofOfAddress", "POA"), createDocumentField("proofOfIdentity", "POI")));
+		DocumentType documentType = new DocumentType();
+		documentType.setCode("DOC004");
+		Mockito.when(documentTypeDAO.getDocTypeByName("Passport")).thenReturn(Arrays.asList(documentType));
+
+		byte[] preRegZip;
+		try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
+			try (ZipOutputStream zipOutputStream = new ZipOutputStream(byteArrayOutputStream)) {
+				/* A document before ID.json is still attached */
+				addZipEntry(zipOutputStream, "POA_Passport.pdf", "address");
+				addZipEntry(zipOutputStream, "ID.json",
+						"{\"identity\" : {\"proofOfAddress\" : {\"format\" : \"pdf\", \"type\" : \"Passport\", \"value\" : \"POA_Passport\"},"
+								+ " \"proofOfIdentity\" : {\"format\" : \"pdf\", \"type\" : \"Passport\", \"value\" : \"POI_Passport\"}}}");
+				addZipEntry(zipOutputStream, "POI_Passport.pdf", "identity");
+				addZipEntry(zipOutputStream, "notes.txt", "not a document");
+			}
+			preRegZip = byteArrayOutputStream.toByteArray();
+		}
+
+		RegistrationDTO registrationDTO = preRegZipHandlingServiceImpl.extractPreRegZipFile(preRegZip);
+
+		assertEquals(2, registrationDTO.getDocuments().size());
+		DocumentDto proofOfAddress = registrationDTO.getDocuments().get("proofOfAddress");
+		assertArrayEquals("address".getBytes(), proofOfAddress.getDocument());
+		assertEquals("DOC004", proofOfAddress.getType());
+		assertEquals("POA_DOC004", proofOfAddress.getValue());
+		assertArrayEquals("identity".getBytes(), registrationDTO.getDocuments().get("proofOfIdentity").getDocument());
+		Mockito.verify(documentTypeDAO, Mockito.times(1)).getDocTypeByName("Passport");
+	}
+
+	private static UiSchemaDTO createDocumentField(String id, String subType) {
+		UiSchemaDTO field = new UiSchemaDTO();
+		field.setId(id);
+		field.setType("documentType");
+		field.setSubType(subType);
+		return field;
+	}
+
+	private static void addZipEntry(ZipOutputStream zipOutputStream, String name, String content)
+			throws java.io.IOException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+		zipOutputStream.write(content.getBytes());
+		zipOutputStream.closeEntry();
+	}
+
 	@Test
 	public void encryptAndSavePreRegPacketTest() throws RegBaseCheckedException, IOException {
 
@@ -40,6 +40,7 @@ import io.mosip.registration.dao.GlobalParamDAO;
 import io.mosip.registration.dao.RegistrationCenterDAO;
 import io.mosip.registration.dao.SyncJobConfigDAO;
 import io.mosip.registration.dao.SyncJobControlDAO;
+import io.mosip.registration.dao.SyncJobControlDAO.RegistrationSummary;
 import io.mosip.registration.dao.SyncJobControlDAO.SyncJobInfo;
 import io.mosip.registration.device.gps.GPSFacade;
 import io.mosip.registration.dto.ErrorResponseDTO;
@@ -161,10 +162,11 @@ public class SyncStatusValidatorServiceTest {
 
 		Mockito.when(globalParamDAO.get(globalParamId)).thenReturn(globalParam);
 
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(listSync);
-		Mockito.when(syncJobInfo.getLastExportRegistrationList()).thenReturn(registrationList);
+		Mockito.when(syncJobInfo.getLastExportDate()).thenReturn(registrationList.get(0).getUpdDtimes());
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
 
@@ -249,10 +251,11 @@ public class SyncStatusValidatorServiceTest {
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
 		Mockito.when(gpsFacade.getLatLongDtls(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.anyString()))
 				.thenReturn(map);
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(listSync);
-		Mockito.when(syncJobInfo.getLastExportRegistrationList()).thenReturn(registrationList);
+		Mockito.when(syncJobInfo.getLastExportDate()).thenReturn(registrationList.get(0).getUpdDtimes());
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
 
 		ResponseDTO responseDTO = syncStatusValidatorServiceImpl.validateSyncStatus();
@@ -314,10 +317,11 @@ public class SyncStatusValidatorServiceTest {
 		when(context.map()).thenReturn(applicationMap);
 
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(listSync);
-		Mockito.when(syncJobInfo.getLastExportRegistrationList()).thenReturn(registrationList);
+		Mockito.when(syncJobInfo.getLastExportDate()).thenReturn(registrationList.get(0).getUpdDtimes());
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
 		Mockito.when(globalParamDAO.get(globalParamId)).thenReturn(globalParam);
 		Mockito.when(gpsFacade.getLatLongDtls(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.anyString()))
@@ -393,10 +397,11 @@ public class SyncStatusValidatorServiceTest {
 		Mockito.when(globalParamDAO.get(globalParamId)).thenReturn(globalParam);
 
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(listSync);
-		Mockito.when(syncJobInfo.getLastExportRegistrationList()).thenReturn(registrationList);
+		Mockito.when(syncJobInfo.getLastExportDate()).thenReturn(registrationList.get(0).getUpdDtimes());
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
 
 		Mockito.when(gpsFacade.getLatLongDtls(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.any()))
@@ -475,10 +480,11 @@ public class SyncStatusValidatorServiceTest {
 		Mockito.when(globalParamDAO.get(globalParamId)).thenReturn(globalParam);
 
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(listSync);
-		Mockito.when(syncJobInfo.getLastExportRegistrationList()).thenReturn(registrationList);
+		Mockito.when(syncJobInfo.getLastExportDate()).thenReturn(registrationList.get(0).getUpdDtimes());
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
 
 		Mockito.when(gpsFacade.getLatLongDtls(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.any()))
@@ -553,10 +559,11 @@ public class SyncStatusValidatorServiceTest {
 		Mockito.when(globalParamDAO.get(globalParamId)).thenReturn(globalParam);
 
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(listSync);
-		Mockito.when(syncJobInfo.getLastExportRegistrationList()).thenReturn(registrationList);
+		Mockito.when(syncJobInfo.getLastExportDate()).thenReturn(registrationList.get(0).getUpdDtimes());
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
 
 		Mockito.when(gpsFacade.getLatLongDtls(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.anyString()))
@@ -636,10 +643,11 @@ public class SyncStatusValidatorServiceTest {
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
 		Mockito.when(gpsFacade.getLatLongDtls(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.anyString()))
 				.thenReturn(map);
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(listSync);
-		Mockito.when(syncJobInfo.getLastExportRegistrationList()).thenReturn(registrationList);
+		Mockito.when(syncJobInfo.getLastExportDate()).thenReturn(registrationList.get(0).getUpdDtimes());
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
 
 		ResponseDTO responseDTO = syncStatusValidatorServiceImpl.validateSyncStatus();
@@ -705,10 +713,11 @@ public class SyncStatusValidatorServiceTest {
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
 		Mockito.when(gpsFacade.getLatLongDtls(Mockito.anyDouble(), Mockito.anyDouble(), Mockito.anyString()))
 				.thenReturn(map);
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(listSync);
-		Mockito.when(syncJobInfo.getLastExportRegistrationList()).thenReturn(registrationList);
+		Mockito.when(syncJobInfo.getLastExportDate()).thenReturn(registrationList.get(0).getUpdDtimes());
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
 
 		ResponseDTO responseDTO = syncStatusValidatorServiceImpl.validateSyncStatus();
@@ -728,7 +737,8 @@ public class SyncStatusValidatorServiceTest {
 		registration.setUpdDtimes(new Timestamp(System.currentTimeMillis()));
 		registrationList.add(registration);
 
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 
 		when(syncJobDAO.getSyncStatus()).thenThrow(RegBaseUncheckedException.class);
 		syncStatusValidatorServiceImpl.validateSyncStatus();
@@ -788,7 +798,8 @@ public class SyncStatusValidatorServiceTest {
 		Mockito.when(globalParamDAO.get(globalParamId)).thenReturn(globalParam);
 
 		Mockito.when(jobConfigDAO.getAll()).thenReturn(listSyncJob);
-		Mockito.when(syncJobDAO.getRegistrationDetails()).thenReturn(registrationList);
+		Mockito.when(syncJobDAO.getRegistrationSummary()).thenReturn(
+				new RegistrationSummary(registrationList.size(), registrationList.get(0).getCrDtime()));
 		Mockito.when(syncJobDAO.getSyncStatus()).thenReturn(syncJobInfo);
 		Mockito.when(syncJobInfo.getSyncControlList()).thenReturn(null);
 		Mockito.when(syncJobInfo.getYetToExportCount()).thenReturn((double) 20);
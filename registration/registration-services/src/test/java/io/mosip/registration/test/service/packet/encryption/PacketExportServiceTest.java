@@ -1,28 +1,43 @@
 package io.mosip.registration.test.service.packet.encryption;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.mosip.registration.dao.RegistrationDAO;
+import io.mosip.registration.dto.PacketExportResultDTO;
 import io.mosip.registration.dto.PacketStatusDTO;
 import io.mosip.registration.entity.Registration;
+import io.mosip.registration.entity.RegistrationPacketView;
 import io.mosip.registration.exception.RegBaseCheckedException;
+import io.mosip.registration.exception.RegistrationExceptionConstants;
 import io.mosip.registration.service.packet.impl.PacketExportServiceImpl;
 
 public class PacketExportServiceTest {
 	
 	@Rule
 	public MockitoRule mockitoRule=MockitoJUnit.rule();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
 	
 	@Mock
 	private RegistrationDAO registrationDAO;
@@ -34,9 +49,9 @@ public class PacketExportServiceTest {
 	@Test
 	public void getSynchedRecordsTest() {
 		Registration reg = new Registration();
-		List<Registration> packetList = new ArrayList<>();
+		List<RegistrationPacketView> packetList = new ArrayList<>();
 		packetList.add(reg);
-		Mockito.when(registrationDAO.getPacketsToBeSynched(Mockito.anyList())).thenReturn(packetList);
+		Mockito.when(registrationDAO.getPacketViews(Mockito.anyList())).thenReturn(packetList);
 		assertEquals(1, packetExportServiceImpl.getSynchedRecords().size());
 	}
 	
@@ -51,4 +66,95 @@ public class PacketExportServiceTest {
 	}
 	
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void exportPacketsTest() throws RegBaseCheckedException, IOException {
+		File packetDirectory = temporaryFolder.newFolder("packets");
+		File targetDirectory = temporaryFolder.newFolder("device");
+		List<PacketStatusDTO> packets = new ArrayList<>();
+		for (int index = 0; index < 3; index++) {
+			Files.write(new File(packetDirectory, "packet" + index + ".zip").toPath(), new byte[1024 * (index + 1)]);
+			PacketStatusDTO packet = new PacketStatusDTO();
+			packet.setFileName("packet" + index);
+			packet.setPacketPath(new File(packetDirectory, "packet" + index + "_Ack.html").getAbsolutePath());
+			packets.add(packet);
+		}
+		ReflectionTestUtils.setField(packetExportServiceImpl, "parallelCopies", 2);
+		ReflectionTestUtils.setField(packetExportServiceImpl, "verifyCopies", true);
+		ReflectionTestUtils.setField(packetExportServiceImpl, "statusBatchSize", 2);
+
+		PacketExportResultDTO exportResult = packetExportServiceImpl.exportPackets(packets, targetDirectory, null);
+
+		assertEquals(3, exportResult.getCopiedCount());
+		assertEquals(3, exportResult.getExportedPackets().size());
+		assertEquals("EXPORTED", exportResult.getExportedPackets().get(0).getPacketClientStatus());
+		assertTrue(new File(targetDirectory, "packet2.zip").exists());
+		assertTrue(new File(targetDirectory, "packet-export-manifest.csv").exists());
+		Mockito.verify(registrationDAO, Mockito.times(2)).updateClientStatus(Mockito.anyList(), Mockito.anyString(),
+				Mockito.anyString(), Mockito.anyString(), Mockito.any());
+
+		/* Exported again, the verified copies are skipped */
+		exportResult = packetExportServiceImpl.exportPackets(packets, targetDirectory, null);
+
+		assertEquals(0, exportResult.getCopiedCount());
+		assertEquals(3, exportResult.getSkippedCount());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void statusUpdateFailureTest() throws RegBaseCheckedException, IOException {
+		File targetDirectory = temporaryFolder.newFolder("device");
+		List<PacketStatusDTO> packets = getPackets(2);
+		ReflectionTestUtils.setField(packetExportServiceImpl, "parallelCopies", 1);
+		ReflectionTestUtils.setField(packetExportServiceImpl, "statusBatchSize", 10);
+		Mockito.doThrow(new RuntimeException("database unavailable")).when(registrationDAO).updateClientStatus(
+				Mockito.anyList(), Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any());
+
+		PacketExportResultDTO exportResult = packetExportServiceImpl.exportPackets(packets, targetDirectory, null);
+
+		assertEquals(2, exportResult.getCopiedCount());
+		assertTrue(exportResult.getExportedPackets().isEmpty());
+		assertEquals(Arrays.asList("packet0", "packet1"), exportResult.getFailedPackets());
+		assertNull(packets.get(0).getPacketClientStatus());
+	}
+
+	@Test
+	public void concurrentExportTest() throws RegBaseCheckedException, IOException {
+		File targetDirectory = temporaryFolder.newFolder("device");
+		List<PacketStatusDTO> packets = getPackets(1);
+		ReflectionTestUtils.setField(packetExportServiceImpl, "parallelCopies", 1);
+		ReflectionTestUtils.setField(packetExportServiceImpl, "statusBatchSize", 10);
+
+		/* A second export started while the first one is copying */
+		AtomicReference<String> secondExportError = new AtomicReference<>();
+		PacketExportResultDTO exportResult = packetExportServiceImpl.exportPackets(packets, targetDirectory,
+				(processedBytes, totalBytes) -> {
+					try {
+						packetExportServiceImpl.exportPackets(packets, targetDirectory, null);
+					} catch (RegBaseCheckedException regBaseCheckedException) {
+						secondExportError.compareAndSet(null, regBaseCheckedException.getErrorCode());
+					}
+				});
+
+		assertEquals(1, exportResult.getCopiedCount());
+		assertEquals(RegistrationExceptionConstants.REG_PACKET_EXPORT_IN_PROGRESS.getErrorCode(),
+				secondExportError.get());
+
+		/* Once over, another export can start */
+		assertEquals(1, packetExportServiceImpl.exportPackets(packets, targetDirectory, null).getSkippedCount());
+	}
+
+	private List<PacketStatusDTO> getPackets(int count) throws IOException {
+		File packetDirectory = temporaryFolder.newFolder("packets");
+		List<PacketStatusDTO> packets = new ArrayList<>();
+		for (int index = 0; index < count; index++) {
+			Files.write(new File(packetDirectory, "packet" + index + ".zip").toPath(), new byte[1024 * (index + 1)]);
+			PacketStatusDTO packet = new PacketStatusDTO();
+			packet.setFileName("packet" + index);
+			packet.setPacketPath(new File(packetDirectory, "packet" + index + "_Ack.html").getAbsolutePath());
+			packets.add(packet);
+		}
+		return packets;
+	}
+
 }
@@ -0,0 +1,123 @@
+package io.mosip.registration.test.update;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.mosip.registration.update.JarFileDownloader;
+
+public class JarFileDownloaderTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private HttpServer httpServer;
+
+	private byte[] jarBytes;
+
+	private String jarCheckSum;
+
+	private AtomicReference<String> lastRange = new AtomicReference<>();
+
+	@Before
+	public void startServer() throws Exception {
+		jarBytes = new byte[256 * 1024];
+		new Random(3).nextBytes(jarBytes);
+		jarCheckSum = DatatypeConverter.printHexBinary(MessageDigest.getInstance("SHA-256").digest(jarBytes));
+
+		httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		httpServer.createContext("/lib/test.jar", exchange -> {
+			String range = exchange.getRequestHeaders().getFirst("Range");
+			lastRange.set(range);
+			byte[] body = jarBytes;
+			int status = 200;
+			if (range != null) {
+				int from = Integer.parseInt(range.substring("bytes=".length(), range.length() - 1));
+				body = Arrays.copyOfRange(jarBytes, from, jarBytes.length);
+				status = 206;
+			}
+			exchange.sendResponseHeaders(status, body.length);
+			try (OutputStream outputStream = exchange.getResponseBody()) {
+				outputStream.write(body);
+			}
+		});
+		httpServer.start();
+	}
+
+	@After
+	public void stopServer() {
+		httpServer.stop(0);
+	}
+
+	private String getUrl() {
+		return "http://localhost:" + httpServer.getAddress().getPort() + "/lib/test.jar";
+	}
+
+	@Test
+	public void downloadTest() throws Exception {
+		File target = new File(temporaryFolder.getRoot(), "test.jar");
+
+		String checkSum = new JarFileDownloader(5000, 5000).download(getUrl(), target, jarCheckSum);
+
+		Assert.assertEquals(jarCheckSum, checkSum);
+		Assert.assertArrayEquals(jarBytes, Files.readAllBytes(target.toPath()));
+		Assert.assertNull(lastRange.get());
+		Assert.assertFalse(new File(target.getPath() + ".part").exists());
+	}
+
+	@Test
+	public void resumeDownloadTest() throws Exception {
+		File target = new File(temporaryFolder.getRoot(), "test.jar");
+		Files.write(new File(target.getPath() + ".part").toPath(), Arrays.copyOf(jarBytes, 1000));
+
+		String checkSum = new JarFileDownloader(5000, 5000).download(getUrl(), target, jarCheckSum);
+
+		Assert.assertEquals("bytes=1000-", lastRange.get());
+		Assert.assertEquals(jarCheckSum, checkSum);
+		Assert.assertArrayEquals(jarBytes, Files.readAllBytes(target.toPath()));
+	}
+
+	@Test
+	public void staleResumeDownloadTest() throws Exception {
+		File target = new File(temporaryFolder.getRoot(), "test.jar");
+		Files.write(new File(target.getPath() + ".part").toPath(), new byte[1000]);
+
+		String checkSum = new JarFileDownloader(5000, 5000).download(getUrl(), target, jarCheckSum);
+
+		Assert.assertNull(lastRange.get());
+		Assert.assertEquals(jarCheckSum, checkSum);
+		Assert.assertArrayEquals(jarBytes, Files.readAllBytes(target.toPath()));
+	}
+
+	@Test(expected = IOException.class)
+	public void checkSumMismatchTest() throws Exception {
+		File target = new File(temporaryFolder.getRoot(), "test.jar");
+
+		new JarFileDownloader(5000, 5000).download(getUrl(), target, "INVALID");
+	}
+
+	@Test
+	public void localCheckSumTest() throws Exception {
+		File jar = temporaryFolder.newFile("local.jar");
+		Files.write(jar.toPath(), jarBytes);
+
+		Assert.assertEquals(jarCheckSum, JarFileDownloader.getCheckSum(jar));
+	}
+}
@@ -2,8 +2,12 @@ package io.mosip.registration.test.update;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Random;
+import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 
 import org.junit.Assert;
@@ -17,19 +21,22 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import io.mosip.registration.constants.RegistrationConstants;
 import io.mosip.registration.dto.VersionMappings;
 import io.mosip.registration.service.config.GlobalParamService;
+import io.mosip.registration.update.JarFileDownloader;
 import io.mosip.registration.update.SoftwareUpdateHandler;
 
 @RunWith(PowerMockRunner.class)
 @PowerMockIgnore({"com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*"})
-@PrepareForTest({Manifest.class})
+@PrepareForTest({Manifest.class, SoftwareUpdateHandler.class})
 public class SoftwareUpdateHandlerTest {
 	@Rule
 	public MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -108,6 +115,47 @@ public class SoftwareUpdateHandlerTest {
 		Assert.assertFalse(softwareUpdateHandler.hasUpdate());
 	}
 
+	@Test
+	public void checkJarsTamperedJarTest() throws Exception {
+		File verifiedJar = new File("lib/check-jars-verified.jar");
+		File tamperedJar = new File("lib/check-jars-tampered.jar");
+		try {
+			byte[] jarBytes = new byte[4096];
+			new Random(5).nextBytes(jarBytes);
+			Files.write(verifiedJar.toPath(), jarBytes);
+			Files.write(tamperedJar.toPath(), jarBytes);
+			String checkSum = JarFileDownloader.getCheckSum(verifiedJar);
+
+			/* Same size and modified time, different content */
+			long lastModified = tamperedJar.lastModified();
+			jarBytes[0] ^= 1;
+			Files.write(tamperedJar.toPath(), jarBytes);
+			tamperedJar.setLastModified(lastModified);
+
+			Manifest serverManifest = new Manifest();
+			for (String jarName : Arrays.asList(verifiedJar.getName(), tamperedJar.getName())) {
+				Attributes attributes = new Attributes();
+				attributes.put(Attributes.Name.CONTENT_TYPE, checkSum);
+				serverManifest.getEntries().put(jarName, attributes);
+			}
+
+			SoftwareUpdateHandler updateHandler = PowerMockito.spy(softwareUpdateHandler);
+			Whitebox.setInternalState(updateHandler, "serverManifest", serverManifest);
+			PowerMockito.doReturn(checkSum).when(updateHandler, "download", Mockito.anyString(), Mockito.anyString(),
+					Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+
+			Whitebox.invokeMethod(updateHandler, "checkJars", "1.1.5", serverManifest.getEntries().keySet());
+
+			PowerMockito.verifyPrivate(updateHandler, Mockito.times(1)).invoke("download", Mockito.eq("1.1.5"),
+					Mockito.eq(tamperedJar.getName()), Mockito.eq(checkSum), Mockito.anyString(), Mockito.anyString());
+			PowerMockito.verifyPrivate(updateHandler, Mockito.never()).invoke("download", Mockito.anyString(),
+					Mockito.eq(verifiedJar.getName()), Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+		} finally {
+			Files.deleteIfExists(verifiedJar.toPath());
+			Files.deleteIfExists(tamperedJar.toPath());
+		}
+	}
+
 	
 /*	@Test
 	public void hasUpdateGetCurrentVersionTest() {
@@ -0,0 +1,102 @@
+package io.mosip.registration.test.util.common;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.mosip.registration.util.common.SyncStepOrchestrator;
+import io.mosip.registration.util.common.SyncStepOrchestrator.StepStatus;
+import io.mosip.registration.util.common.SyncStepOrchestrator.SyncResult;
+
+public class SyncStepOrchestratorTest {
+
+	@Test
+	public void dependenciesAreHonoredTest() {
+		List<String> completed = new CopyOnWriteArrayList<>();
+		SyncResult syncResult = new SyncStepOrchestrator("test", 3, 0, 0)
+				.addStep("first", () -> completed.add("first"))
+				.addStep("second", () -> completed.add("second"), "first")
+				.addStep("third", () -> completed.add("third"), "second").run();
+
+		Assert.assertTrue(syncResult.isSuccess());
+		Assert.assertEquals(3, completed.size());
+		Assert.assertEquals("first", completed.get(0));
+		Assert.assertEquals("third", completed.get(2));
+	}
+
+	@Test
+	public void independentStepsRunConcurrentlyTest() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+		SyncStepOrchestrator.SyncAction waitForOther = () -> {
+			bothStarted.countDown();
+			if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Steps did not run concurrently");
+			}
+		};
+		SyncResult syncResult = new SyncStepOrchestrator("test", 2, 0, 0).addStep("first", waitForOther)
+				.addStep("second", waitForOther).run();
+
+		Assert.assertTrue(syncResult.isSuccess());
+	}
+
+	@Test
+	public void retryTest() {
+		AtomicInteger attempts = new AtomicInteger();
+		SyncResult syncResult = new SyncStepOrchestrator("test", 1, 0, 1).addStep("flaky", () -> {
+			if (attempts.incrementAndGet() == 1) {
+				throw new IllegalStateException("first attempt fails");
+			}
+		}).run();
+
+		Assert.assertTrue(syncResult.isSuccess());
+		Assert.assertEquals(2, syncResult.getStepResults().get("flaky").getAttempts());
+	}
+
+	@Test
+	public void failureSkipsDependentsTest() {
+		IllegalStateException failure = new IllegalStateException("failed");
+		SyncResult syncResult = new SyncStepOrchestrator("test", 2, 0, 0).addStep("first", () -> {
+			throw failure;
+		}).addStep("second", () -> {
+		}, "first").run();
+
+		Assert.assertFalse(syncResult.isSuccess());
+		Assert.assertSame(failure, syncResult.getFailure());
+		Assert.assertEquals(StepStatus.FAILED, syncResult.getStepResults().get("first").getStatus());
+		Assert.assertEquals(StepStatus.SKIPPED, syncResult.getStepResults().get("second").getStatus());
+	}
+
+	@Test
+	public void timeoutTest() {
+		SyncResult syncResult = new SyncStepOrchestrator("test", 1, 50, 1)
+				.addStep("slow", () -> Thread.sleep(5000)).run();
+
+		Assert.assertFalse(syncResult.isSuccess());
+		Assert.assertEquals(StepStatus.TIMED_OUT, syncResult.getStepResults().get("slow").getStatus());
+	}
+
+	@Test
+	public void timedOutStepIsAwaitedTest() {
+		AtomicBoolean stopped = new AtomicBoolean();
+		SyncResult syncResult = new SyncStepOrchestrator("test", 1, 50, 0).addStep("uninterruptible", () -> {
+			long end = System.currentTimeMillis() + 500;
+			while (System.currentTimeMillis() < end) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException interruptedException) {
+					/* Keeps running as a step blocked on I/O would */
+				}
+			}
+			stopped.set(true);
+		}).run();
+
+		Assert.assertEquals(StepStatus.TIMED_OUT, syncResult.getStepResults().get("uninterruptible").getStatus());
+		Assert.assertTrue(stopped.get());
+	}
+}
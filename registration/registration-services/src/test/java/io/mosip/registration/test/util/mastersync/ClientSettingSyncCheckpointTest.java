@@ -0,0 +1,228 @@
+package io.mosip.registration.test.util.mastersync;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import io.mosip.kernel.clientcrypto.service.impl.ClientCryptoFacade;
+import io.mosip.kernel.core.util.CryptoUtil;
+import io.mosip.registration.constants.RegistrationConstants;
+import io.mosip.registration.dao.IdentitySchemaDao;
+import io.mosip.registration.dto.response.SyncDataBaseDto;
+import io.mosip.registration.dto.response.SyncDataResponseDto;
+import io.mosip.registration.entity.SyncCheckpoint;
+import io.mosip.registration.exception.RegBaseUncheckedException;
+import io.mosip.registration.repositories.DynamicFieldRepository;
+import io.mosip.registration.repositories.GenderRepository;
+import io.mosip.registration.repositories.LanguageRepository;
+import io.mosip.registration.repositories.SyncCheckpointRepository;
+import io.mosip.registration.util.healthcheck.RegistrationAppHealthCheckUtil;
+import io.mosip.registration.util.mastersync.ClientSettingSyncHelper;
+import io.mosip.registration.util.restclient.ServiceDelegateUtil;
+
+/**
+ * Saves client settings responses, some failing on an entity type, against
+ * the checkpoints kept in memory
+ */
+@RunWith(PowerMockRunner.class)
+@PowerMockIgnore({ "com.sun.org.apache.xerces.*", "javax.xml.*", "org.xml.*", "javax.management.*" })
+@PrepareForTest({ RegistrationAppHealthCheckUtil.class })
+public class ClientSettingSyncCheckpointTest {
+
+	@Rule
+	public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+	@InjectMocks
+	private ClientSettingSyncHelper clientSettingSyncHelper;
+
+	@Mock
+	private SyncCheckpointRepository syncCheckpointRepository;
+
+	@Mock
+	private GenderRepository genderRepository;
+
+	@Mock
+	private LanguageRepository languageRepository;
+
+	@Mock
+	private DynamicFieldRepository dynamicFieldRepository;
+
+	@Mock
+	private ClientCryptoFacade clientCryptoFacade;
+
+	@Mock
+	private ServiceDelegateUtil serviceDelegateUtil;
+
+	@Mock
+	private IdentitySchemaDao identitySchemaDao;
+
+	private final Map<String, SyncCheckpoint> checkpoints = new HashMap<>();
+
+	private static final String GENDERS = "[{\"code\":\"MLE\",\"genderName\":\"Male\",\"langCode\":\"eng\",\"isActive\":true}]";
+
+	private static final String LANGUAGES = "[{\"code\":\"eng\",\"name\":\"English\",\"family\":\"Indo-European\",\"nativeName\":\"English\",\"isActive\":true}]";
+
+	private static final String BLOOD_TYPES = "[{\"id\":\"1\",\"name\":\"bloodType\",\"langCode\":\"eng\",\"dataType\":\"string\",\"isActive\":true}]";
+
+	@Before
+	public void initialize() throws Exception {
+		Mockito.when(syncCheckpointRepository.findAll()).thenAnswer(invocation -> new ArrayList<>(checkpoints.values()));
+		Mockito.when(syncCheckpointRepository.save(Mockito.any(SyncCheckpoint.class))).thenAnswer(invocation -> {
+			SyncCheckpoint checkpoint = (SyncCheckpoint) invocation.getArguments()[0];
+			checkpoints.put(checkpoint.getEntityName(), checkpoint);
+			return checkpoint;
+		});
+		Mockito.when(clientCryptoFacade.decrypt(Mockito.any(byte[].class)))
+				.thenAnswer(invocation -> invocation.getArguments()[0]);
+
+		PowerMockito.mockStatic(RegistrationAppHealthCheckUtil.class);
+		Mockito.when(RegistrationAppHealthCheckUtil.isNetworkAvailable()).thenReturn(true);
+		LinkedHashMap<String, Object> schemaResponse = new LinkedHashMap<>();
+		schemaResponse.put(RegistrationConstants.RESPONSE, new LinkedHashMap<>());
+		Mockito.when(serviceDelegateUtil.get(Mockito.anyString(), Mockito.anyMap(), Mockito.anyBoolean(),
+				Mockito.anyString())).thenReturn(schemaResponse);
+	}
+
+	@Test
+	public void resumeFailedEntitiesTest() {
+		Mockito.when(languageRepository.saveAll(Mockito.anyList())).thenThrow(new IllegalStateException("Disk full"))
+				.thenReturn(new ArrayList<>());
+		try {
+			clientSettingSyncHelper.saveClientSettings(
+					response("2021-03-01T10:00:00.000Z", GENDERS, LANGUAGES, BLOOD_TYPES), false, null);
+			fail();
+		} catch (RegBaseUncheckedException regBaseUncheckedException) {
+			assertTrue(regBaseUncheckedException.getMessage().contains("Language"));
+		}
+		assertTrue(checkpoints.containsKey("Gender"));
+		assertTrue(checkpoints.containsKey("dynamic.bloodType"));
+		assertFalse(checkpoints.containsKey("Language"));
+
+		/* The initial sync run again fetches a new response, and only saves the entity type which failed */
+		assertEquals(RegistrationConstants.SUCCESS, clientSettingSyncHelper.saveClientSettings(
+				response("2021-03-01T10:05:00.000Z", GENDERS, LANGUAGES, BLOOD_TYPES), false, null));
+		Mockito.verify(genderRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+		Mockito.verify(dynamicFieldRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+		Mockito.verify(languageRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+	}
+
+	@Test
+	public void skipUnchangedEntitiesTest() {
+		assertEquals(RegistrationConstants.SUCCESS, clientSettingSyncHelper
+				.saveClientSettings(response("2021-03-01T10:00:00.000Z", GENDERS, LANGUAGES, BLOOD_TYPES), false, null));
+
+		/* A later response with only the languages changed */
+		String changedLanguages = LANGUAGES.replace("\"English\",\"isActive\":true", "\"English\",\"isActive\":false");
+		assertEquals(RegistrationConstants.SUCCESS, clientSettingSyncHelper
+				.saveClientSettings(response("2021-03-02T10:00:00.000Z", GENDERS, changedLanguages, BLOOD_TYPES), true,
+						timestamp("2021-03-01T10:00:00.000Z")));
+
+		Mockito.verify(genderRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+		Mockito.verify(dynamicFieldRepository, Mockito.times(1)).saveAll(Mockito.anyList());
+		Mockito.verify(languageRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		assertEquals("2021-03-02T10:00:00Z", checkpoints.get("Language").getLastSyncDtimes().toInstant().toString());
+		assertEquals("2021-03-01T10:00:00Z", checkpoints.get("Gender").getLastSyncDtimes().toInstant().toString());
+	}
+
+	@Test
+	public void resumeFailedFullSyncTest() {
+		Mockito.when(languageRepository.saveAll(Mockito.anyList())).thenReturn(new ArrayList<>())
+				.thenThrow(new IllegalStateException("Disk full")).thenReturn(new ArrayList<>());
+		assertEquals(RegistrationConstants.SUCCESS, clientSettingSyncHelper
+				.saveClientSettings(response("2021-03-01T10:00:00.000Z", GENDERS, LANGUAGES, BLOOD_TYPES), false, null));
+		Timestamp lastCommittedSyncTime = timestamp("2021-03-01T10:00:00.000Z");
+
+		/* A full sync failing on the languages, and run again with a new response */
+		String changedLanguages = LANGUAGES.replace("\"English\",\"isActive\":true", "\"English\",\"isActive\":false");
+		try {
+			clientSettingSyncHelper.saveClientSettings(
+					response("2021-03-02T10:00:00.000Z", GENDERS, changedLanguages, BLOOD_TYPES), false,
+					lastCommittedSyncTime);
+			fail();
+		} catch (RegBaseUncheckedException regBaseUncheckedException) {
+			assertTrue(regBaseUncheckedException.getMessage().contains("Language"));
+		}
+		assertEquals(RegistrationConstants.SUCCESS, clientSettingSyncHelper.saveClientSettings(
+				response("2021-03-02T10:05:00.000Z", GENDERS, changedLanguages, BLOOD_TYPES), false,
+				lastCommittedSyncTime));
+
+		/* Saved by the first sync and by the failed one, but not by the run again */
+		Mockito.verify(genderRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		Mockito.verify(dynamicFieldRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		Mockito.verify(languageRepository, Mockito.times(3)).saveAll(Mockito.anyList());
+	}
+
+	@Test
+	public void fullSyncSavesUnchangedEntitiesTest() {
+		assertEquals(RegistrationConstants.SUCCESS, clientSettingSyncHelper
+				.saveClientSettings(response("2021-03-01T10:00:00.000Z", GENDERS, LANGUAGES, BLOOD_TYPES), false, null));
+
+		/* A later full sync with the same data, the records saved by the committed sync may not match it anymore */
+		assertEquals(RegistrationConstants.SUCCESS, clientSettingSyncHelper.saveClientSettings(
+				response("2021-03-02T10:00:00.000Z", GENDERS, LANGUAGES, BLOOD_TYPES), false,
+				timestamp("2021-03-01T10:00:00.000Z")));
+
+		Mockito.verify(genderRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		Mockito.verify(languageRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		Mockito.verify(dynamicFieldRepository, Mockito.times(2)).saveAll(Mockito.anyList());
+		assertEquals("2021-03-02T10:00:00Z", checkpoints.get("Gender").getLastSyncDtimes().toInstant().toString());
+	}
+
+	private Timestamp timestamp(String time) {
+		return Timestamp.from(Instant.parse(time));
+	}
+
+	private SyncDataResponseDto response(String lastSyncTime, String genders, String languages, String bloodTypes) {
+		SyncDataResponseDto syncDataResponseDto = new SyncDataResponseDto();
+		syncDataResponseDto.setLastSyncTime(lastSyncTime);
+		syncDataResponseDto.setDataToSync(Arrays.asList(entity("Gender", "structured", genders),
+				entity("Language", "structured", languages), entity("bloodType", "dynamic", bloodTypes)));
+		return syncDataResponseDto;
+	}
+
+	/**
+	 * The data of an entity type as the server sends it, an array of JSON
+	 * strings, encoded
+	 */
+	private SyncDataBaseDto entity(String entityName, String entityType, String records) {
+		JSONArray recordArray = new JSONArray(records);
+		List<String> data = new ArrayList<>();
+		for (int index = 0; index < recordArray.length(); index++) {
+			data.add(((JSONObject) recordArray.get(index)).toString());
+		}
+
+		SyncDataBaseDto syncDataBaseDto = new SyncDataBaseDto();
+		syncDataBaseDto.setEntityName(entityName);
+		syncDataBaseDto.setEntityType(entityType);
+		syncDataBaseDto.setData(
+				CryptoUtil.encodeBase64(new JSONArray(data).toString().getBytes(StandardCharsets.UTF_8)));
+		return syncDataBaseDto;
+	}
+}
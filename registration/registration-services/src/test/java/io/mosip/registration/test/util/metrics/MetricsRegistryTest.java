@@ -0,0 +1,86 @@
+package io.mosip.registration.test.util.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.registration.util.metrics.Histogram;
+import io.mosip.registration.util.metrics.MetricsRegistry;
+
+public class MetricsRegistryTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private MetricsRegistry metricsRegistry;
+
+	private File metricsFile;
+
+	@Before
+	public void initialize() {
+		metricsFile = new File(temporaryFolder.getRoot(), "metrics.log");
+		metricsRegistry = new MetricsRegistry();
+		ReflectionTestUtils.setField(metricsRegistry, "metricsEnabled", true);
+		ReflectionTestUtils.setField(metricsRegistry, "metricsFile", metricsFile.getAbsolutePath());
+		ReflectionTestUtils.setField(metricsRegistry, "maxFileSizeKb", 1L);
+		ReflectionTestUtils.setField(metricsRegistry, "maxFileHistory", 2);
+	}
+
+	@Test
+	public void histogramPercentileTest() {
+		Histogram histogram = new Histogram("ms");
+		for (long value = 1; value <= 1000; value++) {
+			histogram.record(value);
+		}
+
+		Assert.assertEquals(1000, histogram.getCount());
+		Assert.assertEquals(500.5, histogram.getMean(), 0.01);
+		Assert.assertEquals(1000, histogram.getMax());
+		Assert.assertEquals(500, histogram.getPercentile50(), 500 * 0.25);
+		Assert.assertEquals(950, histogram.getPercentile95(), 950 * 0.25);
+		Assert.assertTrue(histogram.getPercentile99() <= histogram.getMax());
+	}
+
+	@Test
+	public void recordTest() {
+		metricsRegistry.recordTime("test.timer", 5, TimeUnit.MILLISECONDS);
+		metricsRegistry.increment("test.counter");
+		metricsRegistry.increment("test.counter");
+
+		Assert.assertEquals(1, metricsRegistry.timer("test.timer").getCount());
+		Assert.assertEquals(5000, metricsRegistry.timer("test.timer").getMax());
+		Assert.assertEquals(2, metricsRegistry.counter("test.counter").getCount());
+	}
+
+	@Test
+	public void disabledTest() {
+		ReflectionTestUtils.setField(metricsRegistry, "metricsEnabled", false);
+		metricsRegistry.increment("disabled.counter");
+
+		Assert.assertTrue(metricsRegistry.snapshot().isEmpty());
+	}
+
+	@Test
+	public void exportRollOverTest() throws IOException {
+		for (int index = 0; index < 50; index++) {
+			metricsRegistry.increment("export.counter." + index);
+		}
+
+		metricsRegistry.export();
+		metricsRegistry.export();
+		metricsRegistry.export();
+
+		Assert.assertTrue(metricsFile.exists());
+		Assert.assertTrue(new File(metricsFile.getAbsolutePath() + ".1").exists());
+		Assert.assertTrue(new File(metricsFile.getAbsolutePath() + ".2").exists());
+		Assert.assertTrue(Files.readAllLines(metricsFile.toPath()).get(0).contains("counter export.counter"));
+	}
+}